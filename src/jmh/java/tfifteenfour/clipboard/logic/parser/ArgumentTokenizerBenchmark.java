@@ -0,0 +1,75 @@
+package tfifteenfour.clipboard.logic.parser;
+
+import static tfifteenfour.clipboard.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static tfifteenfour.clipboard.logic.parser.CliSyntax.PREFIX_NAME;
+import static tfifteenfour.clipboard.logic.parser.CliSyntax.PREFIX_PHONE;
+import static tfifteenfour.clipboard.logic.parser.CliSyntax.PREFIX_STUDENTID;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import tfifteenfour.clipboard.logic.commands.Command;
+import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.logic.parser.exceptions.ParseException;
+import tfifteenfour.clipboard.model.Model;
+import tfifteenfour.clipboard.model.ModelManager;
+
+/**
+ * Compares {@link ArgumentTokenizer} with the tokenizer it replaced, on the arguments of an {@code add student}
+ * command, and measures a whole {@link RosterParser#parseCommand} call for the same input.
+ * Run with {@code gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ArgumentTokenizerBenchmark {
+
+    private static final Prefix[] ADD_STUDENT_PREFIXES = {
+        PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_STUDENTID
+    };
+
+    /** The extra length of the name, to show how each tokenizer scales with the length of the input. */
+    @Param({"0", "200"})
+    private int paddingLength;
+
+    private String arguments;
+    private String command;
+    private Model model;
+
+    /**
+     * Builds the input strings and an empty model for the parser.
+     */
+    @Setup
+    public void setUp() {
+        StringBuilder name = new StringBuilder("John Doe");
+        while (name.length() < paddingLength) {
+            name.append(" Tan");
+        }
+        arguments = " student n/" + name + " p/98765432 e/johnd@example.com sid/A1234567X";
+        command = "add" + arguments;
+        model = new ModelManager();
+    }
+
+    @Benchmark
+    public ArgumentMultimap legacyTokenizer() {
+        return LegacyArgumentTokenizer.tokenizePrefixes(arguments, ADD_STUDENT_PREFIXES);
+    }
+
+    @Benchmark
+    public ArgumentMultimap trieTokenizer() {
+        return ArgumentTokenizer.tokenizePrefixes(arguments, ADD_STUDENT_PREFIXES);
+    }
+
+    @Benchmark
+    public Command parseCommand() throws ParseException, CommandException {
+        return RosterParser.parseCommand(command, model);
+    }
+}
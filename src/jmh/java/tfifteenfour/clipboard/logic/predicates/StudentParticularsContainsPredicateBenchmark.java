@@ -0,0 +1,53 @@
+package tfifteenfour.clipboard.logic.predicates;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import tfifteenfour.clipboard.model.BenchmarkStudents;
+import tfifteenfour.clipboard.model.student.Student;
+
+/**
+ * Measures filtering a group of {@code size} students with a {@link StudentParticularsContainsPredicate}, as
+ * {@code find student} does, for a keyword that matches a few students and one that matches none.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StudentParticularsContainsPredicateBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private List<Student> students;
+    private StudentParticularsContainsPredicate somePredicate;
+    private StudentParticularsContainsPredicate nonePredicate;
+
+    /**
+     * Builds the group of students and the predicates.
+     */
+    @Setup
+    public void setUp() {
+        students = BenchmarkStudents.students(0, size);
+        somePredicate = new StudentParticularsContainsPredicate(new String[] {"student99@"});
+        nonePredicate = new StudentParticularsContainsPredicate(new String[] {"nobody", "zzz"});
+    }
+
+    @Benchmark
+    public long filterSomeMatch() {
+        return students.stream().filter(somePredicate).count();
+    }
+
+    @Benchmark
+    public long filterNoneMatch() {
+        return students.stream().filter(nonePredicate).count();
+    }
+}
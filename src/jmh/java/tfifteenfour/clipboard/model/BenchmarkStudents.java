@@ -0,0 +1,44 @@
+package tfifteenfour.clipboard.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import tfifteenfour.clipboard.model.student.Email;
+import tfifteenfour.clipboard.model.student.Name;
+import tfifteenfour.clipboard.model.student.Phone;
+import tfifteenfour.clipboard.model.student.Remark;
+import tfifteenfour.clipboard.model.student.Student;
+import tfifteenfour.clipboard.model.student.StudentId;
+
+/**
+ * Builds the students that the benchmarks run on. The same arguments always give the same data.
+ */
+public class BenchmarkStudents {
+
+    private static final String[] GIVEN_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Wei"};
+    private static final String[] FAMILY_NAMES = {"Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Tan"};
+
+    private BenchmarkStudents() {}
+
+    /**
+     * Returns the {@code index}th student, whose student ID is unique to {@code index}.
+     */
+    public static Student student(int index) {
+        String name = GIVEN_NAMES[index % GIVEN_NAMES.length] + " "
+                + FAMILY_NAMES[(index / GIVEN_NAMES.length) % FAMILY_NAMES.length];
+        return new Student(new Name(name), new Phone(String.format("9%07d", index % 10_000_000)),
+                new Email("student" + index + "@example.com"), new StudentId(String.format("A%07dX", index)),
+                new Remark(""));
+    }
+
+    /**
+     * Returns {@code count} students with consecutive indexes from {@code firstIndex}.
+     */
+    public static List<Student> students(int firstIndex, int count) {
+        List<Student> students = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            students.add(student(firstIndex + i));
+        }
+        return students;
+    }
+}
@@ -0,0 +1,42 @@
+package tfifteenfour.clipboard.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import tfifteenfour.clipboard.model.util.RosterGenerator;
+
+/**
+ * Measures {@link Roster#copy()}, which runs before every command that may change the roster so that it can be
+ * undone, on rosters of 10 groups of {@code studentsPerGroup} students, 10 sessions and 5 tasks each,
+ * with 80% of the attendance taken and 60% of the grades given.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RosterBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int studentsPerGroup;
+
+    private Roster roster;
+
+    @Setup
+    public void setUp() {
+        roster = new RosterGenerator().withCourses(2).withGroupsPerCourse(5).withStudentsPerGroup(studentsPerGroup)
+                .withSessionsPerGroup(10).withTasksPerGroup(5).withAttendanceDensity(0.8).withGradeDensity(0.6)
+                .generate();
+    }
+
+    @Benchmark
+    public Roster copy() {
+        return roster.copy();
+    }
+}
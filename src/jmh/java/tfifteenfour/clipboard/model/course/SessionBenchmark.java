@@ -0,0 +1,62 @@
+package tfifteenfour.clipboard.model.course;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import tfifteenfour.clipboard.model.BenchmarkStudents;
+import tfifteenfour.clipboard.model.student.Student;
+import tfifteenfour.clipboard.model.student.UniqueStudentsList;
+
+/**
+ * Measures marking the attendance of one student and of every student in a session of {@code size} students,
+ * as {@code mark} does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SessionBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int size;
+
+    private Session session;
+    private List<Student> students;
+    private Student lastStudent;
+    private boolean isPresent;
+
+    /**
+     * Builds a session of {@code size} students.
+     */
+    @Setup
+    public void setUp() {
+        students = BenchmarkStudents.students(0, size);
+        UniqueStudentsList studentList = new UniqueStudentsList();
+        studentList.addAll(students);
+        session = new Session("Lab1");
+        session.setStudents(studentList);
+        lastStudent = students.get(size - 1);
+    }
+
+    /** Marks the student at the end of the session, alternating between present and absent. */
+    @Benchmark
+    public void markOne() {
+        isPresent = !isPresent;
+        session.mark(lastStudent, isPresent ? AttendanceStatus.PRESENT : AttendanceStatus.ABSENT);
+    }
+
+    /** Marks every student of the session, alternating between present and absent. */
+    @Benchmark
+    public void markAll() {
+        isPresent = !isPresent;
+        session.markAll(students, isPresent ? AttendanceStatus.PRESENT : AttendanceStatus.ABSENT);
+    }
+}
@@ -0,0 +1,71 @@
+package tfifteenfour.clipboard.model.student;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import tfifteenfour.clipboard.model.BenchmarkStudents;
+
+/**
+ * Measures adding, finding and replacing a student in a {@link UniqueStudentsList} of {@code size} students.
+ * Each benchmark leaves the list as it found it, so every invocation sees a list of the same size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UniqueStudentsListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private UniqueStudentsList students;
+    private Student lastStudent;
+    private Student editedLastStudent;
+    private Student newStudent;
+
+    /**
+     * Fills the list and prepares the students to add and replace.
+     */
+    @Setup
+    public void setUp() {
+        students = new UniqueStudentsList();
+        students.addAll(BenchmarkStudents.students(0, size));
+        lastStudent = BenchmarkStudents.student(size - 1);
+        editedLastStudent = new Student(new Name("Edited Name"), lastStudent.getPhone(), lastStudent.getEmail(),
+                lastStudent.getStudentId(), lastStudent.getRemark());
+        newStudent = BenchmarkStudents.student(size);
+    }
+
+    /** Adds a student, which first checks every student for a duplicate, then removes it again. */
+    @Benchmark
+    public void addAndRemove() {
+        students.add(newStudent);
+        students.remove(newStudent);
+    }
+
+    /** Finds the student at the end of the list. */
+    @Benchmark
+    public boolean containsLast() {
+        return students.contains(lastStudent);
+    }
+
+    /** Looks for a student who is not in the list, which checks every student. */
+    @Benchmark
+    public boolean containsMissing() {
+        return students.contains(newStudent);
+    }
+
+    /** Edits the student at the end of the list, then restores it. */
+    @Benchmark
+    public void setAndRestore() {
+        students.set(lastStudent, editedLastStudent);
+        students.set(editedLastStudent, lastStudent);
+    }
+}
@@ -0,0 +1,62 @@
+package tfifteenfour.clipboard.model.task;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import tfifteenfour.clipboard.model.BenchmarkStudents;
+import tfifteenfour.clipboard.model.student.Student;
+import tfifteenfour.clipboard.model.student.UniqueStudentsList;
+
+/**
+ * Measures assigning a grade to one student and to every student of a task of {@code size} students, as
+ * {@code assign} does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int size;
+
+    private Task task;
+    private List<Student> students;
+    private Student lastStudent;
+    private int grade;
+
+    /**
+     * Builds a task of {@code size} students.
+     */
+    @Setup
+    public void setUp() {
+        students = BenchmarkStudents.students(0, size);
+        UniqueStudentsList studentList = new UniqueStudentsList();
+        studentList.addAll(students);
+        task = new Task("CA1");
+        task.setStudents(studentList);
+        lastStudent = students.get(size - 1);
+    }
+
+    /** Grades the student at the end of the task, with a different grade each time. */
+    @Benchmark
+    public void assignOne() {
+        grade = (grade + 1) % 100;
+        task.assignGrade(lastStudent, grade);
+    }
+
+    /** Grades every student of the task, with a different grade each time. */
+    @Benchmark
+    public void assignAll() {
+        grade = (grade + 1) % 100;
+        task.assignGrades(students, grade);
+    }
+}
@@ -0,0 +1,72 @@
+package tfifteenfour.clipboard.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import tfifteenfour.clipboard.commons.exceptions.DataConversionException;
+import tfifteenfour.clipboard.model.ReadOnlyRoster;
+import tfifteenfour.clipboard.model.Roster;
+import tfifteenfour.clipboard.model.util.RosterGenerator;
+
+/**
+ * Measures saving and reading a roster file with {@link JsonRosterStorage}, on rosters of 10 groups of
+ * {@code studentsPerGroup} students, 10 sessions and 5 tasks each,
+ * with 80% of the attendance taken and 60% of the grades given.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonRosterStorageBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int studentsPerGroup;
+
+    private Path folder;
+    private JsonRosterStorage storage;
+    private Roster roster;
+
+    /**
+     * Builds the roster and saves it once, so that there is a file to read.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("clipboard-benchmark");
+        storage = new JsonRosterStorage(folder.resolve("roster.json"));
+        roster = new RosterGenerator().withCourses(2).withGroupsPerCourse(5).withStudentsPerGroup(studentsPerGroup)
+                .withSessionsPerGroup(10).withTasksPerGroup(5).withAttendanceDensity(0.8).withGradeDensity(0.6)
+                .generate();
+        storage.saveRoster(roster);
+    }
+
+    /**
+     * Deletes the roster file and its folder.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(storage.getRosterFilePath());
+        Files.deleteIfExists(folder);
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        storage.saveRoster(roster);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyRoster> read() throws DataConversionException, IOException {
+        return storage.readRoster();
+    }
+}
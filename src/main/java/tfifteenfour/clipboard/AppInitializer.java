@@ -0,0 +1,175 @@
+package tfifteenfour.clipboard;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import tfifteenfour.clipboard.commons.core.Config;
+import tfifteenfour.clipboard.commons.core.LogsCenter;
+import tfifteenfour.clipboard.commons.exceptions.DataConversionException;
+import tfifteenfour.clipboard.commons.jfr.FlightRecording;
+import tfifteenfour.clipboard.commons.util.ConfigUtil;
+import tfifteenfour.clipboard.commons.util.StringInterner;
+import tfifteenfour.clipboard.commons.util.StringUtil;
+import tfifteenfour.clipboard.logic.CommandMetrics;
+import tfifteenfour.clipboard.logic.CommandTraceRecorder;
+import tfifteenfour.clipboard.model.ReadOnlyRoster;
+import tfifteenfour.clipboard.model.ReadOnlyUserPrefs;
+import tfifteenfour.clipboard.model.UserPrefs;
+import tfifteenfour.clipboard.model.util.SampleDataUtil;
+import tfifteenfour.clipboard.storage.Storage;
+import tfifteenfour.clipboard.storage.UserPrefsStorage;
+
+/**
+ * Loads the config, user prefs and roster that the application starts with.
+ * Shared by {@link MainApp} and {@link HeadlessApp}, and free of JavaFX so that the headless mode never starts the
+ * JavaFX toolkit.
+ */
+public class AppInitializer {
+
+    /** The folder that flight recordings are dumped into. */
+    public static final Path RECORDING_DIRECTORY = Paths.get("recordings");
+    public static final Path TRACE_DIRECTORY = Paths.get("traces");
+
+    private static final Logger logger = LogsCenter.getLogger(AppInitializer.class);
+
+    private AppInitializer() {}
+
+    /**
+     * Returns the roster in {@code storage}. <br>
+     * The sample roster will be used instead if {@code storage}'s roster is not found or cannot be read.
+     */
+    public static ReadOnlyRoster readRoster(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        Optional<ReadOnlyRoster> rosterOptional;
+        Path sampleFilePath = userPrefs.getSampleFilePath();
+        InputStream sampleResourceStream = AppInitializer.class.getResourceAsStream("/assets/sampleRoster.json");
+
+
+        ReadOnlyRoster initialData;
+        try {
+            rosterOptional = storage.readRoster();
+            if (rosterOptional.isEmpty()) {
+                logger.info("Data file not found. " + MainApp.MESSAGE_SAMPLE);
+                new File("data").mkdir();
+            }
+            initialData = rosterOptional.orElseGet(() ->
+                    SampleDataUtil.getSampleRoster(sampleFilePath, sampleResourceStream));
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. " + MainApp.MESSAGE_SAMPLE);
+            initialData = SampleDataUtil.getSampleRoster(sampleFilePath, sampleResourceStream);
+        } catch (IllegalArgumentException e) {
+            logger.warning("Invalid data detected. " + MainApp.MESSAGE_SAMPLE);
+            initialData = SampleDataUtil.getSampleRoster(sampleFilePath, sampleResourceStream);
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. " + MainApp.MESSAGE_SAMPLE);
+            initialData = SampleDataUtil.getSampleRoster(sampleFilePath, sampleResourceStream);
+
+        }
+
+        logger.info(StringInterner.getInstance().getReport());
+        return initialData;
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    public static Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataConversionException e) {
+            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. "
+                    + "Using default config properties");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    public static UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using prefs file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataConversionException e) {
+            logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. "
+                    + "Using default user prefs");
+            initializedPrefs = new UserPrefs();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty Roster");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+
+    /**
+     * Starts a flight recording that {@code commandMetrics} dumps after a slow command, if {@code userPrefs} enables
+     * flight recording.
+     * @return the recording, to be closed when the application stops, or an empty {@code Optional} if flight
+     *     recording is disabled or not available.
+     */
+    public static Optional<FlightRecording> initFlightRecording(ReadOnlyUserPrefs userPrefs,
+            CommandMetrics commandMetrics) {
+        if (!userPrefs.isFlightRecordingEnabled()) {
+            return Optional.empty();
+        }
+        Optional<FlightRecording> recording = FlightRecording.start(RECORDING_DIRECTORY);
+        recording.ifPresent(commandMetrics::setFlightRecording);
+        return recording;
+    }
+
+    /**
+     * Starts a trace that {@code commandMetrics} writes every command to, if {@code config} enables command traces.
+     * @return the trace, to be closed when the application stops, or an empty {@code Optional} if command traces are
+     *     disabled or the trace file cannot be created.
+     */
+    public static Optional<CommandTraceRecorder> initCommandTrace(Config config, CommandMetrics commandMetrics) {
+        if (!config.isCommandTraceEnabled()) {
+            return Optional.empty();
+        }
+        Optional<CommandTraceRecorder> trace =
+                CommandTraceRecorder.start(TRACE_DIRECTORY, config.isCommandTraceAnonymized());
+        trace.ifPresent(commandMetrics::setCommandTrace);
+        return trace;
+    }
+}
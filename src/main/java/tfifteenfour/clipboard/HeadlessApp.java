@@ -0,0 +1,228 @@
+package tfifteenfour.clipboard;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import tfifteenfour.clipboard.commons.core.Config;
+import tfifteenfour.clipboard.commons.core.LogsCenter;
+import tfifteenfour.clipboard.commons.jfr.FlightRecording;
+import tfifteenfour.clipboard.commons.util.FileUtil;
+import tfifteenfour.clipboard.logic.Logic;
+import tfifteenfour.clipboard.logic.LogicManager;
+import tfifteenfour.clipboard.logic.commands.CommandResult;
+import tfifteenfour.clipboard.logic.commands.ExitCommand;
+import tfifteenfour.clipboard.logic.commands.batchcommand.RollbackCommand;
+import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.logic.parser.exceptions.ParseException;
+import tfifteenfour.clipboard.model.ModelManager;
+import tfifteenfour.clipboard.model.UserPrefs;
+import tfifteenfour.clipboard.storage.JsonRosterStorage;
+import tfifteenfour.clipboard.storage.JsonUserPrefsStorage;
+import tfifteenfour.clipboard.storage.Storage;
+import tfifteenfour.clipboard.storage.StorageManager;
+import tfifteenfour.clipboard.storage.UserPrefsStorage;
+
+/**
+ * Runs CLIpboard without a window, for batch jobs such as imports, exports and bulk cleanups.
+ * Commands are read one per line from a file, or from standard input if no file is given. Blank lines and lines
+ * starting with {@code #} are skipped. The feedback of each command is written to standard output, and errors are
+ * written to standard error prefixed with their line number. The JavaFX toolkit is never started.
+ *
+ * Commands run in batch mode: the roster is saved once after the last command instead of after every command, and
+ * no undo history is kept. The process exits with one of the {@code EXIT_} codes, so that scripts can tell how the
+ * batch went.
+ */
+public class HeadlessApp {
+
+    public static final String FLAG_HEADLESS = "--headless";
+    public static final String FLAG_KEEP_GOING = "--keep-going";
+    public static final String PARAMETER_CONFIG = "--config=";
+
+    /** Every command succeeded and the roster was saved. */
+    public static final int EXIT_SUCCESS = 0;
+    /** A command could not be executed, or a transaction was left open. */
+    public static final int EXIT_COMMAND_FAILED = 1;
+    /** A command could not be parsed. */
+    public static final int EXIT_INVALID_COMMAND = 2;
+    /** The arguments of the headless mode are invalid. */
+    public static final int EXIT_USAGE = 64;
+    /** The input could not be read or the roster could not be saved. */
+    public static final int EXIT_IO_ERROR = 74;
+
+    public static final String MESSAGE_USAGE = "Usage: java -jar clipboard.jar " + FLAG_HEADLESS
+            + " [" + PARAMETER_CONFIG + "CONFIG_FILE] [" + FLAG_KEEP_GOING + "] [COMMAND_FILE]\n"
+            + "Runs the commands in COMMAND_FILE, or in standard input if no file is given, one per line.";
+    public static final String MESSAGE_CANNOT_READ = "Could not read command file: %s";
+    public static final String MESSAGE_LINE_FAILED = "Line %d: %s";
+    public static final String MESSAGE_OPEN_TRANSACTION =
+            "The input ended during a transaction. The transaction was rolled back.";
+
+    private static final String COMMENT_MARKER = "#";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private final Logic logic;
+    private final PrintStream out;
+    private final PrintStream err;
+    private final boolean isKeepGoing;
+    private boolean isExitRequested;
+
+    /**
+     * Creates a {@code HeadlessApp} that executes commands with {@code logic}.
+     * @param isKeepGoing If true, commands after a failed command are still executed. Otherwise the batch stops at
+     *                    the first failed command.
+     */
+    public HeadlessApp(Logic logic, PrintStream out, PrintStream err, boolean isKeepGoing) {
+        this.logic = logic;
+        this.out = out;
+        this.err = err;
+        this.isKeepGoing = isKeepGoing;
+    }
+
+    /**
+     * Runs the commands named by {@code args} and exits with the exit code of the batch.
+     */
+    public static void main(String[] args) {
+        PrintStream out = new PrintStream(new BufferedOutputStream(new FileOutputStream(FileDescriptor.out), 1 << 16),
+                false, StandardCharsets.UTF_8);
+        int exitCode = launch(args, out, System.err);
+        out.flush();
+        System.exit(exitCode);
+    }
+
+    /**
+     * Sets up storage, model and logic as {@link MainApp} does and runs the commands named by {@code args}.
+     * @return the exit code of the batch.
+     */
+    static int launch(String[] args, PrintStream out, PrintStream err) {
+        Path configPath = null;
+        Path commandFile = null;
+        boolean isKeepGoing = false;
+        for (String arg : args) {
+            if (arg.equals(FLAG_HEADLESS)) {
+                continue;
+            } else if (arg.equals(FLAG_KEEP_GOING)) {
+                isKeepGoing = true;
+            } else if (arg.startsWith(PARAMETER_CONFIG)
+                    && FileUtil.isValidPath(arg.substring(PARAMETER_CONFIG.length()))) {
+                configPath = Paths.get(arg.substring(PARAMETER_CONFIG.length()));
+            } else if (commandFile == null && !arg.startsWith("-") && FileUtil.isValidPath(arg)) {
+                commandFile = Paths.get(arg);
+            } else {
+                err.println(MESSAGE_USAGE);
+                return EXIT_USAGE;
+            }
+        }
+
+        if (commandFile != null && !Files.isReadable(commandFile)) {
+            err.println(String.format(MESSAGE_CANNOT_READ, commandFile));
+            return EXIT_IO_ERROR;
+        }
+
+        // only warnings go to the console, so that they do not mix with the feedback of commands
+        LogsCenter.setConsoleLogLevel(Level.WARNING);
+        Config config = AppInitializer.initConfig(configPath);
+        LogsCenter.init(config);
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = AppInitializer.initPrefs(userPrefsStorage);
+        Storage storage = new StorageManager(new JsonRosterStorage(userPrefs.getRosterFilePath()), userPrefsStorage);
+        Logic logic = new LogicManager(new ModelManager(AppInitializer.readRoster(storage, userPrefs), userPrefs),
+                storage);
+        logic.getCommandMetrics().setSlowCommandThreshold(config.getSlowCommandThresholdMillis());
+        Optional<FlightRecording> flightRecording =
+                AppInitializer.initFlightRecording(userPrefs, logic.getCommandMetrics());
+
+        HeadlessApp app = new HeadlessApp(logic, out, err, isKeepGoing);
+        try (Reader input = commandFile == null
+                ? new InputStreamReader(System.in, StandardCharsets.UTF_8)
+                : Files.newBufferedReader(commandFile, StandardCharsets.UTF_8)) {
+            return app.run(input);
+        } catch (IOException e) {
+            err.println(e.getMessage());
+            return EXIT_IO_ERROR;
+        } finally {
+            flightRecording.ifPresent(FlightRecording::close);
+        }
+    }
+
+    /**
+     * Executes the commands in {@code input} and saves the roster once at the end.
+     * A transaction that is still open when the input ends is rolled back.
+     * @return the exit code of the first command that failed, or {@link #EXIT_SUCCESS} if none failed.
+     * @throws IOException If {@code input} cannot be read.
+     */
+    public int run(Reader input) throws IOException {
+        long startTime = System.nanoTime();
+        logic.setBatchMode(true);
+        BufferedReader reader = input instanceof BufferedReader ? (BufferedReader) input : new BufferedReader(input);
+
+        int exitCode = EXIT_SUCCESS;
+        int lineNumber = 0;
+        int commandCount = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith(COMMENT_MARKER)) {
+                continue;
+            }
+
+            int commandExitCode = execute(line, lineNumber);
+            commandCount++;
+            if (isExitRequested) {
+                break;
+            }
+            if (commandExitCode != EXIT_SUCCESS && exitCode == EXIT_SUCCESS) {
+                exitCode = commandExitCode;
+            }
+            if (commandExitCode != EXIT_SUCCESS && !isKeepGoing) {
+                break;
+            }
+        }
+
+        if (logic.isInTransaction()) {
+            execute(RollbackCommand.COMMAND_WORD, lineNumber);
+            err.println(MESSAGE_OPEN_TRANSACTION);
+            exitCode = exitCode == EXIT_SUCCESS ? EXIT_COMMAND_FAILED : exitCode;
+        }
+
+        try {
+            logic.saveRoster();
+        } catch (CommandException e) {
+            err.println(e.getMessage());
+            return EXIT_IO_ERROR;
+        }
+
+        long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+        logger.info(String.format("Ran %d command(s) in %d ms", commandCount, elapsedMillis));
+        return exitCode;
+    }
+
+    private int execute(String commandText, int lineNumber) {
+        try {
+            CommandResult commandResult = logic.execute(commandText);
+            out.println(commandResult.getFeedbackToUser());
+            isExitRequested = commandResult.getCommand() instanceof ExitCommand;
+            return EXIT_SUCCESS;
+        } catch (ParseException e) {
+            err.println(String.format(MESSAGE_LINE_FAILED, lineNumber, e.getMessage()));
+            return EXIT_INVALID_COMMAND;
+        } catch (CommandException e) {
+            err.println(String.format(MESSAGE_LINE_FAILED, lineNumber, e.getMessage()));
+            return EXIT_COMMAND_FAILED;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package tfifteenfour.clipboard;
 
+import java.util.Arrays;
+
 import javafx.application.Application;
 
 /**
@@ -17,9 +19,24 @@ import javafx.application.Application;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * Given the {@code --headless} flag, the commands are run by {@link HeadlessApp} instead, without starting JavaFX.
+ * Given the {@code --replay} flag, a command trace is replayed by {@link TraceReplay}, also without JavaFX.
  */
 public class Main {
+    /**
+     * Starts the application, or runs commands without a window if {@code args} contains {@code --headless} or
+     * {@code --replay}.
+     */
     public static void main(String[] args) {
+        if (Arrays.asList(args).contains(TraceReplay.FLAG_REPLAY)) {
+            TraceReplay.main(args);
+            return;
+        }
+        if (Arrays.asList(args).contains(HeadlessApp.FLAG_HEADLESS)) {
+            HeadlessApp.main(args);
+            return;
+        }
         Application.launch(MainApp.class, args);
     }
 }
@@ -1,34 +1,36 @@
 package tfifteenfour.clipboard;
 
-import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.scene.Scene;
 import javafx.stage.Stage;
 import tfifteenfour.clipboard.commons.core.Config;
 import tfifteenfour.clipboard.commons.core.LogsCenter;
 import tfifteenfour.clipboard.commons.core.Version;
-import tfifteenfour.clipboard.commons.exceptions.DataConversionException;
-import tfifteenfour.clipboard.commons.util.ConfigUtil;
+import tfifteenfour.clipboard.commons.jfr.FlightRecording;
+import tfifteenfour.clipboard.commons.util.StartupTimer;
 import tfifteenfour.clipboard.commons.util.StringUtil;
+import tfifteenfour.clipboard.logic.CommandTraceRecorder;
 import tfifteenfour.clipboard.logic.Logic;
 import tfifteenfour.clipboard.logic.LogicManager;
+import tfifteenfour.clipboard.logic.RosterMonitor;
 import tfifteenfour.clipboard.model.Model;
 import tfifteenfour.clipboard.model.ModelManager;
 import tfifteenfour.clipboard.model.ReadOnlyRoster;
 import tfifteenfour.clipboard.model.ReadOnlyUserPrefs;
 import tfifteenfour.clipboard.model.UserPrefs;
-import tfifteenfour.clipboard.model.util.SampleDataUtil;
 import tfifteenfour.clipboard.storage.JsonRosterStorage;
 import tfifteenfour.clipboard.storage.JsonUserPrefsStorage;
 import tfifteenfour.clipboard.storage.RosterStorage;
 import tfifteenfour.clipboard.storage.Storage;
 import tfifteenfour.clipboard.storage.StorageManager;
 import tfifteenfour.clipboard.storage.UserPrefsStorage;
+import tfifteenfour.clipboard.ui.FxmlPreloader;
 import tfifteenfour.clipboard.ui.Ui;
 import tfifteenfour.clipboard.ui.UiManager;
 
@@ -39,6 +41,11 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(1, 4, 0, true);
     public static final String MESSAGE_SAMPLE = "Will be starting with a sample Roster";
+    public static final String PHASE_CONFIG = "config and preferences";
+    public static final String PHASE_ROSTER = "roster read";
+    public static final String PHASE_MODEL = "model build";
+    public static final String PHASE_WINDOW = "window build";
+    public static final String PHASE_FIRST_FRAME = "first frame";
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
@@ -48,12 +55,18 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
     protected ReadOnlyRoster roster;
-
+    protected Optional<FlightRecording> flightRecording = Optional.empty();
+    protected Optional<CommandTraceRecorder> commandTrace = Optional.empty();
+    protected RosterMonitor rosterMonitor;
+    protected StartupTimer startupTimer;
 
     @Override
     public void init() throws Exception {
+        startupTimer = new StartupTimer();
         logger.info("=============================[ Initializing Roster ]===========================");
         super.init();
+        // the toolkit has started, so the templates of the window can be loaded while the roster is read
+        FxmlPreloader.start();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
         config = initConfig(appParameters.getConfigPath());
@@ -65,11 +78,20 @@ public class MainApp extends Application {
         storage = new StorageManager(rosterStorage, userPrefsStorage);
 
         initLogging(config);
+        startupTimer.endPhase(PHASE_CONFIG);
 
         model = initModelManager(storage, userPrefs);
         model.setRoster(roster);
-        logic = new LogicManager(model, storage);
+        LogicManager logicManager = new LogicManager(model, storage);
+        logic = logicManager;
+        rosterMonitor = new RosterMonitor(logicManager);
+        rosterMonitor.register();
+        logic.getCommandMetrics().setSlowCommandThreshold(config.getSlowCommandThresholdMillis());
+        logic.getCommandMetrics().setBreakdownShown(config.isDebugMode());
+        flightRecording = AppInitializer.initFlightRecording(userPrefs, logic.getCommandMetrics());
+        commandTrace = AppInitializer.initCommandTrace(config, logic.getCommandMetrics());
         ui = new UiManager(logic);
+        startupTimer.endPhase(PHASE_MODEL);
     }
 
     /**
@@ -78,34 +100,9 @@ public class MainApp extends Application {
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        Optional<ReadOnlyRoster> rosterOptional;
-        Path sampleFilePath = userPrefs.getSampleFilePath();
-        InputStream sampleResourceStream = this.getClass().getResourceAsStream("/assets/sampleRoster.json");
-
-
-        ReadOnlyRoster initialData;
-        try {
-            rosterOptional = storage.readRoster();
-            if (rosterOptional.isEmpty()) {
-                logger.info("Data file not found. " + MESSAGE_SAMPLE);
-                new File("data").mkdir();
-            }
-            initialData = rosterOptional.orElseGet(() ->
-                    SampleDataUtil.getSampleRoster(sampleFilePath, sampleResourceStream));
-        } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. " + MESSAGE_SAMPLE);
-            initialData = SampleDataUtil.getSampleRoster(sampleFilePath, sampleResourceStream);
-        } catch (IllegalArgumentException e) {
-            logger.warning("Invalid data detected. " + MESSAGE_SAMPLE);
-            initialData = SampleDataUtil.getSampleRoster(sampleFilePath, sampleResourceStream);
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. " + MESSAGE_SAMPLE);
-            initialData = SampleDataUtil.getSampleRoster(sampleFilePath, sampleResourceStream);
-
-        }
-
-        this.roster = initialData;
-        return new ModelManager(initialData, userPrefs);
+        this.roster = AppInitializer.readRoster(storage, userPrefs);
+        startupTimer.endPhase(PHASE_ROSTER);
+        return new ModelManager(roster, userPrefs);
     }
 
     private void initLogging(Config config) {
@@ -118,34 +115,7 @@ public class MainApp extends Application {
      * if {@code configFilePath} is null.
      */
     protected Config initConfig(Path configFilePath) {
-        Config initializedConfig;
-        Path configFilePathUsed;
-
-        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
-
-        if (configFilePath != null) {
-            logger.info("Custom Config file specified " + configFilePath);
-            configFilePathUsed = configFilePath;
-        }
-
-        logger.info("Using config file : " + configFilePathUsed);
-
-        try {
-            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
-            initializedConfig = configOptional.orElse(new Config());
-        } catch (DataConversionException e) {
-            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. "
-                    + "Using default config properties");
-            initializedConfig = new Config();
-        }
-
-        //Update config file in case it was missing to begin with or there are new/unused fields
-        try {
-            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-        return initializedConfig;
+        return AppInitializer.initConfig(configFilePath);
     }
 
     /**
@@ -154,36 +124,44 @@ public class MainApp extends Application {
      * reading from the file.
      */
     protected UserPrefs initPrefs(UserPrefsStorage storage) {
-        Path prefsFilePath = storage.getUserPrefsFilePath();
-        logger.info("Using prefs file : " + prefsFilePath);
-
-        UserPrefs initializedPrefs;
-        try {
-            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
-            initializedPrefs = prefsOptional.orElse(new UserPrefs());
-        } catch (DataConversionException e) {
-            logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. "
-                    + "Using default user prefs");
-            initializedPrefs = new UserPrefs();
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty Roster");
-            initializedPrefs = new UserPrefs();
-        }
-
-        //Update prefs file in case it was missing to begin with or there are new/unused fields
-        try {
-            storage.saveUserPrefs(initializedPrefs);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-
-        return initializedPrefs;
+        return AppInitializer.initPrefs(storage);
     }
 
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting Roster " + MainApp.VERSION);
         ui.start(primaryStage);
+        startupTimer.endPhase(PHASE_WINDOW);
+
+        Scene scene = primaryStage.getScene();
+        if (scene != null) {
+            scene.addPostLayoutPulseListener(new FirstFrameListener(scene));
+        }
+    }
+
+    /**
+     * Logs how long each phase of starting took once the first frame of the window has been laid out, just before
+     * it is drawn.
+     */
+    private class FirstFrameListener implements Runnable {
+        private final Scene scene;
+        private boolean isDone;
+
+        FirstFrameListener(Scene scene) {
+            this.scene = scene;
+        }
+
+        @Override
+        public void run() {
+            if (isDone) {
+                return;
+            }
+            isDone = true;
+            startupTimer.endPhase(PHASE_FIRST_FRAME);
+            logger.info(startupTimer.getReport());
+            // removed after this pulse, since the scene may be going through its listeners
+            Platform.runLater(() -> scene.removePostLayoutPulseListener(this));
+        }
     }
 
     @Override
@@ -194,5 +172,10 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        flightRecording.ifPresent(FlightRecording::close);
+        commandTrace.ifPresent(CommandTraceRecorder::close);
+        if (rosterMonitor != null) {
+            rosterMonitor.unregister();
+        }
     }
 }
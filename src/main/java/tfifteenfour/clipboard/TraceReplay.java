@@ -0,0 +1,258 @@
+package tfifteenfour.clipboard;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import tfifteenfour.clipboard.commons.core.LogsCenter;
+import tfifteenfour.clipboard.commons.exceptions.DataConversionException;
+import tfifteenfour.clipboard.commons.util.FileUtil;
+import tfifteenfour.clipboard.commons.util.LatencyHistogram;
+import tfifteenfour.clipboard.commons.util.ThreadAllocationCounter;
+import tfifteenfour.clipboard.logic.CommandMetrics;
+import tfifteenfour.clipboard.logic.CommandTraceRecorder;
+import tfifteenfour.clipboard.logic.LogicManager;
+import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.logic.parser.exceptions.ParseException;
+import tfifteenfour.clipboard.model.ModelManager;
+import tfifteenfour.clipboard.model.ReadOnlyRoster;
+import tfifteenfour.clipboard.model.UserPrefs;
+import tfifteenfour.clipboard.storage.JsonRosterStorage;
+import tfifteenfour.clipboard.storage.JsonUserPrefsStorage;
+import tfifteenfour.clipboard.storage.StorageManager;
+
+/**
+ * Runs the commands of a trace written by {@link CommandTraceRecorder} again, against a copy of a roster file, and
+ * reports how fast they ran. Running the same trace and roster with two builds compares them on a real workload.
+ *
+ * Every command is executed through {@link LogicManager} as it is in the window: with a copy of the model for undo
+ * and a save after every command, but without the window itself. The times in the trace are ignored, and each
+ * command starts as soon as the one before it ends. Commands that fail are counted and timed like the others.
+ * The roster file itself is never changed.
+ */
+public class TraceReplay {
+
+    public static final String FLAG_REPLAY = "--replay";
+    public static final String PARAMETER_WARMUP = "--warmup=";
+    public static final int DEFAULT_WARMUP_RUNS = 1;
+
+    public static final String MESSAGE_USAGE = "Usage: java -jar clipboard.jar " + FLAG_REPLAY
+            + " [" + PARAMETER_WARMUP + "RUNS] TRACE_FILE ROSTER_FILE\n"
+            + "Runs the commands in TRACE_FILE against a copy of ROSTER_FILE and reports how fast they ran, after "
+            + "running them " + DEFAULT_WARMUP_RUNS + " time(s) first to warm up.";
+    public static final String MESSAGE_CANNOT_READ = "Could not read %s";
+    public static final String MESSAGE_SUMMARY =
+            "Replayed %d command(s), of which %d failed, in %.1f ms: %.1f commands/s";
+    public static final String MESSAGE_LATENCY = "Time taken per command in ms, as p50 / p95 / p99 / max: "
+            + "%.2f / %.2f / %.2f / %.2f";
+    public static final String MESSAGE_ALLOCATION = "Bytes allocated per command: %s on average, %s in total";
+
+    private final List<String> commands;
+    private final Path rosterFile;
+
+    /**
+     * Creates a {@code TraceReplay} of {@code commands} against the roster in {@code rosterFile}.
+     */
+    public TraceReplay(List<String> commands, Path rosterFile) {
+        this.commands = List.copyOf(requireNonNull(commands));
+        this.rosterFile = requireNonNull(rosterFile);
+    }
+
+    /**
+     * The outcome of one run of a trace.
+     */
+    public static class Result {
+        private final int commandCount;
+        private final int failedCount;
+        private final long elapsedNanos;
+        private final long allocatedBytes;
+        private final LatencyHistogram latencies;
+        private final CommandMetrics commandMetrics;
+
+        Result(int commandCount, int failedCount, long elapsedNanos, long allocatedBytes, LatencyHistogram latencies,
+                CommandMetrics commandMetrics) {
+            this.commandCount = commandCount;
+            this.failedCount = failedCount;
+            this.elapsedNanos = elapsedNanos;
+            this.allocatedBytes = allocatedBytes;
+            this.latencies = latencies;
+            this.commandMetrics = commandMetrics;
+        }
+
+        public int getCommandCount() {
+            return commandCount;
+        }
+
+        public int getFailedCount() {
+            return failedCount;
+        }
+
+        /**
+         * Returns the time taken by each command, from the moment it was executed until it returned.
+         */
+        public LatencyHistogram getLatencies() {
+            return latencies;
+        }
+
+        /**
+         * Returns the commands executed per second.
+         */
+        public double getThroughput() {
+            return elapsedNanos == 0 ? 0 : commandCount / (elapsedNanos / 1e9);
+        }
+
+        /**
+         * Returns the bytes allocated by the whole run, or -1 if they could not be counted.
+         */
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        /**
+         * Returns the throughput, time taken and bytes allocated by the run as a whole, and by each phase of each
+         * command word.
+         */
+        public String getReport() {
+            StringBuilder report = new StringBuilder(String.format(MESSAGE_SUMMARY, commandCount, failedCount,
+                    elapsedNanos / 1e6, getThroughput()));
+            report.append('\n').append(String.format(MESSAGE_LATENCY, latencies.getPercentile(50) / 1e6,
+                    latencies.getPercentile(95) / 1e6, latencies.getPercentile(99) / 1e6, latencies.getMax() / 1e6));
+            if (allocatedBytes >= 0 && commandCount > 0) {
+                report.append('\n').append(String.format(MESSAGE_ALLOCATION,
+                        CommandMetrics.formatBytes(allocatedBytes / commandCount),
+                        CommandMetrics.formatBytes(allocatedBytes)));
+            }
+            report.append("\n\n").append(commandMetrics.getReport());
+            report.append("\n\n").append(commandMetrics.getAllocationReport());
+            return report.toString();
+        }
+    }
+
+    /**
+     * Replays the trace named by {@code args} and exits with {@link HeadlessApp#EXIT_SUCCESS} if it could be run.
+     */
+    public static void main(String[] args) {
+        System.exit(launch(args, System.out, System.err));
+    }
+
+    /**
+     * Replays the trace named by {@code args}, after warming up, and writes the report of the last run to
+     * {@code out}.
+     * @return one of the exit codes of {@link HeadlessApp}.
+     */
+    static int launch(String[] args, PrintStream out, PrintStream err) {
+        int warmupRuns = DEFAULT_WARMUP_RUNS;
+        List<Path> files = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.equals(FLAG_REPLAY)) {
+                continue;
+            } else if (arg.startsWith(PARAMETER_WARMUP) && arg.substring(PARAMETER_WARMUP.length()).matches("\\d+")) {
+                warmupRuns = Integer.parseInt(arg.substring(PARAMETER_WARMUP.length()));
+            } else if (files.size() < 2 && !arg.startsWith("-") && FileUtil.isValidPath(arg)) {
+                files.add(Paths.get(arg));
+            } else {
+                err.println(MESSAGE_USAGE);
+                return HeadlessApp.EXIT_USAGE;
+            }
+        }
+        if (files.size() != 2) {
+            err.println(MESSAGE_USAGE);
+            return HeadlessApp.EXIT_USAGE;
+        }
+
+        // only warnings go to the console, so that the log of every command is not part of the measurement
+        LogsCenter.setConsoleLogLevel(Level.WARNING);
+        Path workingFolder = null;
+        try {
+            TraceReplay replay = new TraceReplay(readTrace(files.get(0)), files.get(1));
+            workingFolder = Files.createTempDirectory("clipboard-replay");
+            for (int i = 0; i < warmupRuns; i++) {
+                replay.run(workingFolder);
+            }
+            out.println(replay.run(workingFolder).getReport());
+            return HeadlessApp.EXIT_SUCCESS;
+        } catch (IOException | DataConversionException e) {
+            err.println(String.format(MESSAGE_CANNOT_READ, e.getMessage()));
+            return HeadlessApp.EXIT_IO_ERROR;
+        } finally {
+            deleteWorkingFolder(workingFolder);
+        }
+    }
+
+    /**
+     * Returns the commands of the trace in {@code traceFile}, which may also be a plain file of commands.
+     * @throws IOException If the file cannot be read.
+     */
+    public static List<String> readTrace(Path traceFile) throws IOException {
+        List<String> commands = new ArrayList<>();
+        for (String line : Files.readAllLines(traceFile, StandardCharsets.UTF_8)) {
+            CommandTraceRecorder.parseCommandText(line).ifPresent(commands::add);
+        }
+        return commands;
+    }
+
+    /**
+     * Runs every command of the trace once, against a new copy of the roster in {@code workingFolder}, where the
+     * roster is also saved.
+     * @throws IOException If the roster file cannot be copied or read.
+     * @throws DataConversionException If the roster file is not a roster.
+     */
+    public Result run(Path workingFolder) throws IOException, DataConversionException {
+        Path rosterCopy = workingFolder.resolve("roster.json");
+        Files.copy(rosterFile, rosterCopy, StandardCopyOption.REPLACE_EXISTING);
+        StorageManager storage = new StorageManager(new JsonRosterStorage(rosterCopy),
+                new JsonUserPrefsStorage(workingFolder.resolve("preferences.json")));
+        Optional<ReadOnlyRoster> roster = storage.readRoster();
+        if (roster.isEmpty()) {
+            throw new IOException(rosterFile.toString());
+        }
+        LogicManager logic = new LogicManager(new ModelManager(roster.get(), new UserPrefs()), storage);
+        // every command is measured, so none needs to be logged as slow
+        logic.getCommandMetrics().setSlowCommandThreshold(Long.MAX_VALUE);
+
+        LatencyHistogram latencies = new LatencyHistogram();
+        int failedCount = 0;
+        long startBytes = ThreadAllocationCounter.getAllocatedBytes();
+        long start = System.nanoTime();
+        for (String commandText : commands) {
+            long commandStart = System.nanoTime();
+            try {
+                logic.execute(commandText);
+            } catch (CommandException | ParseException e) {
+                failedCount++;
+            }
+            latencies.record(System.nanoTime() - commandStart);
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        long allocatedBytes = startBytes < 0 ? -1 : ThreadAllocationCounter.getAllocatedBytes() - startBytes;
+
+        return new Result(commands.size(), failedCount, elapsedNanos, allocatedBytes, latencies,
+                logic.getCommandMetrics());
+    }
+
+    private static void deleteWorkingFolder(Path workingFolder) {
+        if (workingFolder == null) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(workingFolder)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.deleteIfExists(path);
+            }
+        } catch (IOException e) {
+            // a temporary folder that is left behind does no harm
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package tfifteenfour.clipboard.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * Passes log records to other handlers, such as the console and the log file, on a background thread, so that a
+ * command never waits for a log message to be written.
+ *
+ * Records wait in a bounded ring buffer until the {@value #THREAD_NAME} thread writes them, in the order they were
+ * logged. If the buffer is full, the {@link OverflowPolicy} decides whether a record is dropped or the logging thread
+ * waits. The number of dropped records is logged as a warning once there is room again.
+ */
+public class AsyncLogHandler extends Handler {
+
+    public static final String THREAD_NAME = "log-writer";
+    public static final int DEFAULT_CAPACITY = 8192;
+    public static final String MESSAGE_DROPPED = "Dropped %d log record(s) because the log buffer was full";
+
+    private static final long FLUSH_TIMEOUT_MILLIS = 5_000;
+    private static final int BATCH_SIZE = 256;
+
+    /**
+     * What to do with a record that is logged while the buffer is full.
+     */
+    public enum OverflowPolicy {
+        /** Drops the record being logged. */
+        DROP_NEWEST,
+        /** Drops the oldest record in the buffer to make room, so the last records before a problem are kept. */
+        DROP_OLDEST,
+        /** Waits until there is room, so no record is ever lost, at the cost of slowing down the logging thread. */
+        BLOCK
+    }
+
+    private final List<Handler> targets;
+    private final BlockingQueue<LogRecord> buffer;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong acceptedCount = new AtomicLong();
+    private final Thread writer;
+    /** The dropped records that have been reported so far. Only used by the writer thread. */
+    private long reportedDroppedCount;
+    private volatile OverflowPolicy overflowPolicy;
+    private volatile boolean isClosed;
+
+    /**
+     * Creates a handler that passes records to {@code targets} through a buffer of {@code capacity} records, and
+     * starts its thread.
+     */
+    public AsyncLogHandler(List<Handler> targets, int capacity, OverflowPolicy overflowPolicy) {
+        this.targets = List.copyOf(requireNonNull(targets));
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.overflowPolicy = requireNonNull(overflowPolicy);
+        this.writer = new Thread(this::writeRecords, THREAD_NAME);
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = requireNonNull(overflowPolicy);
+    }
+
+    /**
+     * Returns the number of records dropped because the buffer was full.
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Queues {@code record} to be written, unless no target would write it.
+     */
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed || record == null || !isLoggable(record) || !isWrittenByAnyTarget(record)) {
+            return;
+        }
+        // the caller is only known on the thread that logged the record, so it is found before the record is queued
+        record.getSourceClassName();
+
+        if (!enqueue(record)) {
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    private boolean isWrittenByAnyTarget(LogRecord record) {
+        for (Handler target : targets) {
+            if (target.isLoggable(record)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean enqueue(LogRecord record) {
+        acceptedCount.incrementAndGet();
+        switch (overflowPolicy) {
+        case BLOCK:
+            try {
+                buffer.put(record);
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        case DROP_OLDEST:
+            while (!buffer.offer(record)) {
+                if (buffer.poll() != null) {
+                    droppedCount.incrementAndGet();
+                    writtenCount.incrementAndGet();
+                }
+            }
+            return true;
+        default:
+            if (buffer.offer(record)) {
+                return true;
+            }
+            break;
+        }
+        // a record that never enters the buffer is never waited for by flush()
+        writtenCount.incrementAndGet();
+        return false;
+    }
+
+    private void writeRecords() {
+        List<LogRecord> batch = new ArrayList<>(BATCH_SIZE);
+        while (true) {
+            try {
+                batch.add(buffer.take());
+                buffer.drainTo(batch, BATCH_SIZE - 1);
+            } catch (InterruptedException e) {
+                // closing interrupts a thread that is waiting for records; the remaining ones are written by close()
+                return;
+            }
+
+            reportDroppedRecords();
+            for (LogRecord record : batch) {
+                write(record);
+            }
+            writtenCount.addAndGet(batch.size());
+            batch.clear();
+            if (buffer.isEmpty()) {
+                flushTargets();
+            }
+        }
+    }
+
+    private void reportDroppedRecords() {
+        long dropped = droppedCount.get();
+        if (dropped > reportedDroppedCount) {
+            LogRecord warning = new LogRecord(Level.WARNING,
+                    String.format(MESSAGE_DROPPED, dropped - reportedDroppedCount));
+            warning.setLoggerName(AsyncLogHandler.class.getSimpleName());
+            write(warning);
+            reportedDroppedCount = dropped;
+        }
+    }
+
+    private void write(LogRecord record) {
+        for (Handler target : targets) {
+            try {
+                target.publish(record);
+            } catch (RuntimeException e) {
+                reportError(null, e, ErrorManager.WRITE_FAILURE);
+            }
+        }
+    }
+
+    private void flushTargets() {
+        for (Handler target : targets) {
+            target.flush();
+        }
+    }
+
+    /**
+     * Waits until every record queued so far has been written, or for at most five seconds, and flushes the
+     * targets.
+     */
+    @Override
+    public void flush() {
+        long queued = acceptedCount.get();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(FLUSH_TIMEOUT_MILLIS);
+        while (writtenCount.get() < queued && writer.isAlive() && System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        flushTargets();
+    }
+
+    /**
+     * Writes every queued record, stops the thread and closes the targets.
+     */
+    @Override
+    public void close() {
+        if (isClosed) {
+            return;
+        }
+        flush();
+        isClosed = true;
+        writer.interrupt();
+        try {
+            writer.join(FLUSH_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // records logged while closing are written here, on the closing thread
+        List<LogRecord> remaining = new ArrayList<>();
+        buffer.drainTo(remaining);
+        remaining.forEach(this::write);
+        for (Handler target : targets) {
+            target.close();
+        }
+    }
+}
@@ -11,10 +11,16 @@ import java.util.logging.Level;
 public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
+    public static final long DEFAULT_SLOW_COMMAND_THRESHOLD_MILLIS = 500;
 
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private long slowCommandThresholdMillis = DEFAULT_SLOW_COMMAND_THRESHOLD_MILLIS;
+    private boolean isDebugMode = false;
+    private boolean isCommandTraceEnabled = false;
+    private boolean isCommandTraceAnonymized = true;
+    private AsyncLogHandler.OverflowPolicy logOverflowPolicy = AsyncLogHandler.OverflowPolicy.DROP_OLDEST;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +38,61 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns how long a command may take, in milliseconds, before it is logged as slow.
+     */
+    public long getSlowCommandThresholdMillis() {
+        return slowCommandThresholdMillis;
+    }
+
+    public void setSlowCommandThresholdMillis(long slowCommandThresholdMillis) {
+        this.slowCommandThresholdMillis = slowCommandThresholdMillis;
+    }
+
+    /**
+     * Returns true if the result of each command is shown with the time taken and bytes allocated by its phases.
+     */
+    public boolean isDebugMode() {
+        return isDebugMode;
+    }
+
+    public void setDebugMode(boolean isDebugMode) {
+        this.isDebugMode = isDebugMode;
+    }
+
+    /**
+     * Returns true if every command executed is written to a trace file that can be replayed.
+     */
+    public boolean isCommandTraceEnabled() {
+        return isCommandTraceEnabled;
+    }
+
+    public void setCommandTraceEnabled(boolean isCommandTraceEnabled) {
+        this.isCommandTraceEnabled = isCommandTraceEnabled;
+    }
+
+    /**
+     * Returns true if the details of students are replaced with made-up values in trace files.
+     */
+    public boolean isCommandTraceAnonymized() {
+        return isCommandTraceAnonymized;
+    }
+
+    public void setCommandTraceAnonymized(boolean isCommandTraceAnonymized) {
+        this.isCommandTraceAnonymized = isCommandTraceAnonymized;
+    }
+
+    /**
+     * Returns what is done with a log message when messages are logged faster than they can be written.
+     */
+    public AsyncLogHandler.OverflowPolicy getLogOverflowPolicy() {
+        return logOverflowPolicy;
+    }
+
+    public void setLogOverflowPolicy(AsyncLogHandler.OverflowPolicy logOverflowPolicy) {
+        this.logOverflowPolicy = logOverflowPolicy;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +105,18 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && slowCommandThresholdMillis == o.slowCommandThresholdMillis
+                && isDebugMode == o.isDebugMode
+                && isCommandTraceEnabled == o.isCommandTraceEnabled
+                && isCommandTraceAnonymized == o.isCommandTraceAnonymized
+                && logOverflowPolicy == o.logOverflowPolicy;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, slowCommandThresholdMillis, isDebugMode,
+                isCommandTraceEnabled, isCommandTraceAnonymized, logOverflowPolicy);
     }
 
     @Override
@@ -57,6 +124,11 @@ public class Config {
         StringBuilder sb = new StringBuilder();
         sb.append("Current log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nSlow command threshold : " + slowCommandThresholdMillis + " ms");
+        sb.append("\nDebug mode : " + isDebugMode);
+        sb.append("\nCommand trace : " + (isCommandTraceEnabled ? "on" : "off")
+                + (isCommandTraceAnonymized ? ", anonymized" : ""));
+        sb.append("\nLog overflow policy : " + logOverflowPolicy);
         return sb.toString();
     }
 
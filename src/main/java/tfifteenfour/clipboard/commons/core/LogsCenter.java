@@ -1,10 +1,14 @@
 package tfifteenfour.clipboard.commons.core;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
+import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
 
@@ -14,6 +18,8 @@ import java.util.logging.SimpleFormatter;
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ * Both are written to by an {@link AsyncLogHandler} on a background thread, so logging never waits for the console
+ *   or the disk. Records that are still buffered when the application exits are written before it stops.
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
@@ -23,6 +29,7 @@ public class LogsCenter {
     private static final Logger logger = LogsCenter.getLogger(LogsCenter.class);
     private static FileHandler fileHandler;
     private static ConsoleHandler consoleHandler;
+    private static AsyncLogHandler asyncHandler;
 
     /**
      * Initializes with a custom log level (specified in the {@code config} object)
@@ -32,9 +39,20 @@ public class LogsCenter {
      */
     public static void init(Config config) {
         currentLogLevel = config.getLogLevel();
+        getAsyncHandler().setOverflowPolicy(config.getLogOverflowPolicy());
         logger.info("currentLogLevel: " + currentLogLevel);
     }
 
+    /**
+     * Sets the level of the messages that are written to the console, without changing what goes to the log file.
+     */
+    public static void setConsoleLogLevel(Level level) {
+        if (consoleHandler == null) {
+            consoleHandler = createConsoleHandler();
+        }
+        consoleHandler.setLevel(level);
+    }
+
     /**
      * Creates a logger with the given name.
      */
@@ -43,8 +61,7 @@ public class LogsCenter {
         logger.setUseParentHandlers(false);
 
         removeHandlers(logger);
-        addConsoleHandler(logger);
-        addFileHandler(logger);
+        logger.addHandler(getAsyncHandler());
 
         return Logger.getLogger(name);
     }
@@ -60,37 +77,46 @@ public class LogsCenter {
     }
 
     /**
-     * Adds the {@code consoleHandler} to the {@code logger}. <br>
-     * Creates the {@code consoleHandler} if it is null.
+     * Returns the {@code asyncHandler} that writes to the console and the log file. <br>
+     * Creates the {@code asyncHandler} if it is null.
      */
-    private static void addConsoleHandler(Logger logger) {
-        if (consoleHandler == null) {
-            consoleHandler = createConsoleHandler();
+    private static synchronized AsyncLogHandler getAsyncHandler() {
+        if (asyncHandler == null) {
+            asyncHandler = new AsyncLogHandler(createTargetHandlers(), AsyncLogHandler.DEFAULT_CAPACITY,
+                    AsyncLogHandler.OverflowPolicy.DROP_OLDEST);
+            Runtime.getRuntime().addShutdownHook(new Thread(asyncHandler::close, "log-writer-shutdown"));
         }
-        logger.addHandler(consoleHandler);
-    }
-
-    /**
-     * Remove all the handlers from {@code logger}.
-     */
-    private static void removeHandlers(Logger logger) {
-        Arrays.stream(logger.getHandlers())
-                .forEach(logger::removeHandler);
+        return asyncHandler;
     }
 
     /**
-     * Adds the {@code fileHandler} to the {@code logger}. <br>
-     * Creates {@code fileHandler} if it is null.
+     * Returns the {@code consoleHandler} and the {@code fileHandler}, creating them if they are null. <br>
+     * The {@code fileHandler} is left out if the log file cannot be opened.
      */
-    private static void addFileHandler(Logger logger) {
+    private static List<Handler> createTargetHandlers() {
+        List<Handler> handlers = new ArrayList<>();
+        if (consoleHandler == null) {
+            consoleHandler = createConsoleHandler();
+        }
+        handlers.add(consoleHandler);
         try {
             if (fileHandler == null) {
                 fileHandler = createFileHandler();
             }
-            logger.addHandler(fileHandler);
+            handlers.add(fileHandler);
         } catch (IOException e) {
-            logger.warning("Error adding file handler for logger.");
+            consoleHandler.publish(new LogRecord(Level.WARNING,
+                    "Error adding file handler for logger."));
         }
+        return handlers;
+    }
+
+    /**
+     * Remove all the handlers from {@code logger}.
+     */
+    private static void removeHandlers(Logger logger) {
+        Arrays.stream(logger.getHandlers())
+                .forEach(logger::removeHandler);
     }
 
     /**
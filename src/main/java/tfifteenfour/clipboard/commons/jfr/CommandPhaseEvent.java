@@ -0,0 +1,37 @@
+package tfifteenfour.clipboard.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A phase of a command, such as parsing or executing it, as timed by {@code CommandMetrics}.
+ */
+@Name("tfifteenfour.clipboard.CommandPhase")
+@Label("Command Phase")
+@Category({"CLIpboard", "Commands"})
+@Description("A phase of a command entered by the user: parse, copy, execute or save")
+@StackTrace(false)
+public class CommandPhaseEvent extends Event {
+
+    @Label("Command Word")
+    private String commandWord;
+
+    @Label("Phase")
+    private String phase;
+
+    /**
+     * Ends the phase and commits the event, if it is being recorded.
+     */
+    public void end(String commandWord, String phase) {
+        end();
+        if (shouldCommit()) {
+            this.commandWord = commandWord;
+            this.phase = phase;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package tfifteenfour.clipboard.commons.jfr;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import tfifteenfour.clipboard.commons.core.LogsCenter;
+
+/**
+ * A continuous Java Flight Recorder recording of the last few minutes of the application, kept in a bounded buffer
+ * on disk, that can be dumped to a file when something was slow.
+ * The recording uses the low-overhead {@code default} settings of the JDK and includes the events of this
+ * package, so that a dump opened in JDK Mission Control shows garbage collection pauses next to the commands, saves
+ * and window updates that ran at the same time.
+ */
+public class FlightRecording {
+
+    public static final String RECORDING_NAME = "CLIpboard";
+    public static final String REASON_ON_DEMAND = "requested";
+    public static final String REASON_SLOW_COMMAND = "slow-command";
+
+    private static final Duration MAX_AGE = Duration.ofMinutes(10);
+    private static final long MAX_SIZE_BYTES = 64L * 1024 * 1024;
+    private static final Duration MIN_TIME_BETWEEN_SLOW_COMMAND_DUMPS = Duration.ofMinutes(1);
+    private static final Duration DUMP_TIMEOUT = Duration.ofSeconds(10);
+    private static final DateTimeFormatter FILE_NAME_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private static final Logger logger = LogsCenter.getLogger(FlightRecording.class);
+
+    private final Recording recording;
+    private final Path dumpDirectory;
+    private final ExecutorService dumpExecutor;
+    private final AtomicLong lastSlowCommandDumpNanos = new AtomicLong();
+
+    private FlightRecording(Recording recording, Path dumpDirectory) {
+        this.recording = recording;
+        this.dumpDirectory = dumpDirectory;
+        this.dumpExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "flight-recording-dump");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts a continuous recording that is dumped into {@code dumpDirectory}.
+     * @return the recording, or an empty {@code Optional} if the Java runtime cannot record.
+     */
+    public static Optional<FlightRecording> start(Path dumpDirectory) {
+        requireNonNull(dumpDirectory);
+        if (!FlightRecorder.isAvailable()) {
+            logger.warning("Flight recording is not available in this Java runtime");
+            return Optional.empty();
+        }
+
+        try {
+            Recording recording = new Recording(Configuration.getConfiguration("default"));
+            recording.setName(RECORDING_NAME);
+            recording.setToDisk(true);
+            recording.setMaxAge(MAX_AGE);
+            recording.setMaxSize(MAX_SIZE_BYTES);
+            recording.start();
+            logger.info("Started flight recording, dumped to " + dumpDirectory.toAbsolutePath());
+            return Optional.of(new FlightRecording(recording, dumpDirectory));
+        } catch (IOException | ParseException | IllegalStateException | SecurityException e) {
+            logger.warning("Could not start flight recording: " + e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes the recording so far to a new file in the dump directory.
+     * @return the path of the file.
+     * @throws IOException If the file cannot be written.
+     */
+    public Path dump(String reason) throws IOException {
+        Files.createDirectories(dumpDirectory);
+        Path file = dumpDirectory.resolve(String.format("clipboard-%s-%s.jfr",
+                LocalDateTime.now().format(FILE_NAME_TIME_FORMAT), reason));
+        recording.dump(file);
+        logger.info("Dumped flight recording to " + file.toAbsolutePath());
+        return file;
+    }
+
+    /**
+     * Dumps the recording in the background after a slow command, unless it was already dumped for a slow command
+     * in the last minute, so that a burst of slow commands leaves a single file.
+     */
+    public void dumpAfterSlowCommand() {
+        long now = System.nanoTime();
+        long last = lastSlowCommandDumpNanos.get();
+        if (last != 0 && now - last < MIN_TIME_BETWEEN_SLOW_COMMAND_DUMPS.toNanos()) {
+            return;
+        }
+        if (!lastSlowCommandDumpNanos.compareAndSet(last, now)) {
+            return;
+        }
+
+        dumpExecutor.execute(() -> {
+            try {
+                dump(REASON_SLOW_COMMAND);
+            } catch (IOException e) {
+                logger.warning("Could not dump flight recording: " + e);
+            }
+        });
+    }
+
+    /**
+     * Waits for a dump that is still being written, then stops recording and deletes the buffered recording.
+     */
+    public void close() {
+        dumpExecutor.shutdown();
+        try {
+            if (!dumpExecutor.awaitTermination(DUMP_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                logger.warning("Gave up waiting for the flight recording to be dumped");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        recording.close();
+    }
+}
@@ -0,0 +1,45 @@
+package tfifteenfour.clipboard.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import tfifteenfour.clipboard.model.ReadOnlyRoster;
+import tfifteenfour.clipboard.model.RosterStatistics;
+
+/**
+ * A copy of the whole model, as taken before every command so that it can be undone.
+ */
+@Name("tfifteenfour.clipboard.ModelCopy")
+@Label("Model Copy")
+@Category({"CLIpboard", "Model"})
+@Description("A deep copy of the model, kept so that a command can be undone")
+@StackTrace(false)
+public class ModelCopyEvent extends Event {
+
+    @Label("Courses")
+    private int courseCount;
+
+    @Label("Groups")
+    private int groupCount;
+
+    @Label("Students")
+    @Description("Students summed over every group, so a student in two groups is counted twice")
+    private int studentCount;
+
+    /**
+     * Ends the copy of {@code roster} and commits the event, if it is being recorded.
+     */
+    public void end(ReadOnlyRoster roster) {
+        end();
+        if (shouldCommit()) {
+            RosterStatistics statistics = RosterStatistics.of(roster);
+            courseCount = statistics.getCourseCount();
+            groupCount = statistics.getGroupCount();
+            studentCount = statistics.getStudentCount();
+            commit();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package tfifteenfour.clipboard.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A rebuild of one of the panes of the main window, such as the list of students.
+ */
+@Name("tfifteenfour.clipboard.PaneRebuild")
+@Label("Pane Rebuild")
+@Category({"CLIpboard", "UI"})
+@Description("A pane of the main window built anew for the page being shown")
+@StackTrace(false)
+public class PaneRebuildEvent extends Event {
+
+    @Label("Pane")
+    private String pane;
+
+    @Label("Items")
+    private int itemCount;
+
+    /**
+     * Ends the rebuild of {@code pane}, which shows {@code itemCount} items, and commits the event if it is being
+     * recorded.
+     */
+    public void end(String pane, int itemCount) {
+        end();
+        if (shouldCommit()) {
+            this.pane = pane;
+            this.itemCount = itemCount;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package tfifteenfour.clipboard.commons.jfr;
+
+import java.util.function.LongSupplier;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+import tfifteenfour.clipboard.model.ReadOnlyRoster;
+import tfifteenfour.clipboard.model.RosterStatistics;
+
+/**
+ * A read or write of the roster file.
+ */
+@Category({"CLIpboard", "Storage"})
+@StackTrace(false)
+public abstract class RosterFileEvent extends Event {
+
+    @Label("Path")
+    private String path;
+
+    @Label("Size")
+    @DataAmount
+    private long bytes;
+
+    @Label("Courses")
+    private int courseCount;
+
+    @Label("Groups")
+    private int groupCount;
+
+    @Label("Students")
+    private int studentCount;
+
+    /**
+     * Ends the read or write of {@code roster} at {@code path}, and commits the event if it is being recorded.
+     * @param bytes The size of the file, which is only read if the event is recorded.
+     * @param roster The roster read or written, or null if none could be read.
+     */
+    public void end(String path, LongSupplier bytes, ReadOnlyRoster roster) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+
+        this.path = path;
+        this.bytes = bytes.getAsLong();
+        if (roster != null) {
+            RosterStatistics statistics = RosterStatistics.of(roster);
+            courseCount = statistics.getCourseCount();
+            groupCount = statistics.getGroupCount();
+            studentCount = statistics.getStudentCount();
+        }
+        commit();
+    }
+}
@@ -0,0 +1,14 @@
+package tfifteenfour.clipboard.commons.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A read of the roster file, including turning its contents into the model.
+ */
+@Name("tfifteenfour.clipboard.RosterRead")
+@Label("Roster Read")
+@Description("A read of the roster file into the model")
+public class RosterReadEvent extends RosterFileEvent {
+}
@@ -0,0 +1,14 @@
+package tfifteenfour.clipboard.commons.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A save of the roster to the roster file, including turning the model into JSON.
+ */
+@Name("tfifteenfour.clipboard.RosterSave")
+@Label("Roster Save")
+@Description("A save of the model to the roster file")
+public class RosterSaveEvent extends RosterFileEvent {
+}
@@ -0,0 +1,192 @@
+package tfifteenfour.clipboard.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A Burkhard-Keller tree that maps string keys to values and finds every value whose key is within a given
+ * Levenshtein distance of a query, without computing the distance to every key.
+ * Each node's children are bucketed by their distance to the node's key, so by the triangle inequality only the
+ * children whose bucket lies within the tolerance of the query's distance need to be visited.
+ *
+ * @param <T> the type of values stored in the tree
+ */
+public class BkTree<T> {
+
+    private Node<T> root;
+    private int liveEntries;
+    private int removedEntries;
+
+    /**
+     * Returns the largest edit distance a query of the given length tolerates,
+     * so that short queries only match closely and longer ones may contain a few typos.
+     */
+    public static int defaultTolerance(String query) {
+        return Math.min(3, query.length() / 3);
+    }
+
+    /**
+     * Maps {@code key} to {@code value}. A key may map to several values.
+     */
+    public void add(String key, T value) {
+        requireNonNull(key);
+        requireNonNull(value);
+        liveEntries++;
+        if (root == null) {
+            root = new Node<>(key);
+            root.values.add(value);
+            return;
+        }
+
+        Node<T> node = root;
+        while (true) {
+            int distance = StringUtil.levenshteinDistance(key, node.key);
+            if (distance == 0) {
+                node.values.add(value);
+                return;
+            }
+            Node<T> child = node.children.get(distance);
+            if (child == null) {
+                child = new Node<>(key);
+                child.values.add(value);
+                node.children.put(distance, child);
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Removes the mapping from {@code key} to {@code value}, comparing values by identity.
+     * Nodes are never unlinked, so the tree is rebuilt once removed entries outnumber live ones.
+     */
+    public void remove(String key, T value) {
+        requireNonNull(key);
+        requireNonNull(value);
+        Node<T> node = root;
+        while (node != null) {
+            int distance = StringUtil.levenshteinDistance(key, node.key);
+            if (distance == 0) {
+                if (node.values.removeIf(existing -> existing == value)) {
+                    liveEntries--;
+                    removedEntries++;
+                }
+                break;
+            }
+            node = node.children.get(distance);
+        }
+
+        if (removedEntries > liveEntries) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Removes all entries from the tree.
+     */
+    public void clear() {
+        root = null;
+        liveEntries = 0;
+        removedEntries = 0;
+    }
+
+    /**
+     * Returns every value whose key is within {@code tolerance} edits of {@code query}.
+     * A value reachable through several keys is returned once, with the smallest distance among them,
+     * and the matches are ordered by increasing distance.
+     */
+    public List<Match<T>> search(String query, int tolerance) {
+        requireNonNull(query);
+        Map<T, Integer> bestDistances = new IdentityHashMap<>();
+        List<T> order = new ArrayList<>();
+
+        Deque<Node<T>> toVisit = new ArrayDeque<>();
+        if (root != null) {
+            toVisit.push(root);
+        }
+        while (!toVisit.isEmpty()) {
+            Node<T> node = toVisit.pop();
+            int distance = StringUtil.levenshteinDistance(query, node.key);
+            if (distance <= tolerance) {
+                for (T value : node.values) {
+                    Integer best = bestDistances.get(value);
+                    if (best == null) {
+                        order.add(value);
+                    }
+                    if (best == null || distance < best) {
+                        bestDistances.put(value, distance);
+                    }
+                }
+            }
+            for (int d = Math.max(1, distance - tolerance); d <= distance + tolerance; d++) {
+                Node<T> child = node.children.get(d);
+                if (child != null) {
+                    toVisit.push(child);
+                }
+            }
+        }
+
+        List<Match<T>> matches = new ArrayList<>();
+        for (T value : order) {
+            matches.add(new Match<>(value, bestDistances.get(value)));
+        }
+        matches.sort((first, second) -> first.getDistance() - second.getDistance());
+        return matches;
+    }
+
+    private void rebuild() {
+        List<Node<T>> nodes = new ArrayList<>();
+        Deque<Node<T>> toVisit = new ArrayDeque<>();
+        if (root != null) {
+            toVisit.push(root);
+        }
+        while (!toVisit.isEmpty()) {
+            Node<T> node = toVisit.pop();
+            nodes.add(node);
+            node.children.values().forEach(toVisit::push);
+        }
+
+        clear();
+        for (Node<T> node : nodes) {
+            node.values.forEach(value -> add(node.key, value));
+        }
+    }
+
+    private static class Node<T> {
+        private final String key;
+        private final List<T> values = new ArrayList<>(1);
+        private final Map<Integer, Node<T>> children = new HashMap<>();
+
+        Node(String key) {
+            this.key = key;
+        }
+    }
+
+    /**
+     * A value found by {@link #search(String, int)}, with the edit distance between its key and the query.
+     */
+    public static class Match<T> {
+        private final T value;
+        private final int distance;
+
+        Match(T value, int distance) {
+            this.value = value;
+            this.distance = distance;
+        }
+
+        public T getValue() {
+            return value;
+        }
+
+        public int getDistance() {
+            return distance;
+        }
+    }
+}
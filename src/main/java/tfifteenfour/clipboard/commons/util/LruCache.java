@@ -0,0 +1,85 @@
+package tfifteenfour.clipboard.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static tfifteenfour.clipboard.commons.util.AppUtil.checkArgument;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * A cache that holds values up to a total weight, such as the bytes taken by decoded images, and drops the least
+ * recently used values to make room for new ones.
+ * A value heavier than the whole cache is not kept at all.
+ */
+public class LruCache<K, V> {
+
+    private final Map<K, V> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final long maxWeight;
+    private final ToLongFunction<? super V> weigher;
+    private long weight;
+
+    /**
+     * Creates an empty cache that holds values up to a total weight of {@code maxWeight}, as given by
+     * {@code weigher}.
+     */
+    public LruCache(long maxWeight, ToLongFunction<? super V> weigher) {
+        checkArgument(maxWeight >= 0, "The weight of a cache cannot be negative");
+        this.maxWeight = maxWeight;
+        this.weigher = requireNonNull(weigher);
+    }
+
+    /**
+     * Returns the value of {@code key}, which becomes the most recently used, or null if there is none.
+     */
+    public synchronized V get(K key) {
+        return entries.get(key);
+    }
+
+    /**
+     * Sets the value of {@code key} to {@code value}, dropping the least recently used values until the cache is
+     * within its weight.
+     */
+    public synchronized void put(K key, V value) {
+        requireNonNull(key);
+        requireNonNull(value);
+        remove(key);
+        long valueWeight = weigher.applyAsLong(value);
+        if (valueWeight > maxWeight) {
+            return;
+        }
+
+        entries.put(key, value);
+        weight += valueWeight;
+        Iterator<V> leastRecentlyUsed = entries.values().iterator();
+        while (weight > maxWeight) {
+            weight -= weigher.applyAsLong(leastRecentlyUsed.next());
+            leastRecentlyUsed.remove();
+        }
+    }
+
+    /**
+     * Removes the value of {@code key}, if any.
+     */
+    public synchronized void remove(K key) {
+        V removed = entries.remove(key);
+        if (removed != null) {
+            weight -= weigher.applyAsLong(removed);
+        }
+    }
+
+    /**
+     * Returns the number of values held.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the total weight of the values held.
+     */
+    public synchronized long getWeight() {
+        return weight;
+    }
+}
@@ -0,0 +1,79 @@
+package tfifteenfour.clipboard.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Times the phases of starting the application, one after another, from the start of the JVM until the first frame
+ * of the window is shown.
+ *
+ * The first phase, {@value #PHASE_JVM}, is the time from the start of the JVM until the timer was created. Each
+ * later phase starts when the one before it ends.
+ */
+public class StartupTimer {
+
+    public static final String PHASE_JVM = "JVM start";
+    public static final String MESSAGE_REPORT = "Started in %d ms: %s";
+
+    private final Map<String, Long> phaseNanos = new LinkedHashMap<>();
+    private final LongSupplier nanoClock;
+    private long phaseStartNanos;
+
+    /**
+     * Creates a timer whose first phase ends now.
+     */
+    public StartupTimer() {
+        this(ManagementFactory.getRuntimeMXBean().getUptime(), System::nanoTime);
+    }
+
+    /**
+     * Creates a timer whose first phase took {@code jvmUptimeMillis}, and which reads the time from
+     * {@code nanoClock}.
+     */
+    StartupTimer(long jvmUptimeMillis, LongSupplier nanoClock) {
+        this.nanoClock = requireNonNull(nanoClock);
+        this.phaseStartNanos = nanoClock.getAsLong();
+        phaseNanos.put(PHASE_JVM, TimeUnit.MILLISECONDS.toNanos(jvmUptimeMillis));
+    }
+
+    /**
+     * Ends the phase called {@code phase}, which started when the phase before it ended. A phase that is ended more
+     * than once is reported once, with the times added up.
+     */
+    public synchronized void endPhase(String phase) {
+        requireNonNull(phase);
+        long now = nanoClock.getAsLong();
+        phaseNanos.merge(phase, now - phaseStartNanos, Long::sum);
+        phaseStartNanos = now;
+    }
+
+    /**
+     * Returns the milliseconds taken by {@code phase}, or -1 if it has not ended.
+     */
+    public synchronized long getPhaseMillis(String phase) {
+        Long nanos = phaseNanos.get(phase);
+        return nanos == null ? -1 : TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    /**
+     * Returns the milliseconds taken by all the phases that have ended.
+     */
+    public synchronized long getTotalMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(phaseNanos.values().stream().mapToLong(Long::longValue).sum());
+    }
+
+    /**
+     * Returns the total time taken and the time taken by each phase, in the order they ended.
+     */
+    public synchronized String getReport() {
+        StringJoiner phases = new StringJoiner(", ");
+        phaseNanos.forEach((phase, nanos) -> phases.add(phase + " " + TimeUnit.NANOSECONDS.toMillis(nanos) + " ms"));
+        return String.format(MESSAGE_REPORT, getTotalMillis(), phases);
+    }
+}
@@ -0,0 +1,104 @@
+package tfifteenfour.clipboard.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A weak table that shares one instance between equal strings, such as the course codes, group names,
+ * session names and remarks that repeat across the roster.
+ * Entries are weakly referenced, so a string that is no longer used anywhere in the model can still be collected.
+ * The table also keeps running statistics so that the memory it saved can be reported.
+ */
+public class StringInterner {
+
+    private static final StringInterner SHARED = new StringInterner();
+
+    /** Bytes taken by a {@code String} object itself: header, value reference, hash, coder and padding. */
+    private static final int STRING_OBJECT_BYTES = 24;
+    /** Bytes taken by the header of the {@code byte[]} backing a string. */
+    private static final int ARRAY_HEADER_BYTES = 16;
+
+    private final Map<String, WeakReference<String>> table = new WeakHashMap<>();
+    private long lookups;
+    private long hits;
+    private long duplicates;
+    private long bytesSaved;
+
+    /**
+     * Returns the interner shared by the storage and parser layers.
+     */
+    public static StringInterner getInstance() {
+        return SHARED;
+    }
+
+    /**
+     * Returns the canonical instance of {@code value}, adding {@code value} to the table if there is none yet.
+     */
+    public synchronized String intern(String value) {
+        requireNonNull(value);
+        lookups++;
+        WeakReference<String> reference = table.get(value);
+        String canonical = reference == null ? null : reference.get();
+        if (canonical != null) {
+            hits++;
+            if (canonical != value) {
+                duplicates++;
+                bytesSaved += estimateSize(value);
+            }
+            return canonical;
+        }
+
+        table.put(value, new WeakReference<>(value));
+        return value;
+    }
+
+    /**
+     * Returns the number of distinct strings currently held by the table.
+     */
+    public synchronized int size() {
+        return table.size();
+    }
+
+    /**
+     * Returns the fraction of lookups that found an equal string already in the table, or 0 if there were none.
+     */
+    public synchronized double getHitRate() {
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    /**
+     * Empties the table. Strings interned before are no longer shared with strings interned afterwards, but the
+     * running statistics are kept.
+     */
+    public synchronized void clear() {
+        table.clear();
+    }
+
+    /**
+     * Returns the estimated number of bytes no longer retained because duplicates were replaced
+     * by their canonical instance.
+     */
+    public synchronized long getBytesSaved() {
+        return bytesSaved;
+    }
+
+    /**
+     * Returns a one-line summary of how many strings were deduplicated and the memory saved.
+     */
+    public synchronized String getReport() {
+        return String.format("String interning: %d lookups, %d duplicates shared, %d distinct strings held, "
+                + "~%.1f KB saved", lookups, duplicates, table.size(), bytesSaved / 1024.0);
+    }
+
+    /**
+     * Returns the estimated heap footprint of {@code value}, assuming compact strings and 8-byte alignment.
+     */
+    static long estimateSize(String value) {
+        boolean isLatin1 = value.chars().allMatch(c -> c < 256);
+        long arrayBytes = ARRAY_HEADER_BYTES + (long) value.length() * (isLatin1 ? 1 : 2);
+        return STRING_OBJECT_BYTES + ((arrayBytes + 7) / 8) * 8;
+    }
+}
@@ -65,4 +65,39 @@ public class StringUtil {
             return false;
         }
     }
+
+    /**
+     * Returns the Levenshtein edit distance between {@code first} and {@code second}, which is the least number of
+     * single character insertions, deletions and substitutions needed to turn one string into the other.
+     *   <br>examples:<pre>
+     *       levenshteinDistance("kelvin", "kelvn") == 1
+     *       levenshteinDistance("kitten", "sitting") == 3
+     *       </pre>
+     * @param first cannot be null
+     * @param second cannot be null
+     */
+    public static int levenshteinDistance(String first, String second) {
+        requireNonNull(first);
+        requireNonNull(second);
+
+        int[] previousRow = new int[second.length() + 1];
+        int[] currentRow = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previousRow[j] = j;
+        }
+
+        for (int i = 1; i <= first.length(); i++) {
+            currentRow[0] = i;
+            char firstChar = first.charAt(i - 1);
+            for (int j = 1; j <= second.length(); j++) {
+                int substitutionCost = firstChar == second.charAt(j - 1) ? 0 : 1;
+                currentRow[j] = Math.min(Math.min(currentRow[j - 1] + 1, previousRow[j] + 1),
+                        previousRow[j - 1] + substitutionCost);
+            }
+            int[] swap = previousRow;
+            previousRow = currentRow;
+            currentRow = swap;
+        }
+        return previousRow[second.length()];
+    }
 }
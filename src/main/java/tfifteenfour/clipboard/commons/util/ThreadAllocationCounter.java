@@ -0,0 +1,56 @@
+package tfifteenfour.clipboard.commons.util;
+
+import java.lang.management.ManagementFactory;
+
+import com.sun.management.ThreadMXBean;
+
+/**
+ * Reads how many bytes of heap the current thread has allocated since it started, from the extended
+ * {@code ThreadMXBean} of the JDK.
+ * The difference between two readings on the same thread is what the code between them allocated, including
+ * objects that were already garbage collected.
+ */
+public class ThreadAllocationCounter {
+
+    /** The bean that reads the counter, or null if this Java runtime cannot count allocations. */
+    private static final ThreadMXBean THREAD_BEAN = findThreadBean();
+
+    private ThreadAllocationCounter() {}
+
+    private static ThreadMXBean findThreadBean() {
+        java.lang.management.ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (!(threadBean instanceof ThreadMXBean)) {
+            return null;
+        }
+
+        ThreadMXBean extendedThreadBean = (ThreadMXBean) threadBean;
+        try {
+            if (!extendedThreadBean.isThreadAllocatedMemorySupported()) {
+                return null;
+            }
+            if (!extendedThreadBean.isThreadAllocatedMemoryEnabled()) {
+                extendedThreadBean.setThreadAllocatedMemoryEnabled(true);
+            }
+            return extendedThreadBean;
+        } catch (UnsupportedOperationException | SecurityException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns true if this Java runtime can count the bytes allocated by a thread.
+     */
+    public static boolean isSupported() {
+        return THREAD_BEAN != null;
+    }
+
+    /**
+     * Returns the number of bytes allocated by the current thread so far, or -1 if they cannot be counted.
+     */
+    public static long getAllocatedBytes() {
+        if (THREAD_BEAN == null) {
+            return -1;
+        }
+        return THREAD_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
@@ -1,5 +1,8 @@
 package tfifteenfour.clipboard.logic;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * A circular buffer implementation that supports adding, removing, and peeking
  * at elements in a circular manner.
@@ -86,6 +89,37 @@ public class CircularBuffer<T> {
         return buffer[head];
     }
 
+    /**
+     * Removes the oldest elements until at most {@code maxElements} remain.
+     *
+     * @param maxElements the number of most recently added elements to keep
+     * @return the number of elements removed
+     */
+    public int trimTo(int maxElements) {
+        assert maxElements >= 0;
+        int removed = 0;
+        while (this.size > maxElements) {
+            buffer[head] = null;
+            head = (head + 1) % maxSize;
+            this.size -= 1;
+            removed += 1;
+        }
+        return removed;
+    }
+
+    /**
+     * Returns the elements in the buffer, from the oldest to the most recently added.
+     *
+     * @return a new list of the elements in the buffer
+     */
+    public List<T> toList() {
+        List<T> elements = new ArrayList<>(this.size);
+        for (int i = 0; i < this.size; i++) {
+            elements.add(buffer[(head + i) % maxSize]);
+        }
+        return elements;
+    }
+
     /**
      * Returns true if the buffer is empty, false otherwise.
      *
@@ -0,0 +1,403 @@
+package tfifteenfour.clipboard.logic;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.logging.Logger;
+
+import tfifteenfour.clipboard.commons.core.Config;
+import tfifteenfour.clipboard.commons.core.LogsCenter;
+import tfifteenfour.clipboard.commons.jfr.CommandPhaseEvent;
+import tfifteenfour.clipboard.commons.jfr.FlightRecording;
+import tfifteenfour.clipboard.commons.util.LatencyHistogram;
+import tfifteenfour.clipboard.commons.util.ThreadAllocationCounter;
+
+/**
+ * Records how long each phase of every command takes, in a {@link LatencyHistogram} per command word and phase,
+ * and how many bytes each phase allocates, as counted by {@link ThreadAllocationCounter}.
+ * A command that takes longer than the slow command threshold is logged with the time it spent in each phase.
+ *
+ * {@code LogicManager} times the phases up to saving the roster. If a window shows the results of commands, it calls
+ * {@link #setUiTimed(boolean)} once and {@link #recordUi(long, long)} after showing each result, so that the time
+ * taken and bytes allocated to update the window are recorded as part of the command.
+ *
+ * Each phase is also emitted as a {@link CommandPhaseEvent} for flight recordings, and a slow command dumps the
+ * {@link FlightRecording}, if there is one. Every recorded command is written to the {@link CommandTraceRecorder},
+ * if there is one.
+ */
+public class CommandMetrics {
+
+    /** The command word that commands which could not be parsed are recorded under. */
+    public static final String INVALID_COMMAND_WORD = "(invalid)";
+    public static final String MESSAGE_NO_COMMANDS = "No commands have been timed yet.";
+    public static final String MESSAGE_REPORT_HEADER = "Time taken in ms, as p50 / p95 / p99 / max:";
+    public static final String MESSAGE_SLOW_COMMAND = "Slow command (%.1f ms): %s [%s]";
+    public static final String MESSAGE_ALLOCATION_REPORT_HEADER = "Bytes allocated per run, as mean / max:";
+    public static final String MESSAGE_ALLOCATION_NOT_SUPPORTED =
+            "This Java runtime cannot count the bytes allocated by commands.";
+
+    /** The phases of a command, in the order they run. A phase that a command skips is not recorded. */
+    public enum Phase {
+        PARSE, COPY, EXECUTE, SAVE, UI;
+
+        @Override
+        public String toString() {
+            return name().toLowerCase();
+        }
+    }
+
+    private static final Logger logger = LogsCenter.getLogger(CommandMetrics.class);
+    private static final int PHASE_COUNT = Phase.values().length;
+
+    private final ConcurrentMap<String, CommandStatistics> statistics = new ConcurrentHashMap<>();
+    private volatile long slowCommandThresholdNanos =
+            TimeUnit.MILLISECONDS.toNanos(Config.DEFAULT_SLOW_COMMAND_THRESHOLD_MILLIS);
+    private volatile boolean isUiTimed;
+    private volatile Timer timerAwaitingUi;
+    private volatile Timer lastTimer;
+    private volatile boolean isBreakdownShown;
+    private volatile FlightRecording flightRecording;
+    private volatile CommandTraceRecorder commandTrace;
+
+    /**
+     * Times the phases of a single command. The command starts in {@link Phase#PARSE}.
+     */
+    static class Timer {
+        private final String commandText;
+        private final long[] phaseNanos = new long[PHASE_COUNT];
+        private final long[] phaseBytes = new long[PHASE_COUNT];
+        private String commandWord = INVALID_COMMAND_WORD;
+        private Phase runningPhase = Phase.PARSE;
+        private long phaseStart = System.nanoTime();
+        private long phaseStartBytes = ThreadAllocationCounter.getAllocatedBytes();
+        private CommandPhaseEvent phaseEvent = new CommandPhaseEvent();
+
+        Timer(String commandText) {
+            this.commandText = commandText;
+            Arrays.fill(phaseNanos, -1);
+            Arrays.fill(phaseBytes, -1);
+            phaseEvent.begin();
+        }
+
+        /**
+         * Sets the command word that the command is recorded under, once it has been parsed.
+         */
+        void setCommandWord(String commandWord) {
+            this.commandWord = commandWord;
+        }
+
+        /**
+         * Ends the running phase and starts {@code phase}.
+         */
+        void next(Phase phase) {
+            long now = System.nanoTime();
+            long nowBytes = ThreadAllocationCounter.getAllocatedBytes();
+            if (runningPhase != null) {
+                add(runningPhase, now - phaseStart, nowBytes < 0 ? -1 : nowBytes - phaseStartBytes);
+                phaseEvent.end(commandWord, runningPhase.toString());
+            }
+            runningPhase = phase;
+            phaseStart = now;
+            phaseStartBytes = nowBytes;
+            if (phase != null) {
+                phaseEvent = new CommandPhaseEvent();
+                phaseEvent.begin();
+            }
+        }
+
+        /**
+         * Ends the running phase, if any.
+         */
+        void stop() {
+            next(null);
+        }
+
+        /**
+         * Adds {@code nanos} and {@code bytes} to {@code phase}. Negative {@code bytes} means they were not counted.
+         */
+        private void add(Phase phase, long nanos, long bytes) {
+            phaseNanos[phase.ordinal()] = Math.max(0, phaseNanos[phase.ordinal()]) + nanos;
+            if (bytes >= 0) {
+                phaseBytes[phase.ordinal()] = Math.max(0, phaseBytes[phase.ordinal()]) + bytes;
+            }
+        }
+    }
+
+    /**
+     * The time taken and bytes allocated by each phase of the commands recorded under one command word.
+     */
+    private static class CommandStatistics {
+        private final LatencyHistogram[] histograms = new LatencyHistogram[PHASE_COUNT];
+        private final AtomicLongArray allocationCounts = new AtomicLongArray(PHASE_COUNT);
+        private final AtomicLongArray allocatedBytes = new AtomicLongArray(PHASE_COUNT);
+        private final AtomicLongArray maxAllocatedBytes = new AtomicLongArray(PHASE_COUNT);
+
+        CommandStatistics() {
+            Arrays.setAll(histograms, unused -> new LatencyHistogram());
+        }
+
+        void recordAllocation(Phase phase, long bytes) {
+            int index = phase.ordinal();
+            allocationCounts.incrementAndGet(index);
+            allocatedBytes.addAndGet(index, bytes);
+            maxAllocatedBytes.accumulateAndGet(index, bytes, Math::max);
+        }
+
+        /**
+         * Returns the mean bytes allocated by {@code phase}, or -1 if none were counted.
+         */
+        long getMeanAllocatedBytes(Phase phase) {
+            long count = allocationCounts.get(phase.ordinal());
+            return count == 0 ? -1 : allocatedBytes.get(phase.ordinal()) / count;
+        }
+    }
+
+    /**
+     * Sets how long a command may take before it is logged as slow.
+     */
+    public void setSlowCommandThreshold(long millis) {
+        slowCommandThresholdNanos = TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    /**
+     * Sets whether a window shows the results of commands, so that every command is recorded only once
+     * {@link #recordUi(long)} is called with the time taken to show its result.
+     */
+    public void setUiTimed(boolean isUiTimed) {
+        this.isUiTimed = isUiTimed;
+    }
+
+    /**
+     * Sets the recording that is dumped after a slow command, or null to dump none.
+     */
+    public void setFlightRecording(FlightRecording flightRecording) {
+        this.flightRecording = flightRecording;
+    }
+
+    /**
+     * Returns the recording that is dumped after a slow command, or null if there is none.
+     */
+    public FlightRecording getFlightRecording() {
+        return flightRecording;
+    }
+
+    /**
+     * Sets the trace that every command is written to after it is recorded, or null to write none.
+     */
+    public void setCommandTrace(CommandTraceRecorder commandTrace) {
+        this.commandTrace = commandTrace;
+    }
+
+    /**
+     * Sets whether the result of each command is shown with the time taken and bytes allocated by its phases.
+     */
+    public void setBreakdownShown(boolean isBreakdownShown) {
+        this.isBreakdownShown = isBreakdownShown;
+    }
+
+    public boolean isBreakdownShown() {
+        return isBreakdownShown;
+    }
+
+    /**
+     * Returns a timer for a command that starts now.
+     */
+    Timer start(String commandText) {
+        return new Timer(commandText);
+    }
+
+    /**
+     * Records the phases timed by {@code timer}, or keeps them until the time taken to show the result is known.
+     */
+    void endLogic(Timer timer) {
+        timer.stop();
+        lastTimer = timer;
+        if (isUiTimed) {
+            timerAwaitingUi = timer;
+        } else {
+            record(timer);
+        }
+    }
+
+    /**
+     * Records the time taken and bytes allocated to show the result of the last command, and then the command.
+     * @param allocatedBytes The bytes allocated, or a negative number if they were not counted.
+     */
+    public void recordUi(long nanos, long allocatedBytes) {
+        Timer timer = timerAwaitingUi;
+        timerAwaitingUi = null;
+        if (timer == null) {
+            return;
+        }
+        timer.add(Phase.UI, nanos, allocatedBytes);
+        record(timer);
+    }
+
+    private void record(Timer timer) {
+        CommandStatistics commandStatistics =
+                statistics.computeIfAbsent(timer.commandWord, unused -> new CommandStatistics());
+
+        long totalNanos = 0;
+        for (Phase phase : Phase.values()) {
+            long nanos = timer.phaseNanos[phase.ordinal()];
+            if (nanos >= 0) {
+                commandStatistics.histograms[phase.ordinal()].record(nanos);
+                totalNanos += nanos;
+            }
+            long bytes = timer.phaseBytes[phase.ordinal()];
+            if (bytes >= 0) {
+                commandStatistics.recordAllocation(phase, bytes);
+            }
+        }
+
+        CommandTraceRecorder trace = commandTrace;
+        if (trace != null) {
+            trace.record(timer.commandText, totalNanos);
+        }
+
+        if (totalNanos > slowCommandThresholdNanos) {
+            logger.warning(String.format(MESSAGE_SLOW_COMMAND, toMillis(totalNanos), timer.commandText,
+                    formatPhases(timer)));
+            FlightRecording recording = flightRecording;
+            if (recording != null) {
+                recording.dumpAfterSlowCommand();
+            }
+        }
+    }
+
+    /**
+     * Returns the histogram of {@code phase} of the commands recorded under {@code commandWord}, or null if no such
+     * command was recorded.
+     */
+    public LatencyHistogram getHistogram(String commandWord, Phase phase) {
+        CommandStatistics commandStatistics = statistics.get(commandWord);
+        return commandStatistics == null ? null : commandStatistics.histograms[phase.ordinal()];
+    }
+
+    /**
+     * Returns the mean bytes allocated by {@code phase} of the commands recorded under {@code commandWord}, or -1 if
+     * none were counted.
+     */
+    public long getMeanAllocatedBytes(String commandWord, Phase phase) {
+        CommandStatistics commandStatistics = statistics.get(commandWord);
+        return commandStatistics == null ? -1 : commandStatistics.getMeanAllocatedBytes(phase);
+    }
+
+    /**
+     * Returns the time taken and bytes allocated by each phase of the last command, or an empty string if no command
+     * has run yet.
+     */
+    public String getLastCommandBreakdown() {
+        Timer timer = lastTimer;
+        return timer == null ? "" : formatPhases(timer);
+    }
+
+    /**
+     * Returns the p50, p95, p99 and maximum time taken by each phase of each command word, in milliseconds.
+     */
+    public String getReport() {
+        if (statistics.isEmpty()) {
+            return MESSAGE_NO_COMMANDS;
+        }
+
+        StringBuilder report = new StringBuilder(MESSAGE_REPORT_HEADER);
+        for (Map.Entry<String, CommandStatistics> entry : new TreeMap<>(statistics).entrySet()) {
+            LatencyHistogram[] commandHistograms = entry.getValue().histograms;
+            appendCommandWord(report, entry.getKey(), commandHistograms);
+
+            for (Phase phase : Phase.values()) {
+                LatencyHistogram histogram = commandHistograms[phase.ordinal()];
+                if (histogram.getCount() == 0) {
+                    continue;
+                }
+                report.append(String.format("\n    %-8s %.2f / %.2f / %.2f / %.2f", phase,
+                        toMillis(histogram.getPercentile(50)), toMillis(histogram.getPercentile(95)),
+                        toMillis(histogram.getPercentile(99)), toMillis(histogram.getMax())));
+            }
+        }
+        return report.toString();
+    }
+
+    /**
+     * Returns the mean and maximum bytes allocated by each phase of each command word.
+     */
+    public String getAllocationReport() {
+        if (!ThreadAllocationCounter.isSupported()) {
+            return MESSAGE_ALLOCATION_NOT_SUPPORTED;
+        }
+        if (statistics.isEmpty()) {
+            return MESSAGE_NO_COMMANDS;
+        }
+
+        StringBuilder report = new StringBuilder(MESSAGE_ALLOCATION_REPORT_HEADER);
+        for (Map.Entry<String, CommandStatistics> entry : new TreeMap<>(statistics).entrySet()) {
+            CommandStatistics commandStatistics = entry.getValue();
+            appendCommandWord(report, entry.getKey(), commandStatistics.histograms);
+
+            for (Phase phase : Phase.values()) {
+                long meanBytes = commandStatistics.getMeanAllocatedBytes(phase);
+                if (meanBytes < 0) {
+                    continue;
+                }
+                report.append(String.format("\n    %-8s %s / %s", phase, formatBytes(meanBytes),
+                        formatBytes(commandStatistics.maxAllocatedBytes.get(phase.ordinal()))));
+            }
+        }
+        return report.toString();
+    }
+
+    /**
+     * Forgets every recorded command.
+     */
+    public void reset() {
+        statistics.clear();
+    }
+
+    private static void appendCommandWord(StringBuilder report, String commandWord,
+            LatencyHistogram[] commandHistograms) {
+        long runs = 0;
+        for (LatencyHistogram histogram : commandHistograms) {
+            runs = Math.max(runs, histogram.getCount());
+        }
+        report.append(String.format("\n%s (%d run(s))", commandWord, runs));
+    }
+
+    private static String formatPhases(Timer timer) {
+        StringBuilder phases = new StringBuilder();
+        for (Phase phase : Phase.values()) {
+            long nanos = timer.phaseNanos[phase.ordinal()];
+            if (nanos < 0) {
+                continue;
+            }
+            if (phases.length() > 0) {
+                phases.append(", ");
+            }
+            phases.append(String.format("%s %.1f ms", phase, toMillis(nanos)));
+            long bytes = timer.phaseBytes[phase.ordinal()];
+            if (bytes >= 0) {
+                phases.append(' ').append(formatBytes(bytes));
+            }
+        }
+        return phases.toString();
+    }
+
+    /**
+     * Returns {@code bytes} in B, KB or MB, whichever is the largest unit that it has at least one of.
+     */
+    public static String formatBytes(long bytes) {
+        if (bytes < 1024) {
+            return bytes + " B";
+        } else if (bytes < 1024 * 1024) {
+            return String.format("%.1f KB", bytes / 1024.0);
+        }
+        return String.format("%.1f MB", bytes / (1024.0 * 1024));
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1e6;
+    }
+}
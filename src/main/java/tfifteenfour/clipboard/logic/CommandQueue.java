@@ -0,0 +1,121 @@
+package tfifteenfour.clipboard.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import tfifteenfour.clipboard.commons.core.LogsCenter;
+import tfifteenfour.clipboard.logic.commands.CommandResult;
+
+/**
+ * Executes commands one at a time on a background thread, in the order they are submitted.
+ * Parsing, executing and saving a command never run on the thread that submits it, so a window stays responsive
+ * while a slow command runs.
+ *
+ * The outcome of each command is published on the {@code publisher}, e.g. the JavaFX application thread, by
+ * completing the future returned by {@link #submit(String)}. The next command only starts once the callbacks of
+ * that future have run, so the model is never read by the publisher and changed by a command at the same time,
+ * and every callback sees the model exactly as its own command left it.
+ *
+ * The worker thread is not a daemon, and {@link #shutdown()} lets the running and queued commands finish, so the
+ * application never exits in the middle of saving the roster.
+ */
+public class CommandQueue {
+
+    public static final String THREAD_NAME = "command-executor";
+    public static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private static final long PUBLISH_POLL_MILLIS = 50;
+
+    private static final Logger logger = LogsCenter.getLogger(CommandQueue.class);
+
+    private final Logic logic;
+    private final Executor publisher;
+    private final ExecutorService executor;
+    private volatile boolean isShutDown;
+
+    /**
+     * Creates a {@code CommandQueue} that executes commands with {@code logic} and publishes their outcomes on
+     * {@code publisher}.
+     */
+    public CommandQueue(Logic logic, Executor publisher) {
+        this.logic = requireNonNull(logic);
+        this.publisher = requireNonNull(publisher);
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            return new Thread(runnable, THREAD_NAME);
+        });
+    }
+
+    /**
+     * Queues {@code commandText} to be executed after every command submitted before it.
+     * @return a future that is completed on the publisher with the result of the command, or completed exceptionally
+     *     with the {@code CommandException} or {@code ParseException} that the command failed with.
+     */
+    public CompletableFuture<CommandResult> submit(String commandText) {
+        requireNonNull(commandText);
+        CompletableFuture<CommandResult> outcome = new CompletableFuture<>();
+        executor.execute(() -> execute(commandText, outcome));
+        return outcome;
+    }
+
+    /**
+     * Stops accepting commands, and waits up to {@value #SHUTDOWN_TIMEOUT_SECONDS} seconds for the running and
+     * queued commands to finish. Commands are never interrupted, as interrupting a save can leave the roster file
+     * truncated. Commands still running after the wait go on to finish before the application exits.
+     * The outcomes of the remaining commands are no longer waited for by the publisher, which may be the thread
+     * calling this method.
+     */
+    public void shutdown() {
+        isShutDown = true;
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Gave up waiting for queued commands to finish; they will finish before exiting");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void execute(String commandText, CompletableFuture<CommandResult> outcome) {
+        CommandResult result = null;
+        Exception error = null;
+        try {
+            result = logic.execute(commandText);
+        } catch (Exception e) {
+            error = e;
+        }
+
+        CommandResult finalResult = result;
+        Exception finalError = error;
+        CountDownLatch published = new CountDownLatch(1);
+        publisher.execute(() -> {
+            try {
+                if (finalError == null) {
+                    outcome.complete(finalResult);
+                } else {
+                    outcome.completeExceptionally(finalError);
+                }
+            } finally {
+                published.countDown();
+            }
+        });
+
+        try {
+            // the publisher may be the thread waiting in shutdown(), so it is not waited for once shutting down
+            boolean isPublished = false;
+            while (!isPublished && !isShutDown) {
+                isPublished = published.await(PUBLISH_POLL_MILLIS, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            logger.info("Stopped waiting for the outcome of \"" + commandText + "\" to be published");
+            Thread.currentThread().interrupt();
+        }
+    }
+}
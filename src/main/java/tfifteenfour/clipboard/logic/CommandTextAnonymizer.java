@@ -0,0 +1,163 @@
+package tfifteenfour.clipboard.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import tfifteenfour.clipboard.logic.commands.GotoCommand;
+import tfifteenfour.clipboard.logic.commands.LocateCommand;
+import tfifteenfour.clipboard.logic.commands.RemarkCommand;
+import tfifteenfour.clipboard.logic.commands.attendancecommand.MarkAbsentCommand;
+import tfifteenfour.clipboard.logic.commands.attendancecommand.MarkPresentCommand;
+import tfifteenfour.clipboard.logic.commands.deletecommand.DeleteCommand;
+import tfifteenfour.clipboard.logic.commands.deletecommand.DeleteStudentCommand;
+import tfifteenfour.clipboard.logic.commands.findcommand.FindCommand;
+import tfifteenfour.clipboard.logic.commands.findcommand.FindStudentCommand;
+import tfifteenfour.clipboard.logic.commands.taskcommand.AssignCommand;
+import tfifteenfour.clipboard.logic.parser.CliSyntax;
+
+/**
+ * Replaces the names, phone numbers, emails, student IDs and remarks of students in command text with made-up
+ * values, so that a trace of commands can be shared without the data of real students.
+ * Every value is replaced by the same made-up value each time it appears, ignoring case, and each word of a name is
+ * replaced on its own. A {@code find student} or {@code locate} for part of a name that was added earlier in the
+ * same trace therefore still finds that student. The made-up values are valid, so every command that could be
+ * parsed before is still parsed the same way.
+ *
+ * Course, group, session and task names, indexes, grades and flags such as {@code -f} are kept. As course codes and
+ * group names look just like student IDs, a word elsewhere in a command is only replaced as a student ID if it was
+ * one earlier in the trace.
+ */
+public class CommandTextAnonymizer {
+
+    private static final Pattern PREFIXED_VALUE = Pattern.compile(
+            "(?<=\\s)(n/|p/|e/|sid/|r/)(.*?)(?=\\s+(?:n|p|e|sid|t|c|r)/|$)");
+    /** Matches a word with both letters and digits, which is how a student ID differs from an index or keyword. */
+    private static final Pattern STUDENT_ID = Pattern.compile("(?=[^\\s,]*\\p{Alpha})(?=[^\\s,]*\\d)[^\\W_]+");
+    private static final Pattern WORD = Pattern.compile("[^\\s,]+");
+
+    private final Map<String, String> names = new HashMap<>();
+    private final Map<String, String> phones = new HashMap<>();
+    private final Map<String, String> emails = new HashMap<>();
+    private final Map<String, String> studentIds = new HashMap<>();
+    private final Map<String, String> remarks = new HashMap<>();
+
+    /**
+     * Returns {@code commandText} with every student's details replaced.
+     */
+    public String anonymize(String commandText) {
+        requireNonNull(commandText);
+        String[] words = commandText.trim().split("\\s+", 3);
+        String commandWord = words[0];
+
+        if (commandWord.equals(FindCommand.COMMAND_WORD) && words.length == 3
+                && words[1].equals(FindStudentCommand.COMMAND_TYPE_WORD)) {
+            return commandWord + " " + words[1] + " " + replaceWords(words[2], true);
+        }
+        if (commandWord.equals(LocateCommand.COMMAND_WORD) && words.length > 1) {
+            return commandWord + " " + replaceWords(commandText.trim().split("\\s+", 2)[1], true);
+        }
+        if (commandWord.equals(RemarkCommand.COMMAND_WORD) && words.length == 3) {
+            return commandWord + " " + words[1] + " " + replace(remarks, words[2], "Remark %d");
+        }
+        if (commandWord.equals(MarkPresentCommand.COMMAND_WORD) || commandWord.equals(MarkAbsentCommand.COMMAND_WORD)
+                || commandWord.equals(AssignCommand.COMMAND_WORD) || commandWord.equals(GotoCommand.COMMAND_WORD)
+                || (commandWord.equals(DeleteCommand.COMMAND_WORD) && words.length > 1
+                        && words[1].equals(DeleteStudentCommand.COMMAND_TYPE_WORD))) {
+            return replaceStudentIds(commandText);
+        }
+        return replaceKnownStudentIds(replacePrefixedValues(commandText));
+    }
+
+    private String replacePrefixedValues(String commandText) {
+        Matcher matcher = PREFIXED_VALUE.matcher(commandText);
+        StringBuilder anonymized = new StringBuilder();
+        int end = 0;
+        while (matcher.find()) {
+            anonymized.append(commandText, end, matcher.start(2));
+            anonymized.append(replacePrefixedValue(matcher.group(1), matcher.group(2)));
+            end = matcher.end(2);
+        }
+        return anonymized.append(commandText.substring(end)).toString();
+    }
+
+    private String replacePrefixedValue(String prefix, String value) {
+        if (value.isEmpty()) {
+            return value;
+        }
+        if (prefix.equals(CliSyntax.PREFIX_NAME.getPrefix())) {
+            return replaceWords(value, false);
+        } else if (prefix.equals(CliSyntax.PREFIX_PHONE.getPrefix())) {
+            return replace(phones, value, "9%07d");
+        } else if (prefix.equals(CliSyntax.PREFIX_EMAIL.getPrefix())) {
+            return replace(emails, value, "student%d@example.com");
+        } else if (prefix.equals(CliSyntax.PREFIX_STUDENTID.getPrefix())) {
+            return replace(studentIds, value, "A%07dX");
+        }
+        return replace(remarks, value, "Remark %d");
+    }
+
+    /**
+     * Replaces each word of {@code text} as a name, or as a student ID if it was one earlier in the trace or
+     * {@code isStudentIdAllowed} and it looks like one. The fuzzy search flag is kept.
+     */
+    private String replaceWords(String text, boolean isStudentIdAllowed) {
+        Matcher matcher = WORD.matcher(text);
+        StringBuilder anonymized = new StringBuilder();
+        int end = 0;
+        while (matcher.find()) {
+            anonymized.append(text, end, matcher.start());
+            String word = matcher.group();
+            boolean isStudentId = studentIds.containsKey(word.toUpperCase(Locale.ROOT))
+                    || (isStudentIdAllowed && STUDENT_ID.matcher(word).matches());
+            if (word.equals(FindCommand.FUZZY_FLAG)) {
+                anonymized.append(word);
+            } else if (isStudentId) {
+                anonymized.append(replace(studentIds, word, "A%07dX"));
+            } else {
+                anonymized.append(replace(names, word, "Name%d"));
+            }
+            end = matcher.end();
+        }
+        return anonymized.append(text.substring(end)).toString();
+    }
+
+    private String replaceStudentIds(String commandText) {
+        Matcher matcher = STUDENT_ID.matcher(commandText);
+        StringBuilder anonymized = new StringBuilder();
+        int end = 0;
+        while (matcher.find()) {
+            // the command word itself never has digits, so it is never replaced
+            anonymized.append(commandText, end, matcher.start());
+            anonymized.append(replace(studentIds, matcher.group(), "A%07dX"));
+            end = matcher.end();
+        }
+        return anonymized.append(commandText.substring(end)).toString();
+    }
+
+    /**
+     * Replaces each word of {@code commandText} that was a student ID earlier in the trace.
+     */
+    private String replaceKnownStudentIds(String commandText) {
+        Matcher matcher = STUDENT_ID.matcher(commandText);
+        StringBuilder anonymized = new StringBuilder();
+        int end = 0;
+        while (matcher.find()) {
+            anonymized.append(commandText, end, matcher.start());
+            String word = matcher.group();
+            String replacement = studentIds.get(word.toUpperCase(Locale.ROOT));
+            anonymized.append(replacement == null ? word : replacement);
+            end = matcher.end();
+        }
+        return anonymized.append(commandText.substring(end)).toString();
+    }
+
+    private static String replace(Map<String, String> replacements, String value, String format) {
+        return replacements.computeIfAbsent(value.toUpperCase(Locale.ROOT),
+            unused -> String.format(format, replacements.size() + 1));
+    }
+}
@@ -0,0 +1,117 @@
+package tfifteenfour.clipboard.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import tfifteenfour.clipboard.commons.core.LogsCenter;
+
+/**
+ * Writes every command executed, with when it started and how long it took, to a trace file that
+ * {@code TraceReplay} can run again, e.g. to compare two builds on the commands of a real tutorial.
+ *
+ * A trace has one line per command, with the milliseconds since the trace started, the microseconds the command
+ * took and the command text, separated by tabs. Lines starting with {@code #} are comments. A trace may be
+ * anonymized by a {@link CommandTextAnonymizer} as it is written.
+ */
+public class CommandTraceRecorder {
+
+    public static final String COMMENT_MARKER = "#";
+    public static final String FIELD_SEPARATOR = "\t";
+
+    private static final DateTimeFormatter FILE_NAME_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private static final Logger logger = LogsCenter.getLogger(CommandTraceRecorder.class);
+
+    private final Writer writer;
+    private final CommandTextAnonymizer anonymizer;
+    private final long startNanos = System.nanoTime();
+    private boolean isFailed;
+
+    /**
+     * Creates a recorder that writes to {@code writer}, anonymizing each command with {@code anonymizer} unless it is
+     * null.
+     */
+    CommandTraceRecorder(Writer writer, CommandTextAnonymizer anonymizer) throws IOException {
+        this.writer = requireNonNull(writer);
+        this.anonymizer = anonymizer;
+        writer.write(COMMENT_MARKER + " CLIpboard command trace, started " + LocalDateTime.now()
+                + (anonymizer == null ? "" : ", anonymized") + System.lineSeparator());
+        writer.write(COMMENT_MARKER + " millis" + FIELD_SEPARATOR + "micros" + FIELD_SEPARATOR + "command"
+                + System.lineSeparator());
+        writer.flush();
+    }
+
+    /**
+     * Starts a trace in a new file in {@code directory}.
+     * @return the recorder, or an empty {@code Optional} if the file cannot be created.
+     */
+    public static Optional<CommandTraceRecorder> start(Path directory, boolean isAnonymized) {
+        requireNonNull(directory);
+        try {
+            Files.createDirectories(directory);
+            Path file = directory.resolve("clipboard-" + LocalDateTime.now().format(FILE_NAME_TIME_FORMAT) + ".trace");
+            BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+            logger.info("Recording commands to " + file.toAbsolutePath());
+            return Optional.of(new CommandTraceRecorder(writer, isAnonymized ? new CommandTextAnonymizer() : null));
+        } catch (IOException e) {
+            logger.warning("Could not start recording commands: " + e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes {@code commandText}, which has just finished after {@code nanos}, to the trace.
+     * Once the trace cannot be written, later commands are not written either.
+     */
+    public synchronized void record(String commandText, long nanos) {
+        if (isFailed) {
+            return;
+        }
+        long offsetMillis = (System.nanoTime() - nanos - startNanos) / 1_000_000;
+        String text = anonymizer == null ? commandText : anonymizer.anonymize(commandText);
+        try {
+            // written at once, so that a trace is complete up to the last command even if the application crashes
+            writer.write(Math.max(0, offsetMillis) + FIELD_SEPARATOR + nanos / 1_000 + FIELD_SEPARATOR
+                    + text.replaceAll("[\\r\\n]+", " ").trim() + System.lineSeparator());
+            writer.flush();
+        } catch (IOException e) {
+            isFailed = true;
+            logger.warning("Stopped recording commands: " + e);
+        }
+    }
+
+    /**
+     * Returns the command text of {@code traceLine}, which may also be a plain command without times, or an empty
+     * {@code Optional} if the line is blank or a comment.
+     */
+    public static Optional<String> parseCommandText(String traceLine) {
+        String line = traceLine.trim();
+        if (line.isEmpty() || line.startsWith(COMMENT_MARKER)) {
+            return Optional.empty();
+        }
+        String[] fields = traceLine.split(FIELD_SEPARATOR, 3);
+        boolean isTimed = fields.length == 3 && fields[0].trim().matches("\\d+") && fields[1].trim().matches("\\d+");
+        return Optional.of(isTimed ? fields[2].trim() : line);
+    }
+
+    /**
+     * Finishes the trace file.
+     */
+    public synchronized void close() {
+        try {
+            writer.close();
+        } catch (IOException e) {
+            logger.warning("Could not finish the command trace: " + e);
+        }
+    }
+}
@@ -45,4 +45,27 @@ public interface Logic {
     void setGuiSettings(GuiSettings guiSettings);
 
     Model getModel();
+
+    /**
+     * Returns the time taken by the phases of the commands executed so far.
+     */
+    CommandMetrics getCommandMetrics();
+
+    /**
+     * Returns true if a transaction has begun and has not yet been committed or rolled back.
+     */
+    boolean isInTransaction();
+
+    /**
+     * Sets whether commands run in batch mode, for running many commands without a window.
+     * In batch mode, the roster is only saved by {@link #saveRoster()} instead of after every command, and single
+     * commands cannot be undone, so the model is not copied before every command.
+     */
+    void setBatchMode(boolean isBatchMode);
+
+    /**
+     * Saves the roster.
+     * @throws CommandException If the roster cannot be saved.
+     */
+    void saveRoster() throws CommandException;
 }
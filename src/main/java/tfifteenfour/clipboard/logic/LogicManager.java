@@ -6,27 +6,48 @@ import java.util.logging.Logger;
 
 import tfifteenfour.clipboard.commons.core.GuiSettings;
 import tfifteenfour.clipboard.commons.core.LogsCenter;
+import tfifteenfour.clipboard.commons.util.StringInterner;
+import tfifteenfour.clipboard.logic.CommandMetrics.Phase;
 import tfifteenfour.clipboard.logic.commands.Command;
 import tfifteenfour.clipboard.logic.commands.CommandResult;
+import tfifteenfour.clipboard.logic.commands.PerfCommand;
 import tfifteenfour.clipboard.logic.commands.UndoCommand;
+import tfifteenfour.clipboard.logic.commands.batchcommand.BeginCommand;
+import tfifteenfour.clipboard.logic.commands.batchcommand.CommitCommand;
+import tfifteenfour.clipboard.logic.commands.batchcommand.RollbackCommand;
+import tfifteenfour.clipboard.logic.commands.batchcommand.RunCommand;
+import tfifteenfour.clipboard.logic.commands.batchcommand.TransactionCommand;
 import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
 import tfifteenfour.clipboard.logic.parser.RosterParser;
 import tfifteenfour.clipboard.logic.parser.exceptions.ParseException;
 import tfifteenfour.clipboard.model.Model;
 import tfifteenfour.clipboard.model.ReadOnlyRoster;
+import tfifteenfour.clipboard.model.RosterStatistics;
+import tfifteenfour.clipboard.storage.SaveStatistics;
 import tfifteenfour.clipboard.storage.Storage;
 
 /**
  * The main LogicManager of the app.
+ * Commands, saves and the operations used by {@link RosterMonitor} are synchronized, so that a monitoring tool
+ * never sees or changes the model in the middle of a command.
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String MESSAGE_TRANSACTION_FAILED =
+            "Line %d of the transaction failed: %s\n%s\nThe transaction was rolled back.";
+    public static final String MESSAGE_UNDO_IN_TRANSACTION =
+            "Cannot undo during a transaction. Use rollback to discard the transaction.";
+    public static final String MESSAGE_COMMITTED_TRANSACTION = "transaction of %d command(s)";
     private static final int stateHistoryBufferSize = 5;
 
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
     private Model model;
     private final CircularBuffer<Model> stateHistoryBuffer = new CircularBuffer<>(stateHistoryBufferSize);
     private final Storage storage;
+    private final CommandMetrics commandMetrics = new CommandMetrics();
+    private CommandMetrics.Timer timer;
+    private Transaction transaction;
+    private boolean isBatchMode;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -46,34 +67,258 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    /**
+     * Runs a script as one command. If any line fails, the model is restored to its state before the script.
+     */
+    CommandResult handleRunCommand(RunCommand command, String commandText) throws CommandException {
+        Model modelCopy = model.copy();
+        CommandResult commandResult;
+        try {
+            commandResult = command.execute(model);
+        } catch (CommandException e) {
+            model = modelCopy;
+            throw e;
+        }
+
+        if (commandResult.isStateModified()) {
+            modelCopy.setCommandTextExecuted(commandText);
+            modelCopy.setCommandExecuted(command);
+            stateHistoryBuffer.add(modelCopy);
+        }
+        return commandResult;
+    }
+
+    /**
+     * Begins, commits or rolls back a transaction.
+     */
+    CommandResult handleTransactionCommand(TransactionCommand command) throws CommandException {
+        command.setCurrentTransaction(transaction);
+        CommandResult commandResult = command.execute(model);
+
+        if (command instanceof BeginCommand) {
+            transaction = new Transaction(model.copy());
+        } else if (command instanceof CommitCommand) {
+            // a transaction that changed nothing leaves nothing to undo
+            if (transaction.isModified()) {
+                Model snapshot = transaction.getSnapshot();
+                snapshot.setCommandTextExecuted(String.format(MESSAGE_COMMITTED_TRANSACTION,
+                        transaction.getCommandCount()));
+                snapshot.setCommandExecuted(command);
+                stateHistoryBuffer.add(snapshot);
+            }
+            transaction = null;
+        } else if (command instanceof RollbackCommand) {
+            model = transaction.getSnapshot();
+            transaction = null;
+        }
+        return commandResult;
+    }
+
+    /**
+     * Executes a command inside the open transaction, without copying or saving the model.
+     * If the command cannot be parsed or fails, the whole transaction is rolled back.
+     */
+    CommandResult executeInTransaction(String commandText) throws CommandException {
+        Command command;
+        try {
+            command = parseCommand(commandText);
+        } catch (ParseException e) {
+            throw rollBackTransaction(transaction.recordCommand(), commandText, e);
+        }
+
+        if (command instanceof TransactionCommand) {
+            return handleTransactionCommand((TransactionCommand) command);
+        } else if (command instanceof UndoCommand) {
+            throw new CommandException(MESSAGE_UNDO_IN_TRANSACTION);
+        }
+
+        int line = transaction.recordCommand();
+        CommandResult commandResult;
+        try {
+            commandResult = command.execute(model);
+        } catch (CommandException e) {
+            throw rollBackTransaction(line, commandText, e);
+        }
+        if (commandResult.isStateModified()) {
+            transaction.recordModification();
+        }
+        return commandResult;
+    }
+
+    private CommandException rollBackTransaction(int line, String commandText, Exception cause) {
+        model = transaction.getSnapshot();
+        transaction = null;
+        return new CommandException(String.format(MESSAGE_TRANSACTION_FAILED, line, commandText, cause.getMessage()),
+                cause);
+    }
+
     @Override
-    public CommandResult execute(String commandText) throws CommandException, ParseException {
+    public synchronized CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
+        timer = commandMetrics.start(commandText);
+        try {
+            return executeTimed(commandText);
+        } finally {
+            commandMetrics.endLogic(timer);
+        }
+    }
+
+    /**
+     * Parses {@code commandText} and prepares the command for execution. The command is then timed as executing.
+     */
+    private Command parseCommand(String commandText) throws CommandException, ParseException {
         Command command = RosterParser.parseCommand(commandText, model);
+        timer.setCommandWord(commandText.trim().split("\\s+", 2)[0]);
+        if (command instanceof PerfCommand) {
+            PerfCommand perfCommand = (PerfCommand) command;
+            perfCommand.setCommandMetrics(commandMetrics);
+        }
+        timer.next(Phase.EXECUTE);
+        return command;
+    }
+
+    private CommandResult executeTimed(String commandText) throws CommandException, ParseException {
+        if (transaction != null) {
+            boolean isModified = transaction.isModified();
+            CommandResult commandResult = executeInTransaction(commandText);
+            // the roster is saved once, when a transaction that changed it is committed
+            if (transaction == null && isModified && commandResult.getCommand() instanceof CommitCommand) {
+                autoSave();
+            }
+            return commandResult;
+        }
+
+        CommandResult commandResult;
+        Command command = parseCommand(commandText);
 
         // Special case for UndoCommand because restoring the model to a previous state requires actions that are above
         // the model, as opposed to typical commands that behave within the model.
         if (command instanceof UndoCommand) {
             commandResult = handleUndoCommand(command);
+        } else if (command instanceof TransactionCommand) {
+            // nothing has changed yet when a transaction begins
+            return handleTransactionCommand((TransactionCommand) command);
+        } else if (command instanceof RunCommand) {
+            commandResult = handleRunCommand((RunCommand) command, commandText);
         } else {
-            Model modelCopy = model.copy();
+            // in batch mode there is no undo history, so the model is not copied before every command
+            Model modelCopy = null;
+            if (!isBatchMode) {
+                timer.next(Phase.COPY);
+                modelCopy = model.copy();
+                timer.next(Phase.EXECUTE);
+            }
             commandResult = command.execute(model);
-            if (commandResult.isStateModified()) {
+            if (modelCopy != null && commandResult.isStateModified()) {
                 modelCopy.setCommandTextExecuted(commandText);
                 modelCopy.setCommandExecuted(command);
                 stateHistoryBuffer.add(modelCopy);
             }
         }
 
+        autoSave();
+        return commandResult;
+    }
+
+    private void autoSave() throws CommandException {
+        if (!isBatchMode) {
+            timer.next(Phase.SAVE);
+            saveRoster();
+        }
+    }
+
+    @Override
+    public void setBatchMode(boolean isBatchMode) {
+        this.isBatchMode = isBatchMode;
+    }
+
+    @Override
+    public synchronized void saveRoster() throws CommandException {
         try {
             storage.saveRoster(model.getRoster());
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
+    }
 
-        return commandResult;
+    /**
+     * Returns the number of items in the current roster.
+     */
+    synchronized RosterStatistics getRosterStatistics() {
+        return RosterStatistics.of(model.getRoster());
+    }
+
+    /**
+     * Returns the number of earlier states kept for {@code undo}.
+     */
+    synchronized int getUndoHistorySize() {
+        return stateHistoryBuffer.size();
+    }
+
+    /**
+     * Returns a rough estimate of the heap taken by the earlier states kept for {@code undo}.
+     * Items shared between states are counted once per state, so this is an upper bound.
+     */
+    synchronized long getUndoHistoryEstimatedBytes() {
+        long bytes = 0;
+        for (Model state : stateHistoryBuffer.toList()) {
+            bytes += RosterStatistics.of(state.getRoster()).getEstimatedHeapBytes();
+        }
+        return bytes;
+    }
+
+    /**
+     * Forgets all but the {@code maxStates} most recent states kept for {@code undo}.
+     * @return the number of states forgotten.
+     */
+    synchronized int trimUndoHistory(int maxStates) {
+        int removed = stateHistoryBuffer.trimTo(Math.max(0, maxStates));
+        logger.info("Trimmed " + removed + " state(s) from the undo history");
+        return removed;
+    }
+
+    /**
+     * Returns the number of groups whose student search index has been built.
+     */
+    synchronized int getStudentSearchIndexCount() {
+        return model.getRoster().countStudentSearchIndexes();
+    }
+
+    /**
+     * Returns the number of fuzzy search indexes built over the lists of the roster.
+     */
+    synchronized int getFuzzyIndexCount() {
+        return model.getRoster().countFuzzyIndexes();
+    }
+
+    /**
+     * Drops the indexes and caches that are rebuilt on demand: the roster-wide student index, the student search
+     * and fuzzy search indexes of every list, and the shared string interning table.
+     */
+    synchronized void dropCaches() {
+        model.getRoster().dropStudentIndex();
+        int searchIndexes = model.getRoster().dropSearchIndexes();
+        StringInterner.getInstance().clear();
+        logger.info("Dropped the student index, " + searchIndexes
+                + " search index(es) and the string interning table");
+    }
+
+    /**
+     * Returns the counts of the roster saves made so far.
+     */
+    SaveStatistics getSaveStatistics() {
+        return storage.getSaveStatistics();
+    }
+
+    @Override
+    public CommandMetrics getCommandMetrics() {
+        return commandMetrics;
+    }
+
+    @Override
+    public boolean isInTransaction() {
+        return transaction != null;
     }
 
     @Override
@@ -0,0 +1,182 @@
+package tfifteenfour.clipboard.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.util.logging.Logger;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import tfifteenfour.clipboard.commons.core.LogsCenter;
+import tfifteenfour.clipboard.commons.util.StringInterner;
+import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+
+/**
+ * Publishes live counts of the roster, the undo history, saves and caches of a running instance as an MBean named
+ * {@value #OBJECT_NAME}, so that its memory can be watched from JConsole or VisualVM without restarting it.
+ * Every attribute is read when it is requested, under the lock of the {@code LogicManager}, so reading one waits
+ * for the running command to finish.
+ */
+public class RosterMonitor implements RosterMonitorMBean {
+
+    public static final String OBJECT_NAME = "tfifteenfour.clipboard:type=Roster";
+    public static final String MESSAGE_SAVED = "Saved the roster";
+
+    private static final Logger logger = LogsCenter.getLogger(RosterMonitor.class);
+
+    private final LogicManager logic;
+    private ObjectName registeredName;
+
+    /**
+     * Creates a {@code RosterMonitor} of the roster, undo history and saves of {@code logic}.
+     */
+    public RosterMonitor(LogicManager logic) {
+        this.logic = requireNonNull(logic);
+    }
+
+    /**
+     * Registers the monitor with the platform MBean server. A failure is logged, as the application runs the same
+     * without it.
+     * @return true if the monitor was registered.
+     */
+    public boolean register() {
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+            registeredName = name;
+            logger.info("Registered MBean " + OBJECT_NAME);
+            return true;
+        } catch (JMException e) {
+            logger.warning("Could not register MBean " + OBJECT_NAME + ": " + e);
+            return false;
+        }
+    }
+
+    /**
+     * Removes the monitor from the platform MBean server, if it was registered.
+     */
+    public void unregister() {
+        if (registeredName == null) {
+            return;
+        }
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.unregisterMBean(registeredName);
+        } catch (JMException e) {
+            logger.warning("Could not unregister MBean " + OBJECT_NAME + ": " + e);
+        }
+        registeredName = null;
+    }
+
+    @Override
+    public int getCourseCount() {
+        return logic.getRosterStatistics().getCourseCount();
+    }
+
+    @Override
+    public int getGroupCount() {
+        return logic.getRosterStatistics().getGroupCount();
+    }
+
+    @Override
+    public int getStudentCount() {
+        return logic.getRosterStatistics().getStudentCount();
+    }
+
+    @Override
+    public int getSessionCount() {
+        return logic.getRosterStatistics().getSessionCount();
+    }
+
+    @Override
+    public int getTaskCount() {
+        return logic.getRosterStatistics().getTaskCount();
+    }
+
+    @Override
+    public long getEstimatedModelBytes() {
+        return logic.getRosterStatistics().getEstimatedHeapBytes();
+    }
+
+    @Override
+    public int getUndoHistorySize() {
+        return logic.getUndoHistorySize();
+    }
+
+    @Override
+    public long getUndoHistoryEstimatedBytes() {
+        return logic.getUndoHistoryEstimatedBytes();
+    }
+
+    @Override
+    public long getSaveCount() {
+        return logic.getSaveStatistics().getSaveCount();
+    }
+
+    @Override
+    public long getSaveFailureCount() {
+        return logic.getSaveStatistics().getFailureCount();
+    }
+
+    @Override
+    public double getLastSaveMillis() {
+        return logic.getSaveStatistics().getLastSaveNanos() / 1e6;
+    }
+
+    @Override
+    public double getMaxSaveMillis() {
+        return logic.getSaveStatistics().getMaxSaveNanos() / 1e6;
+    }
+
+    @Override
+    public long getLastSaveBytes() {
+        return logic.getSaveStatistics().getLastSaveBytes();
+    }
+
+    @Override
+    public long getBytesWritten() {
+        return logic.getSaveStatistics().getBytesWritten();
+    }
+
+    @Override
+    public int getInternedStringCount() {
+        return StringInterner.getInstance().size();
+    }
+
+    @Override
+    public double getInternedStringHitRate() {
+        return StringInterner.getInstance().getHitRate();
+    }
+
+    @Override
+    public int getStudentSearchIndexCount() {
+        return logic.getStudentSearchIndexCount();
+    }
+
+    @Override
+    public int getFuzzyIndexCount() {
+        return logic.getFuzzyIndexCount();
+    }
+
+    @Override
+    public String forceSave() {
+        try {
+            logic.saveRoster();
+            return MESSAGE_SAVED;
+        } catch (CommandException e) {
+            // the exception itself is not sent, as a monitoring tool cannot load its class
+            return e.getMessage();
+        }
+    }
+
+    @Override
+    public int trimUndoHistory(int maxStates) {
+        return logic.trimUndoHistory(maxStates);
+    }
+
+    @Override
+    public void dropCaches() {
+        logic.dropCaches();
+    }
+}
@@ -0,0 +1,69 @@
+package tfifteenfour.clipboard.logic;
+
+/**
+ * The attributes and operations that {@link RosterMonitor} publishes over JMX, for JConsole or VisualVM.
+ */
+public interface RosterMonitorMBean {
+
+    int getCourseCount();
+
+    int getGroupCount();
+
+    /** Students summed over every group, so a student in two groups is counted twice. */
+    int getStudentCount();
+
+    int getSessionCount();
+
+    int getTaskCount();
+
+    /** A rough estimate of the heap taken by the roster. */
+    long getEstimatedModelBytes();
+
+    /** The number of earlier states kept for {@code undo}. */
+    int getUndoHistorySize();
+
+    /** A rough upper bound of the heap taken by the earlier states kept for {@code undo}. */
+    long getUndoHistoryEstimatedBytes();
+
+    long getSaveCount();
+
+    long getSaveFailureCount();
+
+    double getLastSaveMillis();
+
+    double getMaxSaveMillis();
+
+    long getLastSaveBytes();
+
+    /** The total number of bytes written by every save so far. */
+    long getBytesWritten();
+
+    /** The number of distinct strings held by the string interning table. */
+    int getInternedStringCount();
+
+    /** The fraction of string interning lookups that found an equal string already in the table. */
+    double getInternedStringHitRate();
+
+    /** The number of groups whose student search index is built, out of {@link #getGroupCount()}. */
+    int getStudentSearchIndexCount();
+
+    /** The number of fuzzy search indexes built over the lists of courses, groups, students, sessions and tasks. */
+    int getFuzzyIndexCount();
+
+    /**
+     * Saves the roster now.
+     * @return whether the roster was saved.
+     */
+    String forceSave();
+
+    /**
+     * Forgets all but the {@code maxStates} most recent states kept for {@code undo}.
+     * @return the number of states forgotten.
+     */
+    int trimUndoHistory(int maxStates);
+
+    /**
+     * Drops the indexes and caches that are rebuilt on demand.
+     */
+    void dropCaches();
+}
@@ -0,0 +1,61 @@
+package tfifteenfour.clipboard.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import tfifteenfour.clipboard.model.Model;
+
+/**
+ * An interactive transaction started by {@code begin}.
+ * Commands entered while a transaction is open change the model directly, without a copy of the model or a save
+ * per command. The state of the model when the transaction began is kept, so that it can be restored by
+ * {@code rollback} or when a command fails, and added to the undo history as a single entry by {@code commit}.
+ */
+public class Transaction {
+
+    private final Model snapshot;
+    private int commandCount;
+    private boolean isModified;
+
+    /**
+     * Creates a transaction that can roll back to {@code snapshot}.
+     */
+    public Transaction(Model snapshot) {
+        this.snapshot = requireNonNull(snapshot);
+    }
+
+    /**
+     * Returns the state of the model when the transaction began.
+     */
+    public Model getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Records that another command was entered in the transaction, and returns its line number, starting from 1.
+     */
+    public int recordCommand() {
+        return ++commandCount;
+    }
+
+    /**
+     * Records that a command in the transaction changed the model.
+     */
+    public void recordModification() {
+        isModified = true;
+    }
+
+    /**
+     * Returns true if any command in the transaction changed the model, so that committing it must be saved and
+     * undoable.
+     */
+    public boolean isModified() {
+        return isModified;
+    }
+
+    /**
+     * Returns the number of commands entered in the transaction so far.
+     */
+    public int getCommandCount() {
+        return commandCount;
+    }
+}
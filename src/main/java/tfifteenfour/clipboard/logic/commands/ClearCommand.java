@@ -2,8 +2,6 @@ package tfifteenfour.clipboard.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.List;
-
 import tfifteenfour.clipboard.logic.CurrentSelection;
 import tfifteenfour.clipboard.logic.PageType;
 import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
@@ -11,9 +9,6 @@ import tfifteenfour.clipboard.model.Model;
 import tfifteenfour.clipboard.model.Roster;
 import tfifteenfour.clipboard.model.course.Course;
 import tfifteenfour.clipboard.model.course.Group;
-import tfifteenfour.clipboard.model.course.Session;
-import tfifteenfour.clipboard.model.student.Student;
-import tfifteenfour.clipboard.model.task.Task;
 
 /**
  * Clears the address book.
@@ -48,34 +43,22 @@ public class ClearCommand extends Command {
         case GROUP_PAGE:
             clearedObject = "Groups";
             section = selectedCourse.getCourseCode();
-            List<Group> groups = selectedCourse.getModifiableGroupList();
-            while (!groups.isEmpty()) {
-                groups.remove(0);
-            }
+            selectedCourse.clearGroups();
             break;
         case SESSION_PAGE:
             clearedObject = "Sessions";
             section = selectedGroup.getGroupName();
-            List<Session> sessions = selectedGroup.getModifiableSessionList();
-            while (!sessions.isEmpty()) {
-                sessions.remove(0);
-            }
+            selectedGroup.clearSessions();
             break;
         case TASK_PAGE:
             clearedObject = "Tasks";
             section = selectedGroup.getGroupName();
-            List<Task> tasks = selectedGroup.getModifiableTaskList();
-            while (!tasks.isEmpty()) {
-                tasks.remove(0);
-            }
+            selectedGroup.clearTasks();
             break;
         case STUDENT_PAGE:
             clearedObject = "Students";
             section = selectedGroup.getGroupName();
-            List<Student> students = selectedGroup.getModifiableStudentList();
-            while (!students.isEmpty()) {
-                students.remove(0);
-            }
+            selectedGroup.clearStudents();
             break;
         case TASK_STUDENT_PAGE:
             throw new CommandException("Can't clear current page!\n"
@@ -4,8 +4,8 @@ import static java.util.Objects.requireNonNull;
 
 import java.awt.Toolkit;
 import java.awt.datatransfer.StringSelection;
+import java.util.List;
 
-import javafx.collections.ObservableList;
 import tfifteenfour.clipboard.commons.core.Messages;
 import tfifteenfour.clipboard.commons.core.index.Index;
 import tfifteenfour.clipboard.logic.CurrentSelection;
@@ -48,7 +48,7 @@ public class CopyCommand extends Command {
         }
 
         Group group = currentSelection.getSelectedGroup();
-        ObservableList<Student> studentList = group.getUnmodifiableFilteredStudentList();
+        List<Student> studentList = group.getUnmodifiableFilteredStudentList();
 
         if (index.getZeroBased() >= studentList.size()) {
             throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
@@ -0,0 +1,87 @@
+package tfifteenfour.clipboard.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import tfifteenfour.clipboard.commons.core.index.Index;
+import tfifteenfour.clipboard.logic.CurrentSelection;
+import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.logic.predicates.ShowAllListedPredicate;
+import tfifteenfour.clipboard.model.Model;
+import tfifteenfour.clipboard.model.RosterStudentIndex.Enrollment;
+import tfifteenfour.clipboard.model.student.StudentId;
+
+/**
+ * Navigates straight to the student page of the group that a student is enrolled in.
+ */
+public class GotoCommand extends Command {
+
+    public static final String COMMAND_WORD = "goto";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Opens the student page of the group that the student with the given student ID is in.\n"
+            + "If the student is in several groups, ENROLLMENT_INDEX picks one of them, as listed by "
+            + LocateCommand.COMMAND_WORD + ".\n"
+            + "Parameters: STUDENT_ID [ENROLLMENT_INDEX]\n"
+            + "Example: " + COMMAND_WORD + " A1234567X";
+
+    public static final String MESSAGE_SUCCESS = "[STUDENT PAGE]\nViewing: %1$s in group %2$s of %3$s";
+    public static final String MESSAGE_OTHER_ENROLLMENTS = "\nThis student is in %1$s groups. Use '"
+            + LocateCommand.COMMAND_WORD + " %2$s' to list them.";
+    public static final String MESSAGE_STUDENT_NOT_FOUND = "No student with student ID %1$s found";
+    public static final String MESSAGE_INVALID_ENROLLMENT_INDEX = "This student is only in %1$s groups";
+
+    private final StudentId studentId;
+    private final Index enrollmentIndex;
+
+    /**
+     * Creates a GotoCommand to go to the {@code enrollmentIndex}-th group of the student with {@code studentId}.
+     */
+    public GotoCommand(StudentId studentId, Index enrollmentIndex) {
+        super(true);
+        requireNonNull(studentId);
+        requireNonNull(enrollmentIndex);
+        this.studentId = studentId;
+        this.enrollmentIndex = enrollmentIndex;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Enrollment> enrollments = model.getRoster().getStudentIndex().getEnrollments(studentId);
+
+        if (enrollments.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_STUDENT_NOT_FOUND, studentId));
+        }
+        if (enrollmentIndex.getZeroBased() >= enrollments.size()) {
+            throw new CommandException(String.format(MESSAGE_INVALID_ENROLLMENT_INDEX, enrollments.size()));
+        }
+
+        Enrollment enrollment = enrollments.get(enrollmentIndex.getZeroBased());
+        CurrentSelection currentSelection = model.getCurrentSelection();
+        ShowAllListedPredicate.resetAllFilters(model, currentSelection);
+        currentSelection.getSelectedGroup().unMarkAllSessions();
+        currentSelection.getSelectedGroup().unMarkAllTasks();
+        currentSelection.navigateBackToCoursePage();
+
+        currentSelection.selectCourse(enrollment.getCourse());
+        currentSelection.selectGroup(enrollment.getGroup());
+        currentSelection.selectStudent(enrollment.getStudent());
+        ShowAllListedPredicate.resetStudentsFilter(currentSelection);
+
+        String feedback = String.format(MESSAGE_SUCCESS, enrollment.getStudent().getName(),
+                enrollment.getGroup(), enrollment.getCourse());
+        if (enrollments.size() > 1) {
+            feedback += String.format(MESSAGE_OTHER_ENROLLMENTS, enrollments.size(), studentId);
+        }
+        return new CommandResult(this, feedback, willModifyState);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof GotoCommand // instanceof handles nulls
+                && studentId.equals(((GotoCommand) other).studentId)
+                && enrollmentIndex.equals(((GotoCommand) other).enrollmentIndex));
+    }
+}
@@ -0,0 +1,68 @@
+package tfifteenfour.clipboard.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import tfifteenfour.clipboard.model.Model;
+import tfifteenfour.clipboard.model.RosterStudentIndex;
+import tfifteenfour.clipboard.model.RosterStudentIndex.Enrollment;
+
+/**
+ * Lists every course and group that matching students are enrolled in, across the whole roster.
+ */
+public class LocateCommand extends Command {
+
+    public static final String COMMAND_WORD = "locate";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists every course and group of students whose student ID or name matches any of the keywords. "
+            + "Parameters: "
+            + "STUDENT_ID_OR_NAME [MORE_KEYWORDS]\n"
+            + "Example: " + COMMAND_WORD + " A1234567X";
+
+    public static final String MESSAGE_SUCCESS = "Found %1$s enrollments:%2$s";
+    public static final String MESSAGE_NOT_FOUND = "No enrollments found for: %1$s";
+
+    private final List<String> keywords;
+
+    /**
+     * Creates a LocateCommand that looks up the given keywords.
+     */
+    public LocateCommand(String[] keywords) {
+        super(false);
+        requireNonNull(keywords);
+        this.keywords = Arrays.asList(keywords);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        RosterStudentIndex studentIndex = model.getRoster().getStudentIndex();
+
+        Set<Enrollment> enrollments = new LinkedHashSet<>();
+        keywords.forEach(keyword -> enrollments.addAll(studentIndex.findEnrollments(keyword)));
+
+        if (enrollments.isEmpty()) {
+            return new CommandResult(this, String.format(MESSAGE_NOT_FOUND, String.join(" ", keywords)),
+                    willModifyState);
+        }
+
+        StringBuilder listing = new StringBuilder();
+        int count = 0;
+        for (Enrollment enrollment : enrollments) {
+            listing.append("\n").append(++count).append(". ").append(enrollment);
+        }
+        return new CommandResult(this, String.format(MESSAGE_SUCCESS, enrollments.size(), listing),
+                willModifyState);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof LocateCommand // instanceof handles nulls
+                && keywords.equals(((LocateCommand) other).keywords));
+    }
+}
@@ -0,0 +1,98 @@
+package tfifteenfour.clipboard.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import tfifteenfour.clipboard.commons.jfr.FlightRecording;
+import tfifteenfour.clipboard.logic.CommandMetrics;
+import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.model.Model;
+
+/**
+ * Shows how long each phase of the commands executed so far took or how many bytes it allocated, forgets the times
+ * recorded so far, or dumps the flight recording of the last few minutes.
+ */
+public class PerfCommand extends Command {
+
+    public static final String COMMAND_WORD = "perf";
+    public static final String RESET_KEYWORD = "reset";
+    public static final String DUMP_KEYWORD = "dump";
+    public static final String ALLOCATIONS_KEYWORD = "alloc";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the p50, p95, p99 and maximum time taken by each phase of the commands run so far.\n"
+            + "Parameters: [" + ALLOCATIONS_KEYWORD + " | " + RESET_KEYWORD + " | " + DUMP_KEYWORD + "]\n"
+            + "Example: " + COMMAND_WORD + ", " + COMMAND_WORD + " " + ALLOCATIONS_KEYWORD
+            + ", " + COMMAND_WORD + " " + RESET_KEYWORD + ", " + COMMAND_WORD + " " + DUMP_KEYWORD;
+
+    public static final String MESSAGE_RESET_SUCCESS = "Forgot the time taken by every command so far.";
+    public static final String MESSAGE_DUMP_SUCCESS = "Saved the flight recording to %s";
+    public static final String MESSAGE_DUMP_FAILED = "Could not save the flight recording: %s";
+    public static final String MESSAGE_NOT_AVAILABLE = "Command times are not available here.";
+    public static final String MESSAGE_NOT_RECORDING = "Flight recording is off. "
+            + "Set \"flightRecordingEnabled\" to true in preferences.json and restart CLIpboard to turn it on.";
+
+    /**
+     * What a {@code PerfCommand} does with the recorded times.
+     */
+    public enum Action {
+        SHOW, ALLOCATIONS, RESET, DUMP
+    }
+
+    private final Action action;
+    private CommandMetrics commandMetrics;
+
+    /**
+     * Creates a PerfCommand that performs {@code action}.
+     */
+    public PerfCommand(Action action) {
+        super(false);
+        this.action = requireNonNull(action);
+    }
+
+    /**
+     * Sets the times that the command shows or forgets.
+     */
+    public void setCommandMetrics(CommandMetrics commandMetrics) {
+        this.commandMetrics = requireNonNull(commandMetrics);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        if (commandMetrics == null) {
+            throw new CommandException(MESSAGE_NOT_AVAILABLE);
+        }
+
+        switch (action) {
+        case ALLOCATIONS:
+            return new CommandResult(this, commandMetrics.getAllocationReport(), false);
+        case RESET:
+            commandMetrics.reset();
+            return new CommandResult(this, MESSAGE_RESET_SUCCESS, false);
+        case DUMP:
+            return new CommandResult(this, dump(commandMetrics.getFlightRecording()), false);
+        default:
+            return new CommandResult(this, commandMetrics.getReport(), false);
+        }
+    }
+
+    private static String dump(FlightRecording recording) throws CommandException {
+        if (recording == null) {
+            throw new CommandException(MESSAGE_NOT_RECORDING);
+        }
+        try {
+            Path file = recording.dump(FlightRecording.REASON_ON_DEMAND);
+            return String.format(MESSAGE_DUMP_SUCCESS, file.toAbsolutePath());
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_DUMP_FAILED, e.getMessage()), e);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof PerfCommand && action == ((PerfCommand) other).action);
+    }
+}
@@ -0,0 +1,198 @@
+package tfifteenfour.clipboard.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import tfifteenfour.clipboard.commons.core.index.Index;
+import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.model.student.Student;
+import tfifteenfour.clipboard.model.student.StudentId;
+
+/**
+ * Selects the students that a command acts on: by index or range of indexes in the displayed list, by student ID,
+ * or every student at once.
+ * A selector is parsed with the command and resolved against the students on the page when the command runs. Every
+ * index and student ID is checked before any student is returned, so a command that resolves its selector first
+ * either acts on all of the selected students or on none of them.
+ */
+public class StudentSelector {
+
+    /** Selects every student on the page, including those hidden by a {@code find}. */
+    public static final String KEYWORD_ALL = "all";
+    /** Selects every student currently displayed. */
+    public static final String KEYWORD_SHOWN = "shown";
+
+    public static final String MESSAGE_STUDENT_ID_NOT_FOUND = "There is no student with student ID %1$s on this page.";
+    public static final String MESSAGE_NO_STUDENTS = "There are no students to select.";
+
+    private enum Scope { ALL, SHOWN, LISTED }
+
+    private final Scope scope;
+    /** Zero-based bounds of the selected ranges of indexes, both inclusive. A single index is a range of one. */
+    private final int[] rangeStarts;
+    private final int[] rangeEnds;
+    private final List<StudentId> studentIds;
+
+    private StudentSelector(Scope scope, int[] rangeStarts, int[] rangeEnds, List<StudentId> studentIds) {
+        this.scope = scope;
+        this.rangeStarts = rangeStarts;
+        this.rangeEnds = rangeEnds;
+        this.studentIds = studentIds;
+    }
+
+    /**
+     * Returns a selector of every student on the page, including those hidden by a {@code find}.
+     */
+    public static StudentSelector all() {
+        return new StudentSelector(Scope.ALL, new int[0], new int[0], List.of());
+    }
+
+    /**
+     * Returns a selector of every student currently displayed.
+     */
+    public static StudentSelector shown() {
+        return new StudentSelector(Scope.SHOWN, new int[0], new int[0], List.of());
+    }
+
+    /**
+     * Returns a selector of the students at {@code indexes}.
+     */
+    public static StudentSelector of(Index... indexes) {
+        requireNonNull(indexes);
+        return of(indexes, indexes, List.of());
+    }
+
+    /**
+     * Returns a selector of the students in the ranges from {@code rangeStarts} to {@code rangeEnds}, both
+     * inclusive, followed by the students with {@code studentIds}.
+     */
+    public static StudentSelector of(Index[] rangeStarts, Index[] rangeEnds, List<StudentId> studentIds) {
+        requireNonNull(rangeStarts);
+        requireNonNull(rangeEnds);
+        requireNonNull(studentIds);
+        if (rangeStarts.length != rangeEnds.length) {
+            throw new IllegalArgumentException("Every range needs a start and an end");
+        }
+
+        int[] starts = new int[rangeStarts.length];
+        int[] ends = new int[rangeEnds.length];
+        for (int i = 0; i < starts.length; i++) {
+            starts[i] = rangeStarts[i].getZeroBased();
+            ends[i] = rangeEnds[i].getZeroBased();
+            if (starts[i] > ends[i]) {
+                throw new IllegalArgumentException("A range must not end before it starts");
+            }
+        }
+        return new StudentSelector(Scope.LISTED, starts, ends, List.copyOf(studentIds));
+    }
+
+    /**
+     * Returns the selected students, in the order they were selected and each only once.
+     * @param shownStudents The students currently displayed, which indexes refer to.
+     * @param allStudents Every student on the page, including those hidden by a {@code find}.
+     * @param invalidIndexMessage The message of the exception thrown if an index is past the displayed list.
+     * @throws CommandException If an index or student ID does not match any student, or no student is selected.
+     */
+    public <T extends Student> List<T> select(List<T> shownStudents, List<T> allStudents, String invalidIndexMessage)
+            throws CommandException {
+        List<T> selected;
+        switch (scope) {
+        case ALL:
+            selected = new ArrayList<>(allStudents);
+            break;
+        case SHOWN:
+            selected = new ArrayList<>(shownStudents);
+            break;
+        default:
+            selected = selectListed(shownStudents, allStudents, invalidIndexMessage);
+            break;
+        }
+
+        if (selected.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_STUDENTS);
+        }
+        return selected;
+    }
+
+    private <T extends Student> List<T> selectListed(List<T> shownStudents, List<T> allStudents,
+            String invalidIndexMessage) throws CommandException {
+        int selectedCount = 0;
+        for (int i = 0; i < rangeStarts.length; i++) {
+            if (rangeEnds[i] >= shownStudents.size()) {
+                throw new CommandException(invalidIndexMessage);
+            }
+            selectedCount += rangeEnds[i] - rangeStarts[i] + 1;
+        }
+
+        List<T> selected = new ArrayList<>(selectedCount + studentIds.size());
+        Set<StudentId> selectedIds = new HashSet<>();
+        for (int i = 0; i < rangeStarts.length; i++) {
+            for (int index = rangeStarts[i]; index <= rangeEnds[i]; index++) {
+                T student = shownStudents.get(index);
+                if (selectedIds.add(student.getStudentId())) {
+                    selected.add(student);
+                }
+            }
+        }
+
+        if (studentIds.isEmpty()) {
+            return selected;
+        }
+        Map<StudentId, T> studentsById = new HashMap<>();
+        for (T student : allStudents) {
+            studentsById.put(student.getStudentId(), student);
+        }
+        for (StudentId studentId : studentIds) {
+            T student = studentsById.get(studentId);
+            if (student == null) {
+                throw new CommandException(String.format(MESSAGE_STUDENT_ID_NOT_FOUND, studentId));
+            }
+            if (selectedIds.add(studentId)) {
+                selected.add(student);
+            }
+        }
+        return selected;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof StudentSelector)) {
+            return false;
+        }
+
+        // the same students selected in a different order make an equal selector
+        StudentSelector otherSelector = (StudentSelector) other;
+        return scope == otherSelector.scope
+                && sortedRanges().equals(otherSelector.sortedRanges())
+                && new HashSet<>(studentIds).equals(new HashSet<>(otherSelector.studentIds));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(scope, sortedRanges(), new HashSet<>(studentIds));
+    }
+
+    private List<List<Integer>> sortedRanges() {
+        List<List<Integer>> ranges = new ArrayList<>(rangeStarts.length);
+        for (int i = 0; i < rangeStarts.length; i++) {
+            ranges.add(Arrays.asList(rangeStarts[i], rangeEnds[i]));
+        }
+        ranges.sort((first, second) -> first.get(0).equals(second.get(0))
+                ? Integer.compare(first.get(1), second.get(1))
+                : Integer.compare(first.get(0), second.get(0)));
+        return Collections.unmodifiableList(ranges);
+    }
+}
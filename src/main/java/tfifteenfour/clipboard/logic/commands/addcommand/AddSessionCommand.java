@@ -2,6 +2,9 @@ package tfifteenfour.clipboard.logic.commands.addcommand;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.logging.Logger;
+
+import tfifteenfour.clipboard.commons.core.LogsCenter;
 import tfifteenfour.clipboard.logic.CurrentSelection;
 import tfifteenfour.clipboard.logic.PageType;
 import tfifteenfour.clipboard.logic.commands.CommandResult;
@@ -27,6 +30,8 @@ public class AddSessionCommand extends AddCommand {
     public static final String MESSAGE_DUPLICATE_SESSION = "This session already exists in the course";
     public static final String MESSAGE_WRONG_PAGE = "Wrong page. Navigate to session page to add session";
 
+    private static final Logger logger = LogsCenter.getLogger(AddSessionCommand.class);
+
     private final Session sessionToAdd;
 
     /**
@@ -59,7 +64,7 @@ public class AddSessionCommand extends AddCommand {
         }
 
         targetGroup.addSession(sessionToAdd);
-        System.out.println(targetGroup.getUnmodifiableSessionList());
+        logger.fine(() -> "Sessions of " + targetGroup + ": " + targetGroup.getUnmodifiableSessionList());
         return new CommandResult(this, String.format(MESSAGE_SUCCESS, targetGroup, sessionToAdd), willModifyState);
     }
 
@@ -3,6 +3,7 @@ package tfifteenfour.clipboard.logic.commands.attendancecommand;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 
@@ -12,6 +13,7 @@ import tfifteenfour.clipboard.logic.commands.Command;
 import tfifteenfour.clipboard.logic.commands.CommandResult;
 import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
 import tfifteenfour.clipboard.model.Model;
+import tfifteenfour.clipboard.model.course.AttendanceStatus;
 import tfifteenfour.clipboard.model.course.Course;
 import tfifteenfour.clipboard.model.course.Group;
 import tfifteenfour.clipboard.model.course.Session;
@@ -30,6 +32,7 @@ public class AttendanceCommand extends Command {
 
     public static final String MESSAGE_SUCCESS_SESSION = "Attendance for %s %s %s:\n %d / %d";
     public static final String MESSAGE_SUCCESS_STUDENT = "Attendance for %s in %s %s:\n %d / %d";
+    public static final String MESSAGE_BREAKDOWN = "\n %s: %d";
 
     public AttendanceCommand() {
         super(true);
@@ -65,38 +68,55 @@ public class AttendanceCommand extends Command {
 
         if (currentSelection.getCurrentPage() == PageType.SESSION_STUDENT_PAGE) {
             Session session = currentSelection.getSelectedSession();
-            Map<Student, Integer> attendance = session.getAttendance();
-
-            int numOfTotalStudents = attendance.keySet().size();
-            int numOfPresentStudents = (int) attendance.values().stream().filter(x -> x == 1).count();
+            int numOfTotalStudents = session.getAttendance().size();
+            int numOfAttendedStudents = session.countAttended();
+            Map<AttendanceStatus, Integer> counts = new EnumMap<>(AttendanceStatus.class);
+            for (AttendanceStatus status : AttendanceStatus.values()) {
+                counts.put(status, session.count(status));
+            }
 
             return new CommandResult(this, String.format(
                     MESSAGE_SUCCESS_SESSION,
-                    course, group, session, numOfPresentStudents, numOfTotalStudents), willModifyState);
+                    course, group, session, numOfAttendedStudents, numOfTotalStudents) + formatBreakdown(counts),
+                    willModifyState);
         } else if (currentSelection.getCurrentPage() == PageType.STUDENT_PAGE) {
             Student student = currentSelection.getSelectedStudent();
             List<Session> sessions = group.getUnmodifiableSessionList();
             int numOfTotalSession = sessions.size();
             int numOfAttendedSession = 0;
+            Map<AttendanceStatus, Integer> counts = new EnumMap<>(AttendanceStatus.class);
             List<SessionWithAttendance> sessionsWithAttendance = new ArrayList<>();
 
             for (Session session : sessions) {
-                if (session.getAttendance().get(student) == 1) {
+                AttendanceStatus status = session.getAttendance(student);
+                if (status.isAttended()) {
                     numOfAttendedSession++;
-                    sessionsWithAttendance.add(new SessionWithAttendance(session, 1));
-                } else {
-                    sessionsWithAttendance.add(new SessionWithAttendance(session, 0));
                 }
+                counts.merge(status, 1, Integer::sum);
+                sessionsWithAttendance.add(new SessionWithAttendance(session, status));
             }
 
             student.setSessionAttendanceList(sessionsWithAttendance);
 
             return new CommandResult(this, String.format(
                     MESSAGE_SUCCESS_STUDENT,
-                    student.getName() , course, group, numOfAttendedSession, numOfTotalSession), willModifyState);
+                    student.getName() , course, group, numOfAttendedSession, numOfTotalSession)
+                    + formatBreakdown(counts), willModifyState);
         } else {
             throw new CommandException("should not reach here!");
         }
     }
 
+    /**
+     * Formats one line per attendance status, in the order the statuses are declared, with the number of
+     * students or sessions that have it.
+     */
+    public static String formatBreakdown(Map<AttendanceStatus, Integer> counts) {
+        StringBuilder breakdown = new StringBuilder();
+        for (AttendanceStatus status : AttendanceStatus.values()) {
+            breakdown.append(String.format(MESSAGE_BREAKDOWN, status.getLabel(), counts.getOrDefault(status, 0)));
+        }
+        return breakdown.toString();
+    }
+
 }
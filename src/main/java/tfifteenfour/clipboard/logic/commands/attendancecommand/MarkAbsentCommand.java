@@ -2,19 +2,20 @@ package tfifteenfour.clipboard.logic.commands.attendancecommand;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 
-import javafx.collections.ObservableList;
 import tfifteenfour.clipboard.commons.core.Messages;
 import tfifteenfour.clipboard.commons.core.index.Index;
 import tfifteenfour.clipboard.logic.CurrentSelection;
 import tfifteenfour.clipboard.logic.PageType;
 import tfifteenfour.clipboard.logic.commands.Command;
 import tfifteenfour.clipboard.logic.commands.CommandResult;
+import tfifteenfour.clipboard.logic.commands.StudentSelector;
 import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
 import tfifteenfour.clipboard.model.Model;
+import tfifteenfour.clipboard.model.course.AttendanceStatus;
 import tfifteenfour.clipboard.model.course.Session;
-import tfifteenfour.clipboard.model.student.Student;
 import tfifteenfour.clipboard.model.student.StudentWithAttendance;
 
 
@@ -26,20 +27,28 @@ public class MarkAbsentCommand extends Command {
     public static final String COMMAND_WORD = "unmark";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Marks the selected student at the index number as absent. \n"
-            + "Parameters: INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1 or " + COMMAND_WORD + " 1,2,3,4,5";
+            + ": Marks the selected students as absent. \n"
+            + "Parameters: STUDENTS (indexes, ranges such as 1-40, student IDs, all, or shown)\n"
+            + "Example: " + COMMAND_WORD + " 1 or " + COMMAND_WORD + " 1,2,5-9 or " + COMMAND_WORD + " all";
 
     public static final String MESSAGE_SUCCESS = "Marked student as absent in session %1$s: \n%2$s";
 
-    private final Index[] targetIndex;
+    private final StudentSelector selector;
 
     /**
      * Creates a MarkAbsentCommand to mark the student at the specified index as absent.
      */
     public MarkAbsentCommand(Index... targetIndex) {
+        this(StudentSelector.of(targetIndex));
+    }
+
+    /**
+     * Creates a MarkAbsentCommand to mark all students chosen by {@code selector} as absent at once.
+     */
+    public MarkAbsentCommand(StudentSelector selector) {
         super(true);
-        this.targetIndex = targetIndex;
+        requireNonNull(selector);
+        this.selector = selector;
     }
 
     @Override
@@ -54,21 +63,14 @@ public class MarkAbsentCommand extends Command {
         }
 
         Session session = currentSelection.getSelectedSession();
-        ObservableList<StudentWithAttendance> studentList = session.getUnmodifiableStudentList();
-        StringBuilder studentMarked = new StringBuilder();
-
-        for (int i = 0; i < targetIndex.length; i++) {
-            if (targetIndex[i].getZeroBased() >= studentList.size()) {
-                throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
-            } else {
-                Student studentToMark = studentList.get(targetIndex[i].getZeroBased());
-                session.markAbsent(studentToMark);
-                studentMarked.append(studentToMark.getName());
-                if (i != targetIndex.length - 1) {
-                    studentMarked.append(", ");
-                }
-            }
-        }
+        List<StudentWithAttendance> studentList = session.getUnmodifiableStudentList();
+        List<StudentWithAttendance> studentsToMark =
+                selector.select(studentList, studentList, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        session.markAll(studentsToMark, AttendanceStatus.ABSENT);
+        currentSelection.getSelectedGroup().refreshSortedStudents();
+        String studentMarked = studentsToMark.stream()
+                .map(student -> student.getName().toString())
+                .collect(Collectors.joining(", "));
         return new CommandResult(this, String.format(MESSAGE_SUCCESS, session, studentMarked), willModifyState);
     }
 
@@ -83,9 +85,7 @@ public class MarkAbsentCommand extends Command {
         }
 
         MarkAbsentCommand e = (MarkAbsentCommand) other;
-        Arrays.sort(targetIndex);
-        Arrays.sort(e.targetIndex);
-        return Arrays.equals(targetIndex, e.targetIndex);
+        return selector.equals(e.selector);
     }
 
 }
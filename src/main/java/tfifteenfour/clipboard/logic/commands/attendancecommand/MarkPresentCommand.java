@@ -2,44 +2,67 @@ package tfifteenfour.clipboard.logic.commands.attendancecommand;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 
-import javafx.collections.ObservableList;
 import tfifteenfour.clipboard.commons.core.Messages;
 import tfifteenfour.clipboard.commons.core.index.Index;
 import tfifteenfour.clipboard.logic.CurrentSelection;
 import tfifteenfour.clipboard.logic.PageType;
 import tfifteenfour.clipboard.logic.commands.Command;
 import tfifteenfour.clipboard.logic.commands.CommandResult;
+import tfifteenfour.clipboard.logic.commands.StudentSelector;
 import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
 import tfifteenfour.clipboard.model.Model;
+import tfifteenfour.clipboard.model.course.AttendanceStatus;
 import tfifteenfour.clipboard.model.course.Session;
-import tfifteenfour.clipboard.model.student.Student;
 import tfifteenfour.clipboard.model.student.StudentWithAttendance;
 
 
 /**
- * Command to mark a student as present in a selected session.
+ * Command to mark a student as present, or with another attendance status such as late, in a selected session.
  */
 public class MarkPresentCommand extends Command {
 
     public static final String COMMAND_WORD = "mark";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Marks the selected student at the index number as present. \n"
-            + "Parameters: INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1 or " + COMMAND_WORD + " 1,2,3,4,5";
+            + ": Marks the selected students as present, or as late, excused or on medical leave. \n"
+            + "Parameters: [present|late|excused|mc] STUDENTS "
+            + "(indexes, ranges such as 1-40, student IDs, all, or shown)\n"
+            + "Example: " + COMMAND_WORD + " 1 or " + COMMAND_WORD + " 1,2,5-9 or " + COMMAND_WORD + " late 2,3 or "
+            + COMMAND_WORD + " all";
 
     public static final String MESSAGE_SUCCESS = "Marked student as present in session %1$s: \n%2$s";
+    public static final String MESSAGE_SUCCESS_STATUS = "Marked student as %1$s in session %2$s: \n%3$s";
 
-    private final Index[] targetIndex;
+    private final AttendanceStatus status;
+    private final StudentSelector selector;
 
     /**
      * Creates a MarkPresentCommand to mark the student at the specified index as present.
      */
     public MarkPresentCommand(Index... targetIndex) {
+        this(AttendanceStatus.PRESENT, targetIndex);
+    }
+
+    /**
+     * Creates a MarkPresentCommand to mark the student at the specified index with the given attendance status.
+     */
+    public MarkPresentCommand(AttendanceStatus status, Index... targetIndex) {
+        this(status, StudentSelector.of(targetIndex));
+    }
+
+    /**
+     * Creates a MarkPresentCommand to mark all students chosen by {@code selector} with the given attendance status
+     * at once.
+     */
+    public MarkPresentCommand(AttendanceStatus status, StudentSelector selector) {
         super(true);
-        this.targetIndex = targetIndex;
+        requireNonNull(status);
+        requireNonNull(selector);
+        this.status = status;
+        this.selector = selector;
     }
 
     @Override
@@ -54,23 +77,19 @@ public class MarkPresentCommand extends Command {
         }
 
         Session session = currentSelection.getSelectedSession();
-        ObservableList<StudentWithAttendance> studentList = session.getUnmodifiableStudentList();
-        StringBuilder studentMarked = new StringBuilder();
-
-        for (int i = 0; i < targetIndex.length; i++) {
-            if (targetIndex[i].getZeroBased() >= studentList.size()) {
-                throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
-            } else {
-                Student studentToMark = studentList.get(targetIndex[i].getZeroBased());
-                session.markPresent(studentToMark);
-                studentMarked.append(studentToMark.getName());
-                if (i != targetIndex.length - 1) {
-                    studentMarked.append(", ");
-                }
-            }
-        }
-
-        return new CommandResult(this, String.format(MESSAGE_SUCCESS, session, studentMarked), willModifyState);
+        List<StudentWithAttendance> studentList = session.getUnmodifiableStudentList();
+        List<StudentWithAttendance> studentsToMark =
+                selector.select(studentList, studentList, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        session.markAll(studentsToMark, status);
+        currentSelection.getSelectedGroup().refreshSortedStudents();
+        String studentMarked = studentsToMark.stream()
+                .map(student -> student.getName().toString())
+                .collect(Collectors.joining(", "));
+
+        String feedback = status == AttendanceStatus.PRESENT
+                ? String.format(MESSAGE_SUCCESS, session, studentMarked)
+                : String.format(MESSAGE_SUCCESS_STATUS, status.getLabel().toLowerCase(), session, studentMarked);
+        return new CommandResult(this, feedback, willModifyState);
     }
 
     @Override
@@ -84,8 +103,6 @@ public class MarkPresentCommand extends Command {
         }
 
         MarkPresentCommand e = (MarkPresentCommand) other;
-        Arrays.sort(targetIndex);
-        Arrays.sort(e.targetIndex);
-        return Arrays.equals(targetIndex, e.targetIndex);
+        return status == e.status && selector.equals(e.selector);
     }
 }
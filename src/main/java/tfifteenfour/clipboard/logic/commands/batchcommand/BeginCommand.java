@@ -0,0 +1,31 @@
+package tfifteenfour.clipboard.logic.commands.batchcommand;
+
+import tfifteenfour.clipboard.logic.commands.CommandResult;
+import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.model.Model;
+
+/**
+ * Starts a transaction. Commands entered until {@code commit} or {@code rollback} are kept or discarded together,
+ * and are saved and undone as one.
+ */
+public class BeginCommand extends TransactionCommand {
+
+    public static final String COMMAND_WORD = "begin";
+
+    public static final String MESSAGE_SUCCESS = "Transaction started. "
+            + "Enter commit to keep the following commands, or rollback to discard them.";
+    public static final String MESSAGE_ALREADY_IN_TRANSACTION = "A transaction is already in progress.";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        if (transaction != null) {
+            throw new CommandException(MESSAGE_ALREADY_IN_TRANSACTION);
+        }
+        return new CommandResult(this, MESSAGE_SUCCESS, willModifyState);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof BeginCommand;
+    }
+}
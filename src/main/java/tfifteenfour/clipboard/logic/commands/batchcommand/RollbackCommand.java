@@ -0,0 +1,29 @@
+package tfifteenfour.clipboard.logic.commands.batchcommand;
+
+import tfifteenfour.clipboard.logic.commands.CommandResult;
+import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.model.Model;
+
+/**
+ * Ends the current transaction, discarding the changes made by its commands.
+ */
+public class RollbackCommand extends TransactionCommand {
+
+    public static final String COMMAND_WORD = "rollback";
+
+    public static final String MESSAGE_SUCCESS = "Rolled back %d command(s).";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        if (transaction == null) {
+            throw new CommandException(MESSAGE_NO_TRANSACTION);
+        }
+        return new CommandResult(this, String.format(MESSAGE_SUCCESS, transaction.getCommandCount()),
+                willModifyState);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof RollbackCommand;
+    }
+}
@@ -0,0 +1,103 @@
+package tfifteenfour.clipboard.logic.commands.batchcommand;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import tfifteenfour.clipboard.logic.commands.Command;
+import tfifteenfour.clipboard.logic.commands.CommandResult;
+import tfifteenfour.clipboard.logic.commands.ExitCommand;
+import tfifteenfour.clipboard.logic.commands.HelpCommand;
+import tfifteenfour.clipboard.logic.commands.UndoCommand;
+import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.logic.parser.RosterParser;
+import tfifteenfour.clipboard.logic.parser.exceptions.ParseException;
+import tfifteenfour.clipboard.model.Model;
+
+/**
+ * Runs the commands in a script file, one per line, as a single unit.
+ * Blank lines and lines starting with {@code #} are skipped. The script stops at the first line that fails, and
+ * {@code LogicManager} then restores the model to its state before the script, so a script is applied either
+ * completely or not at all. A script that succeeds is saved once and undone as one command.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Runs the commands in a file, one per line, as a single command that can be undone at once.\n"
+            + "Parameters: FILEPATH\n"
+            + "Example: " + COMMAND_WORD + " /Users/AlexYeoh/Desktop/semester-setup.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %d command(s) from %s";
+    public static final String MESSAGE_CANNOT_READ = "Could not read script file: %s";
+    public static final String MESSAGE_LINE_FAILED =
+            "Line %d of %s failed: %s\n%s\nNo changes from the script were kept.";
+    public static final String MESSAGE_NOT_ALLOWED = "%s cannot be used in a script.";
+
+    private static final String COMMENT_MARKER = "#";
+
+    private final Path scriptPath;
+
+    /**
+     * Creates a RunCommand to run the commands in the file at {@code scriptPath}.
+     */
+    public RunCommand(Path scriptPath) {
+        super(true);
+        requireNonNull(scriptPath);
+        this.scriptPath = scriptPath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(scriptPath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ, scriptPath), e);
+        }
+
+        int commandCount = 0;
+        boolean isStateModified = false;
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith(COMMENT_MARKER)) {
+                continue;
+            }
+
+            try {
+                Command command = RosterParser.parseCommand(line, model);
+                checkAllowedInScript(command, line);
+                isStateModified |= command.execute(model).isStateModified();
+                commandCount++;
+            } catch (ParseException | CommandException e) {
+                throw new CommandException(String.format(MESSAGE_LINE_FAILED,
+                        i + 1, scriptPath.getFileName(), line, e.getMessage()), e);
+            }
+        }
+
+        return new CommandResult(this, String.format(MESSAGE_SUCCESS, commandCount, scriptPath.getFileName()),
+                isStateModified);
+    }
+
+    /**
+     * Rejects commands that act above the model or on the window, which a script cannot run.
+     */
+    private static void checkAllowedInScript(Command command, String line) throws CommandException {
+        if (command instanceof UndoCommand || command instanceof RunCommand || command instanceof TransactionCommand
+                || command instanceof ExitCommand || command instanceof HelpCommand) {
+            throw new CommandException(String.format(MESSAGE_NOT_ALLOWED, line.split("\\s+")[0]));
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof RunCommand && scriptPath.equals(((RunCommand) other).scriptPath));
+    }
+}
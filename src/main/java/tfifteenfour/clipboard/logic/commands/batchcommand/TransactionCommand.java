@@ -0,0 +1,27 @@
+package tfifteenfour.clipboard.logic.commands.batchcommand;
+
+import tfifteenfour.clipboard.logic.Transaction;
+import tfifteenfour.clipboard.logic.commands.Command;
+
+/**
+ * A command that starts or ends an interactive transaction.
+ * Like {@code UndoCommand}, these commands act on state held above the model, so {@code LogicManager} gives them
+ * the open transaction, if any, before executing them.
+ */
+public abstract class TransactionCommand extends Command {
+
+    public static final String MESSAGE_NO_TRANSACTION = "No transaction in progress. Use begin to start one.";
+
+    protected Transaction transaction;
+
+    public TransactionCommand() {
+        super(false);
+    }
+
+    /**
+     * Sets the transaction that is currently open, or null if there is none.
+     */
+    public void setCurrentTransaction(Transaction transaction) {
+        this.transaction = transaction;
+    }
+}
@@ -2,17 +2,21 @@ package tfifteenfour.clipboard.logic.commands.deletecommand;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import tfifteenfour.clipboard.commons.core.Messages;
 import tfifteenfour.clipboard.commons.core.index.Index;
 import tfifteenfour.clipboard.logic.CurrentSelection;
 import tfifteenfour.clipboard.logic.PageType;
 import tfifteenfour.clipboard.logic.commands.CommandResult;
+import tfifteenfour.clipboard.logic.commands.StudentSelector;
 import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
 import tfifteenfour.clipboard.model.Model;
 import tfifteenfour.clipboard.model.course.Group;
-import tfifteenfour.clipboard.model.student.Name;
 import tfifteenfour.clipboard.model.student.Student;
 
 /**
@@ -21,18 +25,34 @@ import tfifteenfour.clipboard.model.student.Student;
 public class DeleteStudentCommand extends DeleteCommand {
     public static final String COMMAND_TYPE_WORD = "student";
     public static final String MESSAGE_USAGE = COMMAND_WORD + " " + COMMAND_TYPE_WORD
-            + ": Deletes a students."
+            + ": Deletes one or more students."
             + "Parameters: "
-            + "INDEX\n"
+            + "STUDENTS (indexes, ranges such as 1-40, student IDs, all, or shown)\n"
             + "Example: " + COMMAND_WORD + " " + COMMAND_TYPE_WORD
-            + " " + "1";
+            + " " + "1,3,6-8";
 
     public static final String MESSAGE_SUCCESS = "Deleted student in %1$s: %2$s";
 
-    private final Index index;
+    private final StudentSelector selector;
 
     public DeleteStudentCommand(Index index) {
-        this.index = index;
+        this(new Index[] {index});
+    }
+
+    /**
+     * Creates a DeleteStudentCommand that deletes the students at all of the given indexes at once.
+     * @param indexes Indexes of the students in the displayed list.
+     */
+    public DeleteStudentCommand(Index[] indexes) {
+        this(StudentSelector.of(indexes));
+    }
+
+    /**
+     * Creates a DeleteStudentCommand that deletes all students chosen by {@code selector} at once.
+     */
+    public DeleteStudentCommand(StudentSelector selector) {
+        requireNonNull(selector);
+        this.selector = selector;
     }
 
     /**
@@ -51,18 +71,17 @@ public class DeleteStudentCommand extends DeleteCommand {
 
         Group selectedGroup = currentSelection.getSelectedGroup();
         List<Student> lastShownList = selectedGroup.getUnmodifiableFilteredStudentList();
+        List<Student> selectedStudents = selector.select(lastShownList, selectedGroup.getUnmodifiableStudentList(),
+                Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
 
-        if (index.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
-        }
-
-        Student studentToDelete = lastShownList.get(index.getZeroBased());
-        Name studentNameToDelete = studentToDelete.getName();
-        selectedGroup.deleteStudent(studentToDelete);
+        Set<Student> studentsToDelete = Collections.newSetFromMap(new IdentityHashMap<>());
+        studentsToDelete.addAll(selectedStudents);
+        selectedGroup.deleteStudents(studentsToDelete::contains);
 
-        return new CommandResult(this,
-                String.format(MESSAGE_SUCCESS, selectedGroup, studentNameToDelete),
-                willModifyState);
+        String deletedNames = selectedStudents.stream()
+                .map(student -> student.getName().toString())
+                .collect(Collectors.joining(", "));
+        return new CommandResult(this, String.format(MESSAGE_SUCCESS, selectedGroup, deletedNames), willModifyState);
     }
 
     @Override
@@ -1,16 +1,63 @@
 package tfifteenfour.clipboard.logic.commands.findcommand;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import tfifteenfour.clipboard.commons.util.BkTree;
 import tfifteenfour.clipboard.logic.commands.Command;
 
 /**
- * Adds a student to the address book.
+ * Finds items in the current page whose name contains any of the given keywords,
+ * or in fuzzy mode, whose name is within a few typos of any of the keywords.
  */
 public abstract class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
+    public static final String FUZZY_FLAG = "-f";
+
+    public static final String MESSAGE_FUZZY_USAGE = "Add " + FUZZY_FLAG
+            + " before the search terms to also match names with a few typos, e.g. " + COMMAND_WORD
+            + " student " + FUZZY_FLAG + " kelvn";
+
+    public static final String MESSAGE_FUZZY_SUCCESS = "Found %1$s close matches, closest first:%2$s";
+
+    protected final boolean isFuzzy;
 
     public FindCommand() {
+        this(false);
+    }
+
+    /**
+     * Creates a FindCommand that matches by edit distance if {@code isFuzzy} is true, or by substring otherwise.
+     */
+    public FindCommand(boolean isFuzzy) {
         super(true);
+        this.isFuzzy = isFuzzy;
+    }
+
+    /**
+     * Returns a predicate that accepts exactly the items found by a fuzzy search.
+     */
+    protected static <T> Predicate<T> isAmong(List<BkTree.Match<T>> matches) {
+        Set<T> matchedItems = Collections.newSetFromMap(new IdentityHashMap<>());
+        matches.forEach(match -> matchedItems.add(match.getValue()));
+        return matchedItems::contains;
     }
 
+    /**
+     * Returns the feedback for a fuzzy search, listing the matches in ranked order with their edit distance.
+     */
+    protected static <T> String describeFuzzyMatches(List<BkTree.Match<T>> matches, Function<T, String> describer) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < matches.size(); i++) {
+            BkTree.Match<T> match = matches.get(i);
+            builder.append("\n").append(i + 1).append(". ").append(describer.apply(match.getValue()))
+                    .append(" (").append(match.getDistance()).append(match.getDistance() == 1 ? " edit)" : " edits)");
+        }
+        return String.format(MESSAGE_FUZZY_SUCCESS, matches.size(), builder);
+    }
 }
@@ -2,12 +2,16 @@ package tfifteenfour.clipboard.logic.commands.findcommand;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
+
+import tfifteenfour.clipboard.commons.util.BkTree;
 import tfifteenfour.clipboard.logic.commands.CommandResult;
 import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
 import tfifteenfour.clipboard.logic.predicates.CourseNameContainsPredicate;
 import tfifteenfour.clipboard.logic.predicates.ShowAllListedPredicate;
 import tfifteenfour.clipboard.model.Model;
 import tfifteenfour.clipboard.model.Roster;
+import tfifteenfour.clipboard.model.course.Course;
 
 /**
  * Finds a course whose name contains any of the specified keywords.
@@ -21,7 +25,8 @@ public class FindCourseCommand extends FindCommand {
             + "COURSE_SEARCH_TERM\n"
             + "Example: " + COMMAND_WORD
             + " " + COMMAND_TYPE_WORD
-            + " " + "CS2103T ";
+            + " " + "CS2103T "
+            + "\n" + MESSAGE_FUZZY_USAGE;
 
     public static final String MESSAGE_SUCCESS = "Found %1$s results";
     private final CourseNameContainsPredicate predicate;
@@ -31,6 +36,16 @@ public class FindCourseCommand extends FindCommand {
      * @param predicate The predicate to filter courses with.
      */
     public FindCourseCommand(CourseNameContainsPredicate predicate) {
+        this(predicate, false);
+    }
+
+    /**
+     * Creates a FindCourseCommand to find the specified courses with the given predicate.
+     * @param predicate The predicate to filter courses with.
+     * @param isFuzzy Whether to match names within a few typos of the keywords instead of containing them.
+     */
+    public FindCourseCommand(CourseNameContainsPredicate predicate, boolean isFuzzy) {
+        super(isFuzzy);
         this.predicate = predicate;
     }
 
@@ -43,6 +58,16 @@ public class FindCourseCommand extends FindCommand {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         Roster roster = model.getRoster();
+
+        if (isFuzzy) {
+            List<BkTree.Match<Course>> matches = roster.fuzzySearchCourses(predicate.getKeywords());
+            roster.updateFilteredCourses(isAmong(matches));
+            if (matches.isEmpty()) {
+                ShowAllListedPredicate.resetCoursesFilter(model);
+            }
+            return new CommandResult(this, describeFuzzyMatches(matches, Course::getCourseCode), willModifyState);
+        }
+
         roster.updateFilteredCourses(predicate);
         int filteredSize = roster.getUnmodifiableFilteredCourseList().size();
 
@@ -57,6 +82,7 @@ public class FindCourseCommand extends FindCommand {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindCourseCommand // instanceof handles nulls
-                && predicate.equals(((FindCourseCommand) other).predicate));
+                && predicate.equals(((FindCourseCommand) other).predicate)
+                && isFuzzy == ((FindCourseCommand) other).isFuzzy);
     }
 }
@@ -2,6 +2,9 @@ package tfifteenfour.clipboard.logic.commands.findcommand;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
+
+import tfifteenfour.clipboard.commons.util.BkTree;
 import tfifteenfour.clipboard.logic.CurrentSelection;
 import tfifteenfour.clipboard.logic.commands.CommandResult;
 import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
@@ -9,6 +12,7 @@ import tfifteenfour.clipboard.logic.predicates.GroupNameContainsPredicate;
 import tfifteenfour.clipboard.logic.predicates.ShowAllListedPredicate;
 import tfifteenfour.clipboard.model.Model;
 import tfifteenfour.clipboard.model.course.Course;
+import tfifteenfour.clipboard.model.course.Group;
 
 /**
  * Finds a group in the selected course whose name contains any of the specified keywords.
@@ -23,7 +27,8 @@ public class FindGroupCommand extends FindCommand {
             + "GROUP_SEARCH_TERM\n"
             + "Example: " + COMMAND_WORD
             + " " + COMMAND_TYPE_WORD
-            + " " + "T15-4 ";
+            + " " + "T15-4 "
+            + "\n" + MESSAGE_FUZZY_USAGE;
 
     public static final String MESSAGE_SUCCESS = "Found %1$s results";
     private final GroupNameContainsPredicate predicate;
@@ -36,6 +41,18 @@ public class FindGroupCommand extends FindCommand {
      * @param currentSelection The current selection of the LogicManager.
      */
     public FindGroupCommand(GroupNameContainsPredicate predicate, CurrentSelection currentSelection) {
+        this(predicate, currentSelection, false);
+    }
+
+    /**
+     * Creates a FindGroupCommand to find the specified group with the given predicate.
+     * @param predicate The predicate to filter group with.
+     * @param currentSelection The current selection of the LogicManager.
+     * @param isFuzzy Whether to match names within a few typos of the keywords instead of containing them.
+     */
+    public FindGroupCommand(GroupNameContainsPredicate predicate,
+                            CurrentSelection currentSelection, boolean isFuzzy) {
+        super(isFuzzy);
         this.predicate = predicate;
         this.currentSelection = currentSelection;
     }
@@ -50,6 +67,15 @@ public class FindGroupCommand extends FindCommand {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         Course selectedCourse = currentSelection.getSelectedCourse();
+        if (isFuzzy) {
+            List<BkTree.Match<Group>> matches = selectedCourse.fuzzySearchGroups(predicate.getKeywords());
+            selectedCourse.updateFilteredGroups(isAmong(matches));
+            if (matches.isEmpty()) {
+                ShowAllListedPredicate.resetGroupsFilter(currentSelection);
+            }
+            return new CommandResult(this, describeFuzzyMatches(matches, Group::getGroupName), willModifyState);
+        }
+
         selectedCourse.updateFilteredGroups(predicate);
         int filteredSize = selectedCourse.getUnmodifiableFilteredGroupList().size();
 
@@ -70,6 +96,7 @@ public class FindGroupCommand extends FindCommand {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindGroupCommand // instanceof handles nulls
-                && predicate.equals(((FindGroupCommand) other).predicate));
+                && predicate.equals(((FindGroupCommand) other).predicate)
+                && isFuzzy == ((FindGroupCommand) other).isFuzzy);
     }
 }
@@ -2,6 +2,9 @@ package tfifteenfour.clipboard.logic.commands.findcommand;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
+
+import tfifteenfour.clipboard.commons.util.BkTree;
 import tfifteenfour.clipboard.logic.CurrentSelection;
 import tfifteenfour.clipboard.logic.commands.CommandResult;
 import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
@@ -9,6 +12,7 @@ import tfifteenfour.clipboard.logic.predicates.SessionNameContainsPredicate;
 import tfifteenfour.clipboard.logic.predicates.ShowAllListedPredicate;
 import tfifteenfour.clipboard.model.Model;
 import tfifteenfour.clipboard.model.course.Group;
+import tfifteenfour.clipboard.model.course.Session;
 
 /**
  * Finds sessions in the selected group in the model that contains any of the specified keywords.
@@ -22,7 +26,8 @@ public class FindSessionCommand extends FindCommand {
             + "SESSION_SEARCH_TERM\n"
             + "Example: " + COMMAND_WORD
             + " " + COMMAND_TYPE_WORD
-            + " " + "SESSON1 ";
+            + " " + "SESSON1 "
+            + "\n" + MESSAGE_FUZZY_USAGE;
 
     public static final String MESSAGE_SUCCESS = "Found %1$s results";
     private final SessionNameContainsPredicate predicate;
@@ -34,6 +39,18 @@ public class FindSessionCommand extends FindCommand {
      * @param currentSelection The current selection of the LogicManager.
      */
     public FindSessionCommand(SessionNameContainsPredicate predicate, CurrentSelection currentSelection) {
+        this(predicate, currentSelection, false);
+    }
+
+    /**
+     * Creates a FindSessionCommand to find the specified sessions with the given predicate.
+     * @param predicate The predicate to filter sessions with.
+     * @param currentSelection The current selection of the LogicManager.
+     * @param isFuzzy Whether to match names within a few typos of the keywords instead of containing them.
+     */
+    public FindSessionCommand(SessionNameContainsPredicate predicate,
+                              CurrentSelection currentSelection, boolean isFuzzy) {
+        super(isFuzzy);
         this.predicate = predicate;
         this.currentSelection = currentSelection;
     }
@@ -47,6 +64,15 @@ public class FindSessionCommand extends FindCommand {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         Group selectedGroup = currentSelection.getSelectedGroup();
+        if (isFuzzy) {
+            List<BkTree.Match<Session>> matches = selectedGroup.fuzzySearchSessions(predicate.getKeywords());
+            selectedGroup.updateFilteredSessions(isAmong(matches));
+            if (matches.isEmpty()) {
+                ShowAllListedPredicate.resetSessionsFilter(currentSelection);
+            }
+            return new CommandResult(this, describeFuzzyMatches(matches, Session::getSessionName), willModifyState);
+        }
+
         selectedGroup.updateFilteredSessions(predicate);
         int filteredSize = selectedGroup.getUnmodifiableFilteredSessionList().size();
 
@@ -61,6 +87,7 @@ public class FindSessionCommand extends FindCommand {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindSessionCommand // instanceof handles nulls
-                && predicate.equals(((FindSessionCommand) other).predicate));
+                && predicate.equals(((FindSessionCommand) other).predicate)
+                && isFuzzy == ((FindSessionCommand) other).isFuzzy);
     }
 }
@@ -2,6 +2,10 @@ package tfifteenfour.clipboard.logic.commands.findcommand;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
+import java.util.Set;
+
+import tfifteenfour.clipboard.commons.util.BkTree;
 import tfifteenfour.clipboard.logic.CurrentSelection;
 import tfifteenfour.clipboard.logic.commands.CommandResult;
 import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
@@ -9,6 +13,7 @@ import tfifteenfour.clipboard.logic.predicates.ShowAllListedPredicate;
 import tfifteenfour.clipboard.logic.predicates.StudentParticularsContainsPredicate;
 import tfifteenfour.clipboard.model.Model;
 import tfifteenfour.clipboard.model.course.Group;
+import tfifteenfour.clipboard.model.student.Student;
 
 /**
  * Finds a student in a group.
@@ -18,7 +23,7 @@ public class FindStudentCommand extends FindCommand {
     public static final String COMMAND_TYPE_WORD = "student";
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + " " + COMMAND_TYPE_WORD
-            + ": Finds a student by their name or student ID. "
+            + ": Finds a student by their name, student ID, email, phone or remark. "
             + "Parameters: "
             + "NAME_SEARCH_TERM\n"
             + "Example: " + COMMAND_WORD
@@ -28,7 +33,8 @@ public class FindStudentCommand extends FindCommand {
             + "SID_SEARCH_TERM\n"
             + "Example: " + COMMAND_WORD
             + " " + COMMAND_TYPE_WORD
-            + " " + "A1234567X";
+            + " " + "A1234567X"
+            + "\n" + MESSAGE_FUZZY_USAGE;
 
     public static final String MESSAGE_SUCCESS = "Found %1$s results";
     private final StudentParticularsContainsPredicate predicate;
@@ -42,6 +48,19 @@ public class FindStudentCommand extends FindCommand {
      */
     public FindStudentCommand(StudentParticularsContainsPredicate predicate,
                                 CurrentSelection currentSelection) {
+        this(predicate, currentSelection, false);
+    }
+
+    /**
+     * Creates a FindStudentCommand that optionally searches by edit distance instead of by substring.
+     *
+     * @param predicate The StudentParticularsContainsPredicate to use for finding the student.
+     * @param currentSelection The CurrentSelection object to get the selected group from.
+     * @param isFuzzy Whether to match names within a few typos of the keywords instead of containing them.
+     */
+    public FindStudentCommand(StudentParticularsContainsPredicate predicate,
+                                CurrentSelection currentSelection, boolean isFuzzy) {
+        super(isFuzzy);
         this.predicate = predicate;
         this.currentSelection = currentSelection;
     }
@@ -57,7 +76,18 @@ public class FindStudentCommand extends FindCommand {
         requireNonNull(model);
         Group selectedGroup = currentSelection.getSelectedGroup();
 
-        selectedGroup.updateFilteredStudents(predicate);
+        if (isFuzzy) {
+            List<BkTree.Match<Student>> matches = selectedGroup.fuzzySearchStudents(predicate.getKeywords());
+            selectedGroup.updateFilteredStudents(isAmong(matches));
+            if (matches.isEmpty()) {
+                ShowAllListedPredicate.resetStudentsFilter(currentSelection);
+            }
+            return new CommandResult(this, describeFuzzyMatches(matches,
+                    student -> student.getName() + " " + student.getStudentId()), willModifyState);
+        }
+
+        Set<Student> matchingStudents = selectedGroup.searchStudents(predicate.getKeywords());
+        selectedGroup.updateFilteredStudents(matchingStudents::contains);
         int filteredSize = selectedGroup.getUnmodifiableFilteredStudentList().size();
 
         if (filteredSize == 0) {
@@ -71,7 +101,8 @@ public class FindStudentCommand extends FindCommand {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindStudentCommand // instanceof handles nulls
-                && predicate.equals(((FindStudentCommand) other).predicate));
+                && predicate.equals(((FindStudentCommand) other).predicate)
+                && isFuzzy == ((FindStudentCommand) other).isFuzzy);
     }
 }
 
@@ -2,6 +2,9 @@ package tfifteenfour.clipboard.logic.commands.findcommand;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
+
+import tfifteenfour.clipboard.commons.util.BkTree;
 import tfifteenfour.clipboard.logic.CurrentSelection;
 import tfifteenfour.clipboard.logic.commands.CommandResult;
 import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
@@ -9,6 +12,7 @@ import tfifteenfour.clipboard.logic.predicates.ShowAllListedPredicate;
 import tfifteenfour.clipboard.logic.predicates.TaskNameContainsPredicate;
 import tfifteenfour.clipboard.model.Model;
 import tfifteenfour.clipboard.model.course.Group;
+import tfifteenfour.clipboard.model.task.Task;
 
 /**
  * Finds a task in the selected group whose name contains any of the specified keywords.
@@ -22,7 +26,8 @@ public class FindTaskCommand extends FindCommand {
             + "TASK_SEARCH_TERM\n"
             + "Example: " + COMMAND_WORD
             + " " + COMMAND_TYPE_WORD
-            + " " + "Assignment1 ";
+            + " " + "Assignment1 "
+            + "\n" + MESSAGE_FUZZY_USAGE;
 
     public static final String MESSAGE_SUCCESS = "Found %1$s results";
     private final TaskNameContainsPredicate predicate;
@@ -34,6 +39,18 @@ public class FindTaskCommand extends FindCommand {
      * @param currentSelection The current selection of the LogicManager.
      */
     public FindTaskCommand(TaskNameContainsPredicate predicate, CurrentSelection currentSelection) {
+        this(predicate, currentSelection, false);
+    }
+
+    /**
+     * Creates a FindTaskCommand to find the specified sessions with the given predicate.
+     * @param predicate The predicate to filter tasks with.
+     * @param currentSelection The current selection of the LogicManager.
+     * @param isFuzzy Whether to match names within a few typos of the keywords instead of containing them.
+     */
+    public FindTaskCommand(TaskNameContainsPredicate predicate,
+                           CurrentSelection currentSelection, boolean isFuzzy) {
+        super(isFuzzy);
         this.predicate = predicate;
         this.currentSelection = currentSelection;
     }
@@ -47,6 +64,15 @@ public class FindTaskCommand extends FindCommand {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         Group selectedGroup = currentSelection.getSelectedGroup();
+        if (isFuzzy) {
+            List<BkTree.Match<Task>> matches = selectedGroup.fuzzySearchTasks(predicate.getKeywords());
+            selectedGroup.updateFilteredTasks(isAmong(matches));
+            if (matches.isEmpty()) {
+                ShowAllListedPredicate.resetTasksFilter(currentSelection);
+            }
+            return new CommandResult(this, describeFuzzyMatches(matches, Task::getTaskName), willModifyState);
+        }
+
         selectedGroup.updateFilteredTasks(predicate);
         int filteredSize = selectedGroup.getUnmodifiableFilteredTaskList().size();
 
@@ -61,6 +87,7 @@ public class FindTaskCommand extends FindCommand {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindTaskCommand // instanceof handles nulls
-                && predicate.equals(((FindTaskCommand) other).predicate));
+                && predicate.equals(((FindTaskCommand) other).predicate)
+                && isFuzzy == ((FindTaskCommand) other).isFuzzy);
     }
 }
@@ -0,0 +1,83 @@
+package tfifteenfour.clipboard.logic.commands.sortcommand;
+
+import java.text.Collator;
+import java.util.List;
+
+import tfifteenfour.clipboard.model.course.Group;
+import tfifteenfour.clipboard.model.course.Session;
+import tfifteenfour.clipboard.model.student.Student;
+import tfifteenfour.clipboard.model.task.Task;
+
+/**
+ * Represents a category that students can be sorted by, and how to compute a student's sort key for it.
+ */
+public enum SortCategory {
+    NAME("name") {
+        @Override
+        public Comparable<?> getSortKey(Student student, Group group) {
+            return NAME_COLLATOR.getCollationKey(student.getName().fullName);
+        }
+    },
+    STUDENT_ID("id") {
+        @Override
+        public Comparable<?> getSortKey(Student student, Group group) {
+            return student.getStudentId().value;
+        }
+    },
+    ATTENDANCE("attendance") {
+        @Override
+        public Comparable<?> getSortKey(Student student, Group group) {
+            List<Session> sessions = group.getUnmodifiableSessionList();
+            if (sessions.isEmpty()) {
+                return 0.0;
+            }
+
+            int attendedSessions = 0;
+            for (Session session : sessions) {
+                if (session.getAttendance(student).isAttended()) {
+                    attendedSessions++;
+                }
+            }
+            return (double) attendedSessions / sessions.size();
+        }
+    },
+    GRADE("grade") {
+        @Override
+        public Comparable<?> getSortKey(Student student, Group group) {
+            List<Task> tasks = group.getUnmodifiableTaskList();
+            if (tasks.isEmpty()) {
+                return 0.0;
+            }
+
+            int totalGrade = 0;
+            for (Task task : tasks) {
+                totalGrade += task.getGrade(student);
+            }
+            return (double) totalGrade / tasks.size();
+        }
+    };
+
+    /** Orders names alphabetically, ignoring case, according to the default locale. */
+    private static final Collator NAME_COLLATOR = Collator.getInstance();
+
+    static {
+        NAME_COLLATOR.setStrength(Collator.SECONDARY);
+    }
+
+    private final String category;
+
+    SortCategory(String category) {
+        this.category = category;
+    }
+
+    public String getCategory() {
+        return this.category;
+    }
+
+    /**
+     * Returns the key of {@code student} in {@code group} for this category.
+     * Keys of the same category are mutually comparable, and are meant to be computed once per student
+     * rather than on every comparison.
+     */
+    public abstract Comparable<?> getSortKey(Student student, Group group);
+}
@@ -1,29 +1,37 @@
 package tfifteenfour.clipboard.logic.commands.sortcommand;
 
 import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import tfifteenfour.clipboard.logic.commands.Command;
 import tfifteenfour.clipboard.logic.commands.CommandResult;
+import tfifteenfour.clipboard.logic.commands.sortcommand.studentcomparators.MultiKeyStudentComparator;
 import tfifteenfour.clipboard.model.Model;
+import tfifteenfour.clipboard.model.course.Group;
 import tfifteenfour.clipboard.model.student.Student;
 
 /**
- * Sorts all students in the student list by the specified category.
+ * Sorts the displayed students of the selected group by the specified categories.
+ * Only the displayed order changes; the order in which the students were added is kept.
  */
 public class SortCommand extends Command {
     public static final String COMMAND_WORD = "sort";
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts all students by "
-            + "the specified category (case-insensitive).\n"
-            + "Parameters: CATEGORY\n"
-            + "Possible categories: name, id\n"
-            + "Example: " + COMMAND_WORD + " id";
+            + "the specified categories (case-insensitive). "
+            + "Later categories break ties between students that are equal in earlier ones.\n"
+            + "Parameters: CATEGORY [MORE_CATEGORIES]...\n"
+            + "Possible categories: name, id, attendance (lowest rate first), grade (lowest average first)\n"
+            + "Example: " + COMMAND_WORD + " id\n"
+            + "Example: " + COMMAND_WORD + " attendance name";
     public static final String MESSAGE_SUCCESS = "Sorted by: %s";
 
-    private Comparator<Student> categoryComparator;
-    private String categoryName;
+    private final Comparator<Student> categoryComparator;
+    private final List<SortCategory> categories;
+    private final String categoryName;
 
     /**
-     * Creates a FindCommand to search the list for names containing the specified string.
+     * Creates a SortCommand to sort the students with the given comparator.
      *
      * @param categoryComparator the comparator for the specified category.
      * @param categoryName the name of the specified category.
@@ -31,12 +39,29 @@ public class SortCommand extends Command {
     public SortCommand(Comparator<Student> categoryComparator, String categoryName) {
         super(true);
         this.categoryComparator = categoryComparator;
+        this.categories = null;
         this.categoryName = categoryName;
     }
 
+    /**
+     * Creates a SortCommand to sort the students by each of the given categories in turn.
+     *
+     * @param categories the categories to sort by, most significant first.
+     */
+    public SortCommand(List<SortCategory> categories) {
+        super(true);
+        this.categoryComparator = null;
+        this.categories = List.copyOf(categories);
+        this.categoryName = categories.stream().map(SortCategory::getCategory).collect(Collectors.joining(", "));
+    }
+
     @Override
     public CommandResult execute(Model model) {
-        model.getCurrentSelection().getSelectedGroup().getModifiableStudentList().sort(categoryComparator);
+        Group group = model.getCurrentSelection().getSelectedGroup();
+        Comparator<Student> comparator = categoryComparator != null
+                ? categoryComparator
+                : new MultiKeyStudentComparator(categories, group);
+        group.updateSortedStudents(comparator);
         return new CommandResult(this, String.format(MESSAGE_SUCCESS, categoryName), willModifyState);
     }
 
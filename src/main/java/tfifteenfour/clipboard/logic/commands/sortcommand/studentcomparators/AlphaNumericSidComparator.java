@@ -10,6 +10,6 @@ import tfifteenfour.clipboard.model.student.Student;
 public class AlphaNumericSidComparator implements Comparator<Student> {
     @Override
     public int compare(Student s1, Student s2) {
-        return s1.getStudentId().toString().compareTo(s2.getStudentId().toString());
+        return s1.getStudentId().value.compareTo(s2.getStudentId().value);
     }
 }
@@ -11,6 +11,6 @@ public class AlphabeticalNameComparator implements Comparator<Student> {
 
     @Override
     public int compare(Student s1, Student s2) {
-        return s1.getName().toString().compareTo(s2.getName().toString());
+        return s1.getName().fullName.compareTo(s2.getName().fullName);
     }
 }
@@ -0,0 +1,66 @@
+package tfifteenfour.clipboard.logic.commands.sortcommand.studentcomparators;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import tfifteenfour.clipboard.logic.commands.sortcommand.SortCategory;
+import tfifteenfour.clipboard.model.course.Group;
+import tfifteenfour.clipboard.model.course.GroupStudentComparator;
+import tfifteenfour.clipboard.model.student.Student;
+
+/**
+ * Comparator for sorting students by several categories in turn, where later categories break ties of earlier ones.
+ * The sort keys of a student are computed once and cached, so each comparison only compares precomputed keys.
+ * Keys reflect the group's attendance and grades at the time they are computed, so
+ * {@link Group#refreshSortedStudents()} replaces the comparator with a new one from {@link #forGroup(Group)} after
+ * those change.
+ */
+public class MultiKeyStudentComparator implements GroupStudentComparator {
+
+    private final List<SortCategory> categories;
+    private final Group group;
+    private final Map<Student, List<Comparable<Object>>> sortKeys = new WeakHashMap<>();
+
+    /**
+     * Creates a comparator that sorts the students of {@code group} by {@code categories} in order.
+     */
+    public MultiKeyStudentComparator(List<SortCategory> categories, Group group) {
+        requireNonNull(categories);
+        requireNonNull(group);
+        this.categories = new ArrayList<>(categories);
+        this.group = group;
+    }
+
+    @Override
+    public MultiKeyStudentComparator forGroup(Group group) {
+        return new MultiKeyStudentComparator(categories, group);
+    }
+
+    @Override
+    public int compare(Student s1, Student s2) {
+        List<Comparable<Object>> keys1 = getSortKeys(s1);
+        List<Comparable<Object>> keys2 = getSortKeys(s2);
+        for (int i = 0; i < keys1.size(); i++) {
+            int result = keys1.get(i).compareTo(keys2.get(i));
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Comparable<Object>> getSortKeys(Student student) {
+        return sortKeys.computeIfAbsent(student, unused -> {
+            List<Comparable<Object>> keys = new ArrayList<>(categories.size());
+            for (SortCategory category : categories) {
+                keys.add((Comparable<Object>) category.getSortKey(student, group));
+            }
+            return keys;
+        });
+    }
+}
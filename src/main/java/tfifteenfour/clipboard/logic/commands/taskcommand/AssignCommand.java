@@ -2,16 +2,18 @@ package tfifteenfour.clipboard.logic.commands.taskcommand;
 
 import static java.util.Objects.requireNonNull;
 
-import javafx.collections.ObservableList;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import tfifteenfour.clipboard.commons.core.Messages;
 import tfifteenfour.clipboard.commons.core.index.Index;
 import tfifteenfour.clipboard.logic.CurrentSelection;
 import tfifteenfour.clipboard.logic.PageType;
 import tfifteenfour.clipboard.logic.commands.Command;
 import tfifteenfour.clipboard.logic.commands.CommandResult;
+import tfifteenfour.clipboard.logic.commands.StudentSelector;
 import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
 import tfifteenfour.clipboard.model.Model;
-import tfifteenfour.clipboard.model.student.Student;
 import tfifteenfour.clipboard.model.student.StudentWithGrades;
 import tfifteenfour.clipboard.model.task.Task;
 
@@ -23,22 +25,30 @@ public class AssignCommand extends Command {
     public static final String COMMAND_WORD = "assign";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Assigns a mark to the selected student. \n"
-            + "Parameters: INDEX (must be a positive integer) "
+            + ": Assigns a mark to the selected students. \n"
+            + "Parameters: STUDENTS (indexes, ranges such as 1-40, student IDs, all, or shown) "
             + "+ MARK_TO_ASSIGN (must be a positive integer between 0 and 100)\n"
-            + "Example: " + COMMAND_WORD + " 1" + " 50";
+            + "Example: " + COMMAND_WORD + " 1" + " 50 or " + COMMAND_WORD + " 1-5,8 70";
 
     public static final String MESSAGE_SUCCESS = "Assigned student %2$s with grade for task %1$s";
 
-    private final Index targetIndex;
+    private final StudentSelector selector;
     private final int grade;
 
     /**
      * Creates a AssignCommand to assign a mark to the student for the current task.
      */
     public AssignCommand(Index targetIndex, int grade) {
+        this(StudentSelector.of(targetIndex), grade);
+    }
+
+    /**
+     * Creates a AssignCommand to assign the same mark to all students chosen by {@code selector} at once.
+     */
+    public AssignCommand(StudentSelector selector, int grade) {
         super(true);
-        this.targetIndex = targetIndex;
+        requireNonNull(selector);
+        this.selector = selector;
         this.grade = grade;
     }
 
@@ -52,16 +62,14 @@ public class AssignCommand extends Command {
         }
 
         Task task = currentSelection.getSelectedTask();
-        ObservableList<StudentWithGrades> studentList = task.getUnmodifiableStudentList();
-        StringBuilder studentAssigned = new StringBuilder();
-
-        if (targetIndex.getZeroBased() >= studentList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
-        } else {
-            Student studentToAssign = studentList.get(targetIndex.getZeroBased());
-            task.assignGrade(studentToAssign, grade);
-            studentAssigned.append(studentToAssign.getName());
-        }
+        List<StudentWithGrades> studentList = task.getUnmodifiableStudentList();
+        List<StudentWithGrades> studentsToAssign =
+                selector.select(studentList, studentList, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        task.assignGrades(studentsToAssign, grade);
+        currentSelection.getSelectedGroup().refreshSortedStudents();
+        String studentAssigned = studentsToAssign.stream()
+                .map(student -> student.getName().toString())
+                .collect(Collectors.joining(", "));
 
         return new CommandResult(this, String.format(MESSAGE_SUCCESS, task, studentAssigned), willModifyState);
     }
@@ -78,6 +86,6 @@ public class AssignCommand extends Command {
 
         AssignCommand e = (AssignCommand) other;
 
-        return targetIndex == e.targetIndex;
+        return selector.equals(e.selector) && grade == e.grade;
     }
 }
@@ -2,7 +2,7 @@ package tfifteenfour.clipboard.logic.parser;
 
 import static tfifteenfour.clipboard.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
-import tfifteenfour.clipboard.commons.core.index.Index;
+import tfifteenfour.clipboard.logic.commands.StudentSelector;
 import tfifteenfour.clipboard.logic.commands.taskcommand.AssignCommand;
 import tfifteenfour.clipboard.logic.parser.exceptions.ParseException;
 
@@ -17,23 +17,22 @@ public class AssignCommandParser implements Parser<AssignCommand> {
      */
     public AssignCommand parse(String args) throws ParseException {
         try {
-            String[] tokens = ArgumentTokenizer.tokenizeString(args);
-            if (tokens.length != 3) {
+            String trimmedArgs = args.trim();
+            int gradeStart = trimmedArgs.lastIndexOf(' ');
+            if (gradeStart < 0) {
                 throw new ParseException("Invalid number of arguments");
             }
 
-            args = args.trim();
-
-            Index index = ParserUtil.parseIndex(args.split(" ", 2)[0]);
-            int grade = Integer.parseInt(args.split(" ", 2)[1]);
+            StudentSelector selector = ParserUtil.parseStudentSelector(trimmedArgs.substring(0, gradeStart));
+            int grade = Integer.parseInt(trimmedArgs.substring(gradeStart + 1));
 
             if (grade < 0 || grade > 100) {
                 throw new ParseException(
                         String.format(MESSAGE_INVALID_COMMAND_FORMAT, AssignCommand.MESSAGE_USAGE));
             }
 
-            return new AssignCommand(index, grade);
-        } catch (ParseException pe) {
+            return new AssignCommand(selector, grade);
+        } catch (ParseException | NumberFormatException pe) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, AssignCommand.MESSAGE_USAGE), pe);
         }
@@ -2,7 +2,10 @@ package tfifteenfour.clipboard.logic.parser;
 
 import static tfifteenfour.clipboard.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.util.Arrays;
+
 import tfifteenfour.clipboard.commons.core.index.Index;
+import tfifteenfour.clipboard.logic.commands.StudentSelector;
 import tfifteenfour.clipboard.logic.commands.deletecommand.DeleteCommand;
 import tfifteenfour.clipboard.logic.commands.deletecommand.DeleteCourseCommand;
 import tfifteenfour.clipboard.logic.commands.deletecommand.DeleteGroupCommand;
@@ -18,8 +21,10 @@ public class DeleteCommandParser implements Parser<DeleteCommand> {
 
     private static final String MESSAGE_USAGE = "delete: Deletes the item at index specified in parameter. "
             + "Parameters: ITEM_TYPE INDEX\n"
-            + "Note: INDEX must be a positive integer.\n"
-            + "Examples: delete course 1, delete session 3";
+            + "Note: INDEX must be a positive integer. "
+            + "Several students can be deleted at once with comma-separated indexes, ranges such as 1-40, "
+            + "student IDs, all, or shown.\n"
+            + "Examples: delete course 1, delete session 3, delete student 1,4,5, delete student 6-10";
     /**
      * Parses the given {@code String} of arguments in the context of the DeleteCommand
      * and returns an DeleteCommand object for execution.
@@ -37,6 +42,15 @@ public class DeleteCommandParser implements Parser<DeleteCommand> {
                     + "delete course, delete group, delete session, delete task, delete student");
         }
 
+        if (deleteCommandType == CommandTargetType.STUDENT) {
+            try {
+                return new DeleteStudentCommand(parseDeleteCommandSelector(args));
+            } catch (ParseException pe) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE), pe);
+            }
+        }
+
         Index index;
         try {
             index = parseDeleteCommandIndex(args);
@@ -54,8 +68,6 @@ public class DeleteCommandParser implements Parser<DeleteCommand> {
             return new DeleteSessionCommand(index);
         case TASK:
             return new DeleteTaskCommand(index);
-        case STUDENT:
-            return new DeleteStudentCommand(index);
         default:
             throw new ParseException("Invalid argument for delete command");
         }
@@ -68,4 +80,15 @@ public class DeleteCommandParser implements Parser<DeleteCommand> {
         }
         return ParserUtil.parseIndex(tokens[2]);
     }
+
+    /**
+     * Parses the students following the delete type, ignoring spaces around the commas.
+     */
+    private StudentSelector parseDeleteCommandSelector(String args) throws ParseException {
+        String[] tokens = ArgumentTokenizer.tokenizeString(args);
+        if (tokens.length < 3) {
+            throw new ParseException("Invalid number of arguments");
+        }
+        return ParserUtil.parseStudentSelector(String.join(" ", Arrays.copyOfRange(tokens, 2, tokens.length)));
+    }
 }
@@ -2,6 +2,8 @@ package tfifteenfour.clipboard.logic.parser;
 
 import static tfifteenfour.clipboard.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.util.Arrays;
+
 import tfifteenfour.clipboard.logic.CurrentSelection;
 import tfifteenfour.clipboard.logic.PageType;
 import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
@@ -54,33 +56,42 @@ public class FindCommandParser implements Parser<FindCommand> {
         }
 
         String[] keywords = parseFindKeywords(trimmedArgs, findCommandType);
+        boolean isFuzzy = keywords[0].equals(FindCommand.FUZZY_FLAG);
+        if (isFuzzy) {
+            keywords = Arrays.copyOfRange(keywords, 1, keywords.length);
+            if (keywords.length == 0) {
+                throw new ParseException("No search keywords entered after " + FindCommand.FUZZY_FLAG);
+            }
+        }
 
         switch (findCommandType) {
         case MODULE:
             if (currentSelection.getCurrentPage() != PageType.COURSE_PAGE) {
                 throw new CommandException(String.format(WRONG_PAGE_MESSAGE, "course"));
             }
-            return new FindCourseCommand(new CourseNameContainsPredicate(keywords));
+            return new FindCourseCommand(new CourseNameContainsPredicate(keywords), isFuzzy);
         case GROUP:
             if (currentSelection.getCurrentPage() != PageType.GROUP_PAGE) {
                 throw new CommandException(String.format(WRONG_PAGE_MESSAGE, "group"));
             }
-            return new FindGroupCommand(new GroupNameContainsPredicate(keywords), currentSelection);
+            return new FindGroupCommand(new GroupNameContainsPredicate(keywords), currentSelection, isFuzzy);
         case SESSION:
             if (currentSelection.getCurrentPage() != PageType.SESSION_PAGE) {
                 throw new CommandException(String.format(WRONG_PAGE_MESSAGE, "session"));
             }
-            return new FindSessionCommand(new SessionNameContainsPredicate(keywords), currentSelection);
+            return new FindSessionCommand(new SessionNameContainsPredicate(keywords), currentSelection,
+                    isFuzzy);
         case STUDENT:
             if (currentSelection.getCurrentPage() != PageType.STUDENT_PAGE) {
                 throw new CommandException(String.format(WRONG_PAGE_MESSAGE, "student"));
             }
-            return new FindStudentCommand(new StudentParticularsContainsPredicate(keywords), currentSelection);
+            return new FindStudentCommand(new StudentParticularsContainsPredicate(keywords), currentSelection,
+                    isFuzzy);
         case TASK:
             if (currentSelection.getCurrentPage() != PageType.TASK_PAGE) {
                 throw new CommandException(String.format(WRONG_PAGE_MESSAGE, "task"));
             }
-            return new FindTaskCommand(new TaskNameContainsPredicate(keywords), currentSelection);
+            return new FindTaskCommand(new TaskNameContainsPredicate(keywords), currentSelection, isFuzzy);
         default:
             throw new ParseException("Invalid type for find command");
         }
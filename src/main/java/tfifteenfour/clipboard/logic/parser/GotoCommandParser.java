@@ -0,0 +1,30 @@
+package tfifteenfour.clipboard.logic.parser;
+
+import static tfifteenfour.clipboard.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import tfifteenfour.clipboard.commons.core.index.Index;
+import tfifteenfour.clipboard.logic.commands.GotoCommand;
+import tfifteenfour.clipboard.logic.parser.exceptions.ParseException;
+import tfifteenfour.clipboard.model.student.StudentId;
+
+/**
+ * Parses input arguments and creates a new GotoCommand object
+ */
+public class GotoCommandParser implements Parser<GotoCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the GotoCommand
+     * and returns a GotoCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public GotoCommand parse(String args) throws ParseException {
+        String[] tokens = ArgumentTokenizer.tokenizeString(args.trim());
+        if (tokens.length == 0 || tokens.length > 2 || tokens[0].isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, GotoCommand.MESSAGE_USAGE));
+        }
+
+        StudentId studentId = ParserUtil.parseStudentId(tokens[0]);
+        Index enrollmentIndex = tokens.length == 2 ? ParserUtil.parseIndex(tokens[1]) : Index.fromOneBased(1);
+        return new GotoCommand(studentId, enrollmentIndex);
+    }
+}
@@ -0,0 +1,25 @@
+package tfifteenfour.clipboard.logic.parser;
+
+import static tfifteenfour.clipboard.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import tfifteenfour.clipboard.logic.commands.LocateCommand;
+import tfifteenfour.clipboard.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new LocateCommand object
+ */
+public class LocateCommandParser implements Parser<LocateCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the LocateCommand
+     * and returns a LocateCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public LocateCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, LocateCommand.MESSAGE_USAGE));
+        }
+        return new LocateCommand(ArgumentTokenizer.tokenizeString(trimmedArgs));
+    }
+}
@@ -1,11 +1,14 @@
 package tfifteenfour.clipboard.logic.parser;
 
-import tfifteenfour.clipboard.commons.core.index.Index;
+import java.util.Optional;
+
 import tfifteenfour.clipboard.logic.commands.attendancecommand.MarkPresentCommand;
 import tfifteenfour.clipboard.logic.parser.exceptions.ParseException;
+import tfifteenfour.clipboard.model.course.AttendanceStatus;
 
 /**
- * Parses input arguments and mark attendance of a student as present.
+ * Parses input arguments and mark attendance of a student as present, or with the attendance status given before
+ * the students.
  */
 public class MarkCommandParser implements Parser<MarkPresentCommand> {
     /**
@@ -17,8 +20,14 @@ public class MarkCommandParser implements Parser<MarkPresentCommand> {
      */
     public MarkPresentCommand parse(String args) throws ParseException {
         try {
-            Index[] index = ParserUtil.parseMultipleIndex(args);
-            return new MarkPresentCommand(index);
+            String[] statusAndIndexes = args.trim().split("\\s+", 2);
+            Optional<AttendanceStatus> status = AttendanceStatus.fromKeyword(statusAndIndexes[0]);
+            if (status.isEmpty()) {
+                return new MarkPresentCommand(AttendanceStatus.PRESENT, ParserUtil.parseStudentSelector(args));
+            }
+
+            String students = statusAndIndexes.length > 1 ? statusAndIndexes[1] : "";
+            return new MarkPresentCommand(status.get(), ParserUtil.parseStudentSelector(students));
         } catch (ParseException pe) {
             throw new ParseException(
                     pe.getMessage() + MarkPresentCommand.MESSAGE_USAGE);
@@ -2,8 +2,13 @@ package tfifteenfour.clipboard.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import tfifteenfour.clipboard.commons.core.index.Index;
+import tfifteenfour.clipboard.commons.util.StringInterner;
 import tfifteenfour.clipboard.commons.util.StringUtil;
+import tfifteenfour.clipboard.logic.commands.StudentSelector;
 import tfifteenfour.clipboard.logic.parser.exceptions.ParseException;
 import tfifteenfour.clipboard.model.course.Course;
 import tfifteenfour.clipboard.model.course.Group;
@@ -11,6 +16,7 @@ import tfifteenfour.clipboard.model.course.Session;
 import tfifteenfour.clipboard.model.student.Email;
 import tfifteenfour.clipboard.model.student.Name;
 import tfifteenfour.clipboard.model.student.Phone;
+import tfifteenfour.clipboard.model.student.Remark;
 import tfifteenfour.clipboard.model.student.StudentId;
 import tfifteenfour.clipboard.model.task.Task;
 
@@ -21,6 +27,10 @@ public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.\n";
     public static final String MESSAGE_INDEX_NOT_PROVIDED = "Index is not provided!\n";
+    public static final String MESSAGE_INVALID_RANGE = "Range %1$s does not start with a lower index than it ends.\n";
+    public static final String MESSAGE_INVALID_SELECTOR = "%1$s is not an index, a range of indexes or a student ID.\n";
+
+    private static final char RANGE_SEPARATOR = '-';
 
 
     /**
@@ -67,6 +77,53 @@ public class ParserUtil {
         return trimmedIndexes;
     }
 
+    /**
+     * Parses {@code selection} into a {@code StudentSelector} and returns it.
+     * The selection is either {@code all}, {@code shown}, or a comma-separated list of indexes such as {@code 3},
+     * ranges of indexes such as {@code 1-40}, and student IDs such as {@code A0123456X}. A student ID must contain a
+     * letter, so that it is never mistaken for an index.
+     * @throws ParseException if the selection is empty or any part of it is invalid.
+     */
+    public static StudentSelector parseStudentSelector(String selection) throws ParseException {
+        requireNonNull(selection);
+        String trimmedSelection = selection.trim();
+        if (trimmedSelection.equalsIgnoreCase(StudentSelector.KEYWORD_ALL)) {
+            return StudentSelector.all();
+        } else if (trimmedSelection.equalsIgnoreCase(StudentSelector.KEYWORD_SHOWN)) {
+            return StudentSelector.shown();
+        } else if (trimmedSelection.isEmpty()) {
+            throw new ParseException(MESSAGE_INDEX_NOT_PROVIDED);
+        }
+
+        List<Index> rangeStarts = new ArrayList<>();
+        List<Index> rangeEnds = new ArrayList<>();
+        List<StudentId> studentIds = new ArrayList<>();
+        for (String part : trimmedSelection.split(",")) {
+            String trimmedPart = part.trim();
+            int separator = trimmedPart.indexOf(RANGE_SEPARATOR);
+            if (StringUtil.isNonZeroUnsignedInteger(trimmedPart)) {
+                Index index = Index.fromOneBased(Integer.parseInt(trimmedPart));
+                rangeStarts.add(index);
+                rangeEnds.add(index);
+            } else if (separator > 0) {
+                Index start = parseIndex(trimmedPart.substring(0, separator));
+                Index end = parseIndex(trimmedPart.substring(separator + 1));
+                if (start.getZeroBased() > end.getZeroBased()) {
+                    throw new ParseException(String.format(MESSAGE_INVALID_RANGE, trimmedPart));
+                }
+                rangeStarts.add(start);
+                rangeEnds.add(end);
+            } else if (StudentId.isValidStudentId(trimmedPart) && trimmedPart.chars().anyMatch(Character::isLetter)) {
+                studentIds.add(parseStudentId(trimmedPart));
+            } else if (trimmedPart.isEmpty()) {
+                throw new ParseException(MESSAGE_INDEX_NOT_PROVIDED);
+            } else {
+                throw new ParseException(String.format(MESSAGE_INVALID_SELECTOR, trimmedPart));
+            }
+        }
+        return StudentSelector.of(rangeStarts.toArray(new Index[0]), rangeEnds.toArray(new Index[0]), studentIds);
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -79,7 +136,7 @@ public class ParserUtil {
         if (!Name.isValidName(trimmedName)) {
             throw new ParseException(Name.MESSAGE_CONSTRAINTS);
         }
-        return new Name(trimmedName);
+        return new Name(StringInterner.getInstance().intern(trimmedName));
     }
 
     /**
@@ -94,7 +151,7 @@ public class ParserUtil {
         if (!Phone.isValidPhone(trimmedPhone)) {
             throw new ParseException(Phone.MESSAGE_CONSTRAINTS);
         }
-        return new Phone(trimmedPhone);
+        return new Phone(StringInterner.getInstance().intern(trimmedPhone));
     }
 
     /**
@@ -109,7 +166,7 @@ public class ParserUtil {
         if (!StudentId.isValidStudentId(trimmedStudentId)) {
             throw new ParseException(StudentId.MESSAGE_CONSTRAINTS);
         }
-        return new StudentId(trimmedStudentId);
+        return new StudentId(StringInterner.getInstance().intern(trimmedStudentId));
     }
 
     /**
@@ -124,7 +181,7 @@ public class ParserUtil {
         if (!Email.isValidEmail(trimmedEmail)) {
             throw new ParseException(Email.MESSAGE_CONSTRAINTS);
         }
-        return new Email(trimmedEmail);
+        return new Email(StringInterner.getInstance().intern(trimmedEmail));
     }
 
     /**
@@ -139,7 +196,7 @@ public class ParserUtil {
         if (!Course.isValidCourseCode(trimmedCourse)) {
             throw new ParseException(Course.MESSAGE_CONSTRAINTS);
         }
-        return new Course(trimmedCourse);
+        return new Course(StringInterner.getInstance().intern(trimmedCourse));
     }
 
     /**
@@ -152,7 +209,7 @@ public class ParserUtil {
         if (!Group.isValidGroupName(trimmedGroup)) {
             throw new ParseException(Group.MESSAGE_CONSTRAINTS);
         }
-        return new Group(trimmedGroup);
+        return new Group(StringInterner.getInstance().intern(trimmedGroup));
     }
 
     /**
@@ -165,7 +222,7 @@ public class ParserUtil {
         if (!Session.isValidSessionName(trimmedSession)) {
             throw new ParseException(Session.MESSAGE_CONSTRAINTS);
         }
-        return new Session(trimmedSession);
+        return new Session(StringInterner.getInstance().intern(trimmedSession));
     }
 
     /**
@@ -178,6 +235,15 @@ public class ParserUtil {
         if (!Task.isValidTaskName(trimmedTask)) {
             throw new ParseException(Task.MESSAGE_CONSTRAINTS);
         }
-        return new Task(trimmedTask);
+        return new Task(StringInterner.getInstance().intern(trimmedTask));
+    }
+
+    /**
+     * Parses a {@code String remark} into a {@code Remark}.
+     * Leading and trailing whitespaces will be trimmed.
+     */
+    public static Remark parseRemark(String remark) {
+        requireNonNull(remark);
+        return new Remark(StringInterner.getInstance().intern(remark.trim()));
     }
 }
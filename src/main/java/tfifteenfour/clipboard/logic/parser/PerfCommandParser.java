@@ -0,0 +1,31 @@
+package tfifteenfour.clipboard.logic.parser;
+
+import static tfifteenfour.clipboard.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import tfifteenfour.clipboard.logic.commands.PerfCommand;
+import tfifteenfour.clipboard.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new PerfCommand object
+ */
+public class PerfCommandParser implements Parser<PerfCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the PerfCommand
+     * and returns a PerfCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public PerfCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new PerfCommand(PerfCommand.Action.SHOW);
+        } else if (trimmedArgs.equalsIgnoreCase(PerfCommand.ALLOCATIONS_KEYWORD)) {
+            return new PerfCommand(PerfCommand.Action.ALLOCATIONS);
+        } else if (trimmedArgs.equalsIgnoreCase(PerfCommand.RESET_KEYWORD)) {
+            return new PerfCommand(PerfCommand.Action.RESET);
+        } else if (trimmedArgs.equalsIgnoreCase(PerfCommand.DUMP_KEYWORD)) {
+            return new PerfCommand(PerfCommand.Action.DUMP);
+        }
+        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, PerfCommand.MESSAGE_USAGE));
+    }
+}
@@ -0,0 +1,115 @@
+package tfifteenfour.clipboard.logic.parser;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A trie of the prefixes that a command accepts, used by {@link ArgumentTokenizer} to recognise every prefix at a
+ * position of the arguments string in one walk, instead of searching the string once per prefix.
+ * Commands always tokenize with the same set of prefixes, so the trie for each set is built once and cached.
+ */
+class PrefixTrie {
+
+    private static final Map<List<Prefix>, PrefixTrie> CACHE = new ConcurrentHashMap<>();
+
+    private final Node root = new Node();
+    /** A bit for every ASCII character that starts some prefix, so most positions are rejected with one lookup. */
+    private final long[] asciiStarts = new long[2];
+    private boolean hasNonAsciiStart;
+
+    private PrefixTrie(Prefix... prefixes) {
+        for (Prefix prefix : prefixes) {
+            if (!prefix.getPrefix().isEmpty()) {
+                insert(prefix);
+            }
+        }
+    }
+
+    /**
+     * Returns the trie of {@code prefixes}, building it on the first request for that set of prefixes.
+     */
+    static PrefixTrie of(Prefix... prefixes) {
+        PrefixTrie trie = CACHE.get(Arrays.asList(prefixes));
+        if (trie == null) {
+            trie = new PrefixTrie(prefixes);
+            CACHE.putIfAbsent(List.of(prefixes.clone()), trie);
+        }
+        return trie;
+    }
+
+    /**
+     * Returns the longest prefix in the trie that {@code argsString} has at {@code position}, or null if there is
+     * none.
+     */
+    Prefix match(String argsString, int position) {
+        if (!mayStartAt(argsString.charAt(position))) {
+            return null;
+        }
+
+        Node node = root;
+        Prefix longest = null;
+        for (int i = position; i < argsString.length(); i++) {
+            node = node.child(argsString.charAt(i));
+            if (node == null) {
+                break;
+            }
+            if (node.prefix != null) {
+                longest = node.prefix;
+            }
+        }
+        return longest;
+    }
+
+    private boolean mayStartAt(char c) {
+        return c < 128 ? (asciiStarts[c >>> 6] & (1L << c)) != 0 : hasNonAsciiStart;
+    }
+
+    private void insert(Prefix prefix) {
+        char first = prefix.getPrefix().charAt(0);
+        if (first < 128) {
+            asciiStarts[first >>> 6] |= 1L << first;
+        } else {
+            hasNonAsciiStart = true;
+        }
+
+        Node node = root;
+        for (char c : prefix.getPrefix().toCharArray()) {
+            Node child = node.child(c);
+            if (child == null) {
+                child = node.addChild(c);
+            }
+            node = child;
+        }
+        node.prefix = prefix;
+    }
+
+    /**
+     * A node of the trie. Prefixes are short and few, so each node keeps its edges in small parallel arrays
+     * that are scanned linearly.
+     */
+    private static class Node {
+        private char[] labels = new char[0];
+        private Node[] children = new Node[0];
+        private Prefix prefix;
+
+        Node child(char label) {
+            for (int i = 0; i < labels.length; i++) {
+                if (labels[i] == label) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        Node addChild(char label) {
+            labels = Arrays.copyOf(labels, labels.length + 1);
+            children = Arrays.copyOf(children, children.length + 1);
+            Node child = new Node();
+            labels[labels.length - 1] = label;
+            children[children.length - 1] = child;
+            return child;
+        }
+    }
+}
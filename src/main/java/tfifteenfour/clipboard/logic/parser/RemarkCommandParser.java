@@ -39,7 +39,7 @@ public class RemarkCommandParser implements Parser<RemarkCommand> {
             throw new CommandException("Wrong page. Navigate to student page to add a remark");
         }
 
-        remark = new Remark(parseRemarkInfo(args));
+        remark = ParserUtil.parseRemark(parseRemarkInfo(args));
         index = ParserUtil.parseIndex(args);
 
         return new RemarkCommand(index, remark);
@@ -3,17 +3,17 @@ package tfifteenfour.clipboard.logic.parser;
 import static tfifteenfour.clipboard.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static tfifteenfour.clipboard.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 import tfifteenfour.clipboard.logic.CurrentSelection;
 import tfifteenfour.clipboard.logic.commands.BackCommand;
 import tfifteenfour.clipboard.logic.commands.ClearCommand;
 import tfifteenfour.clipboard.logic.commands.Command;
 import tfifteenfour.clipboard.logic.commands.CopyCommand;
 import tfifteenfour.clipboard.logic.commands.ExitCommand;
+import tfifteenfour.clipboard.logic.commands.GotoCommand;
 import tfifteenfour.clipboard.logic.commands.HelpCommand;
 import tfifteenfour.clipboard.logic.commands.HomeCommand;
+import tfifteenfour.clipboard.logic.commands.LocateCommand;
+import tfifteenfour.clipboard.logic.commands.PerfCommand;
 import tfifteenfour.clipboard.logic.commands.RemarkCommand;
 import tfifteenfour.clipboard.logic.commands.SelectCommand;
 import tfifteenfour.clipboard.logic.commands.UndoCommand;
@@ -23,6 +23,10 @@ import tfifteenfour.clipboard.logic.commands.attendancecommand.AttendanceCommand
 import tfifteenfour.clipboard.logic.commands.attendancecommand.MarkAbsentCommand;
 import tfifteenfour.clipboard.logic.commands.attendancecommand.MarkPresentCommand;
 import tfifteenfour.clipboard.logic.commands.attendancecommand.SessionCommand;
+import tfifteenfour.clipboard.logic.commands.batchcommand.BeginCommand;
+import tfifteenfour.clipboard.logic.commands.batchcommand.CommitCommand;
+import tfifteenfour.clipboard.logic.commands.batchcommand.RollbackCommand;
+import tfifteenfour.clipboard.logic.commands.batchcommand.RunCommand;
 import tfifteenfour.clipboard.logic.commands.deletecommand.DeleteCommand;
 import tfifteenfour.clipboard.logic.commands.editcommand.EditCommand;
 import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
@@ -36,13 +40,25 @@ import tfifteenfour.clipboard.model.Model;
 
 /**
  * Parses user input.
+ * Parsers that do not depend on the current selection hold no state, so a single instance of each is shared by
+ * every call instead of being created per command.
  */
 public class RosterParser {
 
-    /**
-     * Used for initial separation of command word and args.
-     */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
+    private static final AddCommandParser ADD_COMMAND_PARSER = new AddCommandParser();
+    private static final DeleteCommandParser DELETE_COMMAND_PARSER = new DeleteCommandParser();
+    private static final UploadCommandParser UPLOAD_COMMAND_PARSER = new UploadCommandParser();
+    private static final SelectCommandParser SELECT_COMMAND_PARSER = new SelectCommandParser();
+    private static final SessionCommandParser SESSION_COMMAND_PARSER = new SessionCommandParser();
+    private static final MarkCommandParser MARK_COMMAND_PARSER = new MarkCommandParser();
+    private static final UnmarkCommandParser UNMARK_COMMAND_PARSER = new UnmarkCommandParser();
+    private static final TaskCommandParser TASK_COMMAND_PARSER = new TaskCommandParser();
+    private static final AssignCommandParser ASSIGN_COMMAND_PARSER = new AssignCommandParser();
+    private static final CopyCommandParser COPY_COMMAND_PARSER = new CopyCommandParser();
+    private static final LocateCommandParser LOCATE_COMMAND_PARSER = new LocateCommandParser();
+    private static final GotoCommandParser GOTO_COMMAND_PARSER = new GotoCommandParser();
+    private static final RunCommandParser RUN_COMMAND_PARSER = new RunCommandParser();
+    private static final PerfCommandParser PERF_COMMAND_PARSER = new PerfCommandParser();
 
     /**
      * Parses user input into command for execution.
@@ -53,26 +69,30 @@ public class RosterParser {
      */
     public static Command parseCommand(String userInput, Model model)
             throws ParseException, CommandException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        final String trimmedInput = userInput.trim();
+        if (trimmedInput.isEmpty() || hasLineBreak(trimmedInput)) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
+        int commandWordEnd = 0;
+        while (commandWordEnd < trimmedInput.length() && !Character.isWhitespace(trimmedInput.charAt(commandWordEnd))) {
+            commandWordEnd++;
+        }
+        final String commandWord = trimmedInput.substring(0, commandWordEnd);
+        final String arguments = trimmedInput.substring(commandWordEnd);
 
         CurrentSelection currentSelection = model.getCurrentSelection();
 
         switch (commandWord) {
 
         case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
+            return ADD_COMMAND_PARSER.parse(arguments);
 
         case EditCommand.COMMAND_WORD:
             return new EditCommandParser(currentSelection).parse(arguments);
 
         case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
+            return DELETE_COMMAND_PARSER.parse(arguments);
 
         case ClearCommand.COMMAND_WORD:
             return new ClearCommand();
@@ -90,7 +110,7 @@ public class RosterParser {
             return new RemarkCommandParser(currentSelection).parse(arguments);
 
         case UploadCommand.COMMAND_WORD:
-            return new UploadCommandParser().parse(arguments);
+            return UPLOAD_COMMAND_PARSER.parse(arguments);
 
         case UndoCommand.COMMAND_WORD:
             return new UndoCommand();
@@ -99,38 +119,72 @@ public class RosterParser {
             return new SortCommandParser(currentSelection).parse(arguments);
 
         case SelectCommand.COMMAND_WORD:
-            return new SelectCommandParser().parse(arguments);
+            return SELECT_COMMAND_PARSER.parse(arguments);
 
         case BackCommand.COMMAND_WORD:
             return new BackCommand(currentSelection);
 
         case SessionCommand.COMMAND_WORD:
-            return new SessionCommandParser().parse(arguments);
+            return SESSION_COMMAND_PARSER.parse(arguments);
 
         case MarkPresentCommand.COMMAND_WORD:
-            return new MarkCommandParser().parse(arguments);
+            return MARK_COMMAND_PARSER.parse(arguments);
 
         case MarkAbsentCommand.COMMAND_WORD:
-            return new UnmarkCommandParser().parse(arguments);
+            return UNMARK_COMMAND_PARSER.parse(arguments);
 
         case AttendanceCommand.COMMAND_WORD:
             return new AttendanceCommand();
 
         case TaskCommand.COMMAND_WORD:
-            return new TaskCommandParser().parse(arguments);
+            return TASK_COMMAND_PARSER.parse(arguments);
 
         case AssignCommand.COMMAND_WORD:
-            return new AssignCommandParser().parse(arguments);
+            return ASSIGN_COMMAND_PARSER.parse(arguments);
 
         case HomeCommand.COMMAND_WORD:
             return new HomeCommand();
 
         case CopyCommand.COMMAND_WORD:
-            return new CopyCommandParser().parse(arguments);
+            return COPY_COMMAND_PARSER.parse(arguments);
+
+        case LocateCommand.COMMAND_WORD:
+            return LOCATE_COMMAND_PARSER.parse(arguments);
+
+        case GotoCommand.COMMAND_WORD:
+            return GOTO_COMMAND_PARSER.parse(arguments);
+
+        case RunCommand.COMMAND_WORD:
+            return RUN_COMMAND_PARSER.parse(arguments);
+
+        case BeginCommand.COMMAND_WORD:
+            return new BeginCommand();
+
+        case CommitCommand.COMMAND_WORD:
+            return new CommitCommand();
+
+        case RollbackCommand.COMMAND_WORD:
+            return new RollbackCommand();
+
+        case PerfCommand.COMMAND_WORD:
+            return PERF_COMMAND_PARSER.parse(arguments);
 
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
     }
 
+    /**
+     * Returns true if {@code input} contains a line terminator, which a single command may not span.
+     */
+    private static boolean hasLineBreak(String input) {
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return true;
+            }
+        }
+        return false;
+    }
+
 }
@@ -1,11 +1,13 @@
 package tfifteenfour.clipboard.logic.parser;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import tfifteenfour.clipboard.logic.CurrentSelection;
 import tfifteenfour.clipboard.logic.PageType;
 import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.logic.commands.sortcommand.SortCategory;
 import tfifteenfour.clipboard.logic.commands.sortcommand.SortCommand;
-import tfifteenfour.clipboard.logic.commands.sortcommand.studentcomparators.AlphaNumericSidComparator;
-import tfifteenfour.clipboard.logic.commands.sortcommand.studentcomparators.AlphabeticalNameComparator;
 import tfifteenfour.clipboard.logic.parser.exceptions.ParseException;
 
 /**
@@ -35,37 +37,29 @@ public class SortCommandParser implements Parser<SortCommand> {
             throw new CommandException("Wrong page. Navigate to student page to sort students");
         }
 
-        SortCategory category = SortCategory.fromString(trimmedArgs);
-
-        switch (category) {
-        case SORT_BY_NAME:
-            return new SortCommand(new AlphabeticalNameComparator(), category.getCategory());
-        case SORT_BY_STUDENT_ID:
-            return new SortCommand(new AlphaNumericSidComparator(), category.getCategory());
-        default:
+        if (trimmedArgs.isEmpty()) {
             throw new ParseException("Unable to parse category for sorting\n" + SortCommand.MESSAGE_USAGE);
         }
-    }
-}
 
-enum SortCategory {
-    SORT_BY_NAME("name"),
-    SORT_BY_STUDENT_ID("id");
-
-    private String category;
-
-    private SortCategory(String category) {
-        this.category = category;
-    }
-
-    public String getCategory() {
-        return this.category;
+        List<SortCategory> categories = new ArrayList<>();
+        for (String categoryName : ArgumentTokenizer.tokenizeString(trimmedArgs)) {
+            SortCategory category = parseCategory(categoryName);
+            if (!categories.contains(category)) {
+                categories.add(category);
+            }
+        }
+        return new SortCommand(categories);
     }
 
-    public static SortCategory fromString(String category) throws ParseException {
-        for (SortCategory sc : SortCategory.values()) {
-            if (sc.getCategory().equalsIgnoreCase(category)) {
-                return sc;
+    /**
+     * Returns the sort category with the given name, ignoring case.
+     *
+     * @throws ParseException if no category has the given name.
+     */
+    private static SortCategory parseCategory(String categoryName) throws ParseException {
+        for (SortCategory category : SortCategory.values()) {
+            if (category.getCategory().equalsIgnoreCase(categoryName)) {
+                return category;
             }
         }
 
@@ -1,6 +1,5 @@
 package tfifteenfour.clipboard.logic.parser;
 
-import tfifteenfour.clipboard.commons.core.index.Index;
 import tfifteenfour.clipboard.logic.commands.attendancecommand.MarkAbsentCommand;
 import tfifteenfour.clipboard.logic.parser.exceptions.ParseException;
 
@@ -17,8 +16,7 @@ public class UnmarkCommandParser implements Parser<MarkAbsentCommand> {
      */
     public MarkAbsentCommand parse(String args) throws ParseException {
         try {
-            Index[] index = ParserUtil.parseMultipleIndex(args);
-            return new MarkAbsentCommand(index);
+            return new MarkAbsentCommand(ParserUtil.parseStudentSelector(args));
         } catch (ParseException pe) {
             throw new ParseException(
                     pe.getMessage() + MarkAbsentCommand.MESSAGE_USAGE);
@@ -1,29 +1,45 @@
 package tfifteenfour.clipboard.logic.predicates;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import tfifteenfour.clipboard.model.student.Student;
 
 /**
- * Tests that a {@code Student}'s {@code Name} matches any of the keywords given.
+ * Tests that a {@code Student}'s {@code Name}, {@code StudentId}, {@code Email}, {@code Phone} or {@code Remark}
+ * matches any of the keywords given.
  */
 public class StudentParticularsContainsPredicate implements Predicate<Student> {
     private final List<String> keywords;
+    private final List<String> lowerCaseKeywords;
 
+    /**
+     * Creates a predicate that matches students whose particulars contain any of the given keywords.
+     */
     public StudentParticularsContainsPredicate(String[] keywords) {
         this.keywords = Arrays.asList(keywords);
+        this.lowerCaseKeywords = this.keywords.stream().map(String::toLowerCase).collect(Collectors.toList());
+    }
+
+    public List<String> getKeywords() {
+        return Collections.unmodifiableList(keywords);
     }
 
     @Override
     public boolean test(Student student) {
-        return keywords.stream()
-                .anyMatch(keyword -> student.getStudentId()
-                .toString().toLowerCase().contains(keyword.toLowerCase()))
-                || keywords.stream()
-                .anyMatch(keyword -> student.getName()
-                .toString().toLowerCase().contains(keyword.toLowerCase()));
+        return containsAnyKeyword(student.getStudentId().value)
+                || containsAnyKeyword(student.getName().fullName)
+                || containsAnyKeyword(student.getEmail().value)
+                || containsAnyKeyword(student.getPhone().value)
+                || containsAnyKeyword(student.getRemark().value);
+    }
+
+    private boolean containsAnyKeyword(String field) {
+        String lowerCaseField = field.toLowerCase();
+        return lowerCaseKeywords.stream().anyMatch(lowerCaseField::contains);
     }
 
     @Override
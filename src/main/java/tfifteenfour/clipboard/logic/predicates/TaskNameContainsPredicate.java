@@ -1,6 +1,7 @@
 package tfifteenfour.clipboard.logic.predicates;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -16,6 +17,13 @@ public class TaskNameContainsPredicate implements Predicate<Task> {
         this.keywords = Arrays.asList(keywords);
     }
 
+    /**
+     * Returns the keywords that this predicate matches against.
+     */
+    public List<String> getKeywords() {
+        return Collections.unmodifiableList(keywords);
+    }
+
     @Override
     public boolean test(Task task) {
         return keywords.stream()
@@ -0,0 +1,254 @@
+package tfifteenfour.clipboard.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * An array-backed list that reports every change made to it, without depending on JavaFX.
+ * Every operation, including bulk ones such as {@link #setAll(Collection)} and {@link #removeIf(Predicate)},
+ * notifies the listeners exactly once, with one {@link Change} for each contiguous range that was replaced.
+ * Listener storage is only allocated once a listener is added, so lists that nothing observes cost no more than
+ * an {@code ArrayList}.
+ *
+ * @param <T> the type of items in the list
+ */
+public class ItemList<T> extends AbstractList<T> implements RandomAccess {
+
+    private final ArrayList<T> items = new ArrayList<>();
+    private List<ChangeListener<? super T>> listeners;
+
+    /**
+     * Receives the changes made by a single operation on an {@code ItemList}.
+     */
+    @FunctionalInterface
+    public interface ChangeListener<T> {
+        /**
+         * Called after the list has changed.
+         * @param changes the replaced ranges in ascending order of position in the changed list.
+         */
+        void onChanged(List<Change<T>> changes);
+    }
+
+    /**
+     * A contiguous range of the list that was replaced.
+     * {@code getRemoved()} were removed at {@code getFrom()}, and {@code getAdded()} now start at {@code getFrom()}.
+     */
+    public static class Change<T> {
+        private final int from;
+        private final List<T> removed;
+        private final List<T> added;
+
+        Change(int from, List<T> removed, List<T> added) {
+            this.from = from;
+            this.removed = Collections.unmodifiableList(removed);
+            this.added = Collections.unmodifiableList(added);
+        }
+
+        public int getFrom() {
+            return from;
+        }
+
+        public List<T> getRemoved() {
+            return removed;
+        }
+
+        public List<T> getAdded() {
+            return added;
+        }
+    }
+
+    /**
+     * Adds {@code listener} to be notified after every change to the list.
+     */
+    public void addListener(ChangeListener<? super T> listener) {
+        requireNonNull(listener);
+        if (listeners == null) {
+            listeners = new ArrayList<>(1);
+        }
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener added by {@link #addListener(ChangeListener)}.
+     */
+    public void removeListener(ChangeListener<? super T> listener) {
+        if (listeners != null) {
+            listeners.remove(listener);
+            if (listeners.isEmpty()) {
+                listeners = null;
+            }
+        }
+    }
+
+    /**
+     * Returns a number that changes whenever the contents of the list change, so that views derived from the list
+     * can tell when they are stale without registering a listener.
+     */
+    public int getVersion() {
+        return modCount;
+    }
+
+    @Override
+    public T get(int index) {
+        return items.get(index);
+    }
+
+    @Override
+    public int size() {
+        return items.size();
+    }
+
+    @Override
+    public void add(int index, T item) {
+        requireNonNull(item);
+        items.add(index, item);
+        modCount++;
+        fire(Collections.singletonList(new Change<>(index, Collections.emptyList(), List.of(item))));
+    }
+
+    @Override
+    public T set(int index, T item) {
+        requireNonNull(item);
+        T previous = items.set(index, item);
+        modCount++;
+        fire(Collections.singletonList(new Change<>(index, List.of(previous), List.of(item))));
+        return previous;
+    }
+
+    @Override
+    public T remove(int index) {
+        T removed = items.remove(index);
+        modCount++;
+        fire(Collections.singletonList(new Change<>(index, List.of(removed), Collections.emptyList())));
+        return removed;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> toAdd) {
+        return addAll(items.size(), toAdd);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends T> toAdd) {
+        List<T> added = new ArrayList<>(toAdd);
+        added.forEach(Objects::requireNonNull);
+        if (added.isEmpty()) {
+            return false;
+        }
+        items.addAll(index, added);
+        modCount++;
+        fire(Collections.singletonList(new Change<>(index, Collections.emptyList(), added)));
+        return true;
+    }
+
+    /**
+     * Replaces the contents of the list with {@code replacement}.
+     */
+    public void setAll(Collection<? extends T> replacement) {
+        List<T> added = new ArrayList<>(replacement);
+        added.forEach(Objects::requireNonNull);
+        List<T> removed = new ArrayList<>(items);
+        if (removed.isEmpty() && added.isEmpty()) {
+            return;
+        }
+        items.clear();
+        items.addAll(added);
+        modCount++;
+        fire(Collections.singletonList(new Change<>(0, removed, added)));
+    }
+
+    @Override
+    public void clear() {
+        setAll(Collections.emptyList());
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex >= toIndex) {
+            return;
+        }
+        List<T> removed = new ArrayList<>(items.subList(fromIndex, toIndex));
+        items.subList(fromIndex, toIndex).clear();
+        modCount++;
+        fire(Collections.singletonList(new Change<>(fromIndex, removed, Collections.emptyList())));
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> toRemove) {
+        requireNonNull(toRemove);
+        Set<?> lookup = toRemove instanceof Set ? (Set<?>) toRemove : new HashSet<>(toRemove);
+        return removeIf(lookup::contains);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> toRetain) {
+        requireNonNull(toRetain);
+        Set<?> lookup = toRetain instanceof Set ? (Set<?>) toRetain : new HashSet<>(toRetain);
+        return removeIf(item -> !lookup.contains(item));
+    }
+
+    /**
+     * Removes every item that satisfies {@code filter} in a single pass, reporting each removed run of items
+     * as one change.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        requireNonNull(filter);
+        List<Change<T>> changes = new ArrayList<>();
+        ArrayList<T> kept = new ArrayList<>(items.size());
+        List<T> run = null;
+        for (T item : items) {
+            if (filter.test(item)) {
+                if (run == null) {
+                    run = new ArrayList<>();
+                }
+                run.add(item);
+            } else {
+                if (run != null) {
+                    changes.add(new Change<>(kept.size(), run, Collections.emptyList()));
+                    run = null;
+                }
+                kept.add(item);
+            }
+        }
+        if (run != null) {
+            changes.add(new Change<>(kept.size(), run, Collections.emptyList()));
+        }
+        if (changes.isEmpty()) {
+            return false;
+        }
+
+        items.clear();
+        items.addAll(kept);
+        modCount++;
+        fire(changes);
+        return true;
+    }
+
+    private void fire(List<Change<T>> changes) {
+        if (listeners == null) {
+            return;
+        }
+        // copied so that a listener may remove itself while being notified
+        for (ChangeListener<? super T> listener : new ArrayList<>(listeners)) {
+            notify(listener, changes);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void notify(ChangeListener<? super T> listener, List<Change<T>> changes) {
+        // a listener of a supertype only ever reads the changes, so passing them on unchanged is safe
+        ChangeListener<T> typedListener = (ChangeListener<T>) listener;
+        typedListener.onChanged(changes);
+    }
+}
@@ -0,0 +1,289 @@
+package tfifteenfour.clipboard.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
+
+/**
+ * A live, read-only view of the items of an {@link ItemList} that satisfy a predicate, in the order of a comparator.
+ * The view is computed on the first read, and again on the first read after the predicate or the comparator changes,
+ * so a view that is never read costs nothing.
+ * While the view has listeners, each change to the source list is applied to it as it happens: only the added items
+ * are tested against the predicate, each one is placed by binary search when the view is sorted, and removed items
+ * are found by their position or by binary search. A view without listeners is computed again on the first read after
+ * the source list changes. Sorting only reorders the view; the source list keeps its insertion order.
+ * Items added to a sorted view are placed after the items they compare equal to.
+ *
+ * Listeners added with {@link #addListener(Runnable)} are told whenever the contents of the view may have changed.
+ * This lets a UI adapter follow the view without the model itself depending on JavaFX.
+ *
+ * @param <T> the type of items in the view
+ */
+public class ItemView<T> extends AbstractList<T> implements RandomAccess {
+
+    /** Changes to more items than this, or to more than an eighth of the view, recompute the whole view instead. */
+    private static final int MAX_INCREMENTAL_ITEMS = 16;
+
+    private final ItemList<T> source;
+    private final ItemList.ChangeListener<T> sourceListener = this::handleSourceChanged;
+
+    private Predicate<? super T> predicate;
+    private Comparator<? super T> comparator;
+
+    private ArrayList<T> items;
+    /** The position in the source list of each item of an unsorted view, in ascending order. */
+    private int[] sourceIndexes;
+    private int sourceVersion;
+    private boolean isFollowingSource;
+    private List<Runnable> listeners;
+
+    /**
+     * Creates a view of every item of {@code source}, in the order of {@code source}.
+     */
+    public ItemView(ItemList<T> source) {
+        this.source = requireNonNull(source);
+    }
+
+    /**
+     * Shows only the items that satisfy {@code predicate}, or every item if it is null.
+     */
+    public void setPredicate(Predicate<? super T> predicate) {
+        this.predicate = predicate;
+        items = null;
+        fireInvalidated();
+    }
+
+    public Predicate<? super T> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Orders the items by {@code comparator}, or in the order of the source list if it is null.
+     */
+    public void setComparator(Comparator<? super T> comparator) {
+        this.comparator = comparator;
+        items = null;
+        fireInvalidated();
+    }
+
+    public Comparator<? super T> getComparator() {
+        return comparator;
+    }
+
+    /**
+     * Adds {@code listener} to be run whenever the contents of the view may have changed.
+     */
+    public void addListener(Runnable listener) {
+        requireNonNull(listener);
+        if (listeners == null) {
+            listeners = new ArrayList<>(1);
+        }
+        listeners.add(listener);
+        followSource();
+    }
+
+    /**
+     * Removes a listener added by {@link #addListener(Runnable)}.
+     * Once the last listener is removed, the view stops following the source list and drops its items, which are
+     * computed again on the next read.
+     */
+    public void removeListener(Runnable listener) {
+        if (listeners != null && listeners.remove(listener) && listeners.isEmpty()) {
+            listeners = null;
+            source.removeListener(sourceListener);
+            isFollowingSource = false;
+            items = null;
+            sourceIndexes = null;
+        }
+    }
+
+    @Override
+    public T get(int index) {
+        return refresh().get(index);
+    }
+
+    @Override
+    public int size() {
+        return refresh().size();
+    }
+
+    private void followSource() {
+        if (!isFollowingSource) {
+            source.addListener(sourceListener);
+            isFollowingSource = true;
+        }
+    }
+
+    private List<T> refresh() {
+        if (items != null && sourceVersion == source.getVersion()) {
+            return items;
+        }
+
+        ArrayList<T> updated = new ArrayList<>(source.size());
+        int[] updatedIndexes = comparator == null ? new int[source.size()] : null;
+        for (int i = 0; i < source.size(); i++) {
+            T item = source.get(i);
+            if (matches(item)) {
+                if (updatedIndexes != null) {
+                    updatedIndexes[updated.size()] = i;
+                }
+                updated.add(item);
+            }
+        }
+        if (comparator != null) {
+            updated.sort(comparator);
+        }
+        items = updated;
+        sourceIndexes = updatedIndexes;
+        sourceVersion = source.getVersion();
+        return items;
+    }
+
+    private boolean matches(T item) {
+        return predicate == null || predicate.test(item);
+    }
+
+    private void handleSourceChanged(List<ItemList.Change<T>> changes) {
+        if (items != null && sourceVersion == source.getVersion() - 1) {
+            if (isIncremental(changes)) {
+                changes.forEach(comparator == null ? this::applyInSourceOrder : this::applyInSortedOrder);
+                sourceVersion = source.getVersion();
+            } else {
+                items = null;
+            }
+        }
+        fireInvalidated();
+    }
+
+    private boolean isIncremental(List<ItemList.Change<T>> changes) {
+        int changedCount = 0;
+        for (ItemList.Change<T> change : changes) {
+            changedCount += change.getRemoved().size() + change.getAdded().size();
+        }
+        return changedCount <= Math.max(MAX_INCREMENTAL_ITEMS, items.size() / 8);
+    }
+
+    /**
+     * Applies {@code change} to an unsorted view, finding the removed items by their position in the source list.
+     */
+    private void applyInSourceOrder(ItemList.Change<T> change) {
+        int from = change.getFrom();
+        int removedCount = change.getRemoved().size();
+        int viewFrom = viewIndexOf(from);
+        int viewTo = viewIndexOf(from + removedCount);
+
+        List<T> added = new ArrayList<>();
+        List<Integer> addedIndexes = new ArrayList<>();
+        for (int i = 0; i < change.getAdded().size(); i++) {
+            if (matches(change.getAdded().get(i))) {
+                added.add(change.getAdded().get(i));
+                addedIndexes.add(from + i);
+            }
+        }
+
+        int shift = change.getAdded().size() - removedCount;
+        int[] updatedIndexes = new int[items.size() - (viewTo - viewFrom) + added.size()];
+        System.arraycopy(sourceIndexes, 0, updatedIndexes, 0, viewFrom);
+        for (int i = 0; i < added.size(); i++) {
+            updatedIndexes[viewFrom + i] = addedIndexes.get(i);
+        }
+        for (int i = viewTo; i < items.size(); i++) {
+            updatedIndexes[i - viewTo + viewFrom + added.size()] = sourceIndexes[i] + shift;
+        }
+
+        items.subList(viewFrom, viewTo).clear();
+        items.addAll(viewFrom, added);
+        sourceIndexes = updatedIndexes;
+    }
+
+    /**
+     * Applies {@code change} to a sorted view, finding each removed item and placing each added one by binary search.
+     */
+    private void applyInSortedOrder(ItemList.Change<T> change) {
+        for (T removed : change.getRemoved()) {
+            if (matches(removed)) {
+                removeSorted(removed);
+            }
+        }
+        for (T added : change.getAdded()) {
+            if (matches(added)) {
+                items.add(upperBound(added), added);
+            }
+        }
+    }
+
+    private void removeSorted(T item) {
+        for (int i = lowerBound(item); i < items.size() && comparator.compare(items.get(i), item) == 0; i++) {
+            if (items.get(i) == item) {
+                items.remove(i);
+                return;
+            }
+        }
+        // the item no longer sorts where it was placed, e.g. because the comparator depends on state that changed
+        for (int i = 0; i < items.size(); i++) {
+            if (items.get(i) == item) {
+                items.remove(i);
+                return;
+            }
+        }
+    }
+
+    private int lowerBound(T item) {
+        int low = 0;
+        int high = items.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(items.get(mid), item) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int upperBound(T item) {
+        int low = 0;
+        int high = items.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(items.get(mid), item) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the position in an unsorted view of the first item at or after {@code sourceIndex} in the source list.
+     */
+    private int viewIndexOf(int sourceIndex) {
+        int low = 0;
+        int high = items.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sourceIndexes[mid] < sourceIndex) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void fireInvalidated() {
+        if (listeners == null) {
+            return;
+        }
+        for (Runnable listener : new ArrayList<>(listeners)) {
+            listener.run();
+        }
+    }
+}
@@ -8,6 +8,7 @@ import java.util.logging.Logger;
 
 import tfifteenfour.clipboard.commons.core.GuiSettings;
 import tfifteenfour.clipboard.commons.core.LogsCenter;
+import tfifteenfour.clipboard.commons.jfr.ModelCopyEvent;
 import tfifteenfour.clipboard.logic.CurrentSelection;
 import tfifteenfour.clipboard.logic.commands.Command;
 
@@ -123,7 +124,11 @@ public class ModelManager implements Model {
 
     @Override
     public Model copy() {
-        return new ModelManager(this.roster.copy(), this.userPrefs, this.currentSelection.copy());
+        ModelCopyEvent event = new ModelCopyEvent();
+        event.begin();
+        Model copy = new ModelManager(this.roster.copy(), this.userPrefs, this.currentSelection.copy());
+        event.end(roster);
+        return copy;
     }
 
     @Override
@@ -0,0 +1,393 @@
+package tfifteenfour.clipboard.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * A hash map from objects to primitive {@code int}s, used for per-student attendance and grades.
+ * Entries live in parallel key, hash and value arrays with open addressing and linear probing, so an entry costs
+ * no node object and no boxed value, and each key's hash is computed once and reused on every probe and resize.
+ * Copying the map clones the arrays without rehashing any key.
+ *
+ * Values are packed into {@code long} words at a fixed number of bits each. A map created with fewer than 32 bits
+ * per value only accepts values from 0 up to {@code 2^bits - 1}, so a small enum such as an attendance status costs
+ * a few bits per entry instead of a whole {@code int}.
+ *
+ * The primitive methods {@link #getInt}, {@link #putInt} and {@link #removeInt} never box. The {@link Map}
+ * methods are supported for convenience and box their values. Null keys are not permitted.
+ *
+ * @param <K> the type of keys in the map
+ */
+public class Object2IntMap<K> extends AbstractMap<K, Integer> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private final int bitsPerValue;
+    private final int valuesPerWord;
+    private final long valueMask;
+
+    private Object[] keys;
+    private int[] hashes;
+    private long[] values;
+    private int size;
+
+    /**
+     * Creates an empty map.
+     */
+    public Object2IntMap() {
+        this(0);
+    }
+
+    /**
+     * Creates an empty map that can hold {@code expectedSize} entries without resizing.
+     */
+    public Object2IntMap(int expectedSize) {
+        this(expectedSize, Integer.SIZE);
+    }
+
+    /**
+     * Creates an empty map that can hold {@code expectedSize} entries without resizing, and that stores each value
+     * in {@code bitsPerValue} bits.
+     */
+    public Object2IntMap(int expectedSize, int bitsPerValue) {
+        if (bitsPerValue < 1 || bitsPerValue > Integer.SIZE) {
+            throw new IllegalArgumentException("Bits per value must be between 1 and 32: " + bitsPerValue);
+        }
+        this.bitsPerValue = bitsPerValue;
+        this.valuesPerWord = Long.SIZE / bitsPerValue;
+        this.valueMask = (1L << bitsPerValue) - 1;
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Creates a map with the same entries as {@code other}.
+     * If {@code other} is also an {@code Object2IntMap}, the copy packs its values at the same width, and its
+     * arrays are cloned instead of rehashing every key.
+     */
+    public Object2IntMap(Map<? extends K, Integer> other) {
+        this(other, other instanceof Object2IntMap ? ((Object2IntMap<?>) other).bitsPerValue : Integer.SIZE);
+    }
+
+    /**
+     * Creates a map with the same entries as {@code other} that stores each value in {@code bitsPerValue} bits.
+     * If {@code other} is an {@code Object2IntMap} of the same width, its arrays are cloned instead of rehashing
+     * every key.
+     */
+    public Object2IntMap(Map<? extends K, Integer> other, int bitsPerValue) {
+        this(0, bitsPerValue);
+        requireNonNull(other);
+        if (other instanceof Object2IntMap && ((Object2IntMap<?>) other).bitsPerValue == bitsPerValue) {
+            Object2IntMap<?> source = (Object2IntMap<?>) other;
+            keys = source.keys.clone();
+            hashes = source.hashes.clone();
+            values = source.values.clone();
+            size = source.size;
+            return;
+        }
+
+        allocate(capacityFor(other.size()));
+        other.forEach(this::putInt);
+    }
+
+    /**
+     * Returns a copy of this map.
+     */
+    public Object2IntMap<K> copy() {
+        return new Object2IntMap<>(this);
+    }
+
+    /**
+     * Returns the value mapped to {@code key}, or {@code defaultValue} if there is none.
+     */
+    public int getInt(Object key, int defaultValue) {
+        int slot = findSlot(key);
+        return slot < 0 ? defaultValue : valueAt(slot);
+    }
+
+    /**
+     * Maps {@code key} to {@code value}, replacing any existing value.
+     * @throws IllegalArgumentException if {@code value} does not fit in the bits per value of this map.
+     */
+    public void putInt(K key, int value) {
+        requireNonNull(key);
+        checkFits(value);
+        int hash = hash(key);
+        int mask = keys.length - 1;
+        int slot = hash & mask;
+        while (keys[slot] != null) {
+            if (hashes[slot] == hash && keys[slot].equals(key)) {
+                setValueAt(slot, value);
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = key;
+        hashes[slot] = hash;
+        setValueAt(slot, value);
+        size++;
+        if (size > keys.length * LOAD_FACTOR) {
+            resize(keys.length << 1);
+        }
+    }
+
+    /**
+     * Removes the mapping for {@code key} and returns its value, or {@code defaultValue} if there was none.
+     */
+    public int removeInt(Object key, int defaultValue) {
+        int slot = findSlot(key);
+        if (slot < 0) {
+            return defaultValue;
+        }
+        int removedValue = valueAt(slot);
+        deleteSlot(slot);
+        return removedValue;
+    }
+
+    /**
+     * Performs {@code action} on every entry without boxing the values.
+     */
+    public void forEachInt(ObjIntConsumer<? super K> action) {
+        requireNonNull(action);
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != null) {
+                action.accept(keyAt(slot), valueAt(slot));
+            }
+        }
+    }
+
+    /**
+     * Returns the number of entries whose value is {@code value}.
+     */
+    public int countValue(int value) {
+        int count = 0;
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != null && valueAt(slot) == value) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return findSlot(key) >= 0;
+    }
+
+    @Override
+    public Integer get(Object key) {
+        int slot = findSlot(key);
+        return slot < 0 ? null : valueAt(slot);
+    }
+
+    @Override
+    public Integer put(K key, Integer value) {
+        requireNonNull(value);
+        Integer previous = get(key);
+        putInt(key, value);
+        return previous;
+    }
+
+    @Override
+    public Integer remove(Object key) {
+        int slot = findSlot(key);
+        if (slot < 0) {
+            return null;
+        }
+        int removedValue = valueAt(slot);
+        deleteSlot(slot);
+        return removedValue;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(keys, null);
+        size = 0;
+    }
+
+    @Override
+    public Set<Entry<K, Integer>> entrySet() {
+        return new EntrySet();
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity * LOAD_FACTOR < expectedSize) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private void allocate(int capacity) {
+        keys = new Object[capacity];
+        hashes = new int[capacity];
+        values = new long[(capacity + valuesPerWord - 1) / valuesPerWord];
+    }
+
+    private void checkFits(int value) {
+        if (bitsPerValue < Integer.SIZE && value >>> bitsPerValue != 0) {
+            throw new IllegalArgumentException("Value " + value + " does not fit in " + bitsPerValue + " bits");
+        }
+    }
+
+    private int valueAt(int slot) {
+        return valueAt(values, slot);
+    }
+
+    private int valueAt(long[] words, int slot) {
+        int shift = (slot % valuesPerWord) * bitsPerValue;
+        return (int) ((words[slot / valuesPerWord] >>> shift) & valueMask);
+    }
+
+    private void setValueAt(int slot, int value) {
+        int word = slot / valuesPerWord;
+        int shift = (slot % valuesPerWord) * bitsPerValue;
+        values[word] = (values[word] & ~(valueMask << shift)) | ((value & valueMask) << shift);
+    }
+
+    private static int hash(Object key) {
+        int hash = key.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
+    @SuppressWarnings("unchecked")
+    private K keyAt(int slot) {
+        return (K) keys[slot];
+    }
+
+    /**
+     * Returns the slot holding {@code key}, or -1 if the key is absent.
+     */
+    private int findSlot(Object key) {
+        if (key == null) {
+            return -1;
+        }
+        int hash = hash(key);
+        int mask = keys.length - 1;
+        int slot = hash & mask;
+        while (keys[slot] != null) {
+            if (hashes[slot] == hash && keys[slot].equals(key)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Empties {@code slot} and shifts later entries of the same probe run back, so lookups never need tombstones.
+     */
+    private void deleteSlot(int slot) {
+        int mask = keys.length - 1;
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (keys[next] != null) {
+            int home = hashes[next] & mask;
+            // the entry at next may fill the gap only if its home slot is not cyclically within (gap, next]
+            boolean canMove = gap <= next ? (home <= gap || home > next) : (home <= gap && home > next);
+            if (canMove) {
+                keys[gap] = keys[next];
+                hashes[gap] = hashes[next];
+                setValueAt(gap, valueAt(next));
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[gap] = null;
+        size--;
+    }
+
+    private void resize(int newCapacity) {
+        Object[] oldKeys = keys;
+        int[] oldHashes = hashes;
+        long[] oldValues = values;
+        allocate(newCapacity);
+
+        int mask = newCapacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == null) {
+                continue;
+            }
+            int slot = oldHashes[i] & mask;
+            while (keys[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = oldKeys[i];
+            hashes[slot] = oldHashes[i];
+            setValueAt(slot, valueAt(oldValues, i));
+        }
+    }
+
+    /**
+     * A view of the entries of the map. Entries write through to the map, but cannot be removed while iterating.
+     */
+    private class EntrySet extends AbstractSet<Entry<K, Integer>> {
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Iterator<Entry<K, Integer>> iterator() {
+            return new Iterator<>() {
+                private int nextSlot = advance(0);
+
+                private int advance(int from) {
+                    int slot = from;
+                    while (slot < keys.length && keys[slot] == null) {
+                        slot++;
+                    }
+                    return slot;
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return nextSlot < keys.length;
+                }
+
+                @Override
+                public Entry<K, Integer> next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    int slot = nextSlot;
+                    nextSlot = advance(slot + 1);
+                    return new SlotEntry(slot);
+                }
+            };
+        }
+    }
+
+    private class SlotEntry extends SimpleEntry<K, Integer> {
+        private static final long serialVersionUID = 1L;
+
+        private final int slot;
+
+        SlotEntry(int slot) {
+            super(keyAt(slot), valueAt(slot));
+            this.slot = slot;
+        }
+
+        @Override
+        public Integer setValue(Integer value) {
+            requireNonNull(value);
+            checkFits(value);
+            setValueAt(slot, value);
+            return super.setValue(value);
+        }
+    }
+}
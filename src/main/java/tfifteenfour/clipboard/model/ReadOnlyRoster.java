@@ -1,6 +1,7 @@
 package tfifteenfour.clipboard.model;
 
-import javafx.collections.ObservableList;
+import java.util.List;
+
 import tfifteenfour.clipboard.model.course.Course;
 
 /**
@@ -8,8 +9,8 @@ import tfifteenfour.clipboard.model.course.Course;
  */
 public interface ReadOnlyRoster {
 
-    ObservableList<Course> getUnmodifiableCourseList();
+    List<Course> getUnmodifiableCourseList();
 
-    ObservableList<Course> getUnmodifiableFilteredCourseList();
+    ItemView<Course> getUnmodifiableFilteredCourseList();
 
 }
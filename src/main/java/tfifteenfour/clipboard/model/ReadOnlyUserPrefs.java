@@ -14,4 +14,9 @@ public interface ReadOnlyUserPrefs {
     Path getRosterFilePath();
 
     Path getSampleFilePath();
+
+    /**
+     * Returns true if the last few minutes of the application are recorded, to be dumped when a command is slow.
+     */
+    boolean isFlightRecordingEnabled();
 }
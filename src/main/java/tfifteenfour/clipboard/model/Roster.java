@@ -5,8 +5,9 @@ import static java.util.Objects.requireNonNull;
 import java.util.List;
 import java.util.function.Predicate;
 
-import javafx.collections.ObservableList;
+import tfifteenfour.clipboard.commons.util.BkTree;
 import tfifteenfour.clipboard.model.course.Course;
+import tfifteenfour.clipboard.model.course.Group;
 import tfifteenfour.clipboard.model.course.UniqueCoursesList;
 
 /**
@@ -16,6 +17,7 @@ import tfifteenfour.clipboard.model.course.UniqueCoursesList;
 public class Roster implements ReadOnlyRoster {
 
     private final UniqueCoursesList courses;
+    private RosterStudentIndex studentIndex;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -49,6 +51,13 @@ public class Roster implements ReadOnlyRoster {
         this.courses.updateFilterPredicate(predicate);
     }
 
+    /**
+     * Returns the courses whose code is within a few edits of any of the given keywords, closest first.
+     */
+    public List<BkTree.Match<Course>> fuzzySearchCourses(List<String> keywords) {
+        return courses.fuzzySearch(keywords);
+    }
+
     /**
      * Returns true if a course with the same identity as {@code course} exists in the address book.
      */
@@ -69,6 +78,74 @@ public class Roster implements ReadOnlyRoster {
         courses.set(courseToReplace, newCourse);
     }
 
+    /**
+     * Returns the roster-wide index of student enrollments.
+     * The index is built on first use and kept up to date with the roster afterwards.
+     */
+    public RosterStudentIndex getStudentIndex() {
+        if (studentIndex == null) {
+            studentIndex = new RosterStudentIndex(courses.asModifiableList());
+        }
+        return studentIndex;
+    }
+
+    /**
+     * Drops the roster-wide index of student enrollments, if it was built, to free its memory.
+     * The index is built again on its next use.
+     * @return true if an index was dropped.
+     */
+    public boolean dropStudentIndex() {
+        if (studentIndex == null) {
+            return false;
+        }
+        studentIndex.detach();
+        studentIndex = null;
+        return true;
+    }
+
+    /**
+     * Returns the number of groups whose student search index has been built.
+     */
+    public int countStudentSearchIndexes() {
+        int count = 0;
+        for (Course course : courses.asUnmodifiableList()) {
+            for (Group group : course.getUnmodifiableGroupList()) {
+                count += group.hasStudentSearchIndex() ? 1 : 0;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of fuzzy search indexes built over the courses, groups, students, sessions and tasks.
+     */
+    public int countFuzzyIndexes() {
+        int count = courses.hasFuzzyIndex() ? 1 : 0;
+        for (Course course : courses.asUnmodifiableList()) {
+            count += course.hasGroupFuzzyIndex() ? 1 : 0;
+            for (Group group : course.getUnmodifiableGroupList()) {
+                count += group.countFuzzyIndexes();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Drops every student search index and fuzzy search index that was built, to free their memory.
+     * Each index is built again on its next search.
+     * @return the number of indexes dropped.
+     */
+    public int dropSearchIndexes() {
+        int dropped = courses.dropFuzzyIndex() ? 1 : 0;
+        for (Course course : courses.asUnmodifiableList()) {
+            dropped += course.dropGroupFuzzyIndex() ? 1 : 0;
+            for (Group group : course.getUnmodifiableGroupList()) {
+                dropped += group.dropSearchIndexes();
+            }
+        }
+        return dropped;
+    }
+
     /**
      * Resets the existing data of this {@code Roster} with {@code newData}.
      */
@@ -78,17 +155,17 @@ public class Roster implements ReadOnlyRoster {
         setCourses(newData.getUnmodifiableCourseList());
     }
 
-    public ObservableList<Course> getModifiableCourseList() {
-        return courses.asModifiableObservableList();
+    public ItemList<Course> getModifiableCourseList() {
+        return courses.asModifiableList();
     }
 
     @Override
-    public ObservableList<Course> getUnmodifiableCourseList() {
-        return courses.asUnmodifiableObservableList();
+    public List<Course> getUnmodifiableCourseList() {
+        return courses.asUnmodifiableList();
     }
 
     @Override
-    public ObservableList<Course> getUnmodifiableFilteredCourseList() {
+    public ItemView<Course> getUnmodifiableFilteredCourseList() {
         return courses.asUnmodifiableFilteredList();
     }
 
@@ -111,7 +188,7 @@ public class Roster implements ReadOnlyRoster {
      */
     public Roster copy() {
         Roster copy = new Roster();
-        copy.setCourses(courses.copy().asUnmodifiableObservableList());
+        copy.setCourses(courses.copy().asUnmodifiableList());
         return copy;
     }
 }
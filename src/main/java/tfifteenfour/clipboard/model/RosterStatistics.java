@@ -0,0 +1,117 @@
+package tfifteenfour.clipboard.model;
+
+import static java.util.Objects.requireNonNull;
+
+import tfifteenfour.clipboard.model.course.Course;
+import tfifteenfour.clipboard.model.course.Group;
+import tfifteenfour.clipboard.model.course.Session;
+import tfifteenfour.clipboard.model.task.Task;
+
+/**
+ * The number of items of each kind in a roster, and a rough estimate of the heap that they take.
+ * Students are counted once for every group they are in, as each group holds its own copy of them.
+ */
+public class RosterStatistics {
+
+    /*
+     * Rough retained sizes in bytes of one item of each kind, with its fields and their strings at typical lengths,
+     * on a 64-bit JVM with compressed references. The search indexes of the lists are not included.
+     */
+    private static final long COURSE_BYTES = 400;
+    private static final long GROUP_BYTES = 800;
+    private static final long STUDENT_BYTES = 600;
+    private static final long SESSION_BYTES = 200;
+    private static final long TASK_BYTES = 200;
+    private static final long ENTRY_BYTES = 12;
+
+    private final int courseCount;
+    private final int groupCount;
+    private final int studentCount;
+    private final int sessionCount;
+    private final int taskCount;
+    private final long attendanceEntryCount;
+    private final long gradeEntryCount;
+
+    private RosterStatistics(int courseCount, int groupCount, int studentCount, int sessionCount, int taskCount,
+            long attendanceEntryCount, long gradeEntryCount) {
+        this.courseCount = courseCount;
+        this.groupCount = groupCount;
+        this.studentCount = studentCount;
+        this.sessionCount = sessionCount;
+        this.taskCount = taskCount;
+        this.attendanceEntryCount = attendanceEntryCount;
+        this.gradeEntryCount = gradeEntryCount;
+    }
+
+    /**
+     * Counts the items in {@code roster}.
+     */
+    public static RosterStatistics of(ReadOnlyRoster roster) {
+        requireNonNull(roster);
+        int groupCount = 0;
+        int studentCount = 0;
+        int sessionCount = 0;
+        int taskCount = 0;
+        long attendanceEntryCount = 0;
+        long gradeEntryCount = 0;
+        for (Course course : roster.getUnmodifiableCourseList()) {
+            for (Group group : course.getUnmodifiableGroupList()) {
+                groupCount++;
+                studentCount += group.getUnmodifiableStudentList().size();
+                for (Session session : group.getUnmodifiableSessionList()) {
+                    sessionCount++;
+                    attendanceEntryCount += session.getAttendance().size();
+                }
+                for (Task task : group.getUnmodifiableTaskList()) {
+                    taskCount++;
+                    gradeEntryCount += task.getGrades().size();
+                }
+            }
+        }
+        return new RosterStatistics(roster.getUnmodifiableCourseList().size(), groupCount, studentCount,
+                sessionCount, taskCount, attendanceEntryCount, gradeEntryCount);
+    }
+
+    public int getCourseCount() {
+        return courseCount;
+    }
+
+    public int getGroupCount() {
+        return groupCount;
+    }
+
+    public int getStudentCount() {
+        return studentCount;
+    }
+
+    public int getSessionCount() {
+        return sessionCount;
+    }
+
+    public int getTaskCount() {
+        return taskCount;
+    }
+
+    /**
+     * Returns the number of attendance records over all sessions, one for each student of each session.
+     */
+    public long getAttendanceEntryCount() {
+        return attendanceEntryCount;
+    }
+
+    /**
+     * Returns the number of grades over all tasks, one for each student of each task.
+     */
+    public long getGradeEntryCount() {
+        return gradeEntryCount;
+    }
+
+    /**
+     * Returns a rough estimate of the bytes of heap taken by the items of the roster.
+     */
+    public long getEstimatedHeapBytes() {
+        return courseCount * COURSE_BYTES + groupCount * GROUP_BYTES + studentCount * STUDENT_BYTES
+                + sessionCount * SESSION_BYTES + taskCount * TASK_BYTES
+                + (attendanceEntryCount + gradeEntryCount) * ENTRY_BYTES;
+    }
+}
@@ -0,0 +1,192 @@
+package tfifteenfour.clipboard.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import tfifteenfour.clipboard.model.course.Course;
+import tfifteenfour.clipboard.model.course.Group;
+import tfifteenfour.clipboard.model.student.Student;
+import tfifteenfour.clipboard.model.student.StudentId;
+
+/**
+ * A roster-wide reverse index from student IDs and name tokens to the groups that the student is enrolled in.
+ * The index attaches listeners to the course, group and student lists of the roster, so every add, edit and delete
+ * made to any of those lists is reflected without rescanning the roster.
+ */
+public class RosterStudentIndex {
+
+    private final Map<StudentId, Set<Enrollment>> enrollmentsById = new HashMap<>();
+    private final Map<String, Set<Enrollment>> enrollmentsByNameToken = new HashMap<>();
+
+    private final ItemList<Course> courses;
+    private final ItemList.ChangeListener<Course> courseListener = changes -> changes.forEach(change -> {
+        change.getRemoved().forEach(this::unindexCourse);
+        change.getAdded().forEach(this::indexCourse);
+    });
+    private final Map<Course, ItemList.ChangeListener<Group>> groupListeners = new IdentityHashMap<>();
+    private final Map<Group, ItemList.ChangeListener<Student>> studentListeners = new IdentityHashMap<>();
+
+    /**
+     * Creates an index over all students in {@code courses} that follows subsequent changes to the list.
+     */
+    public RosterStudentIndex(ItemList<Course> courses) {
+        requireNonNull(courses);
+        this.courses = courses;
+        courses.addListener(courseListener);
+        courses.forEach(this::indexCourse);
+    }
+
+    /**
+     * Stops following changes to the roster and empties the index, so that it can be collected.
+     */
+    public void detach() {
+        courses.removeListener(courseListener);
+        groupListeners.forEach((course, listener) -> course.getModifiableGroupList().removeListener(listener));
+        studentListeners.forEach((group, listener) -> group.getModifiableStudentList().removeListener(listener));
+        groupListeners.clear();
+        studentListeners.clear();
+        enrollmentsById.clear();
+        enrollmentsByNameToken.clear();
+    }
+
+    /**
+     * Returns every enrollment of the student with the given student ID, in the order they were indexed.
+     */
+    public List<Enrollment> getEnrollments(StudentId studentId) {
+        requireNonNull(studentId);
+        return new ArrayList<>(enrollmentsById.getOrDefault(studentId, Collections.emptySet()));
+    }
+
+    /**
+     * Returns every enrollment of students whose student ID equals {@code keyword}, or whose name contains
+     * {@code keyword} as a whole word, ignoring case.
+     */
+    public List<Enrollment> findEnrollments(String keyword) {
+        requireNonNull(keyword);
+        Set<Enrollment> matches = new LinkedHashSet<>();
+        if (StudentId.isValidStudentId(keyword)) {
+            matches.addAll(enrollmentsById.getOrDefault(new StudentId(keyword), Collections.emptySet()));
+        }
+        matches.addAll(enrollmentsByNameToken.getOrDefault(keyword.toLowerCase(), Collections.emptySet()));
+        return new ArrayList<>(matches);
+    }
+
+    private void indexCourse(Course course) {
+        ItemList.ChangeListener<Group> listener = changes -> changes.forEach(change -> {
+            change.getRemoved().forEach(this::unindexGroup);
+            change.getAdded().forEach(group -> indexGroup(course, group));
+        });
+        groupListeners.put(course, listener);
+        course.getModifiableGroupList().addListener(listener);
+        course.getModifiableGroupList().forEach(group -> indexGroup(course, group));
+    }
+
+    private void unindexCourse(Course course) {
+        ItemList.ChangeListener<Group> listener = groupListeners.remove(course);
+        if (listener != null) {
+            course.getModifiableGroupList().removeListener(listener);
+        }
+        course.getModifiableGroupList().forEach(this::unindexGroup);
+    }
+
+    private void indexGroup(Course course, Group group) {
+        ItemList.ChangeListener<Student> listener = changes -> changes.forEach(change -> {
+            change.getRemoved().forEach(student -> removeEnrollment(group, student));
+            change.getAdded().forEach(student -> addEnrollment(new Enrollment(course, group, student)));
+        });
+        studentListeners.put(group, listener);
+        group.getModifiableStudentList().addListener(listener);
+        group.getModifiableStudentList().forEach(student -> addEnrollment(new Enrollment(course, group, student)));
+    }
+
+    private void unindexGroup(Group group) {
+        ItemList.ChangeListener<Student> listener = studentListeners.remove(group);
+        if (listener != null) {
+            group.getModifiableStudentList().removeListener(listener);
+        }
+        group.getModifiableStudentList().forEach(student -> removeEnrollment(group, student));
+    }
+
+    private void addEnrollment(Enrollment enrollment) {
+        enrollmentsById.computeIfAbsent(enrollment.getStudent().getStudentId(), unused -> new LinkedHashSet<>())
+                .add(enrollment);
+        for (String token : nameTokens(enrollment.getStudent())) {
+            enrollmentsByNameToken.computeIfAbsent(token, unused -> new LinkedHashSet<>()).add(enrollment);
+        }
+    }
+
+    private void removeEnrollment(Group group, Student student) {
+        Set<Enrollment> enrollments = enrollmentsById.get(student.getStudentId());
+        if (enrollments == null) {
+            return;
+        }
+
+        Enrollment toRemove = enrollments.stream()
+                .filter(enrollment -> enrollment.getGroup() == group)
+                .findFirst()
+                .orElse(null);
+        if (toRemove == null) {
+            return;
+        }
+
+        removeFrom(enrollmentsById, student.getStudentId(), toRemove);
+        for (String token : nameTokens(toRemove.getStudent())) {
+            removeFrom(enrollmentsByNameToken, token, toRemove);
+        }
+    }
+
+    private static <K> void removeFrom(Map<K, Set<Enrollment>> map, K key, Enrollment enrollment) {
+        Set<Enrollment> enrollments = map.get(key);
+        if (enrollments != null) {
+            enrollments.remove(enrollment);
+            if (enrollments.isEmpty()) {
+                map.remove(key);
+            }
+        }
+    }
+
+    private static String[] nameTokens(Student student) {
+        return student.getName().fullName.toLowerCase().split("\\s+");
+    }
+
+    /**
+     * Represents a student's membership in a group of a course.
+     * Enrollments are compared by identity, so each one refers to exactly one entry in a group's student list.
+     */
+    public static class Enrollment {
+        private final Course course;
+        private final Group group;
+        private final Student student;
+
+        Enrollment(Course course, Group group, Student student) {
+            this.course = course;
+            this.group = group;
+            this.student = student;
+        }
+
+        public Course getCourse() {
+            return course;
+        }
+
+        public Group getGroup() {
+            return group;
+        }
+
+        public Student getStudent() {
+            return student;
+        }
+
+        @Override
+        public String toString() {
+            return student.getStudentId() + " " + student.getName() + " - " + course + " > " + group;
+        }
+    }
+}
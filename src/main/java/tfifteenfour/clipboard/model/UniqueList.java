@@ -3,26 +3,46 @@ package tfifteenfour.clipboard.model;
 import static java.util.Objects.requireNonNull;
 import static tfifteenfour.clipboard.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
-import tfifteenfour.clipboard.model.course.exceptions.DuplicateGroupException;
+import tfifteenfour.clipboard.commons.util.BkTree;
 
 
 /**
- * A list that enforces its items to be uniques
+ * A list that enforces its items to be uniques.
+ * The list is backed by a plain {@link ItemList}, so it can be used without JavaFX. The filtered and sorted view is
+ * only created once something filters, sorts or reads it, and JavaFX adapters are created by the UI for the one list
+ * it is displaying.
  */
 public abstract class UniqueList<T> implements Iterable<T> {
 
-    protected final ObservableList<T> internalList = FXCollections.observableArrayList();
-    protected final ObservableList<T> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    protected final ItemList<T> internalList = new ItemList<>();
+    protected final List<T> internalUnmodifiableList = Collections.unmodifiableList(internalList);
 
-    protected final FilteredList<T> filteredList = new FilteredList<>(internalList);
+    /**
+     * The filtered items in display order, created on first use. Sorting only reorders this view, so the backing
+     * list keeps its insertion order.
+     */
+    private ItemView<T> filteredView;
+
+    /** Edit distance index over {@link #getFuzzyKeys(Object)}, built on the first fuzzy search. */
+    private BkTree<T> fuzzyIndex;
+    private final ItemList.ChangeListener<T> fuzzyIndexUpdater = changes -> changes.forEach(change -> {
+        change.getRemoved().forEach(item -> getFuzzyKeys(item).forEach(key -> fuzzyIndex.remove(key, item)));
+        change.getAdded().forEach(this::addToFuzzyIndex);
+    });
 
     /**
      * Returns true if the list contains an equivalent item as the given argument.
@@ -44,7 +64,173 @@ public abstract class UniqueList<T> implements Iterable<T> {
      */
     public abstract void set(T target, T newItem);
 
-    protected abstract boolean elementsAreUnique(List<T> items);
+    /**
+     * Returns true if no two of {@code items} are the same, comparing their identity keys in a single pass.
+     */
+    protected boolean elementsAreUnique(List<T> items) {
+        Set<Object> identityKeys = new HashSet<>();
+        for (T item : items) {
+            if (!identityKeys.add(getIdentityKey(item))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the value that identifies {@code item} for uniqueness, such that two items are the same
+     * exactly when their identity keys are equal.
+     */
+    protected abstract Object getIdentityKey(T item);
+
+    /**
+     * Returns the exception to throw when an item would duplicate another item in the list.
+     */
+    protected abstract RuntimeException createDuplicateException();
+
+    /**
+     * Adds all of {@code toAdd} to the end of the list with a single change notification.
+     * None of the items may already exist in the list or be the same as another item being added.
+     */
+    public void addAll(Collection<? extends T> toAdd) {
+        requireAllNonNull(toAdd);
+        Set<Object> identityKeys = new HashSet<>();
+        internalList.forEach(item -> identityKeys.add(getIdentityKey(item)));
+        for (T item : toAdd) {
+            if (!identityKeys.add(getIdentityKey(item))) {
+                throw createDuplicateException();
+            }
+        }
+        internalList.addAll(toAdd);
+    }
+
+    /**
+     * Removes every item that satisfies {@code filter} with a single change notification.
+     * Returns true if any item was removed.
+     */
+    public boolean removeIf(Predicate<? super T> filter) {
+        requireNonNull(filter);
+        return internalList.removeIf(filter);
+    }
+
+    /**
+     * Keeps only the items that satisfy {@code filter}, removing the rest with a single change notification.
+     * Returns true if any item was removed.
+     */
+    public boolean retainIf(Predicate<? super T> filter) {
+        requireNonNull(filter);
+        return removeIf(filter.negate());
+    }
+
+    /**
+     * Removes all items from the list with a single change notification.
+     */
+    public void clear() {
+        internalList.clear();
+    }
+
+    /**
+     * Replaces every item with the result of applying {@code operator} to it, with a single change notification.
+     * The replaced items must still be unique, otherwise the list is left unchanged.
+     */
+    public void replaceAll(UnaryOperator<T> operator) {
+        requireNonNull(operator);
+        List<T> replacements = new ArrayList<>(internalList.size());
+        Set<Object> identityKeys = new HashSet<>();
+        for (T item : internalList) {
+            T replacement = requireNonNull(operator.apply(item));
+            if (!identityKeys.add(getIdentityKey(replacement))) {
+                throw createDuplicateException();
+            }
+            replacements.add(replacement);
+        }
+        internalList.setAll(replacements);
+    }
+
+    /**
+     * Returns the lowercased keys that {@link #fuzzySearch(List)} compares search terms against for the given item.
+     */
+    protected abstract List<String> getFuzzyKeys(T item);
+
+    /**
+     * Returns the items with a key within a few edits of any of the given keywords, ignoring case.
+     * Each item is returned once, ordered by the smallest edit distance between any of its keys and any keyword.
+     */
+    public List<BkTree.Match<T>> fuzzySearch(List<String> keywords) {
+        requireNonNull(keywords);
+        if (fuzzyIndex == null) {
+            buildFuzzyIndex();
+        }
+
+        Map<T, BkTree.Match<T>> bestMatches = new IdentityHashMap<>();
+        List<T> order = new ArrayList<>();
+        for (String keyword : keywords) {
+            String query = keyword.toLowerCase();
+            for (BkTree.Match<T> match : fuzzyIndex.search(query, BkTree.defaultTolerance(query))) {
+                BkTree.Match<T> best = bestMatches.get(match.getValue());
+                if (best == null) {
+                    order.add(match.getValue());
+                }
+                if (best == null || match.getDistance() < best.getDistance()) {
+                    bestMatches.put(match.getValue(), match);
+                }
+            }
+        }
+
+        List<BkTree.Match<T>> matches = new ArrayList<>();
+        order.forEach(item -> matches.add(bestMatches.get(item)));
+        matches.sort((first, second) -> first.getDistance() - second.getDistance());
+        return matches;
+    }
+
+    /**
+     * Indexes every item currently in the list and keeps the index in step with later changes to the backing list.
+     */
+    private void buildFuzzyIndex() {
+        fuzzyIndex = new BkTree<>();
+        internalList.forEach(this::addToFuzzyIndex);
+        internalList.addListener(fuzzyIndexUpdater);
+    }
+
+    /**
+     * Returns true if the index of {@link #fuzzySearch(List)} has been built.
+     */
+    public boolean hasFuzzyIndex() {
+        return fuzzyIndex != null;
+    }
+
+    /**
+     * Drops the index of {@link #fuzzySearch(List)}, if it was built, to free its memory.
+     * The index is built again on the next fuzzy search.
+     * @return true if an index was dropped.
+     */
+    public boolean dropFuzzyIndex() {
+        if (fuzzyIndex == null) {
+            return false;
+        }
+        internalList.removeListener(fuzzyIndexUpdater);
+        fuzzyIndex = null;
+        return true;
+    }
+
+    /**
+     * Returns the lowercased {@code name} followed by each of its words, so that a single misspelt word of a
+     * multi-word name can still be matched.
+     */
+    protected static List<String> nameKeys(String name) {
+        String normalizedName = name.toLowerCase();
+        List<String> keys = new ArrayList<>();
+        keys.add(normalizedName);
+        String[] words = normalizedName.split("\\s+");
+        if (words.length > 1) {
+            keys.addAll(Arrays.asList(words));
+        }
+        return keys;
+    }
+
+    private void addToFuzzyIndex(T item) {
+        getFuzzyKeys(item).forEach(key -> fuzzyIndex.add(key, item));
+    }
 
     /**
      * Removes the specified item from the list
@@ -65,36 +251,55 @@ public abstract class UniqueList<T> implements Iterable<T> {
     public void setInternalList(List<T> items) {
         requireAllNonNull(items);
         if (!elementsAreUnique(items)) {
-            throw new DuplicateGroupException();
+            throw createDuplicateException();
         }
 
         internalList.setAll(items);
     }
 
     /**
-     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * Returns the backing list as an unmodifiable list.
      */
-    public ObservableList<T> asUnmodifiableObservableList() {
+    public List<T> asUnmodifiableList() {
         return internalUnmodifiableList;
     }
 
     /**
-     * Returns the backing list as a modifiable {@code ObservableList}.
+     * Returns the backing list. Changes made through it are seen by every view and index of this list.
      */
-    public ObservableList<T> asModifiableObservableList() {
+    public ItemList<T> asModifiableList() {
         return internalList;
     }
 
-    public ObservableList<T> asUnmodifiableFilteredList() {
-        return FXCollections.unmodifiableObservableList(filteredList);
+    /**
+     * Returns the filtered items, in the order given by the last call to {@link #updateSortComparator(Comparator)},
+     * as a live read-only view.
+     */
+    public ItemView<T> asUnmodifiableFilteredList() {
+        if (filteredView == null) {
+            filteredView = new ItemView<>(internalList);
+        }
+        return filteredView;
     }
 
-    public ObservableList<T> asModifiableFilteredList() {
-        return filteredList;
+    public void updateFilterPredicate(Predicate<T> predicate) {
+        asUnmodifiableFilteredList().setPredicate(predicate);
     }
 
-    public void updateFilterPredicate(Predicate<T> predicate) {
-        this.filteredList.setPredicate(predicate);
+    /**
+     * Displays the filtered items in the order of {@code comparator}, or in insertion order if it is null,
+     * without reordering the backing list.
+     */
+    public void updateSortComparator(Comparator<? super T> comparator) {
+        asUnmodifiableFilteredList().setComparator(comparator);
+    }
+
+    /**
+     * Returns the comparator given by the last call to {@link #updateSortComparator(Comparator)}, or null if the
+     * filtered items are in insertion order.
+     */
+    public Comparator<? super T> getSortComparator() {
+        return filteredView == null ? null : filteredView.getComparator();
     }
 
     @Override
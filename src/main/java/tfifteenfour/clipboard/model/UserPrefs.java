@@ -16,6 +16,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private GuiSettings guiSettings = new GuiSettings();
     private Path rosterFilePath = Paths.get("data" , "roster.json");
     private Path sampleFilePath = Paths.get("data", "sampleRoster.json");
+    private boolean isFlightRecordingEnabled = false;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -37,6 +38,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setRosterFilePath(newUserPrefs.getRosterFilePath());
+        setFlightRecordingEnabled(newUserPrefs.isFlightRecordingEnabled());
     }
 
     public GuiSettings getGuiSettings() {
@@ -61,6 +63,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.rosterFilePath = rosterFilePath;
     }
 
+    public boolean isFlightRecordingEnabled() {
+        return isFlightRecordingEnabled;
+    }
+
+    public void setFlightRecordingEnabled(boolean isFlightRecordingEnabled) {
+        this.isFlightRecordingEnabled = isFlightRecordingEnabled;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -73,12 +83,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && rosterFilePath.equals(o.rosterFilePath);
+                && rosterFilePath.equals(o.rosterFilePath)
+                && isFlightRecordingEnabled == o.isFlightRecordingEnabled;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, rosterFilePath);
+        return Objects.hash(guiSettings, rosterFilePath, isFlightRecordingEnabled);
     }
 
     @Override
@@ -86,6 +97,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + rosterFilePath);
+        sb.append("\nFlight recording enabled : " + isFlightRecordingEnabled);
         return sb.toString();
     }
 
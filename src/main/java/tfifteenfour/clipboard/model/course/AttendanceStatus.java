@@ -0,0 +1,79 @@
+package tfifteenfour.clipboard.model.course;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
+/**
+ * Represents the attendance of a student in a session.
+ * Each status has a fixed code that is stored in the session's attendance map and in the save file, so codes of
+ * existing statuses must never change. Absent and present keep the codes 0 and 1 used before the other statuses
+ * were added.
+ */
+public enum AttendanceStatus {
+    ABSENT(0, "absent", "Absent", false),
+    PRESENT(1, "present", "Present", true),
+    LATE(2, "late", "Late", true),
+    EXCUSED(3, "excused", "Excused", false),
+    MEDICAL_LEAVE(4, "mc", "Medical leave", false);
+
+    /** Number of bits needed to store the code of any status. */
+    public static final int BITS = 32 - Integer.numberOfLeadingZeros(values().length - 1);
+
+    private static final AttendanceStatus[] BY_CODE = values();
+
+    private final int code;
+    private final String keyword;
+    private final String label;
+    private final boolean isAttended;
+
+    AttendanceStatus(int code, String keyword, String label, boolean isAttended) {
+        this.code = code;
+        this.keyword = keyword;
+        this.label = label;
+        this.isAttended = isAttended;
+    }
+
+    /**
+     * Returns the status stored as {@code code}.
+     * @throws IllegalArgumentException if no status has that code.
+     */
+    public static AttendanceStatus fromCode(int code) {
+        if (code < 0 || code >= BY_CODE.length) {
+            throw new IllegalArgumentException("Unknown attendance code: " + code);
+        }
+        return BY_CODE[code];
+    }
+
+    /**
+     * Returns the status that the user types as {@code keyword}, ignoring case, if there is one.
+     */
+    public static Optional<AttendanceStatus> fromKeyword(String keyword) {
+        requireNonNull(keyword);
+        for (AttendanceStatus status : BY_CODE) {
+            if (status.keyword.equalsIgnoreCase(keyword)) {
+                return Optional.of(status);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Returns true if a student with this status counts as having attended the session.
+     */
+    public boolean isAttended() {
+        return isAttended;
+    }
+}
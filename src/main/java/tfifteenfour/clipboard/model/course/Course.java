@@ -2,9 +2,12 @@ package tfifteenfour.clipboard.model.course;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
 import java.util.function.Predicate;
 
-import javafx.collections.ObservableList;
+import tfifteenfour.clipboard.commons.util.BkTree;
+import tfifteenfour.clipboard.model.ItemList;
+import tfifteenfour.clipboard.model.ItemView;
 
 /**
  * Represents a Course in the CLIpboard.
@@ -38,16 +41,14 @@ public class Course {
      */
     public Course copy() {
         Course copy = new Course(this.courseCode);
-        UniqueGroupsList groupsCopy = new UniqueGroupsList();
-        groups.asUnmodifiableObservableList().forEach(group -> groupsCopy.add(group.copy()));
-        copy.setGroups(groupsCopy);
+        copy.setGroups(groups.copy());
 
         return copy;
 
     }
 
     public void setGroups(UniqueGroupsList groups) {
-        this.groups.setInternalList(groups.asUnmodifiableObservableList());
+        this.groups.setInternalList(groups.asUnmodifiableList());
     }
 
     /**
@@ -58,15 +59,15 @@ public class Course {
     }
 
 
-    public ObservableList<Group> getUnmodifiableGroupList() {
-        return groups.asUnmodifiableObservableList();
+    public List<Group> getUnmodifiableGroupList() {
+        return groups.asUnmodifiableList();
     }
 
-    public ObservableList<Group> getModifiableGroupList() {
-        return groups.asModifiableObservableList();
+    public ItemList<Group> getModifiableGroupList() {
+        return groups.asModifiableList();
     }
 
-    public ObservableList<Group> getUnmodifiableFilteredGroupList() {
+    public ItemView<Group> getUnmodifiableFilteredGroupList() {
         return groups.asUnmodifiableFilteredList();
     }
 
@@ -74,6 +75,25 @@ public class Course {
         this.groups.updateFilterPredicate(predicate);
     }
 
+    /**
+     * Returns the groups in this course whose name is within a few edits of any of the given keywords, closest first.
+     */
+    public List<BkTree.Match<Group>> fuzzySearchGroups(List<String> keywords) {
+        return groups.fuzzySearch(keywords);
+    }
+
+    public boolean hasGroupFuzzyIndex() {
+        return groups.hasFuzzyIndex();
+    }
+
+    /**
+     * Drops the fuzzy search index of the groups of this course, if it was built.
+     * @return true if an index was dropped.
+     */
+    public boolean dropGroupFuzzyIndex() {
+        return groups.dropFuzzyIndex();
+    }
+
 
     /**
      * Returns course code
@@ -127,6 +147,13 @@ public class Course {
         groups.remove(group);
     }
 
+    /**
+     * Deletes all groups from this course.
+     */
+    public void clearGroups() {
+        groups.clear();
+    }
+
     public void setGroup(Group groupToReplace, Group newGroup) {
         groups.set(groupToReplace, newGroup);
     }
@@ -2,9 +2,16 @@ package tfifteenfour.clipboard.model.course;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
-import javafx.collections.ObservableList;
+import tfifteenfour.clipboard.commons.util.BkTree;
+import tfifteenfour.clipboard.model.ItemList;
+import tfifteenfour.clipboard.model.ItemView;
 import tfifteenfour.clipboard.model.student.Student;
 import tfifteenfour.clipboard.model.student.UniqueStudentsList;
 import tfifteenfour.clipboard.model.task.Task;
@@ -42,56 +49,67 @@ public class Group {
     public Group(String groupName) {
         requireNonNull(groupName);
         this.groupName = groupName;
+        sessions.asModifiableList().addListener(changes -> refreshSortedStudents());
+        tasks.asModifiableList().addListener(changes -> refreshSortedStudents());
     }
 
     /**
      * Creates a copy of this instance. Used for saving states by undo command.
+     * The copy shows its students in the same order as this group.
      * @return a copy of this instance.
      */
     public Group copy() {
         Group copy = new Group(this.groupName);
-        UniqueStudentsList studentsCopy = new UniqueStudentsList();
+        UniqueStudentsList studentsCopy = students.copy();
         UniqueSessionsList sessionsCopy = new UniqueSessionsList();
         UniqueTasksList tasksCopy = new UniqueTasksList();
 
-        students.asUnmodifiableObservableList().forEach(student -> studentsCopy.add(student.copy()));
-        sessions.asUnmodifiableObservableList().forEach(session -> sessionsCopy.add(session.copy()));
-        tasks.asUnmodifiableObservableList().forEach(task -> tasksCopy.add(task.copy()));
+        sessionsCopy.addAll(sessions.asUnmodifiableList().stream()
+                .map(Session::copy).collect(Collectors.toList()));
+        tasksCopy.addAll(tasks.asUnmodifiableList().stream()
+                .map(Task::copy).collect(Collectors.toList()));
 
         copy.setStudents(studentsCopy);
         copy.setSessions(sessionsCopy);
         copy.setTasks(tasksCopy);
-        return copy;
 
+        Comparator<? super Student> sortComparator = students.getSortComparator();
+        if (sortComparator instanceof GroupStudentComparator) {
+            sortComparator = ((GroupStudentComparator) sortComparator).forGroup(copy);
+        }
+        if (sortComparator != null) {
+            copy.updateSortedStudents(sortComparator);
+        }
+        return copy;
     }
 
     public void setStudents(UniqueStudentsList students) {
-        this.students.setInternalList(students.asUnmodifiableObservableList());;
+        this.students.setInternalList(students.asUnmodifiableList());;
     }
 
     public void setSessions(UniqueSessionsList sessions) {
-        this.sessions.setInternalList(sessions.asUnmodifiableObservableList());;
+        this.sessions.setInternalList(sessions.asUnmodifiableList());;
     }
 
     public void setTasks(UniqueTasksList tasks) {
-        this.tasks.setInternalList(tasks.asUnmodifiableObservableList());;
+        this.tasks.setInternalList(tasks.asUnmodifiableList());;
     }
 
     /**
      * Returns the modifiable internal list of students in this group.
      */
-    public ObservableList<Student> getModifiableStudentList() {
-        return students.asModifiableObservableList();
+    public ItemList<Student> getModifiableStudentList() {
+        return students.asModifiableList();
     }
 
     /**
      * Returns an unmodifiable view of the list of students in this group.
      */
-    public ObservableList<Student> getUnmodifiableStudentList() {
-        return students.asUnmodifiableObservableList();
+    public List<Student> getUnmodifiableStudentList() {
+        return students.asUnmodifiableList();
     }
 
-    public ObservableList<Student> getUnmodifiableFilteredStudentList() {
+    public ItemView<Student> getUnmodifiableFilteredStudentList() {
         return students.asUnmodifiableFilteredList();
     }
 
@@ -99,34 +117,34 @@ public class Group {
     /**
      * Returns an unmodifiable view of the list of sessions in this group.
      */
-    public ObservableList<Session> getUnmodifiableSessionList() {
-        return sessions.asUnmodifiableObservableList();
+    public List<Session> getUnmodifiableSessionList() {
+        return sessions.asUnmodifiableList();
     }
 
-    public ObservableList<Session> getModifiableSessionList() {
-        return sessions.asModifiableObservableList();
+    public ItemList<Session> getModifiableSessionList() {
+        return sessions.asModifiableList();
     }
 
-    public ObservableList<Session> getUnmodifiableFilteredSessionList() {
+    public ItemView<Session> getUnmodifiableFilteredSessionList() {
         return sessions.asUnmodifiableFilteredList();
     }
 
     /**
      * Returns an unmodifiable view of the list of tasks in this group.
      */
-    public ObservableList<Task> getUnmodifiableTaskList() {
-        return tasks.asUnmodifiableObservableList();
+    public List<Task> getUnmodifiableTaskList() {
+        return tasks.asUnmodifiableList();
     }
 
-    public ObservableList<Task> getUnmodifiableFilteredTaskList() {
+    public ItemView<Task> getUnmodifiableFilteredTaskList() {
         return tasks.asUnmodifiableFilteredList();
     }
 
     /**
      * Returns a modifiable view of the list of tasks in this group.
      */
-    public ObservableList<Task> getModifiableTaskList() {
-        return tasks.asModifiableObservableList();
+    public ItemList<Task> getModifiableTaskList() {
+        return tasks.asModifiableList();
     }
 
     public void updateFilteredSessions(Predicate<Session> predicate) {
@@ -137,10 +155,84 @@ public class Group {
         tasks.updateFilterPredicate(predicate);
     }
 
+    /**
+     * Displays the students of this group in the order of {@code comparator} without reordering the group itself.
+     */
+    public void updateSortedStudents(Comparator<? super Student> comparator) {
+        students.updateSortComparator(comparator);
+    }
+
+    /**
+     * Sorts the students of this group again if they are sorted by a {@link GroupStudentComparator}, which reads the
+     * sessions and tasks of the group. Must be called after attendance or grades change, as those changes are not
+     * seen by the list of students.
+     */
+    public void refreshSortedStudents() {
+        Comparator<? super Student> comparator = students.getSortComparator();
+        if (comparator instanceof GroupStudentComparator) {
+            updateSortedStudents(((GroupStudentComparator) comparator).forGroup(this));
+        }
+    }
+
     public void updateFilteredStudents(Predicate<Student> predicate) {
         students.updateFilterPredicate(predicate);
     }
 
+    /**
+     * Returns the students in this group whose particulars contain any of the given keywords, ignoring case.
+     * The lookup is served by the group's search index instead of testing every student.
+     */
+    public Set<Student> searchStudents(List<String> keywords) {
+        return students.search(keywords);
+    }
+
+    public boolean hasStudentSearchIndex() {
+        return students.hasSearchIndex();
+    }
+
+    /**
+     * Returns the number of fuzzy search indexes built over the students, sessions and tasks of this group.
+     */
+    public int countFuzzyIndexes() {
+        return (students.hasFuzzyIndex() ? 1 : 0) + (sessions.hasFuzzyIndex() ? 1 : 0)
+                + (tasks.hasFuzzyIndex() ? 1 : 0);
+    }
+
+    /**
+     * Drops the search and fuzzy search indexes of the students, sessions and tasks of this group, if they were
+     * built. Each is built again on its next search.
+     * @return the number of indexes dropped.
+     */
+    public int dropSearchIndexes() {
+        int dropped = students.dropSearchIndex() ? 1 : 0;
+        dropped += students.dropFuzzyIndex() ? 1 : 0;
+        dropped += sessions.dropFuzzyIndex() ? 1 : 0;
+        dropped += tasks.dropFuzzyIndex() ? 1 : 0;
+        return dropped;
+    }
+
+    /**
+     * Returns the students in this group whose name or student ID is within a few edits of any of the given
+     * keywords, closest first.
+     */
+    public List<BkTree.Match<Student>> fuzzySearchStudents(List<String> keywords) {
+        return students.fuzzySearch(keywords);
+    }
+
+    /**
+     * Returns the sessions in this group whose name is within a few edits of any of the given keywords, closest first.
+     */
+    public List<BkTree.Match<Session>> fuzzySearchSessions(List<String> keywords) {
+        return sessions.fuzzySearch(keywords);
+    }
+
+    /**
+     * Returns the tasks in this group whose name is within a few edits of any of the given keywords, closest first.
+     */
+    public List<BkTree.Match<Task>> fuzzySearchTasks(List<String> keywords) {
+        return tasks.fuzzySearch(keywords);
+    }
+
 
     /**
      * Adds the given student to this group.
@@ -157,6 +249,21 @@ public class Group {
         }
     }
 
+    /**
+     * Adds all of the given students to this group at once, updating each session and task only once.
+     * @param studentsToAdd Students to be added, none of which may already be in this group.
+     */
+    public void addStudents(Collection<Student> studentsToAdd) {
+        this.students.addAll(studentsToAdd);
+        for (Session session : sessions) {
+            session.setStudents(students);
+        }
+
+        for (Task task : tasks) {
+            task.setStudents(students);
+        }
+    }
+
     /**
      * Adds the given session to this group.
      * @param session Session to be added.
@@ -207,6 +314,34 @@ public class Group {
         this.students.remove(student);
     }
 
+    /**
+     * Deletes every student in this group that satisfies {@code filter} at once.
+     */
+    public void deleteStudents(Predicate<? super Student> filter) {
+        this.students.removeIf(filter);
+    }
+
+    /**
+     * Deletes all students from this group.
+     */
+    public void clearStudents() {
+        this.students.clear();
+    }
+
+    /**
+     * Deletes all sessions from this group.
+     */
+    public void clearSessions() {
+        this.sessions.clear();
+    }
+
+    /**
+     * Deletes all tasks from this group.
+     */
+    public void clearTasks() {
+        this.tasks.clear();
+    }
+
     public void setStudent(Student studentToReplace, Student newStudent) {
         this.students.set(studentToReplace, newStudent);
     }
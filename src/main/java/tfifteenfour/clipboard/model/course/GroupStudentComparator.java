@@ -0,0 +1,17 @@
+package tfifteenfour.clipboard.model.course;
+
+import java.util.Comparator;
+
+import tfifteenfour.clipboard.model.student.Student;
+
+/**
+ * A comparator of students that reads the sessions or tasks of a group, such as to sort by attendance or grade.
+ */
+public interface GroupStudentComparator extends Comparator<Student> {
+
+    /**
+     * Returns a comparator that orders students in the same way, but reads the sessions and tasks of {@code group}.
+     * Used to keep a copied group sorted in the same way as the original.
+     */
+    GroupStudentComparator forGroup(Group group);
+}
@@ -2,11 +2,15 @@ package tfifteenfour.clipboard.model.course;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.logging.Logger;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import tfifteenfour.clipboard.commons.core.LogsCenter;
+import tfifteenfour.clipboard.model.Object2IntMap;
 import tfifteenfour.clipboard.model.course.exceptions.StudentNotInSessionException;
 import tfifteenfour.clipboard.model.student.Student;
 import tfifteenfour.clipboard.model.student.StudentWithAttendance;
@@ -23,15 +27,17 @@ public class Session {
             "Session names can only contain alphanumeric and special characters";
     public static final String VALIDATION_REGEX = "^[\\p{Alnum}\\p{Punct}]+$";
 
+    private static final Logger logger = LogsCenter.getLogger(Session.class);
+
     private final String sessionName;
     private Boolean isSelected;
 
     /**
      * A map that stores the attendance record for each student in the session.
-     * The key is the Student object, and the value is an integer indicating the attendance status:
-     * 0 for absent, 1 for present.
+     * The key is the Student object, and the value is the code of its {@link AttendanceStatus}, packed into
+     * {@link AttendanceStatus#BITS} bits.
      */
-    private Map<Student, Integer> attendance;
+    private Object2IntMap<Student> attendance;
 
     /**
      * Constructs a {@code Session} with the given session name.
@@ -40,19 +46,18 @@ public class Session {
     public Session(String sessionName) {
         requireNonNull(sessionName);
         this.sessionName = sessionName;
-        attendance = new HashMap<>();
+        attendance = new Object2IntMap<>(0, AttendanceStatus.BITS);
         isSelected = false;
     }
 
     /**
      * Returns an unmodifiable list of the students who are in the session.
      */
-    public ObservableList<StudentWithAttendance> getUnmodifiableStudentList() {
-        ObservableList<StudentWithAttendance> students = FXCollections.observableArrayList();
-        for (Student student : attendance.keySet()) {
-            students.add(new StudentWithAttendance(student, attendance.get(student)));
-        }
-        return students;
+    public List<StudentWithAttendance> getUnmodifiableStudentList() {
+        List<StudentWithAttendance> students = new ArrayList<>(attendance.size());
+        attendance.forEachInt((student, code) ->
+                students.add(new StudentWithAttendance(student, AttendanceStatus.fromCode(code))));
+        return Collections.unmodifiableList(students);
     }
 
     /**
@@ -67,10 +72,37 @@ public class Session {
      * Returns the attendance record for each student in the session.
      * @return A map that stores the attendance record for each student in the session.
      */
-    public Map<Student, Integer> getAttendance() {
+    public Object2IntMap<Student> getAttendance() {
         return this.attendance;
     }
 
+    /**
+     * Returns the attendance status of {@code student} in this session, or absent if the student is not in it.
+     */
+    public AttendanceStatus getAttendance(Student student) {
+        return AttendanceStatus.fromCode(attendance.getInt(student, AttendanceStatus.ABSENT.getCode()));
+    }
+
+    /**
+     * Returns the number of students in this session with the given attendance status.
+     */
+    public int count(AttendanceStatus status) {
+        return attendance.countValue(status.getCode());
+    }
+
+    /**
+     * Returns the number of students who attended this session, whether on time or late.
+     */
+    public int countAttended() {
+        int attended = 0;
+        for (AttendanceStatus status : AttendanceStatus.values()) {
+            if (status.isAttended()) {
+                attended += count(status);
+            }
+        }
+        return attended;
+    }
+
     /**
      * Checks if the given Session object is the same as this Session object.
      * @param otherSession The Session object to be compared with this Session object.
@@ -95,22 +127,27 @@ public class Session {
     }
 
     /**
-     * Sets the list of students who are in the session.This will create a new hashMap and assign it
+     * Sets the list of students who are in the session.This will create a new map and assign it
      * to {@code attendance} instead of modifying {@code attendance}.
      *
      * @param students The list of students who are in the session.
      */
     public void setStudents(UniqueStudentsList students) {
         assert attendance != null : "Attendance should not be null!";
-        Map<Student, Integer> newAttendance = new HashMap<>();
+        Object2IntMap<Student> newAttendance =
+                new Object2IntMap<>(students.asUnmodifiableList().size(), AttendanceStatus.BITS);
         for (Student student : students) {
-            newAttendance.put(student, attendance.getOrDefault(student, 0));
+            newAttendance.putInt(student, attendance.getInt(student, 0));
         }
         attendance = newAttendance;
     }
 
+    /**
+     * Replaces the attendance of this session with a copy of {@code attendance}, whose values are status codes.
+     * Copying another session's attendance clones its arrays without rehashing any student.
+     */
     public void setAttendance(Map<Student, Integer> attendance) {
-        this.attendance = new HashMap<>(attendance);
+        this.attendance = new Object2IntMap<>(attendance, AttendanceStatus.BITS);
     }
 
     /**
@@ -122,27 +159,65 @@ public class Session {
         if (!attendance.containsKey(oldStudent)) {
             throw new StudentNotInSessionException();
         } else {
-            int value = attendance.get(oldStudent);
-            attendance.remove(oldStudent);
-            attendance.put(newStudent, value);
+            int value = attendance.removeInt(oldStudent, 0);
+            attendance.putInt(newStudent, value);
         }
     }
 
     /**
-     * Marks the given student as present in this session.
+     * Sets the attendance of the given student in this session to {@code status}.
      *
-     * @param student The student to mark as present.
+     * @param student The student to mark.
+     * @param status The attendance status to record.
      * @throws StudentNotInSessionException If the given student is not enrolled in this session.
      */
-    public void markPresent(Student student) throws StudentNotInSessionException {
+    public void mark(Student student, AttendanceStatus status) throws StudentNotInSessionException {
         requireNonNull(student);
+        requireNonNull(status);
         assert attendance != null : "Attendance should not be null!";
 
         if (!attendance.containsKey(student)) {
             throw new StudentNotInSessionException();
         }
-        attendance.put(student, 1);
-        System.out.println("Marked student " + student.getName() + " present in session " + sessionName);
+        attendance.putInt(student, status.getCode());
+        logger.fine(() -> "Marked student " + student.getName() + " " + status.getKeyword()
+                + " in session " + sessionName);
+    }
+
+    /**
+     * Sets the attendance of every student in {@code students} in this session to {@code status}.
+     * Every student is checked before any attendance changes, so either all of them are marked or none are.
+     *
+     * @param students The students to mark.
+     * @param status The attendance status to record.
+     * @throws StudentNotInSessionException If any of the given students is not enrolled in this session.
+     */
+    public void markAll(Collection<? extends Student> students, AttendanceStatus status)
+            throws StudentNotInSessionException {
+        requireNonNull(students);
+        requireNonNull(status);
+        assert attendance != null : "Attendance should not be null!";
+
+        for (Student student : students) {
+            if (!attendance.containsKey(student)) {
+                throw new StudentNotInSessionException();
+            }
+        }
+        for (Student student : students) {
+            attendance.putInt(student, status.getCode());
+        }
+        logger.fine(() -> "Marked " + students.size() + " student(s) " + status.getKeyword()
+                + " in session " + sessionName);
+    }
+
+    /**
+     * Marks the given student as present in this session.
+     *
+     * @param student The student to mark as present.
+     * @throws StudentNotInSessionException If the given student is not enrolled in this session.
+     */
+    public void markPresent(Student student) throws StudentNotInSessionException {
+        mark(student, AttendanceStatus.PRESENT);
     }
 
     /**
@@ -152,14 +227,7 @@ public class Session {
      * @throws StudentNotInSessionException If the given student is not enrolled in this session.
      */
     public void markAbsent(Student student) throws StudentNotInSessionException {
-        requireNonNull(student);
-        assert attendance != null : "Attendance should not be null!";
-
-        if (!attendance.containsKey(student)) {
-            throw new StudentNotInSessionException();
-        }
-        attendance.put(student, 0);
-        System.out.println("Marked student " + student.getName() + " absent in session " + sessionName);
+        mark(student, AttendanceStatus.ABSENT);
     }
 
     /**
@@ -168,7 +236,7 @@ public class Session {
      */
     public Session copy() {
         Session copy = new Session(this.sessionName);
-        copy.setAttendance(new HashMap<>(attendance));
+        copy.setAttendance(attendance);
 
         return copy;
     }
@@ -3,6 +3,7 @@ package tfifteenfour.clipboard.model.course;
 import static java.util.Objects.requireNonNull;
 import static tfifteenfour.clipboard.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 
@@ -26,8 +27,9 @@ public class UniqueCoursesList extends UniqueList<Course> {
     @Override
     public UniqueCoursesList copy() {
         UniqueCoursesList copy = new UniqueCoursesList();
-        this.internalList.forEach(course -> copy.add(course.copy()));
-
+        List<Course> items = new ArrayList<>(internalList.size());
+        this.internalList.forEach(course -> items.add(course.copy()));
+        copy.addAll(items);
 
         return copy;
     }
@@ -92,17 +94,21 @@ public class UniqueCoursesList extends UniqueList<Course> {
         return internalList.hashCode();
     }
 
+    @Override
+    protected Object getIdentityKey(Course course) {
+        return course.getCourseCode();
+    }
+
+    @Override
+    protected RuntimeException createDuplicateException() {
+        return new DuplicateGroupException();
+    }
+
     /**
-     * Returns true if {@code courses} contains only unique courses.
+     * Returns the lowercased course code of {@code course} for fuzzy searching.
      */
-    protected boolean elementsAreUnique(List<Course> courses) {
-        for (int i = 0; i < courses.size() - 1; i++) {
-            for (int j = i + 1; j < courses.size(); j++) {
-                if (courses.get(i).isSameCourse(courses.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+    @Override
+    protected List<String> getFuzzyKeys(Course course) {
+        return nameKeys(course.getCourseCode());
     }
 }
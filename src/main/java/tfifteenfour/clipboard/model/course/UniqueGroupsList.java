@@ -3,6 +3,7 @@ package tfifteenfour.clipboard.model.course;
 import static java.util.Objects.requireNonNull;
 import static tfifteenfour.clipboard.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 
@@ -26,7 +27,9 @@ public class UniqueGroupsList extends UniqueList<Group> {
     @Override
     public UniqueGroupsList copy() {
         UniqueGroupsList copy = new UniqueGroupsList();
-        this.internalList.forEach(group -> copy.add(group.copy()));
+        List<Group> items = new ArrayList<>(internalList.size());
+        this.internalList.forEach(group -> items.add(group.copy()));
+        copy.addAll(items);
 
         return copy;
     }
@@ -90,17 +93,21 @@ public class UniqueGroupsList extends UniqueList<Group> {
         return internalList.hashCode();
     }
 
+    @Override
+    protected Object getIdentityKey(Group group) {
+        return group.getGroupName();
+    }
+
+    @Override
+    protected RuntimeException createDuplicateException() {
+        return new DuplicateGroupException();
+    }
+
     /**
-     * Returns true if {@code groups} contains only unique groups.
+     * Returns the lowercased group name of {@code group} for fuzzy searching.
      */
-    protected boolean elementsAreUnique(List<Group> groups) {
-        for (int i = 0; i < groups.size() - 1; i++) {
-            for (int j = i + 1; j < groups.size(); j++) {
-                if (groups.get(i).isSameGroup(groups.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+    @Override
+    protected List<String> getFuzzyKeys(Group group) {
+        return nameKeys(group.getGroupName());
     }
 }
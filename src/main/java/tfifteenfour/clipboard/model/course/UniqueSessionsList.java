@@ -26,7 +26,7 @@ public class UniqueSessionsList extends UniqueList<Session> {
     @Override
     public UniqueSessionsList copy() {
         UniqueSessionsList copy = new UniqueSessionsList();
-        this.internalList.forEach(session -> copy.add(session));
+        copy.addAll(internalList);
 
         return copy;
     }
@@ -91,18 +91,21 @@ public class UniqueSessionsList extends UniqueList<Session> {
         return internalList.hashCode();
     }
 
+    @Override
+    protected Object getIdentityKey(Session session) {
+        return session.getSessionName();
+    }
+
+    @Override
+    protected RuntimeException createDuplicateException() {
+        return new DuplicateSessionException();
+    }
+
     /**
-     * Returns true if {@code Sessions} contains only unique Sessions.
+     * Returns the lowercased session name of {@code session} for fuzzy searching.
      */
     @Override
-    protected boolean elementsAreUnique(List<Session> sessions) {
-        for (int i = 0; i < sessions.size() - 1; i++) {
-            for (int j = i + 1; j < sessions.size(); j++) {
-                if (sessions.get(i).isSameSession(sessions.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+    protected List<String> getFuzzyKeys(Session session) {
+        return nameKeys(session.getSessionName());
     }
 }
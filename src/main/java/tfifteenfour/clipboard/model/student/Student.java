@@ -3,11 +3,10 @@ package tfifteenfour.clipboard.model.student;
 import static tfifteenfour.clipboard.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 
 /**
  * Represents a Student in the address book.
@@ -124,10 +123,8 @@ public class Student {
         this.sessionsWithAttendance = sessions;
     }
 
-    public ObservableList<SessionWithAttendance> getObservableSessionList() {
-        ObservableList<SessionWithAttendance> observableSessionList = FXCollections.observableArrayList();
-        observableSessionList.addAll(sessionsWithAttendance);
-        return observableSessionList;
+    public List<SessionWithAttendance> getSessionList() {
+        return Collections.unmodifiableList(sessionsWithAttendance);
     }
 
 }
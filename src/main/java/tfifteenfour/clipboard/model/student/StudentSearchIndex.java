@@ -0,0 +1,160 @@
+package tfifteenfour.clipboard.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A trigram inverted index over the searchable particulars of the students in a single group.
+ * The name, student ID, email, phone and remark of each student are lowercased once when the student is indexed,
+ * and every trigram of every field is mapped to the students containing it.
+ * A substring query is answered by intersecting the posting lists of its trigrams, and the few remaining
+ * candidates are then verified against their cached normalized text.
+ */
+public class StudentSearchIndex {
+
+    public static final int GRAM_LENGTH = 3;
+
+    /** Separates fields in the normalized text so that no keyword can match across two fields. */
+    private static final char FIELD_SEPARATOR = '\u0000';
+
+    private final Map<String, Set<Student>> postings = new HashMap<>();
+    private final Map<Student, String> normalizedText = new HashMap<>();
+
+    /**
+     * Adds the given student to the index.
+     */
+    public void add(Student student) {
+        requireNonNull(student);
+        String[] fields = normalizedFields(student);
+        normalizedText.put(student, String.join(String.valueOf(FIELD_SEPARATOR), fields));
+
+        for (String field : fields) {
+            for (int i = 0; i + GRAM_LENGTH <= field.length(); i++) {
+                postings.computeIfAbsent(field.substring(i, i + GRAM_LENGTH), unused -> new HashSet<>())
+                        .add(student);
+            }
+        }
+    }
+
+    /**
+     * Removes the given student from the index. Does nothing if the student is not indexed.
+     */
+    public void remove(Student student) {
+        requireNonNull(student);
+        String text = normalizedText.remove(student);
+        if (text == null) {
+            return;
+        }
+
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            String gram = text.substring(i, i + GRAM_LENGTH);
+            Set<Student> posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(student);
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes all students from the index.
+     */
+    public void clear() {
+        postings.clear();
+        normalizedText.clear();
+    }
+
+    /**
+     * Returns the number of students in the index.
+     */
+    public int size() {
+        return normalizedText.size();
+    }
+
+    /**
+     * Returns the students whose particulars contain any of the given keywords, ignoring case.
+     */
+    public Set<Student> search(List<String> keywords) {
+        requireNonNull(keywords);
+        Set<Student> matches = new HashSet<>();
+        for (String keyword : keywords) {
+            matches.addAll(search(keyword));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the students whose particulars contain the given keyword, ignoring case.
+     */
+    public Set<Student> search(String keyword) {
+        requireNonNull(keyword);
+        String normalizedKeyword = keyword.toLowerCase();
+        if (normalizedKeyword.isEmpty()) {
+            return new HashSet<>(normalizedText.keySet());
+        }
+
+        Set<Student> matches = new HashSet<>();
+        for (Student candidate : findCandidates(normalizedKeyword)) {
+            if (normalizedText.get(candidate).contains(normalizedKeyword)) {
+                matches.add(candidate);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the students that contain every trigram of {@code normalizedKeyword}.
+     * Keywords shorter than a trigram have no grams to look up, so every indexed student is a candidate.
+     */
+    private Set<Student> findCandidates(String normalizedKeyword) {
+        if (normalizedKeyword.length() < GRAM_LENGTH) {
+            return normalizedText.keySet();
+        }
+
+        List<Set<Student>> lists = new ArrayList<>();
+        for (int i = 0; i + GRAM_LENGTH <= normalizedKeyword.length(); i++) {
+            Set<Student> posting = postings.get(normalizedKeyword.substring(i, i + GRAM_LENGTH));
+            if (posting == null) {
+                return Collections.emptySet();
+            }
+            lists.add(posting);
+        }
+
+        // Walk the shortest posting list and probe the others
+        lists.sort(Comparator.comparingInt(Set::size));
+        Set<Student> candidates = new HashSet<>();
+        for (Student student : lists.get(0)) {
+            boolean isInAll = true;
+            for (int i = 1; i < lists.size() && isInAll; i++) {
+                isInAll = lists.get(i).contains(student);
+            }
+            if (isInAll) {
+                candidates.add(student);
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the lowercased searchable fields of the given student.
+     */
+    private static String[] normalizedFields(Student student) {
+        return new String[] {
+            student.getName().fullName.toLowerCase(),
+            student.getStudentId().value.toLowerCase(),
+            student.getEmail().value.toLowerCase(),
+            student.getPhone().value.toLowerCase(),
+            student.getRemark().value.toLowerCase()
+        };
+    }
+}
@@ -1,12 +1,14 @@
 package tfifteenfour.clipboard.model.student;
 
+import tfifteenfour.clipboard.model.course.AttendanceStatus;
+
 /**
  * A class representing a student with their attendance record.
  * Inherits from the Student class.
  */
 public class StudentWithAttendance extends Student {
     /** The attendance of the student. */
-    private final int attendance;
+    private final AttendanceStatus attendance;
 
     /**
      * Creates a new StudentWithAttendance object based on the provided Student object and attendance record.
@@ -14,7 +16,7 @@ public class StudentWithAttendance extends Student {
      * @param student The student object to be wrapped.
      * @param attendance The attendance record of the student.
      */
-    public StudentWithAttendance(Student student, int attendance) {
+    public StudentWithAttendance(Student student, AttendanceStatus attendance) {
         super(student.getName(), student.getPhone(), student.getEmail(), student.getStudentId(), student.getRemark());
         this.attendance = attendance;
     }
@@ -25,7 +27,7 @@ public class StudentWithAttendance extends Student {
      *
      * @return The attendance record of the student.
      */
-    public int getAttendance() {
+    public AttendanceStatus getAttendance() {
         return attendance;
     }
 
@@ -42,7 +44,7 @@ public class StudentWithAttendance extends Student {
                 .append("; Remark: ")
                 .append(getRemark())
                 .append("; Attendance: ")
-                .append(getAttendance());
+                .append(getAttendance().getLabel());
         return builder.toString();
     }
 }
@@ -3,8 +3,11 @@ package tfifteenfour.clipboard.model.student;
 import static java.util.Objects.requireNonNull;
 import static tfifteenfour.clipboard.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
+import tfifteenfour.clipboard.model.ItemList;
 import tfifteenfour.clipboard.model.UniqueList;
 import tfifteenfour.clipboard.model.student.exceptions.DuplicateStudentException;
 import tfifteenfour.clipboard.model.student.exceptions.StudentNotFoundException;
@@ -22,10 +25,19 @@ import tfifteenfour.clipboard.model.student.exceptions.StudentNotFoundException;
  */
 public class UniqueStudentsList extends UniqueList<Student> {
 
+    /** Trigram index over the particulars of the students, built on the first search. */
+    private StudentSearchIndex searchIndex;
+    private final ItemList.ChangeListener<Student> searchIndexUpdater = changes -> changes.forEach(change -> {
+        change.getRemoved().forEach(searchIndex::remove);
+        change.getAdded().forEach(searchIndex::add);
+    });
+
     @Override
     public UniqueStudentsList copy() {
         UniqueStudentsList copy = new UniqueStudentsList();
-        this.internalList.forEach(student -> copy.add(student.copy()));
+        List<Student> items = new ArrayList<>(internalList.size());
+        this.internalList.forEach(student -> items.add(student.copy()));
+        copy.addAll(items);
 
         return copy;
     }
@@ -73,6 +85,39 @@ public class UniqueStudentsList extends UniqueList<Student> {
         internalList.set(index, editedStudent);
     }
 
+    /**
+     * Returns the students whose particulars contain any of the given keywords, ignoring case.
+     * The search index is built on the first search and follows every change made to the backing list afterwards,
+     * including changes made through {@link #asModifiableList()}.
+     */
+    public Set<Student> search(List<String> keywords) {
+        if (searchIndex == null) {
+            searchIndex = new StudentSearchIndex();
+            internalList.forEach(searchIndex::add);
+            internalList.addListener(searchIndexUpdater);
+        }
+        return searchIndex.search(keywords);
+    }
+
+    /**
+     * Returns true if the index of {@link #search(List)} has been built.
+     */
+    public boolean hasSearchIndex() {
+        return searchIndex != null;
+    }
+
+    /**
+     * Drops the search index, if it was built, to free its memory. The index is built again on the next search.
+     * @return true if an index was dropped.
+     */
+    public boolean dropSearchIndex() {
+        if (searchIndex == null) {
+            return false;
+        }
+        internalList.removeListener(searchIndexUpdater);
+        searchIndex = null;
+        return true;
+    }
 
     @Override
     public boolean equals(Object other) {
@@ -81,18 +126,24 @@ public class UniqueStudentsList extends UniqueList<Student> {
                         && internalList.equals(((UniqueStudentsList) other).internalList));
     }
 
+    @Override
+    protected Object getIdentityKey(Student student) {
+        return student.getStudentId();
+    }
+
+    @Override
+    protected RuntimeException createDuplicateException() {
+        return new DuplicateStudentException();
+    }
+
     /**
-     * Returns true if {@code students} contains only unique students.
+     * Returns the lowercased name and each of its words, followed by the student ID of {@code student},
+     * for fuzzy searching.
      */
     @Override
-    protected boolean elementsAreUnique(List<Student> students) {
-        for (int i = 0; i < students.size() - 1; i++) {
-            for (int j = i + 1; j < students.size(); j++) {
-                if (students.get(i).isSameStudent(students.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+    protected List<String> getFuzzyKeys(Student student) {
+        List<String> keys = nameKeys(student.getName().fullName);
+        keys.add(student.getStudentId().value.toLowerCase());
+        return keys;
     }
 }
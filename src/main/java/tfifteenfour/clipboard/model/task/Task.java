@@ -2,11 +2,15 @@ package tfifteenfour.clipboard.model.task;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.logging.Logger;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import tfifteenfour.clipboard.commons.core.LogsCenter;
+import tfifteenfour.clipboard.model.Object2IntMap;
 import tfifteenfour.clipboard.model.course.exceptions.StudentNotInSessionException;
 import tfifteenfour.clipboard.model.student.Student;
 import tfifteenfour.clipboard.model.student.StudentWithGrades;
@@ -23,15 +27,16 @@ public class Task {
             "Tasks should only contain alphanumeric/special characters and spaces, and it should not be blank";
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} \\p{Punct}]*";
 
+    private static final Logger logger = LogsCenter.getLogger(Task.class);
+
     private final String taskName;
     private Boolean isSelected;
 
     /**
-     * A map that stores the attendance record for each student in the session.
-     * The key is the Student object, and the value is an integer indicating the attendance status:
-     * 0 for absent, 1 for present.
+     * A map that stores the grade of each student in the group for this task.
+     * The key is the Student object, and the value is the grade, with 0 if no grade has been assigned.
      */
-    private Map<Student, Integer> gradeList;
+    private Object2IntMap<Student> gradeList;
 
     /**
      * Constructs a {@code Task} with the given session name.
@@ -41,7 +46,7 @@ public class Task {
     public Task(String taskName) {
         requireNonNull(taskName);
         this.taskName = taskName;
-        gradeList = new HashMap<>();
+        gradeList = new Object2IntMap<>();
         isSelected = false;
     }
 
@@ -62,7 +67,7 @@ public class Task {
      */
     public Task copy() {
         Task copy = new Task(this.taskName);
-        copy.setGrades(new HashMap<>(gradeList));
+        copy.setGrades(gradeList);
 
         return copy;
     }
@@ -70,12 +75,10 @@ public class Task {
     /**
      * Returns an unmodifiable list of the students in the group with the task.
      */
-    public ObservableList<StudentWithGrades> getUnmodifiableStudentList() {
-        ObservableList<StudentWithGrades> students = FXCollections.observableArrayList();
-        for (Student student : gradeList.keySet()) {
-            students.add(new StudentWithGrades(student, gradeList.get(student)));
-        }
-        return students;
+    public List<StudentWithGrades> getUnmodifiableStudentList() {
+        List<StudentWithGrades> students = new ArrayList<>(gradeList.size());
+        gradeList.forEachInt((student, grade) -> students.add(new StudentWithGrades(student, grade)));
+        return Collections.unmodifiableList(students);
     }
 
     /**
@@ -92,12 +95,23 @@ public class Task {
      *
      * @return A map that stores the grade list in the current group for the current task.
      */
-    public Map<Student, Integer> getGrades() {
+    public Object2IntMap<Student> getGrades() {
         return this.gradeList;
     }
 
+    /**
+     * Replaces the grade list of this task with a copy of {@code gradeList}.
+     * Copying another task's grade list clones its arrays without rehashing any student.
+     */
     public void setGrades(Map<Student, Integer> gradeList) {
-        this.gradeList = new HashMap<>(gradeList);
+        this.gradeList = new Object2IntMap<>(gradeList);
+    }
+
+    /**
+     * Returns the grade of {@code student} for this task, or 0 if the student has no grade.
+     */
+    public int getGrade(Student student) {
+        return gradeList.getInt(student, 0);
     }
 
     /**
@@ -116,16 +130,16 @@ public class Task {
     }
 
     /**
-     * Sets the list of students who are in the tasks student page.This will create a new hashMap and assign it
+     * Sets the list of students who are in the tasks student page.This will create a new map and assign it
      * to {@code gradeList} instead of modifying {@code gradeList}.
      *
      * @param students The list of students who are in the task students page.
      */
     public void setStudents(UniqueStudentsList students) {
         assert gradeList != null : "Grade List should not be null!";
-        Map<Student, Integer> newGradeList = new HashMap<>();
+        Object2IntMap<Student> newGradeList = new Object2IntMap<>(students.asUnmodifiableList().size());
         for (Student student : students) {
-            newGradeList.put(student, gradeList.getOrDefault(student, 0));
+            newGradeList.putInt(student, gradeList.getInt(student, 0));
         }
         gradeList = newGradeList;
     }
@@ -140,9 +154,8 @@ public class Task {
         if (!gradeList.containsKey(oldStudent)) {
             throw new StudentNotInSessionException();
         } else {
-            int value = gradeList.get(oldStudent);
-            gradeList.remove(oldStudent);
-            gradeList.put(newStudent, value);
+            int value = gradeList.removeInt(oldStudent, 0);
+            gradeList.putInt(newStudent, value);
         }
     }
 
@@ -152,15 +165,37 @@ public class Task {
      * @param student The student to assign the mark to.
      * @throws StudentNotInPageException If the given student is not present in the page.
      */
-    public void assignGrade(Student student, Integer grade) throws StudentNotInPageException {
+    public void assignGrade(Student student, int grade) throws StudentNotInPageException {
         requireNonNull(student);
         assert gradeList != null : "Grades should not be null!";
 
         if (!gradeList.containsKey(student)) {
             throw new StudentNotInSessionException();
         }
-        gradeList.put(student, grade);
-        System.out.println("Student " + student.getName() + " has obtained grade " + grade + " for task " + taskName);
+        gradeList.putInt(student, grade);
+        logger.fine(() -> "Student " + student.getName() + " has obtained grade " + grade + " for task " + taskName);
+    }
+
+    /**
+     * Assigns the same grade to every student in {@code students} for this task.
+     * Every student is checked before any grade changes, so either all of them are graded or none are.
+     *
+     * @param students The students to assign the grade to.
+     * @throws StudentNotInPageException If any of the given students is not present in the page.
+     */
+    public void assignGrades(Collection<? extends Student> students, int grade) throws StudentNotInPageException {
+        requireNonNull(students);
+        assert gradeList != null : "Grades should not be null!";
+
+        for (Student student : students) {
+            if (!gradeList.containsKey(student)) {
+                throw new StudentNotInSessionException();
+            }
+        }
+        for (Student student : students) {
+            gradeList.putInt(student, grade);
+        }
+        logger.fine(() -> students.size() + " student(s) have obtained grade " + grade + " for task " + taskName);
     }
 
     public void selectTask() {
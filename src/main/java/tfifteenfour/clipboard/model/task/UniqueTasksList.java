@@ -26,12 +26,11 @@ public class UniqueTasksList extends UniqueList<Task> {
     @Override
     public UniqueTasksList copy() {
         UniqueTasksList copy = new UniqueTasksList();
-        this.internalList.forEach(task -> copy.add(task));
+        copy.addAll(internalList);
 
         return copy;
     }
 
-
     /**
      * Returns true if the list contains an equivalent Task as the given argument.
      */
@@ -92,17 +91,21 @@ public class UniqueTasksList extends UniqueList<Task> {
         return internalList.hashCode();
     }
 
+    @Override
+    protected Object getIdentityKey(Task task) {
+        return task.getTaskName();
+    }
+
+    @Override
+    protected RuntimeException createDuplicateException() {
+        return new DuplicateTaskException();
+    }
+
     /**
-     * Returns true if {@code Sessions} contains only unique Sessions.
+     * Returns the lowercased task name of {@code task} for fuzzy searching.
      */
-    protected boolean elementsAreUnique(List<Task> tasks) {
-        for (int i = 0; i < tasks.size() - 1; i++) {
-            for (int j = i + 1; j < tasks.size(); j++) {
-                if (tasks.get(i).isSameTask(tasks.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+    @Override
+    protected List<String> getFuzzyKeys(Task task) {
+        return nameKeys(task.getTaskName());
     }
 }
@@ -0,0 +1,266 @@
+package tfifteenfour.clipboard.model.util;
+
+import static tfifteenfour.clipboard.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import tfifteenfour.clipboard.model.Roster;
+import tfifteenfour.clipboard.model.course.AttendanceStatus;
+import tfifteenfour.clipboard.model.course.Course;
+import tfifteenfour.clipboard.model.course.Group;
+import tfifteenfour.clipboard.model.course.Session;
+import tfifteenfour.clipboard.model.student.Email;
+import tfifteenfour.clipboard.model.student.Name;
+import tfifteenfour.clipboard.model.student.Phone;
+import tfifteenfour.clipboard.model.student.Remark;
+import tfifteenfour.clipboard.model.student.Student;
+import tfifteenfour.clipboard.model.student.StudentId;
+import tfifteenfour.clipboard.model.task.Task;
+import tfifteenfour.clipboard.storage.JsonRosterStorage;
+
+/**
+ * Generates rosters of any size filled with made-up students, attendance and grades, to try the application
+ * at the size of a whole faculty.
+ * Every course has the same number of groups, and every group the same number of students, sessions and tasks.
+ * Students are never shared between groups. Generators with the same seed and sizes always generate the same roster.
+ * A new generator generates one course with one group of 10 students.
+ */
+public class RosterGenerator {
+
+    public static final long DEFAULT_SEED = 2103L;
+    public static final int MAX_GRADE = 100;
+    public static final String MESSAGE_USAGE = "Usage: RosterGenerator FILE [courses=N] [groups=N] [students=N] "
+            + "[sessions=N] [tasks=N] [attendance=FRACTION] [grades=FRACTION] [seed=N]";
+
+    private static final String[] GIVEN_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Wei",
+        "Aisha", "Kelvin", "Mei Ling", "Priya", "Siti", "Tomas", "Yusof"};
+    private static final String[] FAMILY_NAMES = {"Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Tan",
+        "Lim", "Ng", "Kumar", "Goh", "Rahman", "Chua", "Wong"};
+    private static final String[] REMARKS = {"", "", "", "Joined late", "Prefers email", "Needs consultation"};
+
+    private long seed = DEFAULT_SEED;
+    private int courseCount = 1;
+    private int groupsPerCourse = 1;
+    private int studentsPerGroup = 10;
+    private int sessionsPerGroup = 0;
+    private int tasksPerGroup = 0;
+    private double attendanceDensity = 0;
+    private double gradeDensity = 0;
+
+    /**
+     * Sets the seed that every random choice of the generator follows from.
+     */
+    public RosterGenerator withSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    /**
+     * Sets the number of courses in the roster.
+     */
+    public RosterGenerator withCourses(int courseCount) {
+        checkArgument(courseCount >= 0);
+        this.courseCount = courseCount;
+        return this;
+    }
+
+    /**
+     * Sets the number of groups in every course.
+     */
+    public RosterGenerator withGroupsPerCourse(int groupsPerCourse) {
+        checkArgument(groupsPerCourse >= 0);
+        this.groupsPerCourse = groupsPerCourse;
+        return this;
+    }
+
+    /**
+     * Sets the number of students in every group.
+     */
+    public RosterGenerator withStudentsPerGroup(int studentsPerGroup) {
+        checkArgument(studentsPerGroup >= 0);
+        this.studentsPerGroup = studentsPerGroup;
+        return this;
+    }
+
+    /**
+     * Sets the number of sessions in every group.
+     */
+    public RosterGenerator withSessionsPerGroup(int sessionsPerGroup) {
+        checkArgument(sessionsPerGroup >= 0);
+        this.sessionsPerGroup = sessionsPerGroup;
+        return this;
+    }
+
+    /**
+     * Sets the number of tasks in every group.
+     */
+    public RosterGenerator withTasksPerGroup(int tasksPerGroup) {
+        checkArgument(tasksPerGroup >= 0);
+        this.tasksPerGroup = tasksPerGroup;
+        return this;
+    }
+
+    /**
+     * Sets the fraction, from 0 to 1, of the students of each session whose attendance has been taken.
+     * The others are left absent, as they are before a session is marked.
+     */
+    public RosterGenerator withAttendanceDensity(double attendanceDensity) {
+        checkArgument(attendanceDensity >= 0 && attendanceDensity <= 1);
+        this.attendanceDensity = attendanceDensity;
+        return this;
+    }
+
+    /**
+     * Sets the fraction, from 0 to 1, of the students of each task who have been graded.
+     * The others are left with a grade of 0, as they are before a task is graded.
+     */
+    public RosterGenerator withGradeDensity(double gradeDensity) {
+        checkArgument(gradeDensity >= 0 && gradeDensity <= 1);
+        this.gradeDensity = gradeDensity;
+        return this;
+    }
+
+    /**
+     * Returns the total number of students the generated roster has.
+     */
+    public int getStudentCount() {
+        return courseCount * groupsPerCourse * studentsPerGroup;
+    }
+
+    /**
+     * Generates a new roster.
+     */
+    public Roster generate() {
+        Random random = new Random(seed);
+        Roster roster = new Roster();
+        int nextStudent = 0;
+        for (int c = 0; c < courseCount; c++) {
+            Course course = new Course(String.format("CS%04d", 1000 + c));
+            roster.addCourse(course);
+            for (int g = 0; g < groupsPerCourse; g++) {
+                Group group = new Group(String.format("T%02d", g + 1));
+                course.addGroup(group);
+
+                List<Student> students = new ArrayList<>(studentsPerGroup);
+                for (int s = 0; s < studentsPerGroup; s++) {
+                    students.add(student(nextStudent++, random));
+                }
+                group.addStudents(students);
+
+                for (int s = 0; s < sessionsPerGroup; s++) {
+                    Session session = new Session("Week" + (s + 1));
+                    group.addSession(session);
+                    session.setAttendance(attendance(students, random));
+                }
+                for (int t = 0; t < tasksPerGroup; t++) {
+                    Task task = new Task("Assignment " + (t + 1));
+                    group.addTask(task);
+                    task.setGrades(grades(students, random));
+                }
+            }
+        }
+        return roster;
+    }
+
+    /**
+     * Generates a new roster and saves it as a roster file at {@code filePath}, replacing any file there.
+     * @throws IOException If the file cannot be written.
+     */
+    public void writeTo(Path filePath) throws IOException {
+        new JsonRosterStorage(filePath).saveRoster(generate());
+    }
+
+    /**
+     * Returns the {@code index}th student, whose student ID, phone and email are unique to {@code index}.
+     */
+    private static Student student(int index, Random random) {
+        String name = GIVEN_NAMES[random.nextInt(GIVEN_NAMES.length)] + " "
+                + FAMILY_NAMES[random.nextInt(FAMILY_NAMES.length)];
+        return new Student(new Name(name), new Phone(String.format("%08d", 80_000_000 + index)),
+                new Email("e" + index + "@u.example.edu"), new StudentId(String.format("A%07dX", index)),
+                new Remark(REMARKS[random.nextInt(REMARKS.length)]));
+    }
+
+    private Map<Student, Integer> attendance(List<Student> students, Random random) {
+        Map<Student, Integer> attendance = new HashMap<>();
+        for (Student student : students) {
+            AttendanceStatus status = AttendanceStatus.ABSENT;
+            if (random.nextDouble() < attendanceDensity) {
+                // most students who are marked turn up; the rest are spread over the other statuses
+                status = random.nextInt(10) < 7
+                        ? AttendanceStatus.PRESENT
+                        : AttendanceStatus.values()[random.nextInt(AttendanceStatus.values().length)];
+            }
+            attendance.put(student, status.getCode());
+        }
+        return attendance;
+    }
+
+    private Map<Student, Integer> grades(List<Student> students, Random random) {
+        Map<Student, Integer> grades = new HashMap<>();
+        for (Student student : students) {
+            grades.put(student, random.nextDouble() < gradeDensity ? random.nextInt(MAX_GRADE + 1) : 0);
+        }
+        return grades;
+    }
+
+    /**
+     * Writes a generated roster file, e.g. {@code RosterGenerator data/big.json courses=10 groups=20 students=100
+     * sessions=24 tasks=10 attendance=0.8 grades=0.6}.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+
+        RosterGenerator generator = new RosterGenerator();
+        for (int i = 1; i < args.length; i++) {
+            String[] option = args[i].split("=", 2);
+            if (option.length != 2) {
+                System.err.println(MESSAGE_USAGE);
+                System.exit(1);
+            }
+            switch (option[0]) {
+            case "courses":
+                generator.withCourses(Integer.parseInt(option[1]));
+                break;
+            case "groups":
+                generator.withGroupsPerCourse(Integer.parseInt(option[1]));
+                break;
+            case "students":
+                generator.withStudentsPerGroup(Integer.parseInt(option[1]));
+                break;
+            case "sessions":
+                generator.withSessionsPerGroup(Integer.parseInt(option[1]));
+                break;
+            case "tasks":
+                generator.withTasksPerGroup(Integer.parseInt(option[1]));
+                break;
+            case "attendance":
+                generator.withAttendanceDensity(Double.parseDouble(option[1]));
+                break;
+            case "grades":
+                generator.withGradeDensity(Double.parseDouble(option[1]));
+                break;
+            case "seed":
+                generator.withSeed(Long.parseLong(option[1]));
+                break;
+            default:
+                System.err.println(MESSAGE_USAGE);
+                System.exit(1);
+            }
+        }
+
+        Path file = Paths.get(args[0]);
+        generator.writeTo(file);
+        System.out.println("Wrote " + generator.getStudentCount() + " students to " + file.toAbsolutePath());
+    }
+}
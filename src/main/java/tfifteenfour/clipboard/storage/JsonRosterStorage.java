@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -15,6 +16,8 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 
 import tfifteenfour.clipboard.commons.core.LogsCenter;
 import tfifteenfour.clipboard.commons.exceptions.DataConversionException;
+import tfifteenfour.clipboard.commons.jfr.RosterReadEvent;
+import tfifteenfour.clipboard.commons.jfr.RosterSaveEvent;
 import tfifteenfour.clipboard.commons.util.FileUtil;
 import tfifteenfour.clipboard.model.ReadOnlyRoster;
 import tfifteenfour.clipboard.model.Roster;
@@ -56,9 +59,12 @@ public class JsonRosterStorage implements RosterStorage {
 
         File jsonFile = new File(filePath.toString());
 
+        RosterReadEvent event = new RosterReadEvent();
+        event.begin();
+        Roster roster = null;
         try {
             SerializedRoster jsonRoster = mapper.readValue(jsonFile, SerializedRoster.class);
-            Roster roster = jsonToRoster(jsonRoster);
+            roster = jsonToRoster(jsonRoster);
 
             return Optional.of(roster);
         } catch (JsonParseException e) {
@@ -66,6 +72,8 @@ public class JsonRosterStorage implements RosterStorage {
         } catch (IOException e) {
             e.printStackTrace();
             return Optional.empty();
+        } finally {
+            event.end(filePath.toString(), () -> sizeOf(filePath), roster);
         }
     }
 
@@ -85,12 +93,24 @@ public class JsonRosterStorage implements RosterStorage {
 
         logger.info("Saving Roster to file at: " + filePath.toString());
 
+        RosterSaveEvent event = new RosterSaveEvent();
+        event.begin();
         FileUtil.createIfMissing(filePath);
 
         String rosterJson = rosterToJson(roster);
         writeJsonToFile(rosterJson, filePath);
+        event.end(filePath.toString(), () -> sizeOf(filePath), roster);
+    }
 
-
+    /**
+     * Returns the size of the file at {@code filePath} in bytes, or -1 if it cannot be read.
+     */
+    private static long sizeOf(Path filePath) {
+        try {
+            return Files.size(filePath);
+        } catch (IOException e) {
+            return -1;
+        }
     }
 
     private String rosterToJson(ReadOnlyRoster roster) throws IOException {
@@ -0,0 +1,63 @@
+package tfifteenfour.clipboard.storage;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Running counts of the roster saves made by a {@code Storage}: how many there were, how long the last one took and
+ * how many bytes were written.
+ * The counts can be read from any thread while saves are recorded.
+ */
+public class SaveStatistics {
+
+    private final AtomicLong saveCount = new AtomicLong();
+    private final AtomicLong failureCount = new AtomicLong();
+    private final AtomicLong bytesWritten = new AtomicLong();
+    private volatile long lastSaveBytes;
+    private volatile long lastSaveNanos;
+    private final AtomicLong maxSaveNanos = new AtomicLong();
+
+    /**
+     * Records a save that took {@code nanos} and wrote {@code bytes}.
+     */
+    void recordSave(long nanos, long bytes) {
+        saveCount.incrementAndGet();
+        bytesWritten.addAndGet(bytes);
+        lastSaveBytes = bytes;
+        lastSaveNanos = nanos;
+        maxSaveNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * Records a save that failed.
+     */
+    void recordFailure() {
+        failureCount.incrementAndGet();
+    }
+
+    public long getSaveCount() {
+        return saveCount.get();
+    }
+
+    public long getFailureCount() {
+        return failureCount.get();
+    }
+
+    /**
+     * Returns the total number of bytes written by every save so far.
+     */
+    public long getBytesWritten() {
+        return bytesWritten.get();
+    }
+
+    public long getLastSaveBytes() {
+        return lastSaveBytes;
+    }
+
+    public long getLastSaveNanos() {
+        return lastSaveNanos;
+    }
+
+    public long getMaxSaveNanos() {
+        return maxSaveNanos.get();
+    }
+}
@@ -29,4 +29,9 @@ public interface Storage extends RosterStorage, UserPrefsStorage {
     @Override
     void saveRoster(ReadOnlyRoster roster) throws IOException;
 
+    /**
+     * Returns the counts of the roster saves made so far.
+     */
+    SaveStatistics getSaveStatistics();
+
 }
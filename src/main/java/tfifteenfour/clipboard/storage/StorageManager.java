@@ -1,6 +1,7 @@
 package tfifteenfour.clipboard.storage;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -19,6 +20,7 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private RosterStorage rosterStorage;
     private UserPrefsStorage userPrefsStorage;
+    private final SaveStatistics saveStatistics = new SaveStatistics();
 
     /**
      * Creates a {@code StorageManager} with the given {@code Roster} and {@code UserPrefStorage}.
@@ -72,7 +74,28 @@ public class StorageManager implements Storage {
     @Override
     public void saveRoster(ReadOnlyRoster roster, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
-        rosterStorage.saveRoster(roster, filePath);
+        long startTime = System.nanoTime();
+        try {
+            rosterStorage.saveRoster(roster, filePath);
+        } catch (IOException e) {
+            saveStatistics.recordFailure();
+            throw e;
+        }
+        long elapsedNanos = System.nanoTime() - startTime;
+        saveStatistics.recordSave(elapsedNanos, sizeOf(filePath));
+    }
+
+    private static long sizeOf(Path filePath) {
+        try {
+            return Files.size(filePath);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    @Override
+    public SaveStatistics getSaveStatistics() {
+        return saveStatistics;
     }
 
 }
@@ -6,6 +6,7 @@ import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import tfifteenfour.clipboard.commons.util.StringInterner;
 import tfifteenfour.clipboard.model.course.Course;
 
 /**
@@ -44,7 +45,7 @@ public class SerializedCourse {
      * Converts this serialized course to a {@code Course} object
      */
     public Course toModelType() {
-        Course newCourse = new Course(courseCode);
+        Course newCourse = new Course(StringInterner.getInstance().intern(courseCode));
         this.groups.stream().forEach(group -> newCourse.addGroup(group.toModelType()));
         return newCourse;
     }
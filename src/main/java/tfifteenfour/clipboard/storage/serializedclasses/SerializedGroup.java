@@ -1,12 +1,16 @@
 package tfifteenfour.clipboard.storage.serializedclasses;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import tfifteenfour.clipboard.commons.util.StringInterner;
 import tfifteenfour.clipboard.model.course.Group;
+import tfifteenfour.clipboard.model.student.Student;
 
 /**
  * Serializes a group to JSON format.
@@ -60,9 +64,16 @@ public class SerializedGroup {
      * @return A {@code Group} object that corresponds to this {@code SerializedGroup} object.
      */
     public Group toModelType() {
-        Group newGroup = new Group(this.groupName);
-        this.students.stream().forEach(student -> newGroup.addStudent(student.toModelType()));
-        this.sessions.stream().forEach(session -> newGroup.addSession(session.toModelType()));
+        Group newGroup = new Group(StringInterner.getInstance().intern(this.groupName));
+        List<Student> newStudents = new ArrayList<>(this.students.size());
+        Map<String, Student> studentsById = new HashMap<>();
+        this.students.forEach(student -> {
+            Student newStudent = student.toModelType();
+            newStudents.add(newStudent);
+            studentsById.put(newStudent.getStudentId().value, newStudent);
+        });
+        newGroup.addStudents(newStudents);
+        this.sessions.stream().forEach(session -> newGroup.addSession(session.toModelType(studentsById)));
         this.tasks.stream().forEach(task -> newGroup.addTask(task.toModelType()));
         return newGroup;
     }
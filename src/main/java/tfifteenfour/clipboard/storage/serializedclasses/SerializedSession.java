@@ -1,21 +1,29 @@
 package tfifteenfour.clipboard.storage.serializedclasses;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import tfifteenfour.clipboard.commons.util.StringInterner;
+import tfifteenfour.clipboard.model.course.AttendanceStatus;
 import tfifteenfour.clipboard.model.course.Session;
 import tfifteenfour.clipboard.model.student.Student;
 
 /**
  * Serializes a Session to JSON format.
+ * Attendance is saved as a map from student ID to status code, holding only the students who are not absent,
+ * since every student of the group is absent from a session until marked otherwise.
+ * Files saved in the older format, which repeated every student of the group in {@code keys} with a matching
+ * status in {@code values}, can still be read.
  */
 public class SerializedSession {
     private String sessionName;
-    private final List<SerializedStudent> keys = new ArrayList<>();
-    private final List<Integer> values = new ArrayList<>();
+    private final Map<String, Integer> attendance = new LinkedHashMap<>();
+    private List<SerializedStudent> legacyKeys = new ArrayList<>();
+    private List<Integer> legacyValues = new ArrayList<>();
 
 
     /**
@@ -23,12 +31,11 @@ public class SerializedSession {
      */
     public SerializedSession(Session session) {
         this.sessionName = session.getSessionName();
-        Map<Student, Integer> sessionAttendance = session.getAttendance();
-        for (Student student : sessionAttendance.keySet()) {
-            keys.add(new SerializedStudent(student));
-            values.add(sessionAttendance.get(student));
-        }
-
+        session.getAttendance().forEachInt((student, code) -> {
+            if (code != AttendanceStatus.ABSENT.getCode()) {
+                attendance.put(student.getStudentId().value, code);
+            }
+        });
     }
 
     /**
@@ -41,31 +48,42 @@ public class SerializedSession {
         return sessionName;
     }
 
+    @JsonProperty("attendance")
+    public Map<String, Integer> getAttendance() {
+        return this.attendance;
+    }
+
     @JsonProperty("keys")
-    public List<SerializedStudent> getKeys() {
-        return this.keys;
+    private void setLegacyKeys(List<SerializedStudent> keys) {
+        this.legacyKeys = keys;
     }
 
     @JsonProperty("values")
-    public List<Integer> getValues() {
-        return this.values;
+    private void setLegacyValues(List<Integer> values) {
+        this.legacyValues = values;
     }
 
     /**
-     * Converts current SerializedSession object into a Session object and returns
-     * it.
+     * Converts current SerializedSession object into a Session object and returns it.
+     * Status codes that are unknown, or that belong to students who are not in {@code studentsById}, are ignored.
+     * @param studentsById The students of the group that the session belongs to, keyed by student ID.
      * @return A Session object that corresponds to this SerializedSession object.
      */
-    public Session toModelType() {
-        Session newSession = new Session(this.sessionName);
+    public Session toModelType(Map<String, Student> studentsById) {
+        Session newSession = new Session(StringInterner.getInstance().intern(this.sessionName));
 
-        Map<Student, Integer> newAttendance = newSession.getAttendance();
-        for (int i = 0; i < keys.size(); i++) {
-            newAttendance.put(
-                    keys.get(i).toModelType(),
-                    values.get(i)
-            );
+        Map<Student, Integer> newAttendance = new LinkedHashMap<>();
+        for (int i = 0; i < legacyKeys.size() && i < legacyValues.size(); i++) {
+            putIfValid(newAttendance, studentsById.get(legacyKeys.get(i).getStudentId()), legacyValues.get(i));
         }
+        attendance.forEach((studentId, code) -> putIfValid(newAttendance, studentsById.get(studentId), code));
+        newSession.setAttendance(newAttendance);
         return newSession;
     }
+
+    private static void putIfValid(Map<Student, Integer> attendance, Student student, Integer code) {
+        if (student != null && code != null && code >= 0 && code < AttendanceStatus.values().length) {
+            attendance.put(student, code);
+        }
+    }
 }
@@ -2,6 +2,7 @@ package tfifteenfour.clipboard.storage.serializedclasses;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import tfifteenfour.clipboard.commons.util.StringInterner;
 import tfifteenfour.clipboard.model.student.Email;
 import tfifteenfour.clipboard.model.student.Name;
 import tfifteenfour.clipboard.model.student.Phone;
@@ -66,8 +67,9 @@ public class SerializedStudent {
      * Converts this serialized student to a {@code Student} object
      */
     public Student toModelType() {
-        return new Student(new Name(name), new Phone(phone),
-                new Email(email), new StudentId(studentId),
-                new Remark(remark));
+        StringInterner interner = StringInterner.getInstance();
+        return new Student(new Name(interner.intern(name)), new Phone(interner.intern(phone)),
+                new Email(interner.intern(email)), new StudentId(interner.intern(studentId)),
+                new Remark(interner.intern(remark)));
     }
 }
@@ -2,10 +2,11 @@ package tfifteenfour.clipboard.storage.serializedclasses;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import tfifteenfour.clipboard.commons.util.StringInterner;
+import tfifteenfour.clipboard.model.Object2IntMap;
 import tfifteenfour.clipboard.model.student.Student;
 import tfifteenfour.clipboard.model.task.Task;
 
@@ -22,11 +23,10 @@ public class SerializedTask {
      */
     public SerializedTask(Task task) {
         this.taskName = task.getTaskName();
-        Map<Student, Integer> taskGrades = task.getGrades();
-        for (Student student : taskGrades.keySet()) {
+        task.getGrades().forEachInt((student, grade) -> {
             students.add(new SerializedStudent(student));
-            grades.add(taskGrades.get(student));
-        }
+            grades.add(grade);
+        });
     }
 
     /**
@@ -55,11 +55,11 @@ public class SerializedTask {
      * @return A Task object that corresponds to this SerializedTask object.
      */
     public Task toModelType() {
-        Task newTask = new Task(this.taskName);
+        Task newTask = new Task(StringInterner.getInstance().intern(this.taskName));
 
-        Map<Student, Integer> newGrades = newTask.getGrades();
+        Object2IntMap<Student> newGrades = newTask.getGrades();
         for (int i = 0; i < students.size(); i++) {
-            newGrades.put(
+            newGrades.putInt(
                     students.get(i).toModelType(),
                     grades.get(i)
             );
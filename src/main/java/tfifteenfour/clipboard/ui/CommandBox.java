@@ -2,29 +2,39 @@ package tfifteenfour.clipboard.ui;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 
+import javafx.animation.PauseTransition;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
+import javafx.util.Duration;
 import tfifteenfour.clipboard.logic.commands.CommandResult;
-import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
-import tfifteenfour.clipboard.logic.parser.exceptions.ParseException;
 
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ * Commands are executed in the background, so the user can keep typing, and submit further commands that run after
+ * it, while a command runs. The command box shows that it is busy if a command takes longer than
+ * {@link #BUSY_INDICATOR_DELAY}.
  */
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final String BUSY_STYLE_CLASS = "busy";
+    public static final Duration BUSY_INDICATOR_DELAY = Duration.millis(200);
+    public static final String BUSY_PROMPT_TEXT = "Running command...";
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
     private final List<String> commandHistory = new ArrayList<>();
+    private final PauseTransition busyIndicatorDelay = new PauseTransition(BUSY_INDICATOR_DELAY);
     private int commandHistoryIndex = -1;
+    private int runningCommandCount = 0;
+    private String defaultPromptText;
 
     @FXML
     private TextField commandTextField;
@@ -37,6 +47,8 @@ public class CommandBox extends UiPart<Region> {
         this.commandExecutor = commandExecutor;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        defaultPromptText = commandTextField.getPromptText();
+        busyIndicatorDelay.setOnFinished(unused -> setStyleToIndicateBusy());
     }
 
     /**
@@ -53,12 +65,22 @@ public class CommandBox extends UiPart<Region> {
         commandHistory.add(0, commandText);
         commandHistoryIndex = -1;
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
-        }
+        commandTextField.setText("");
+        runningCommandCount++;
+        busyIndicatorDelay.playFromStart();
+        commandExecutor.execute(commandText).whenComplete((unused, error) -> {
+            runningCommandCount--;
+            if (runningCommandCount == 0) {
+                busyIndicatorDelay.stop();
+                setStyleToIndicateIdle();
+            }
+            // gives the failed command back for correction, unless the user has started typing another one
+            if (error != null && commandTextField.getText().isEmpty()) {
+                commandTextField.setText(commandText);
+                commandTextField.positionCaret(commandText.length());
+                setStyleToIndicateCommandFailure();
+            }
+        });
     }
 
     /**
@@ -111,17 +133,37 @@ public class CommandBox extends UiPart<Region> {
         styleClass.add(ERROR_STYLE_CLASS);
     }
 
+    /**
+     * Sets the command box style to indicate that a command is taking a while.
+     */
+    private void setStyleToIndicateBusy() {
+        commandTextField.setPromptText(BUSY_PROMPT_TEXT);
+        if (!commandTextField.getStyleClass().contains(BUSY_STYLE_CLASS)) {
+            commandTextField.getStyleClass().add(BUSY_STYLE_CLASS);
+        }
+    }
+
+    /**
+     * Sets the command box style to indicate that no command is running.
+     */
+    private void setStyleToIndicateIdle() {
+        commandTextField.setPromptText(defaultPromptText);
+        commandTextField.getStyleClass().remove(BUSY_STYLE_CLASS);
+    }
+
     /**
      * Represents a function that can execute commands.
      */
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Submits the command to be executed after the commands submitted before it.
          *
-         * @see tfifteenfour.clipboard.logic.Logic#execute(String)
+         * @return a stage that is completed on the JavaFX application thread once the result is shown, or completed
+         *     exceptionally if the command failed.
+         * @see tfifteenfour.clipboard.logic.CommandQueue#submit(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletionStage<CommandResult> execute(String commandText);
     }
 
 }
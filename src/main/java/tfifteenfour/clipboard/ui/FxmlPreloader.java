@@ -0,0 +1,77 @@
+package tfifteenfour.clipboard.ui;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import javafx.fxml.FXMLLoader;
+import tfifteenfour.clipboard.commons.core.LogsCenter;
+
+/**
+ * Loads the FXML templates of the parts of the window once on a background thread, while the roster is read, so
+ * that the classes they use are already loaded and initialized when the window is built on the JavaFX application
+ * thread. The parts loaded here are thrown away.
+ *
+ * Only templates that can be loaded without their {@code UiPart} are preloaded, so windows and parts with event
+ * handlers are left out. Nodes may be created on any thread as long as they are not shown.
+ */
+public class FxmlPreloader {
+
+    public static final String THREAD_NAME = "fxml-preload";
+
+    /** The templates of the parts that are built when the window is first shown, or soon after. */
+    public static final List<String> TEMPLATES = List.of("ListPanel.fxml", "ListCard.fxml", "ActiveTab.fxml",
+            "InactiveTab.fxml", "ResultDisplay.fxml", "StatusBarFooter.fxml", "NavigationBar.fxml",
+            "SelectedListCard.fxml", "ActiveSubTab.fxml", "GroupListCard.fxml", "StudentListCard.fxml",
+            "StudentViewCard.fxml", "StudentViewCardWithAttendance.fxml", "StudentAttendanceListPanel.fxml",
+            "PresentSessionCard.fxml", "AbsentSessionCard.fxml", "PresentAttendanceListCard.fxml",
+            "AbsentAttendanceListCard.fxml", "GradeListCard.fxml");
+
+    private static final Logger logger = LogsCenter.getLogger(FxmlPreloader.class);
+
+    private FxmlPreloader() {}
+
+    /**
+     * Starts loading {@link #TEMPLATES} on a new background thread.
+     * @return the number of templates that could be loaded, once they have all been tried.
+     */
+    public static CompletableFuture<Integer> start() {
+        return start(TEMPLATES.stream().map(UiPart::getFxmlFileUrl).collect(Collectors.toList()));
+    }
+
+    /**
+     * Starts loading {@code templates} on a new background thread.
+     */
+    static CompletableFuture<Integer> start(List<URL> templates) {
+        CompletableFuture<Integer> loadedCount = new CompletableFuture<>();
+        Thread preloader = new Thread(() -> loadedCount.complete(preload(templates)), THREAD_NAME);
+        preloader.setDaemon(true);
+        preloader.start();
+        return loadedCount;
+    }
+
+    /**
+     * Loads each of {@code templates} once, skipping those that cannot be loaded.
+     * @return the number of templates that could be loaded.
+     */
+    static int preload(List<URL> templates) {
+        long start = System.nanoTime();
+        int loadedCount = 0;
+        for (URL template : templates) {
+            try {
+                new FXMLLoader(template).load();
+                loadedCount++;
+            } catch (IOException | RuntimeException e) {
+                // the template is loaded again, and any problem reported, when its part is built
+                logger.fine(() -> "Could not preload " + template + ": " + e);
+            }
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        logger.info(String.format("Preloaded %d of %d FXML template(s) in %d ms", loadedCount, templates.size(),
+                elapsedMillis));
+        return loadedCount;
+    }
+}
@@ -11,7 +11,9 @@ public class HelpWindowMessages {
             + "4. help: opens this help window with commands specific to the page you are on\n"
             + "5. clear: clears entries of the page you are at\n"
             + "6. exit: exits the program\n"
-            + "7. UP/DOWN arrow keys: scrolls through your command history\n";
+            + "7. UP/DOWN arrow keys: scrolls through your command history\n"
+            + "8. locate <STUDENT_ID or NAME>: lists every course and group the student is in\n"
+            + "9. goto <STUDENT_ID>: goes straight to the student page of the student's group\n";
 
     static final String COURSE_HELP_MESSAGE = "Here is what you can do under the [Course] page.\n"
             + "1. add course <COURSE NAME>: adds a new course to the page\n"
@@ -1,8 +1,17 @@
 package tfifteenfour.clipboard.ui;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
@@ -13,11 +22,16 @@ import javafx.scene.image.ImageView;
 import javafx.scene.input.KeyCombination;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
+import javafx.stage.Screen;
 import javafx.stage.Stage;
 import tfifteenfour.clipboard.commons.core.GuiSettings;
 import tfifteenfour.clipboard.commons.core.LogsCenter;
+import tfifteenfour.clipboard.commons.jfr.PaneRebuildEvent;
+import tfifteenfour.clipboard.commons.util.ThreadAllocationCounter;
+import tfifteenfour.clipboard.logic.CommandQueue;
 import tfifteenfour.clipboard.logic.CurrentSelection;
 import tfifteenfour.clipboard.logic.Logic;
 import tfifteenfour.clipboard.logic.PageType;
@@ -26,6 +40,7 @@ import tfifteenfour.clipboard.logic.commands.ClearCommand;
 import tfifteenfour.clipboard.logic.commands.Command;
 import tfifteenfour.clipboard.logic.commands.CommandResult;
 import tfifteenfour.clipboard.logic.commands.ExitCommand;
+import tfifteenfour.clipboard.logic.commands.GotoCommand;
 import tfifteenfour.clipboard.logic.commands.HelpCommand;
 import tfifteenfour.clipboard.logic.commands.HomeCommand;
 import tfifteenfour.clipboard.logic.commands.RemarkCommand;
@@ -36,16 +51,23 @@ import tfifteenfour.clipboard.logic.commands.attendancecommand.AttendanceCommand
 import tfifteenfour.clipboard.logic.commands.attendancecommand.MarkAbsentCommand;
 import tfifteenfour.clipboard.logic.commands.attendancecommand.MarkPresentCommand;
 import tfifteenfour.clipboard.logic.commands.attendancecommand.SessionCommand;
+import tfifteenfour.clipboard.logic.commands.batchcommand.CommitCommand;
+import tfifteenfour.clipboard.logic.commands.batchcommand.RollbackCommand;
+import tfifteenfour.clipboard.logic.commands.batchcommand.RunCommand;
 import tfifteenfour.clipboard.logic.commands.editcommand.EditStudentCommand;
 import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
 import tfifteenfour.clipboard.logic.commands.taskcommand.AssignCommand;
 import tfifteenfour.clipboard.logic.commands.taskcommand.TaskCommand;
 import tfifteenfour.clipboard.logic.parser.exceptions.ParseException;
+import tfifteenfour.clipboard.model.ItemView;
+import tfifteenfour.clipboard.model.Model;
 import tfifteenfour.clipboard.model.course.Course;
 import tfifteenfour.clipboard.model.course.Group;
 import tfifteenfour.clipboard.model.course.Session;
 import tfifteenfour.clipboard.model.student.SessionWithAttendance;
 import tfifteenfour.clipboard.model.student.Student;
+import tfifteenfour.clipboard.model.student.StudentWithAttendance;
+import tfifteenfour.clipboard.model.student.StudentWithGrades;
 import tfifteenfour.clipboard.model.task.Task;
 import tfifteenfour.clipboard.ui.attendancepage.AttendanceListPanel;
 import tfifteenfour.clipboard.ui.coursepage.CourseListPanel;
@@ -63,6 +85,8 @@ import tfifteenfour.clipboard.ui.pagetab.InactiveStudentTab;
 import tfifteenfour.clipboard.ui.pagetab.InactiveTaskTab;
 import tfifteenfour.clipboard.ui.sessionpage.SessionListPanel;
 import tfifteenfour.clipboard.ui.studentspage.StudentListPanel;
+import tfifteenfour.clipboard.ui.studentspage.StudentPhotoCache;
+import tfifteenfour.clipboard.ui.studentspage.StudentViewCard;
 import tfifteenfour.clipboard.ui.studentspage.StudentViewCardWithAttendance;
 import tfifteenfour.clipboard.ui.taskpage.TaskListPanel;
 
@@ -81,9 +105,15 @@ public class MainWindow extends UiPart<Stage> {
 
     private Stage primaryStage;
     private Logic logic;
+    private CommandQueue commandQueue;
+    /** The model that the window last showed. */
+    private Model displayedModel;
 
     // Independent Ui parts residing in this Ui container
     private CourseListPanel courseListPanel;
+    private final List<ObservableItemView<?>> leftPanelViews = new ArrayList<>();
+    private final Map<Class<? extends UiPart<Region>>, Region> pageTabs = new HashMap<>();
+    private final StudentPhotoCache photoCache;
     private ResultDisplay resultDisplay;
 
     @FXML
@@ -138,6 +168,12 @@ public class MainWindow extends UiPart<Stage> {
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        this.commandQueue = new CommandQueue(logic, Platform::runLater);
+        logic.getCommandMetrics().setUiTimed(true);
+        // photos are decoded at the size of the pixels they cover on the screen
+        double screenScale = Screen.getPrimary().getOutputScaleX();
+        this.photoCache = new StudentPhotoCache(StudentViewCard.PHOTO_WIDTH * screenScale,
+                StudentViewCard.PHOTO_HEIGHT * screenScale, StudentPhotoCache.DEFAULT_MAX_BYTES);
 
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
@@ -188,16 +224,17 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     private void initClippy() {
-        clippySuccess = new Image(this.getClass().getResourceAsStream("/images/CommandSuccess.GIF"));
+        // decoded in the background, since they are only needed once the first command is run
+        clippySuccess = new Image(getClass().getResource("/images/CommandSuccess.GIF").toExternalForm(), true);
 
-        clippyFailure = new Image(this.getClass().getResourceAsStream("/images/CommandFail.GIF"));
+        clippyFailure = new Image(getClass().getResource("/images/CommandFail.GIF").toExternalForm(), true);
     }
 
     /**
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        courseListPanel = new CourseListPanel(logic.getRoster().getUnmodifiableFilteredCourseList());
+        courseListPanel = new CourseListPanel(bindLeftPanel(logic.getRoster().getUnmodifiableFilteredCourseList()));
         leftPanelPlaceholder.getChildren().add(courseListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
@@ -206,6 +243,7 @@ public class MainWindow extends UiPart<Stage> {
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getRosterFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
+        displayedModel = logic.getModel();
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
@@ -216,11 +254,21 @@ public class MainWindow extends UiPart<Stage> {
      * Initializes page tabs.
      */
     private void initializePageTabs() {
-        courseTabPlaceholder.getChildren().add(new ActiveCourseTab().getRoot());
-        groupTabPlaceholder.getChildren().add(new InactiveGroupTab().getRoot());
-        studentTabPlaceholder.getChildren().add(new InactiveStudentTab().getRoot());
-        sessionTabPlaceholder.getChildren().add(new InactiveSessionTab().getRoot());
-        taskTabPlaceholder.getChildren().add(new InactiveTaskTab().getRoot());
+        showModuleTab();
+        closeGroupTab();
+        closeStudentTab();
+        closeSessionTab();
+        closeTaskTab();
+    }
+
+    /**
+     * Shows the tab of type {@code tabType} in {@code placeholder}.
+     * Each tab is built by {@code tabFactory} the first time it is shown, and the same tab is shown after that.
+     */
+    private void showPageTab(VBox placeholder, Class<? extends UiPart<Region>> tabType,
+            Supplier<UiPart<Region>> tabFactory) {
+        Region tab = pageTabs.computeIfAbsent(tabType, unused -> tabFactory.get().getRoot());
+        placeholder.getChildren().setAll(tab);
     }
 
     /**
@@ -291,6 +339,7 @@ public class MainWindow extends UiPart<Stage> {
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
         logic.setGuiSettings(guiSettings);
+        commandQueue.shutdown();
         if (!helpWindows.isEmpty()) {
             helpWindows.get(0).hide();
         }
@@ -326,16 +375,35 @@ public class MainWindow extends UiPart<Stage> {
      */
     public void refreshViewPane() {
         rightPanelPlaceholder.getChildren().clear();
-        ObservableList<Student> viewedStudent =
+        List<Student> viewedStudent =
                 logic.getModel().getCurrentSelection().getSelectedGroup().getUnmodifiableFilteredStudentList()
-                        .filtered(student -> student.isSameStudent(logic.getModel()
-                                .getCurrentSelection().getSelectedStudent()));
-        ObservableList<SessionWithAttendance> sessionList =
-                logic.getModel().getCurrentSelection().getSelectedStudent().getObservableSessionList();
+                        .stream()
+                        .filter(student -> student.isSameStudent(logic.getModel()
+                                .getCurrentSelection().getSelectedStudent()))
+                        .collect(Collectors.toList());
+        ObservableList<SessionWithAttendance> sessionList = FXCollections.observableArrayList(
+                logic.getModel().getCurrentSelection().getSelectedStudent().getSessionList());
         if (viewedStudent.size() != 0) {
             rightPanelPlaceholder.getChildren()
-                    .add(new StudentViewCardWithAttendance(viewedStudent.get(0),
+                    .add(new StudentViewCardWithAttendance(viewedStudent.get(0), photoCache,
                             sessionList, 0).getRoot());
+            prefetchNeighbourPhotos(viewedStudent.get(0));
+        }
+    }
+
+    /**
+     * Starts loading the photos of the students just before and after {@code student} in the selected group, since
+     * they are the most likely to be viewed next.
+     */
+    private void prefetchNeighbourPhotos(Student student) {
+        List<Student> students =
+                logic.getModel().getCurrentSelection().getSelectedGroup().getUnmodifiableFilteredStudentList();
+        int index = students.indexOf(student);
+        if (index > 0) {
+            photoCache.prefetch(students.get(index - 1));
+        }
+        if (index >= 0 && index + 1 < students.size()) {
+            photoCache.prefetch(students.get(index + 1));
         }
     }
 
@@ -347,12 +415,35 @@ public class MainWindow extends UiPart<Stage> {
         logic.getModel().getCurrentSelection().emptySelectedStudent();
     }
 
+    /**
+     * Clears the left panel and disposes the adapters of the lists it was displaying, so that the model stops
+     * notifying them.
+     */
+    private void releaseLeftPanel() {
+        leftPanelViews.forEach(ObservableItemView::dispose);
+        leftPanelViews.clear();
+        leftPanelPlaceholder.getChildren().clear();
+    }
+
+    /**
+     * Releases the current left panel and returns an observable adapter of {@code view} for the panel replacing it.
+     */
+    private <T> ObservableList<T> bindLeftPanel(ItemView<T> view) {
+        releaseLeftPanel();
+        ObservableItemView<T> adapter = new ObservableItemView<>(view);
+        leftPanelViews.add(adapter);
+        return adapter;
+    }
+
     /**
      * Shows course pane.
      */
     private void showCoursePane() {
-        courseListPanel = new CourseListPanel(logic.getRoster().getUnmodifiableFilteredCourseList());
+        PaneRebuildEvent event = beginPaneRebuild();
+        ObservableList<Course> courses = bindLeftPanel(logic.getRoster().getUnmodifiableFilteredCourseList());
+        courseListPanel = new CourseListPanel(courses);
         leftPanelPlaceholder.getChildren().add(courseListPanel.getRoot());
+        event.end("courses", courses.size());
     }
 
     /**
@@ -361,8 +452,11 @@ public class MainWindow extends UiPart<Stage> {
      * @param course that groups belong to.
      */
     private void showGroupPane(Course course) {
-        GroupListPanel groupListPanel = new GroupListPanel(course.getUnmodifiableFilteredGroupList());
+        PaneRebuildEvent event = beginPaneRebuild();
+        ObservableList<Group> groups = bindLeftPanel(course.getUnmodifiableFilteredGroupList());
+        GroupListPanel groupListPanel = new GroupListPanel(groups);
         leftPanelPlaceholder.getChildren().add(groupListPanel.getRoot());
+        event.end("groups", groups.size());
     }
 
     /**
@@ -371,8 +465,11 @@ public class MainWindow extends UiPart<Stage> {
      * @param group that students belong to.
      */
     private void showStudentPane(Group group) {
-        StudentListPanel studentListPanel = new StudentListPanel(group.getUnmodifiableFilteredStudentList());
+        PaneRebuildEvent event = beginPaneRebuild();
+        ObservableList<Student> students = bindLeftPanel(group.getUnmodifiableFilteredStudentList());
+        StudentListPanel studentListPanel = new StudentListPanel(students);
         leftPanelPlaceholder.getChildren().add(studentListPanel.getRoot());
+        event.end("students", students.size());
     }
 
     /**
@@ -380,8 +477,11 @@ public class MainWindow extends UiPart<Stage> {
      * @param group that sessions belong to.
      */
     private void showSessionPane(Group group) {
-        SessionListPanel sessionListPanel = new SessionListPanel(group.getUnmodifiableFilteredSessionList());
+        PaneRebuildEvent event = beginPaneRebuild();
+        ObservableList<Session> sessions = bindLeftPanel(group.getUnmodifiableFilteredSessionList());
+        SessionListPanel sessionListPanel = new SessionListPanel(sessions);
         leftPanelPlaceholder.getChildren().add(sessionListPanel.getRoot());
+        event.end("sessions", sessions.size());
     }
 
     /**
@@ -389,8 +489,11 @@ public class MainWindow extends UiPart<Stage> {
      * @param group that tasks belong to.
      */
     private void showTaskPane(Group group) {
-        TaskListPanel taskListPanel = new TaskListPanel(group.getUnmodifiableFilteredTaskList());
+        PaneRebuildEvent event = beginPaneRebuild();
+        ObservableList<Task> tasks = bindLeftPanel(group.getUnmodifiableFilteredTaskList());
+        TaskListPanel taskListPanel = new TaskListPanel(tasks);
         leftPanelPlaceholder.getChildren().add(taskListPanel.getRoot());
+        event.end("tasks", tasks.size());
     }
 
     /**
@@ -398,8 +501,12 @@ public class MainWindow extends UiPart<Stage> {
      * @param session for which attendance is being marked.
      */
     private void showAttendancePane(Session session) {
-        AttendanceListPanel attendanceListPanel = new AttendanceListPanel(session.getUnmodifiableStudentList());
+        PaneRebuildEvent event = beginPaneRebuild();
+        ObservableList<StudentWithAttendance> students =
+                FXCollections.observableArrayList(session.getUnmodifiableStudentList());
+        AttendanceListPanel attendanceListPanel = new AttendanceListPanel(students);
         rightPanelPlaceholder.getChildren().add(attendanceListPanel.getRoot());
+        event.end("attendance", students.size());
     }
 
     /**
@@ -407,59 +514,59 @@ public class MainWindow extends UiPart<Stage> {
      * @param task for which grade is being assigned.
      */
     private void showGradePane(Task task) {
-        GradeListPanel gradeListPanel = new GradeListPanel(task.getUnmodifiableStudentList());
+        PaneRebuildEvent event = beginPaneRebuild();
+        ObservableList<StudentWithGrades> students =
+                FXCollections.observableArrayList(task.getUnmodifiableStudentList());
+        GradeListPanel gradeListPanel = new GradeListPanel(students);
         rightPanelPlaceholder.getChildren().add(gradeListPanel.getRoot());
+        event.end("grades", students.size());
+    }
+
+    private static PaneRebuildEvent beginPaneRebuild() {
+        PaneRebuildEvent event = new PaneRebuildEvent();
+        event.begin();
+        return event;
     }
 
     private void showModuleTab() {
-        courseTabPlaceholder.getChildren().clear();
-        courseTabPlaceholder.getChildren().add(new ActiveCourseTab().getRoot());
+        showPageTab(courseTabPlaceholder, ActiveCourseTab.class, ActiveCourseTab::new);
     }
 
     private void showGroupTab() {
-        groupTabPlaceholder.getChildren().clear();
-        groupTabPlaceholder.getChildren().add(new ActiveGroupTab().getRoot());
+        showPageTab(groupTabPlaceholder, ActiveGroupTab.class, ActiveGroupTab::new);
     }
 
     private void showStudentTab() {
-        studentTabPlaceholder.getChildren().clear();
-        studentTabPlaceholder.getChildren().add(new ActiveStudentTab().getRoot());
+        showPageTab(studentTabPlaceholder, ActiveStudentTab.class, ActiveStudentTab::new);
     }
 
     private void showSessionTab() {
-        sessionTabPlaceholder.getChildren().clear();
-        sessionTabPlaceholder.getChildren().add(new ActiveSessionTab().getRoot());
+        showPageTab(sessionTabPlaceholder, ActiveSessionTab.class, ActiveSessionTab::new);
     }
 
     private void showTaskTab() {
-        taskTabPlaceholder.getChildren().clear();
-        taskTabPlaceholder.getChildren().add(new ActiveTaskTab().getRoot());
+        showPageTab(taskTabPlaceholder, ActiveTaskTab.class, ActiveTaskTab::new);
     }
 
     private void closeModuleTab() {
-        courseTabPlaceholder.getChildren().clear();
-        courseTabPlaceholder.getChildren().add(new InactiveCourseTab().getRoot());
+        showPageTab(courseTabPlaceholder, InactiveCourseTab.class, InactiveCourseTab::new);
     }
 
     private void closeGroupTab() {
-        groupTabPlaceholder.getChildren().clear();
-        groupTabPlaceholder.getChildren().add(new InactiveGroupTab().getRoot());
+        showPageTab(groupTabPlaceholder, InactiveGroupTab.class, InactiveGroupTab::new);
     }
 
     private void closeStudentTab() {
-        studentTabPlaceholder.getChildren().clear();
-        studentTabPlaceholder.getChildren().add(new InactiveStudentTab().getRoot());
+        showPageTab(studentTabPlaceholder, InactiveStudentTab.class, InactiveStudentTab::new);
     }
 
     private void closeSessionTab() {
-        sessionTabPlaceholder.getChildren().clear();
-        sessionTabPlaceholder.getChildren().add(new InactiveSessionTab().getRoot());
+        showPageTab(sessionTabPlaceholder, InactiveSessionTab.class, InactiveSessionTab::new);
     }
 
 
     private void closeTaskTab() {
-        taskTabPlaceholder.getChildren().clear();
-        taskTabPlaceholder.getChildren().add(new InactiveTaskTab().getRoot());
+        showPageTab(taskTabPlaceholder, InactiveTaskTab.class, InactiveTaskTab::new);
     }
 
     /**
@@ -587,6 +694,9 @@ public class MainWindow extends UiPart<Stage> {
                 && logic.getModel().getCurrentSelection().getCurrentPage().equals(PageType.TASK_PAGE)) {
             showSessionPane(logic.getModel().getCurrentSelection().getSelectedGroup());
 
+        } else if (prevCommand instanceof RunCommand || prevCommand instanceof CommitCommand) {
+            refreshPage();
+
         } else if (prevCommand instanceof MarkPresentCommand
                 || prevCommand instanceof MarkAbsentCommand) {
             throw new CommandException("Use the mark or unmark command instead to undo previous action.");
@@ -606,6 +716,21 @@ public class MainWindow extends UiPart<Stage> {
         }
     }
 
+    /**
+     * Handles UI for goto command.
+     */
+    private void handleGotoCommand() {
+        rightPanelPlaceholder.getChildren().clear();
+        showStudentPane(logic.getModel().getCurrentSelection().getSelectedGroup());
+        closeModuleTab();
+        showGroupTab();
+        showStudentTab();
+        closeSessionTab();
+        closeTaskTab();
+        refreshNavigationBar();
+        refreshViewPane();
+    }
+
     /**
      * Handles UI for session command.
      */
@@ -638,14 +763,16 @@ public class MainWindow extends UiPart<Stage> {
      */
     private void showStudentAttendance() {
         rightPanelPlaceholder.getChildren().clear();
-        ObservableList<Student> viewedStudent =
+        List<Student> viewedStudent =
                 logic.getModel().getCurrentSelection().getSelectedGroup().getUnmodifiableFilteredStudentList()
-                        .filtered(student ->
-                                student.isSameStudent(logic.getModel().getCurrentSelection().getSelectedStudent()));
-        ObservableList<SessionWithAttendance> sessionList =
-                logic.getModel().getCurrentSelection().getSelectedStudent().getObservableSessionList();
+                        .stream()
+                        .filter(student ->
+                                student.isSameStudent(logic.getModel().getCurrentSelection().getSelectedStudent()))
+                        .collect(Collectors.toList());
+        ObservableList<SessionWithAttendance> sessionList = FXCollections.observableArrayList(
+                logic.getModel().getCurrentSelection().getSelectedStudent().getSessionList());
         rightPanelPlaceholder.getChildren()
-                .add(new StudentViewCardWithAttendance(viewedStudent.get(0), sessionList, 1).getRoot());
+                .add(new StudentViewCardWithAttendance(viewedStudent.get(0), photoCache, sessionList, 1).getRoot());
     }
 
     /**
@@ -668,6 +795,9 @@ public class MainWindow extends UiPart<Stage> {
         } else if (commandResult.getCommand() instanceof HomeCommand) {
             handleHome();
 
+        } else if (commandResult.getCommand() instanceof GotoCommand) {
+            handleGotoCommand();
+
         } else if (commandResult.getCommand() instanceof SessionCommand) {
             handleSessionCommand();
 
@@ -693,11 +823,77 @@ public class MainWindow extends UiPart<Stage> {
             handleUndoCommand(commandResult);
 
         } else if (commandResult.getCommand() instanceof ClearCommand) {
-            leftPanelPlaceholder.getChildren().clear();
+            releaseLeftPanel();
             rightPanelPlaceholder.getChildren().clear();
+
+        } else if (commandResult.getCommand() instanceof RunCommand
+                || commandResult.getCommand() instanceof RollbackCommand) {
+            refreshPage();
         }
     }
 
+    /**
+     * Redraws the panes, tabs and navigation bar of the current page.
+     * Used after a script or a rollback, which may change the model and the current page many times, so that the
+     * window is only updated once for the final state.
+     */
+    private void refreshPage() {
+        CurrentSelection currentSelection = logic.getModel().getCurrentSelection();
+        PageType currentPage = currentSelection.getCurrentPage();
+        if (currentPage == PageType.COURSE_PAGE) {
+            handleHome();
+            return;
+        }
+
+        rightPanelPlaceholder.getChildren().clear();
+        switch (currentPage) {
+        case GROUP_PAGE:
+            showGroupPane(currentSelection.getSelectedCourse());
+            break;
+        case STUDENT_PAGE:
+            showStudentPane(currentSelection.getSelectedGroup());
+            if (!currentSelection.getSelectedStudent().equals(CurrentSelection.NON_EXISTENT_STUDENT)) {
+                refreshViewPane();
+            }
+            break;
+        case SESSION_PAGE:
+            showSessionPane(currentSelection.getSelectedGroup());
+            break;
+        case SESSION_STUDENT_PAGE:
+            showSessionPane(currentSelection.getSelectedGroup());
+            showAttendancePane(currentSelection.getSelectedSession());
+            break;
+        case TASK_PAGE:
+            showTaskPane(currentSelection.getSelectedGroup());
+            break;
+        case TASK_STUDENT_PAGE:
+            showTaskPane(currentSelection.getSelectedGroup());
+            showGradePane(currentSelection.getSelectedTask());
+            break;
+        default:
+            break;
+        }
+
+        closeModuleTab();
+        showGroupTab();
+        if (currentPage == PageType.STUDENT_PAGE) {
+            showStudentTab();
+        } else {
+            closeStudentTab();
+        }
+        if (currentPage == PageType.SESSION_PAGE || currentPage == PageType.SESSION_STUDENT_PAGE) {
+            showSessionTab();
+        } else {
+            closeSessionTab();
+        }
+        if (currentPage == PageType.TASK_PAGE || currentPage == PageType.TASK_STUDENT_PAGE) {
+            showTaskTab();
+        } else {
+            closeTaskTab();
+        }
+        refreshNavigationBar();
+    }
+
     private void showClippySuccess() {
         logoPlaceholder.setImage(clippySuccess);
     }
@@ -707,26 +903,70 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Submits the command to be executed in the background and shows its outcome once it is done.
      *
-     * @see tfifteenfour.clipboard.logic.Logic#execute(String)
+     * @see CommandQueue#submit(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
+    private CompletionStage<CommandResult> executeCommand(String commandText) {
+        CompletableFuture<CommandResult> shown = new CompletableFuture<>();
+        commandQueue.submit(commandText).whenComplete((commandResult, error) -> {
+            long uiStartTime = System.nanoTime();
+            long uiStartBytes = ThreadAllocationCounter.getAllocatedBytes();
+            try {
+                showOutcome(commandText, commandResult, error, shown);
+            } finally {
+                long uiBytes = uiStartBytes < 0 ? -1 : ThreadAllocationCounter.getAllocatedBytes() - uiStartBytes;
+                logic.getCommandMetrics().recordUi(System.nanoTime() - uiStartTime, uiBytes);
+            }
+        });
+        return shown;
+    }
+
+    private void showOutcome(String commandText, CommandResult commandResult, Throwable error,
+            CompletableFuture<CommandResult> shown) {
+        // the next command waits until this returns, so the lists changed by the command are synced in one go
+        leftPanelViews.forEach(ObservableItemView::syncIfStale);
+        if (error instanceof CommandException || error instanceof ParseException) {
+            showFailure(commandText, (Exception) error);
+            shown.completeExceptionally(error);
+            return;
+        } else if (error != null) {
+            Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), error);
+            shown.completeExceptionally(error);
+            return;
+        }
+
         try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+            showResult(commandResult);
+            shown.complete(commandResult);
+        } catch (CommandException e) {
+            showFailure(commandText, e);
+            shown.completeExceptionally(e);
+        }
+    }
 
-            handleSpecialCommandConsiderations(commandResult);
-            showClippySuccess();
+    private void showResult(CommandResult commandResult) throws CommandException {
+        logger.info("Result: " + commandResult.getFeedbackToUser());
+        String feedback = commandResult.getFeedbackToUser();
+        if (logic.getCommandMetrics().isBreakdownShown()) {
+            feedback += "\n[" + logic.getCommandMetrics().getLastCommandBreakdown() + "]";
+        }
+        resultDisplay.setFeedbackToUser(feedback);
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("Invalid command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
+        handleSpecialCommandConsiderations(commandResult);
+        displayedModel = logic.getModel();
+        showClippySuccess();
+    }
 
-            showClippyFailure();
-            throw e;
+    private void showFailure(String commandText, Exception e) {
+        logger.info("Invalid command: " + commandText);
+        resultDisplay.setFeedbackToUser(e.getMessage());
+        if (logic.getModel() != displayedModel) {
+            // a failed script or transaction restored the model to an earlier state
+            refreshPage();
+            displayedModel = logic.getModel();
         }
+
+        showClippyFailure();
     }
 }
@@ -0,0 +1,104 @@
+package tfifteenfour.clipboard.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ObservableListBase;
+import tfifteenfour.clipboard.model.ItemView;
+
+/**
+ * Adapts an {@link ItemView} of the model to an {@code ObservableList} that a {@code ListView} can display.
+ * The adapter is created when a panel is shown and must be {@link #dispose() disposed} when the panel is replaced,
+ * so the model only keeps JavaFX state for the one list on screen.
+ * Each change to the view is reported as a single replacement of the range between the unchanged head and tail
+ * of the list, so adding or removing one item only touches the cells around it.
+ *
+ * Changes made on the thread that created the adapter are shown at once. Changes made by commands running on
+ * another thread only mark the adapter stale, and are shown in one step by {@link #syncIfStale()} once the command
+ * is done, since JavaFX lists must only change on the JavaFX application thread.
+ */
+public class ObservableItemView<T> extends ObservableListBase<T> {
+
+    private final ItemView<T> source;
+    private final Runnable sourceListener = this::handleSourceChanged;
+    private final Thread ownerThread = Thread.currentThread();
+    private volatile boolean isStale;
+    private List<T> snapshot;
+
+    /**
+     * Creates an adapter that follows {@code source} until it is disposed.
+     */
+    public ObservableItemView(ItemView<T> source) {
+        this.source = requireNonNull(source);
+        this.snapshot = new ArrayList<>(source);
+        source.addListener(sourceListener);
+    }
+
+    /**
+     * Stops following the source view. The adapter keeps the items it last showed.
+     */
+    public void dispose() {
+        source.removeListener(sourceListener);
+    }
+
+    /**
+     * Shows the changes made to the source view by other threads since the last sync, if any.
+     * Must be called on the thread that created the adapter, while the source view is not being changed.
+     */
+    public void syncIfStale() {
+        if (isStale) {
+            sync();
+        }
+    }
+
+    @Override
+    public T get(int index) {
+        return snapshot.get(index);
+    }
+
+    @Override
+    public int size() {
+        return snapshot.size();
+    }
+
+    private void handleSourceChanged() {
+        if (Thread.currentThread() == ownerThread) {
+            sync();
+        } else {
+            isStale = true;
+        }
+    }
+
+    private void sync() {
+        isStale = false;
+        List<T> updated = new ArrayList<>(source);
+        int start = 0;
+        int oldEnd = snapshot.size();
+        int newEnd = updated.size();
+        while (start < oldEnd && start < newEnd && snapshot.get(start) == updated.get(start)) {
+            start++;
+        }
+        while (oldEnd > start && newEnd > start && snapshot.get(oldEnd - 1) == updated.get(newEnd - 1)) {
+            oldEnd--;
+            newEnd--;
+        }
+
+        List<T> removed = new ArrayList<>(snapshot.subList(start, oldEnd));
+        snapshot = updated;
+        if (removed.isEmpty() && start == newEnd) {
+            return;
+        }
+
+        beginChange();
+        if (removed.isEmpty()) {
+            nextAdd(start, newEnd);
+        } else if (start == newEnd) {
+            nextRemove(start, removed);
+        } else {
+            nextReplace(start, newEnd, removed);
+        }
+        endChange();
+    }
+}
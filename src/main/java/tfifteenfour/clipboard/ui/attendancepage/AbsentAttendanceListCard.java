@@ -8,6 +8,7 @@ import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import tfifteenfour.clipboard.MainApp;
 import tfifteenfour.clipboard.commons.core.LogsCenter;
+import tfifteenfour.clipboard.model.course.AttendanceStatus;
 import tfifteenfour.clipboard.model.student.StudentWithAttendance;
 import tfifteenfour.clipboard.ui.UiPart;
 
@@ -27,7 +28,7 @@ public class AbsentAttendanceListCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final StudentWithAttendance student;
+    private StudentWithAttendance student;
 
     @FXML
     private HBox cardPane;
@@ -43,9 +44,19 @@ public class AbsentAttendanceListCard extends UiPart<Region> {
      */
     public AbsentAttendanceListCard(StudentWithAttendance student, int displayedIndex) {
         super(FXML);
+        setStudent(student, displayedIndex);
+    }
+
+    /**
+     * Shows {@code student} with the given index to display instead of what this card showed before.
+     */
+    public void setStudent(StudentWithAttendance student, int displayedIndex) {
         this.student = student;
         id.setText(displayedIndex + ". ");
         name.setText(student.getName().fullName);
+        if (student.getAttendance() != AttendanceStatus.ABSENT) {
+            name.setText(name.getText() + " (" + student.getAttendance().getLabel() + ")");
+        }
         studentId.setText(student.getStudentId().value);
     }
 
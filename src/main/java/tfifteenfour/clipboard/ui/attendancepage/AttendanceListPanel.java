@@ -33,9 +33,12 @@ public class AttendanceListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} to display the graphics of a {@code Student} using a {@code PresentAttendanceListCard}
-     * or a {@code AbsentListCard}.
+     * for students who attended, or a {@code AbsentListCard} for students who did not.
      */
     class AttendanceListViewCell extends ListCell<StudentWithAttendance> {
+        private PresentAttendanceListCard presentCard;
+        private AbsentAttendanceListCard absentCard;
+
         @Override
         protected void updateItem(StudentWithAttendance student, boolean empty) {
             super.updateItem(student, empty);
@@ -44,10 +47,20 @@ public class AttendanceListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                if (student.getAttendance() == 1) {
-                    setGraphic(new PresentAttendanceListCard(student, getIndex() + 1).getRoot());
+                if (student.getAttendance().isAttended()) {
+                    if (presentCard == null) {
+                        presentCard = new PresentAttendanceListCard(student, getIndex() + 1);
+                    } else {
+                        presentCard.setStudent(student, getIndex() + 1);
+                    }
+                    setGraphic(presentCard.getRoot());
                 } else {
-                    setGraphic(new AbsentAttendanceListCard(student, getIndex() + 1).getRoot());
+                    if (absentCard == null) {
+                        absentCard = new AbsentAttendanceListCard(student, getIndex() + 1);
+                    } else {
+                        absentCard.setStudent(student, getIndex() + 1);
+                    }
+                    setGraphic(absentCard.getRoot());
                 }
             }
         }
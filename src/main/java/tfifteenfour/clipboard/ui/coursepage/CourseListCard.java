@@ -26,7 +26,7 @@ public class CourseListCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Course course;
+    private Course course;
 
     @FXML
     private Label id;
@@ -38,6 +38,13 @@ public class CourseListCard extends UiPart<Region> {
      */
     public CourseListCard(Course course, int displayedIndex) {
         super(FXML);
+        setCourse(course, displayedIndex);
+    }
+
+    /**
+     * Shows {@code course} with the given index to display instead of what this card showed before.
+     */
+    public void setCourse(Course course, int displayedIndex) {
         this.course = course;
         id.setText(displayedIndex + ". ");
         code.setText(course.getCourseCode());
@@ -34,6 +34,8 @@ public class CourseListPanel extends UiPart<Region> {
      * Custom {@code ListCell} that displays the graphics of a {@code Course} using a {@code CourseListCard}.
      */
     class CourseListViewCell extends ListCell<Course> {
+        private CourseListCard card;
+
         @Override
         protected void updateItem(Course course, boolean empty) {
             super.updateItem(course, empty);
@@ -42,7 +44,12 @@ public class CourseListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new CourseListCard(course, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new CourseListCard(course, getIndex() + 1);
+                } else {
+                    card.setCourse(course, getIndex() + 1);
+                }
+                setGraphic(card.getRoot());
             }
         }
     }
@@ -27,7 +27,7 @@ public class GradeListCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final StudentWithGrades student;
+    private StudentWithGrades student;
 
     @FXML
     private HBox cardPane;
@@ -45,13 +45,18 @@ public class GradeListCard extends UiPart<Region> {
      */
     public GradeListCard(StudentWithGrades student, int displayedIndex) {
         super(FXML);
+        setStudent(student, displayedIndex);
+    }
+
+    /**
+     * Shows {@code student} with the given index to display instead of what this card showed before.
+     */
+    public void setStudent(StudentWithGrades student, int displayedIndex) {
         this.student = student;
         id.setText(displayedIndex + ". ");
         name.setText(student.getName().fullName);
         studentId.setText(student.getStudentId().value);
-        if (student.getGrade() != null) {
-            grade.setText(Integer.toString(student.getGrade()));
-        }
+        grade.setText(student.getGrade() == null ? "" : Integer.toString(student.getGrade()));
     }
 
     @Override
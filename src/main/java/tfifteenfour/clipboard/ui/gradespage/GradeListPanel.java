@@ -36,6 +36,8 @@ public class GradeListPanel extends UiPart<Region> {
      * a {@code GradeListCard}.
      */
     class GradeListViewCell extends ListCell<StudentWithGrades> {
+        private GradeListCard card;
+
         @Override
         protected void updateItem(StudentWithGrades student, boolean empty) {
             super.updateItem(student, empty);
@@ -44,7 +46,12 @@ public class GradeListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new GradeListCard(student, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new GradeListCard(student, getIndex() + 1);
+                } else {
+                    card.setStudent(student, getIndex() + 1);
+                }
+                setGraphic(card.getRoot());
             }
         }
     }
@@ -26,7 +26,7 @@ public class GroupListCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Group group;
+    private Group group;
 
     @FXML
     private Label id;
@@ -38,6 +38,13 @@ public class GroupListCard extends UiPart<Region> {
      */
     public GroupListCard(Group group, int displayedIndex) {
         super(FXML);
+        setGroup(group, displayedIndex);
+    }
+
+    /**
+     * Shows {@code group} with the given index to display instead of what this card showed before.
+     */
+    public void setGroup(Group group, int displayedIndex) {
         this.group = group;
         id.setText(displayedIndex + ". ");
         name.setText(group.getGroupName());
@@ -35,6 +35,8 @@ public class GroupListPanel extends UiPart<Region> {
      * Custom {@code ListCell} that displays the graphics of a {@code Group} using a {@code GroupListCard}.
      */
     class GroupListViewCell extends ListCell<Group> {
+        private GroupListCard card;
+
         @Override
         protected void updateItem(Group group, boolean empty) {
             super.updateItem(group, empty);
@@ -43,7 +45,12 @@ public class GroupListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new GroupListCard(group, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new GroupListCard(group, getIndex() + 1);
+                } else {
+                    card.setGroup(group, getIndex() + 1);
+                }
+                setGraphic(card.getRoot());
             }
         }
     }
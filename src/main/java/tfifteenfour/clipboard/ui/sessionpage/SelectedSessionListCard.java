@@ -26,7 +26,7 @@ public class SelectedSessionListCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Session session;
+    private Session session;
 
     @FXML
     private Label id;
@@ -38,6 +38,13 @@ public class SelectedSessionListCard extends UiPart<Region> {
      */
     public SelectedSessionListCard(Session session, int displayedIndex) {
         super(FXML);
+        setSession(session, displayedIndex);
+    }
+
+    /**
+     * Shows {@code session} with the given index to display instead of what this card showed before.
+     */
+    public void setSession(Session session, int displayedIndex) {
         this.session = session;
         id.setText(displayedIndex + ". ");
         name.setText(session.getSessionName());
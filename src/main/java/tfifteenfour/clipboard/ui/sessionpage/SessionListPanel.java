@@ -35,6 +35,9 @@ public class SessionListPanel extends UiPart<Region> {
      * or a {@code UnselectedSessionListCard}.
      */
     class SessionListViewCell extends ListCell<Session> {
+        private SelectedSessionListCard selectedCard;
+        private UnselectedSessionListCard unselectedCard;
+
         @Override
         protected void updateItem(Session session, boolean empty) {
             super.updateItem(session, empty);
@@ -44,9 +47,19 @@ public class SessionListPanel extends UiPart<Region> {
                 setText(null);
             } else {
                 if (session.getSelectionStatus()) {
-                    setGraphic(new SelectedSessionListCard(session, getIndex() + 1).getRoot());
+                    if (selectedCard == null) {
+                        selectedCard = new SelectedSessionListCard(session, getIndex() + 1);
+                    } else {
+                        selectedCard.setSession(session, getIndex() + 1);
+                    }
+                    setGraphic(selectedCard.getRoot());
                 } else {
-                    setGraphic(new UnselectedSessionListCard(session, getIndex() + 1).getRoot());
+                    if (unselectedCard == null) {
+                        unselectedCard = new UnselectedSessionListCard(session, getIndex() + 1);
+                    } else {
+                        unselectedCard.setSession(session, getIndex() + 1);
+                    }
+                    setGraphic(unselectedCard.getRoot());
                 }
             }
         }
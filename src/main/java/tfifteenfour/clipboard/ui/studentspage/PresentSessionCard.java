@@ -8,6 +8,7 @@ import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import tfifteenfour.clipboard.MainApp;
 import tfifteenfour.clipboard.commons.core.LogsCenter;
+import tfifteenfour.clipboard.model.course.AttendanceStatus;
 import tfifteenfour.clipboard.model.student.SessionWithAttendance;
 import tfifteenfour.clipboard.ui.UiPart;
 
@@ -26,7 +27,7 @@ public class PresentSessionCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final SessionWithAttendance session;
+    private SessionWithAttendance session;
 
     @FXML
     private HBox cardPane;
@@ -40,9 +41,19 @@ public class PresentSessionCard extends UiPart<Region> {
      */
     public PresentSessionCard(SessionWithAttendance session, int displayedIndex) {
         super(FXML);
+        setSession(session, displayedIndex);
+    }
+
+    /**
+     * Shows {@code session} with the given index to display instead of what this card showed before.
+     */
+    public void setSession(SessionWithAttendance session, int displayedIndex) {
         this.session = session;
         id.setText(displayedIndex + ". ");
         name.setText(session.getSessionName());
+        if (session.getSessionAttendance() != AttendanceStatus.PRESENT) {
+            name.setText(name.getText() + " (" + session.getSessionAttendance().getLabel() + ")");
+        }
     }
 
     @Override
@@ -27,6 +27,9 @@ public class StudentAttendanceListPanel extends UiPart<Region> {
     }
 
     class SessionAttendanceListViewCell extends ListCell<SessionWithAttendance> {
+        private PresentSessionCard presentCard;
+        private AbsentSessionCard absentCard;
+
         @Override
         protected void updateItem(SessionWithAttendance session, boolean empty) {
             super.updateItem(session, empty);
@@ -35,10 +38,20 @@ public class StudentAttendanceListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                if (session.getSessionAttendance() == 1) {
-                    setGraphic(new PresentSessionCard(session, getIndex() + 1).getRoot());
+                if (session.getSessionAttendance().isAttended()) {
+                    if (presentCard == null) {
+                        presentCard = new PresentSessionCard(session, getIndex() + 1);
+                    } else {
+                        presentCard.setSession(session, getIndex() + 1);
+                    }
+                    setGraphic(presentCard.getRoot());
                 } else {
-                    setGraphic(new AbsentSessionCard(session, getIndex() + 1).getRoot());
+                    if (absentCard == null) {
+                        absentCard = new AbsentSessionCard(session, getIndex() + 1);
+                    } else {
+                        absentCard.setSession(session, getIndex() + 1);
+                    }
+                    setGraphic(absentCard.getRoot());
                 }
             }
         }
@@ -27,7 +27,7 @@ public class StudentListCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Student student;
+    private Student student;
 
     @FXML
     private HBox cardPane;
@@ -43,6 +43,13 @@ public class StudentListCard extends UiPart<Region> {
      */
     public StudentListCard(Student student, int displayedIndex) {
         super(FXML);
+        setStudent(student, displayedIndex);
+    }
+
+    /**
+     * Shows {@code student} with the given index to display instead of what this card showed before.
+     */
+    public void setStudent(Student student, int displayedIndex) {
         this.student = student;
         id.setText(displayedIndex + ". ");
         name.setText(student.getName().fullName);
@@ -32,8 +32,12 @@ public class StudentListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Student} using a {@code StudentListCard}.
+     * The card is loaded from FXML once, when the cell first shows a student, and then reused for every student the
+     * cell shows as the list scrolls, like the cards of the other list panels.
      */
     class StudentListViewCell extends ListCell<Student> {
+        private StudentListCard card;
+
         @Override
         protected void updateItem(Student student, boolean empty) {
             super.updateItem(student, empty);
@@ -42,7 +46,12 @@ public class StudentListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new StudentListCard(student, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new StudentListCard(student, getIndex() + 1);
+                } else {
+                    card.setStudent(student, getIndex() + 1);
+                }
+                setGraphic(card.getRoot());
             }
         }
     }
@@ -0,0 +1,107 @@
+package tfifteenfour.clipboard.ui.studentspage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.logging.Logger;
+
+import javafx.scene.image.Image;
+import tfifteenfour.clipboard.commons.core.LogsCenter;
+import tfifteenfour.clipboard.commons.util.LruCache;
+import tfifteenfour.clipboard.model.student.Student;
+
+/**
+ * Loads the photos of students, uploaded as {@code data/<student ID>.png}, in the background and at the size they
+ * are shown, and keeps the most recently shown ones up to a total size.
+ *
+ * A photo is decoded again if its file has changed since it was cached, e.g. after another photo is uploaded or the
+ * upload is undone. Students without a photo share a default photo, which is decoded once.
+ */
+public class StudentPhotoCache {
+
+    public static final Path PHOTO_FOLDER = Paths.get("data");
+    public static final long DEFAULT_MAX_BYTES = 16L * 1024 * 1024;
+
+    private static final String DEFAULT_PHOTO = "/images/studenticon.png";
+    private static final int BYTES_PER_PIXEL = 4;
+
+    private static final Logger logger = LogsCenter.getLogger(StudentPhotoCache.class);
+
+    private final double width;
+    private final double height;
+    private final LruCache<Path, CachedPhoto> photos;
+    private Image defaultPhoto;
+
+    /**
+     * Creates a cache of photos decoded to fit within {@code width} by {@code height} pixels, holding at most
+     * {@code maxBytes} of decoded photos.
+     */
+    public StudentPhotoCache(double width, double height, long maxBytes) {
+        this.width = width;
+        this.height = height;
+        this.photos = new LruCache<>(maxBytes, photo -> photo.bytes);
+    }
+
+    /**
+     * A decoded photo and the time its file was last changed when it was loaded.
+     */
+    private static class CachedPhoto {
+        private final Image image;
+        private final FileTime lastModified;
+        private final long bytes;
+
+        CachedPhoto(Image image, FileTime lastModified, long bytes) {
+            this.image = image;
+            this.lastModified = lastModified;
+            this.bytes = bytes;
+        }
+    }
+
+    /**
+     * Returns the photo of {@code student}, which may still be loading, or the default photo if the student has
+     * none.
+     */
+    public Image getPhoto(Student student) {
+        Path file = PHOTO_FOLDER.resolve(student.getStudentId().value + ".png");
+        FileTime lastModified;
+        try {
+            lastModified = Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            // there is no photo, or it cannot be read
+            photos.remove(file);
+            return getDefaultPhoto();
+        }
+
+        CachedPhoto cached = photos.get(file);
+        if (cached != null && cached.lastModified.equals(lastModified) && !cached.image.isError()) {
+            return cached.image;
+        }
+
+        Image image = new Image(file.toUri().toString(), width, height, true, true, true);
+        photos.put(file, new CachedPhoto(image, lastModified, (long) (width * height) * BYTES_PER_PIXEL));
+        logger.fine(() -> "Loading photo " + file);
+        return image;
+    }
+
+    /**
+     * Starts loading the photos of {@code students}, so they are ready when the students are shown.
+     */
+    public void prefetch(Student... students) {
+        for (Student student : students) {
+            getPhoto(student);
+        }
+    }
+
+    /**
+     * Returns the photo shown for students without one.
+     */
+    public Image getDefaultPhoto() {
+        if (defaultPhoto == null) {
+            defaultPhoto = new Image(StudentPhotoCache.class.getResource(DEFAULT_PHOTO).toExternalForm(), width,
+                    height, true, true);
+        }
+        return defaultPhoto;
+    }
+}
@@ -1,8 +1,9 @@
 package tfifteenfour.clipboard.ui.studentspage;
 
-import java.io.File;
 import java.util.logging.Logger;
 
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.image.Image;
@@ -20,6 +21,10 @@ import tfifteenfour.clipboard.ui.UiPart;
  */
 public class StudentViewCard extends UiPart<Region> {
 
+    /** The size of {@code displayPhoto} in the FXML file, which photos are decoded to fit. */
+    public static final double PHOTO_WIDTH = 138;
+    public static final double PHOTO_HEIGHT = 96;
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
     private static final String FXML = "StudentViewCard.fxml";
 
@@ -49,30 +54,49 @@ public class StudentViewCard extends UiPart<Region> {
     private HBox attendanceListPlaceholder;
 
     /**
-     * Creates a {@code StudentCode} with the given {@code Student} to display.
+     * Creates a {@code StudentCode} with the given {@code Student} to display, with the photo from
+     * {@code photoCache}.
      */
-    public StudentViewCard(Student viewedStudent) {
+    public StudentViewCard(Student viewedStudent, StudentPhotoCache photoCache) {
         super(FXML);
         name.setText(viewedStudent.getName().fullName);
         phone.setText(viewedStudent.getPhone().value);
         studentId.setText(viewedStudent.getStudentId().value);
         email.setText(viewedStudent.getEmail().value);
         remark.setText(viewedStudent.getRemark().value);
-        displayPhoto.setImage(new Image(this.getClass().getResourceAsStream("/images/studenticon.png")));
-        try {
-            String imageUrl = "data/" + viewedStudent.getStudentId().value + ".png";
-            File file = new File(imageUrl);
-            if (!file.exists()) {
-                Image defaultImage = new Image(this.getClass().getResourceAsStream("/images/studenticon.png"));
-                displayPhoto.setImage(defaultImage);
-            } else {
-                Image newImage = new Image(file.toURI().toString());
-                displayPhoto.setImage(newImage);
-            }
-        } catch (Exception e) {
-            logger.warning(e.getMessage());
+        showPhoto(photoCache.getPhoto(viewedStudent), photoCache.getDefaultPhoto());
+    }
+
+    /**
+     * Shows {@code photo}, or {@code defaultPhoto} while it is loading or if it cannot be loaded.
+     */
+    private void showPhoto(Image photo, Image defaultPhoto) {
+        if (photo.getProgress() >= 1 && !photo.isError()) {
+            displayPhoto.setImage(photo);
+            return;
         }
 
+        displayPhoto.setImage(defaultPhoto);
+        if (photo.isError()) {
+            return;
+        }
+        ChangeListener<Object> loadListener = new ChangeListener<>() {
+            @Override
+            public void changed(ObservableValue<?> observable, Object oldValue, Object newValue) {
+                if (photo.isError()) {
+                    logger.warning("Could not load photo: " + photo.getException());
+                } else if (photo.getProgress() < 1) {
+                    return;
+                } else {
+                    displayPhoto.setImage(photo);
+                }
+                // the photo is cached, so it must not keep this card alive once it is loaded
+                photo.progressProperty().removeListener(this);
+                photo.errorProperty().removeListener(this);
+            }
+        };
+        photo.progressProperty().addListener(loadListener);
+        photo.errorProperty().addListener(loadListener);
     }
 
     @Override
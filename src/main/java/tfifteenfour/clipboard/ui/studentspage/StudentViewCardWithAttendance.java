@@ -22,10 +22,10 @@ public class StudentViewCardWithAttendance extends UiPart<Region> {
     /**
      * Creates a {@code StudentViewCardWithAttendance}.
      */
-    public StudentViewCardWithAttendance(Student viewedStudent,
+    public StudentViewCardWithAttendance(Student viewedStudent, StudentPhotoCache photoCache,
                                          ObservableList<SessionWithAttendance> attendanceList, int showAttendanceFlag) {
         super(FXML);
-        viewCardPlaceholder.getChildren().add(new StudentViewCard(viewedStudent).getRoot());
+        viewCardPlaceholder.getChildren().add(new StudentViewCard(viewedStudent, photoCache).getRoot());
         if (showAttendanceFlag == 1) {
             attendancePlaceholder.getChildren().add(new StudentAttendanceListPanel(attendanceList).getRoot());
         }
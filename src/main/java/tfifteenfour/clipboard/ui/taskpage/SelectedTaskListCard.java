@@ -26,7 +26,7 @@ public class SelectedTaskListCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Task task;
+    private Task task;
 
     @FXML
     private Label id;
@@ -38,6 +38,13 @@ public class SelectedTaskListCard extends UiPart<Region> {
      */
     public SelectedTaskListCard(Task task, int displayedIndex) {
         super(FXML);
+        setTask(task, displayedIndex);
+    }
+
+    /**
+     * Shows {@code task} with the given index to display instead of what this card showed before.
+     */
+    public void setTask(Task task, int displayedIndex) {
         this.task = task;
         id.setText(displayedIndex + ". ");
         name.setText(task.getTaskName());
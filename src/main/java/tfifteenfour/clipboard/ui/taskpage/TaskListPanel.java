@@ -35,6 +35,9 @@ public class TaskListPanel extends UiPart<Region> {
      * Custom {@code ListCell} that displays the graphics of a {@code Task} using a {@code TaskListCard}.
      */
     class TaskListViewCell extends ListCell<Task> {
+        private SelectedTaskListCard selectedCard;
+        private TaskListCard unselectedCard;
+
         @Override
         protected void updateItem(Task task, boolean empty) {
             super.updateItem(task, empty);
@@ -44,9 +47,19 @@ public class TaskListPanel extends UiPart<Region> {
                 setText(null);
             } else {
                 if (task.getSelectionStatus()) {
-                    setGraphic(new SelectedTaskListCard(task, getIndex() + 1).getRoot());
+                    if (selectedCard == null) {
+                        selectedCard = new SelectedTaskListCard(task, getIndex() + 1);
+                    } else {
+                        selectedCard.setTask(task, getIndex() + 1);
+                    }
+                    setGraphic(selectedCard.getRoot());
                 } else {
-                    setGraphic(new TaskListCard(task, getIndex() + 1).getRoot());
+                    if (unselectedCard == null) {
+                        unselectedCard = new TaskListCard(task, getIndex() + 1);
+                    } else {
+                        unselectedCard.setTask(task, getIndex() + 1);
+                    }
+                    setGraphic(unselectedCard.getRoot());
                 }
             }
         }
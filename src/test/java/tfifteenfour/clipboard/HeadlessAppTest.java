@@ -0,0 +1,145 @@
+package tfifteenfour.clipboard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tfifteenfour.clipboard.logic.LogicManager;
+import tfifteenfour.clipboard.logic.PageType;
+import tfifteenfour.clipboard.logic.commands.addcommand.AddCourseCommand;
+import tfifteenfour.clipboard.model.Model;
+import tfifteenfour.clipboard.model.ReadOnlyRoster;
+import tfifteenfour.clipboard.model.course.Course;
+import tfifteenfour.clipboard.storage.JsonRosterStorage;
+import tfifteenfour.clipboard.storage.JsonUserPrefsStorage;
+import tfifteenfour.clipboard.storage.StorageManager;
+import tfifteenfour.clipboard.testutil.TypicalModel;
+
+public class HeadlessAppTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    private CountingStorage storage;
+    private LogicManager logic;
+
+    @BeforeEach
+    public void setUp() {
+        storage = new CountingStorage(testFolder);
+        Model model = new TypicalModel().getTypicalModel();
+        model.getCurrentSelection().setCurrentPage(PageType.COURSE_PAGE);
+        logic = new LogicManager(model, storage);
+    }
+
+    @Test
+    public void run_validCommands_savesOnceAndSucceeds() throws IOException {
+        int exitCode = run(false, "# new courses", "add course CS9999", "", "add course CS9998");
+
+        assertEquals(HeadlessApp.EXIT_SUCCESS, exitCode);
+        assertEquals(1, storage.saveCount);
+        assertTrue(hasCourse("CS9999"));
+        assertTrue(hasCourse("CS9998"));
+        assertEquals(String.format(AddCourseCommand.MESSAGE_SUCCESS, new Course("CS9999")) + System.lineSeparator()
+                + String.format(AddCourseCommand.MESSAGE_SUCCESS, new Course("CS9998")) + System.lineSeparator(),
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void run_failedCommand_stopsAndReportsLine() throws IOException {
+        int exitCode = run(false, "add course CS9999", "add course CS9999", "add course CS9998");
+
+        assertEquals(HeadlessApp.EXIT_COMMAND_FAILED, exitCode);
+        assertEquals(String.format(HeadlessApp.MESSAGE_LINE_FAILED, 2, AddCourseCommand.MESSAGE_DUPLICATE_COURSE)
+                + System.lineSeparator(), err.toString(StandardCharsets.UTF_8));
+        assertFalse(hasCourse("CS9998"));
+        assertEquals(1, storage.saveCount);
+    }
+
+    @Test
+    public void run_invalidCommandWithKeepGoing_continues() throws IOException {
+        int exitCode = run(true, "fly away", "add course CS9998");
+
+        assertEquals(HeadlessApp.EXIT_INVALID_COMMAND, exitCode);
+        assertTrue(err.toString(StandardCharsets.UTF_8).startsWith("Line 1: "));
+        assertTrue(hasCourse("CS9998"));
+    }
+
+    @Test
+    public void run_exitCommand_stops() throws IOException {
+        int exitCode = run(false, "add course CS9999", "exit", "add course CS9998");
+
+        assertEquals(HeadlessApp.EXIT_SUCCESS, exitCode);
+        assertTrue(hasCourse("CS9999"));
+        assertFalse(hasCourse("CS9998"));
+    }
+
+    @Test
+    public void run_openTransaction_rolledBack() throws IOException {
+        int exitCode = run(false, "begin", "add course CS9999");
+
+        assertEquals(HeadlessApp.EXIT_COMMAND_FAILED, exitCode);
+        assertFalse(logic.isInTransaction());
+        assertFalse(hasCourse("CS9999"));
+        assertTrue(err.toString(StandardCharsets.UTF_8).contains(HeadlessApp.MESSAGE_OPEN_TRANSACTION));
+    }
+
+    @Test
+    public void launch_invalidArguments_usageError() {
+        PrintStream errStream = new PrintStream(err, true, StandardCharsets.UTF_8);
+
+        assertEquals(HeadlessApp.EXIT_USAGE, HeadlessApp.launch(new String[] {HeadlessApp.FLAG_HEADLESS, "--fast"},
+                new PrintStream(out, true, StandardCharsets.UTF_8), errStream));
+        assertTrue(err.toString(StandardCharsets.UTF_8).startsWith("Usage:"));
+    }
+
+    @Test
+    public void launch_missingCommandFile_ioError() {
+        String missing = testFolder.resolve("missing.txt").toString();
+
+        PrintStream errStream = new PrintStream(err, true, StandardCharsets.UTF_8);
+
+        assertEquals(HeadlessApp.EXIT_IO_ERROR, HeadlessApp.launch(new String[] {HeadlessApp.FLAG_HEADLESS, missing},
+                new PrintStream(out, true, StandardCharsets.UTF_8), errStream));
+    }
+
+    private int run(boolean isKeepGoing, String... lines) throws IOException {
+        HeadlessApp app = new HeadlessApp(logic, new PrintStream(out, true, StandardCharsets.UTF_8),
+                new PrintStream(err, true, StandardCharsets.UTF_8), isKeepGoing);
+        return app.run(new StringReader(String.join("\n", lines)));
+    }
+
+    private boolean hasCourse(String courseCode) {
+        return logic.getModel().getRoster().hasCourse(new Course(courseCode));
+    }
+
+    /**
+     * A {@code StorageManager} that counts how many times the roster is saved.
+     */
+    private static class CountingStorage extends StorageManager {
+        private int saveCount;
+
+        CountingStorage(Path folder) {
+            super(new JsonRosterStorage(folder.resolve("roster.json")),
+                    new JsonUserPrefsStorage(folder.resolve("prefs.json")));
+        }
+
+        @Override
+        public void saveRoster(ReadOnlyRoster roster) throws IOException {
+            saveCount++;
+            super.saveRoster(roster);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package tfifteenfour.clipboard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.concurrent.Callable;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tfifteenfour.clipboard.commons.util.ThreadAllocationCounter;
+import tfifteenfour.clipboard.logic.LogicManager;
+import tfifteenfour.clipboard.logic.PageType;
+import tfifteenfour.clipboard.model.ModelManager;
+import tfifteenfour.clipboard.model.ReadOnlyRoster;
+import tfifteenfour.clipboard.model.Roster;
+import tfifteenfour.clipboard.model.UserPrefs;
+import tfifteenfour.clipboard.model.course.AttendanceStatus;
+import tfifteenfour.clipboard.model.course.Session;
+import tfifteenfour.clipboard.model.util.RosterGenerator;
+import tfifteenfour.clipboard.storage.JsonRosterStorage;
+import tfifteenfour.clipboard.storage.JsonUserPrefsStorage;
+import tfifteenfour.clipboard.storage.StorageManager;
+
+/**
+ * Checks that the slowest operations stay within their time and memory budgets on a roster the size of a faculty:
+ * 200 groups of 100 students, with 24 sessions and 10 tasks each.
+ * Time budgets are about three times what the operations take on a single slow core, so a failure means that an
+ * operation has become a lot slower, not that the machine was busy. Allocation budgets are tighter, as the bytes an
+ * operation allocates do not depend on the machine.
+ * Every command, even {@code find}, copies the roster for undo and saves it, so commands take longer than their
+ * own work.
+ *
+ * These tests take about a minute, so they only run with {@code gradlew scaleTest}.
+ */
+@Tag("scale")
+public class RosterScaleTest {
+
+    @TempDir
+    public static Path testFolder;
+
+    private static final RosterGenerator GENERATOR = new RosterGenerator().withCourses(10).withGroupsPerCourse(20)
+            .withStudentsPerGroup(100).withSessionsPerGroup(24).withTasksPerGroup(10)
+            .withAttendanceDensity(0.8).withGradeDensity(0.6);
+
+    private static final long MEGABYTE = 1024 * 1024;
+
+    private static Path rosterFile;
+
+    private JsonRosterStorage rosterStorage;
+    private Roster roster;
+
+    @BeforeAll
+    public static void writeRosterFile() throws Exception {
+        rosterFile = testFolder.resolve("roster.json");
+        GENERATOR.writeTo(rosterFile);
+    }
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        rosterStorage = new JsonRosterStorage(testFolder.resolve("saved.json"));
+        roster = new Roster(rosterStorage.readRoster(rosterFile).get());
+    }
+
+    @Test
+    public void load_withinBudget() throws Exception {
+        long heapBefore = usedHeapAfterGc();
+        ReadOnlyRoster loaded = measure("load", 15_000, 3_500, () -> rosterStorage.readRoster(rosterFile).get());
+        long retained = usedHeapAfterGc() - heapBefore;
+
+        assertEquals(200, loaded.getUnmodifiableCourseList().stream()
+                .mapToInt(course -> course.getUnmodifiableGroupList().size()).sum());
+        assertTrue(retained < 150 * MEGABYTE, "Loaded roster retains " + retained / MEGABYTE + " MB");
+    }
+
+    @Test
+    public void save_withinBudget() throws Exception {
+        measure("save", 6_000, 600, () -> {
+            rosterStorage.saveRoster(roster);
+            return null;
+        });
+    }
+
+    @Test
+    public void copy_withinBudget() throws Exception {
+        measure("copy", 2_000, 80, roster::copy);
+    }
+
+    @Test
+    public void findStudent_withinBudget() throws Exception {
+        LogicManager logic = logicOnPage("select 1", "select 1");
+
+        measure("find", 5_000, 1_000, () -> logic.execute("find student Tan"));
+    }
+
+    @Test
+    public void markAll_withinBudget() throws Exception {
+        LogicManager logic = logicOnPage("select 1", "session 1", "select 1");
+
+        measure("mark", 6_000, 1_000, () -> logic.execute("mark all"));
+
+        Session session = logic.getModel().getCurrentSelection().getSelectedSession();
+        assertEquals(100, session.count(AttendanceStatus.PRESENT));
+    }
+
+    @Test
+    public void clear_withinBudget() throws Exception {
+        LogicManager logic = logicOnPage();
+
+        measure("clear", 5_000, 500, () -> logic.execute("clear"));
+
+        assertTrue(logic.getModel().getRoster().getUnmodifiableCourseList().isEmpty());
+    }
+
+    /**
+     * Returns a {@code LogicManager} on a copy of the generated roster that saves into the test folder, after it has
+     * executed {@code navigation}.
+     */
+    private LogicManager logicOnPage(String... navigation) throws Exception {
+        ModelManager model = new ModelManager(roster, new UserPrefs());
+        model.getCurrentSelection().setCurrentPage(PageType.COURSE_PAGE);
+        LogicManager logic = new LogicManager(model, new StorageManager(rosterStorage,
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json"))));
+        for (String commandText : navigation) {
+            logic.execute(commandText);
+        }
+        return logic;
+    }
+
+    /**
+     * Runs {@code operation} and fails if it takes longer than {@code maxMillis} or allocates more than
+     * {@code maxAllocatedMegabytes}.
+     */
+    private static <T> T measure(String name, long maxMillis, long maxAllocatedMegabytes, Callable<T> operation)
+            throws Exception {
+        long bytesBefore = ThreadAllocationCounter.getAllocatedBytes();
+        long start = System.nanoTime();
+        T result = operation.call();
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        long allocatedMegabytes = (ThreadAllocationCounter.getAllocatedBytes() - bytesBefore) / MEGABYTE;
+
+        assertTrue(millis <= maxMillis, name + " took " + millis + " ms, over its budget of " + maxMillis + " ms");
+        if (ThreadAllocationCounter.isSupported()) {
+            assertTrue(allocatedMegabytes <= maxAllocatedMegabytes, name + " allocated " + allocatedMegabytes
+                    + " MB, over its budget of " + maxAllocatedMegabytes + " MB");
+        }
+        return result;
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
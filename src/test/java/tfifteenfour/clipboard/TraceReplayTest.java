@@ -0,0 +1,82 @@
+package tfifteenfour.clipboard;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TraceReplayTest {
+
+    private static final Path SAMPLE_ROSTER = Paths.get("src", "test", "data", "sampleRoster.json");
+
+    @TempDir
+    public Path testFolder;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    @Test
+    public void run_trace_countsAndTimesEveryCommand() throws Exception {
+        byte[] rosterBefore = Files.readAllBytes(SAMPLE_ROSTER);
+        TraceReplay replay = new TraceReplay(List.of("add course CS9999", "select 1", "select 1", "fly away"),
+                SAMPLE_ROSTER);
+
+        TraceReplay.Result result = replay.run(testFolder);
+
+        assertEquals(4, result.getCommandCount());
+        assertEquals(1, result.getFailedCount());
+        assertEquals(4, result.getLatencies().getCount());
+        assertTrue(result.getThroughput() > 0);
+        assertTrue(result.getReport().startsWith("Replayed 4 command(s), of which 1 failed"));
+        assertArrayEquals(rosterBefore, Files.readAllBytes(SAMPLE_ROSTER));
+    }
+
+    @Test
+    public void readTrace_traceFile_commandsOnly() throws Exception {
+        Path traceFile = testFolder.resolve("session.trace");
+        Files.writeString(traceFile, "# CLIpboard command trace\n0\t1200\tselect 1\n\n15\t800\tundo\nhome\n");
+
+        assertEquals(List.of("select 1", "undo", "home"), TraceReplay.readTrace(traceFile));
+    }
+
+    @Test
+    public void launch_traceAndRoster_printsReport() throws Exception {
+        Path traceFile = testFolder.resolve("session.trace");
+        Files.writeString(traceFile, "select 1\n");
+
+        int exitCode = TraceReplay.launch(new String[] {TraceReplay.FLAG_REPLAY, TraceReplay.PARAMETER_WARMUP + "0",
+            traceFile.toString(), SAMPLE_ROSTER.toString()}, printStream(out), printStream(err));
+
+        assertEquals(HeadlessApp.EXIT_SUCCESS, exitCode);
+        assertTrue(out.toString(StandardCharsets.UTF_8).contains("select (1 run(s))"));
+    }
+
+    @Test
+    public void launch_missingRoster_usageError() {
+        assertEquals(HeadlessApp.EXIT_USAGE, TraceReplay.launch(new String[] {TraceReplay.FLAG_REPLAY, "a.trace"},
+                printStream(out), printStream(err)));
+        assertTrue(err.toString(StandardCharsets.UTF_8).startsWith("Usage:"));
+    }
+
+    @Test
+    public void launch_missingTrace_ioError() {
+        String missing = testFolder.resolve("missing.trace").toString();
+
+        assertEquals(HeadlessApp.EXIT_IO_ERROR, TraceReplay.launch(new String[] {TraceReplay.FLAG_REPLAY, missing,
+            SAMPLE_ROSTER.toString()}, printStream(out), printStream(err)));
+    }
+
+    private static PrintStream printStream(ByteArrayOutputStream stream) {
+        return new PrintStream(stream, true, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,174 @@
+package tfifteenfour.clipboard.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import tfifteenfour.clipboard.commons.core.AsyncLogHandler.OverflowPolicy;
+
+public class AsyncLogHandlerTest {
+
+    private final CapturingHandler target = new CapturingHandler();
+    private AsyncLogHandler handler;
+
+    @AfterEach
+    public void tearDown() {
+        target.release();
+        if (handler != null) {
+            handler.close();
+        }
+    }
+
+    @Test
+    public void publish_manyRecords_writtenInOrder() {
+        handler = new AsyncLogHandler(List.of(target), 16, OverflowPolicy.BLOCK);
+
+        for (int i = 0; i < 100; i++) {
+            handler.publish(new LogRecord(Level.INFO, "record " + i));
+        }
+        handler.flush();
+
+        assertEquals(100, target.getMessages().size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals("record " + i, target.getMessages().get(i));
+        }
+        assertEquals(0, handler.getDroppedCount());
+    }
+
+    @Test
+    public void publish_belowTargetLevel_notWritten() {
+        target.setLevel(Level.WARNING);
+        handler = new AsyncLogHandler(List.of(target), 16, OverflowPolicy.BLOCK);
+
+        handler.publish(new LogRecord(Level.FINE, "fine"));
+        handler.publish(new LogRecord(Level.WARNING, "warning"));
+        handler.flush();
+
+        assertEquals(List.of("warning"), target.getMessages());
+    }
+
+    @Test
+    public void publish_bufferFullDropNewest_newestDropped() throws Exception {
+        handler = fillBuffer(OverflowPolicy.DROP_NEWEST);
+
+        handler.publish(new LogRecord(Level.INFO, "record 3"));
+        target.release();
+        handler.flush();
+
+        assertEquals(1, handler.getDroppedCount());
+        assertEquals(List.of("record 0", String.format(AsyncLogHandler.MESSAGE_DROPPED, 1), "record 1", "record 2"),
+                target.getMessages());
+    }
+
+    @Test
+    public void publish_bufferFullDropOldest_oldestDropped() throws Exception {
+        handler = fillBuffer(OverflowPolicy.DROP_OLDEST);
+
+        handler.publish(new LogRecord(Level.INFO, "record 3"));
+        target.release();
+        handler.flush();
+
+        assertEquals(1, handler.getDroppedCount());
+        assertEquals(List.of("record 0", String.format(AsyncLogHandler.MESSAGE_DROPPED, 1), "record 2", "record 3"),
+                target.getMessages());
+    }
+
+    @Test
+    public void publish_bufferFullBlock_waitsForRoom() throws Exception {
+        handler = fillBuffer(OverflowPolicy.BLOCK);
+
+        Thread logging = new Thread(() -> handler.publish(new LogRecord(Level.INFO, "record 3")));
+        logging.start();
+        logging.join(200);
+        assertTrue(logging.isAlive());
+
+        target.release();
+        logging.join(5_000);
+        handler.flush();
+
+        assertEquals(0, handler.getDroppedCount());
+        assertEquals(List.of("record 0", "record 1", "record 2", "record 3"), target.getMessages());
+    }
+
+    @Test
+    public void close_queuedRecords_writtenAndTargetsClosed() throws Exception {
+        handler = fillBuffer(OverflowPolicy.DROP_NEWEST);
+
+        target.release();
+        handler.close();
+        handler.publish(new LogRecord(Level.INFO, "after close"));
+
+        assertEquals(List.of("record 0", "record 1", "record 2"), target.getMessages());
+        assertTrue(target.isClosed);
+    }
+
+    /**
+     * Returns a handler with a buffer of two records that is full, while its thread waits to write the record before.
+     */
+    private AsyncLogHandler fillBuffer(OverflowPolicy overflowPolicy) throws InterruptedException {
+        target.block();
+        AsyncLogHandler asyncHandler = new AsyncLogHandler(List.of(target), 2, overflowPolicy);
+        asyncHandler.publish(new LogRecord(Level.INFO, "record 0"));
+        assertTrue(target.awaitBlocked());
+        asyncHandler.publish(new LogRecord(Level.INFO, "record 1"));
+        asyncHandler.publish(new LogRecord(Level.INFO, "record 2"));
+        return asyncHandler;
+    }
+
+    /**
+     * A handler that keeps the records written to it, and can be made to wait before writing the first of them.
+     */
+    private static class CapturingHandler extends Handler {
+        private final List<LogRecord> records = new CopyOnWriteArrayList<>();
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private CountDownLatch released = new CountDownLatch(0);
+        private volatile boolean isClosed;
+
+        void block() {
+            released = new CountDownLatch(1);
+        }
+
+        boolean awaitBlocked() throws InterruptedException {
+            return blocked.await(5, TimeUnit.SECONDS);
+        }
+
+        void release() {
+            released.countDown();
+        }
+
+        List<String> getMessages() {
+            return records.stream().map(LogRecord::getMessage).collect(Collectors.toList());
+        }
+
+        @Override
+        public void publish(LogRecord record) {
+            records.add(record);
+            blocked.countDown();
+            try {
+                released.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+    }
+}
@@ -11,7 +11,11 @@ public class ConfigTest {
     @Test
     public void toString_defaultObject_stringReturned() {
         String defaultConfigAsString = "Current log level : INFO\n"
-                + "Preference file Location : preferences.json";
+                + "Preference file Location : preferences.json\n"
+                + "Slow command threshold : 500 ms\n"
+                + "Debug mode : false\n"
+                + "Command trace : off, anonymized\n"
+                + "Log overflow policy : DROP_OLDEST";
 
         assertEquals(defaultConfigAsString, new Config().toString());
     }
@@ -0,0 +1,47 @@
+package tfifteenfour.clipboard.commons.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class FlightRecordingTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void dump_afterEvents_writesEventsToFile() throws Exception {
+        Optional<FlightRecording> started = FlightRecording.start(testFolder.resolve("recordings"));
+        assumeTrue(started.isPresent(), "flight recording is not available");
+        FlightRecording recording = started.get();
+
+        try {
+            CommandPhaseEvent event = new CommandPhaseEvent();
+            event.begin();
+            event.end("add", "execute");
+
+            Path file = recording.dump(FlightRecording.REASON_ON_DEMAND);
+            assertTrue(Files.isRegularFile(file));
+            assertTrue(file.getFileName().toString().endsWith("-" + FlightRecording.REASON_ON_DEMAND + ".jfr"));
+
+            List<RecordedEvent> phases = RecordingFile.readAllEvents(file).stream()
+                    .filter(recorded -> recorded.getEventType().getName().equals("tfifteenfour.clipboard.CommandPhase"))
+                    .collect(Collectors.toList());
+            assertTrue(phases.stream().anyMatch(recorded -> recorded.getString("commandWord").equals("add")
+                    && recorded.getString("phase").equals("execute")));
+        } finally {
+            recording.close();
+        }
+    }
+}
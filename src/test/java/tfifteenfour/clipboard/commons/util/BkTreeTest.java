@@ -0,0 +1,68 @@
+package tfifteenfour.clipboard.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class BkTreeTest {
+
+    private BkTree<String> tree;
+
+    @BeforeEach
+    public void setUp() {
+        tree = new BkTree<>();
+        for (String name : new String[] {"kelvin", "kevin", "melvin", "bernice", "alex", "alexa"}) {
+            tree.add(name, name);
+        }
+    }
+
+    @Test
+    public void search_withinTolerance_returnsMatchesClosestFirst() {
+        List<BkTree.Match<String>> matches = tree.search("kelvn", 2);
+        assertEquals("kelvin", matches.get(0).getValue());
+        assertEquals(1, matches.get(0).getDistance());
+        assertEquals(List.of("kelvin", "kevin", "melvin"), values(matches));
+    }
+
+    @Test
+    public void search_zeroTolerance_returnsExactMatchesOnly() {
+        assertEquals(List.of("alex"), values(tree.search("alex", 0)));
+        assertTrue(tree.search("alx", 0).isEmpty());
+    }
+
+    @Test
+    public void search_sameValueUnderSeveralKeys_returnedOnceWithBestDistance() {
+        tree.add("tan", "kelvin");
+        List<BkTree.Match<String>> matches = tree.search("tan", 1);
+        assertEquals(1, matches.stream().filter(match -> match.getValue().equals("kelvin")).count());
+        assertEquals(0, matches.get(0).getDistance());
+    }
+
+    @Test
+    public void remove_entry_noLongerFound() {
+        tree.remove("kelvin", "kelvin");
+        assertEquals(List.of("kevin", "melvin"), values(tree.search("kelvn", 2)));
+
+        // removing most entries triggers a rebuild that must keep the remaining ones
+        tree.remove("kevin", "kevin");
+        tree.remove("melvin", "melvin");
+        tree.remove("bernice", "bernice");
+        assertEquals(List.of("alex", "alexa"), values(tree.search("alex", 1)));
+    }
+
+    @Test
+    public void defaultTolerance_growsWithQueryLength() {
+        assertEquals(0, BkTree.defaultTolerance("ab"));
+        assertEquals(1, BkTree.defaultTolerance("kelvn"));
+        assertEquals(3, BkTree.defaultTolerance("a very long query"));
+    }
+
+    private static List<String> values(List<BkTree.Match<String>> matches) {
+        return matches.stream().map(BkTree.Match::getValue).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,70 @@
+package tfifteenfour.clipboard.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void getPercentile_noDurations_returnsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getPercentile(50));
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getCount());
+    }
+
+    @Test
+    public void getPercentile_smallDurations_exact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long nanos = 1; nanos <= 10; nanos++) {
+            histogram.record(nanos);
+        }
+
+        assertEquals(5, histogram.getPercentile(50));
+        assertEquals(10, histogram.getPercentile(95));
+        assertEquals(10, histogram.getMax());
+        assertEquals(10, histogram.getCount());
+    }
+
+    @Test
+    public void getPercentile_largeDurations_withinRelativeError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1_000_000L);
+        }
+
+        assertWithinRelativeError(500_000_000L, histogram.getPercentile(50));
+        assertWithinRelativeError(990_000_000L, histogram.getPercentile(99));
+        assertEquals(1_000_000_000L, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void bucketOf_everyBucketBound_mapsBackToBucket() {
+        for (int bucket = 0; bucket < 960; bucket++) {
+            long upperBound = LatencyHistogram.upperBoundOf(bucket);
+            assertEquals(bucket, LatencyHistogram.bucketOf(upperBound));
+            if (bucket + 1 < 960) {
+                assertEquals(bucket + 1, LatencyHistogram.bucketOf(upperBound + 1));
+            }
+        }
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.upperBoundOf(959));
+    }
+
+    @Test
+    public void reset_recordedDurations_forgotten() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(42);
+        histogram.record(-1);
+        histogram.reset();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentile(99));
+    }
+
+    private static void assertWithinRelativeError(long expected, long actual) {
+        assertTrue(actual >= expected && actual <= expected + expected / 16,
+                "expected about " + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,59 @@
+package tfifteenfour.clipboard.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static tfifteenfour.clipboard.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class LruCacheTest {
+
+    private final LruCache<String, String> cache = new LruCache<>(10, String::length);
+
+    @Test
+    public void put_overWeight_leastRecentlyUsedDropped() {
+        cache.put("a", "aaaa");
+        cache.put("b", "bbbb");
+        cache.get("a");
+        cache.put("c", "cccc");
+
+        assertEquals("aaaa", cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals("cccc", cache.get("c"));
+        assertEquals(2, cache.size());
+        assertEquals(8, cache.getWeight());
+    }
+
+    @Test
+    public void put_sameKey_valueReplaced() {
+        cache.put("a", "aaaa");
+        cache.put("a", "aa");
+
+        assertEquals("aa", cache.get("a"));
+        assertEquals(2, cache.getWeight());
+    }
+
+    @Test
+    public void put_heavierThanCache_notKept() {
+        cache.put("a", "aaaa");
+        cache.put("b", "bbbbbbbbbbb");
+
+        assertNull(cache.get("b"));
+        assertEquals("aaaa", cache.get("a"));
+    }
+
+    @Test
+    public void remove_presentKey_weightReleased() {
+        cache.put("a", "aaaa");
+        cache.remove("a");
+        cache.remove("missing");
+
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.getWeight());
+    }
+
+    @Test
+    public void constructor_negativeWeight_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new LruCache<String, String>(-1, String::length));
+    }
+}
@@ -0,0 +1,56 @@
+package tfifteenfour.clipboard.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tfifteenfour.clipboard.testutil.Assert.assertThrows;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class StartupTimerTest {
+
+    private long now = 0;
+    private final StartupTimer timer = new StartupTimer(120, () -> now);
+
+    @Test
+    public void endPhase_phasesInOrder_eachTimedFromThePreviousOne() {
+        advanceMillis(15);
+        timer.endPhase("config");
+        advanceMillis(300);
+        timer.endPhase("roster read");
+
+        assertEquals(120, timer.getPhaseMillis(StartupTimer.PHASE_JVM));
+        assertEquals(15, timer.getPhaseMillis("config"));
+        assertEquals(300, timer.getPhaseMillis("roster read"));
+        assertEquals(435, timer.getTotalMillis());
+        assertEquals(String.format(StartupTimer.MESSAGE_REPORT, 435,
+                "JVM start 120 ms, config 15 ms, roster read 300 ms"), timer.getReport());
+    }
+
+    @Test
+    public void endPhase_samePhaseTwice_timesAdded() {
+        advanceMillis(10);
+        timer.endPhase("window build");
+        advanceMillis(5);
+        timer.endPhase("first frame");
+        advanceMillis(20);
+        timer.endPhase("window build");
+
+        assertEquals(30, timer.getPhaseMillis("window build"));
+        assertEquals(155, timer.getTotalMillis());
+    }
+
+    @Test
+    public void getPhaseMillis_phaseNotEnded_returnsMinusOne() {
+        assertEquals(-1, timer.getPhaseMillis("first frame"));
+    }
+
+    @Test
+    public void endPhase_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> timer.endPhase(null));
+    }
+
+    private void advanceMillis(long millis) {
+        now += TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+}
@@ -0,0 +1,40 @@
+package tfifteenfour.clipboard.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class StringInternerTest {
+
+    @Test
+    public void intern_equalStrings_returnsSameInstance() {
+        StringInterner interner = new StringInterner();
+        String first = new String("CS2103T");
+        String second = new String("CS2103T");
+
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(second));
+        assertSame(first, interner.intern(first));
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    public void intern_duplicate_countsBytesSaved() {
+        StringInterner interner = new StringInterner();
+        interner.intern(new String("T15"));
+        interner.intern(new String("T15"));
+
+        assertEquals(StringInterner.estimateSize("T15"), interner.getBytesSaved());
+        assertTrue(interner.getReport().contains("1 duplicates shared"));
+    }
+
+    @Test
+    public void estimateSize_alignsToEightBytes() {
+        // 24 byte String + (16 byte header + 3 bytes) rounded up to 24
+        assertEquals(48, StringInterner.estimateSize("T15"));
+        // two bytes per char once any char is outside Latin-1
+        assertEquals(48, StringInterner.estimateSize("中文"));
+    }
+}
@@ -1,5 +1,6 @@
 package tfifteenfour.clipboard.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tfifteenfour.clipboard.testutil.Assert.assertThrows;
@@ -140,4 +141,21 @@ public class StringUtilTest {
         assertThrows(NullPointerException.class, () -> StringUtil.getDetails(null));
     }
 
+    //---------------- Tests for levenshteinDistance --------------------------------------
+
+    @Test
+    public void levenshteinDistance() {
+        assertEquals(0, StringUtil.levenshteinDistance("", ""));
+        assertEquals(0, StringUtil.levenshteinDistance("kelvin", "kelvin"));
+        assertEquals(6, StringUtil.levenshteinDistance("", "kelvin")); // all insertions
+        assertEquals(1, StringUtil.levenshteinDistance("kelvin", "kelvn")); // deletion
+        assertEquals(1, StringUtil.levenshteinDistance("kelvin", "kelvim")); // substitution
+        assertEquals(3, StringUtil.levenshteinDistance("kitten", "sitting"));
+    }
+
+    @Test
+    public void levenshteinDistance_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.levenshteinDistance(null, "abc"));
+    }
+
 }
@@ -0,0 +1,23 @@
+package tfifteenfour.clipboard.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class ThreadAllocationCounterTest {
+
+    @Test
+    public void getAllocatedBytes_afterAllocating_increases() {
+        if (!ThreadAllocationCounter.isSupported()) {
+            assertEquals(-1, ThreadAllocationCounter.getAllocatedBytes());
+            return;
+        }
+
+        long before = ThreadAllocationCounter.getAllocatedBytes();
+        byte[] allocated = new byte[1 << 20];
+        long after = ThreadAllocationCounter.getAllocatedBytes();
+
+        assertTrue(after - before >= allocated.length);
+    }
+}
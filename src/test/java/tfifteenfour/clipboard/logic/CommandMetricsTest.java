@@ -0,0 +1,92 @@
+package tfifteenfour.clipboard.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import org.junit.jupiter.api.Test;
+
+import tfifteenfour.clipboard.commons.util.ThreadAllocationCounter;
+import tfifteenfour.clipboard.logic.CommandMetrics.Phase;
+
+public class CommandMetricsTest {
+
+    private final CommandMetrics commandMetrics = new CommandMetrics();
+
+    @Test
+    public void endLogic_withoutUi_recordsPhasesRun() {
+        CommandMetrics.Timer timer = commandMetrics.start("add course CS2103");
+        timer.setCommandWord("add");
+        timer.next(Phase.EXECUTE);
+        timer.next(Phase.SAVE);
+        commandMetrics.endLogic(timer);
+
+        assertEquals(1, commandMetrics.getHistogram("add", Phase.PARSE).getCount());
+        assertEquals(0, commandMetrics.getHistogram("add", Phase.COPY).getCount());
+        assertEquals(1, commandMetrics.getHistogram("add", Phase.SAVE).getCount());
+        assertEquals(0, commandMetrics.getHistogram("add", Phase.UI).getCount());
+    }
+
+    @Test
+    public void recordUi_uiTimed_recordsCommandWithUi() {
+        commandMetrics.setUiTimed(true);
+        CommandMetrics.Timer timer = commandMetrics.start("home");
+        timer.setCommandWord("home");
+        commandMetrics.endLogic(timer);
+        assertNull(commandMetrics.getHistogram("home", Phase.PARSE));
+
+        commandMetrics.recordUi(3_000_000L, 1024);
+        assertEquals(1, commandMetrics.getHistogram("home", Phase.PARSE).getCount());
+        assertEquals(3_000_000L, commandMetrics.getHistogram("home", Phase.UI).getMax());
+
+        // a second report without a command in between is ignored
+        commandMetrics.recordUi(1L, 1);
+        assertEquals(1, commandMetrics.getHistogram("home", Phase.UI).getCount());
+    }
+
+    @Test
+    public void getReport_recordedCommands_listsPhasesByCommandWord() {
+        assertEquals(CommandMetrics.MESSAGE_NO_COMMANDS, commandMetrics.getReport());
+
+        CommandMetrics.Timer unparsed = commandMetrics.start("fly");
+        commandMetrics.endLogic(unparsed);
+        CommandMetrics.Timer timer = commandMetrics.start("undo");
+        timer.setCommandWord("undo");
+        timer.next(Phase.EXECUTE);
+        commandMetrics.endLogic(timer);
+
+        String report = commandMetrics.getReport();
+        assertTrue(report.startsWith(CommandMetrics.MESSAGE_REPORT_HEADER));
+        assertTrue(report.indexOf("\n" + CommandMetrics.INVALID_COMMAND_WORD + " (1 run(s))")
+                < report.indexOf("\nundo (1 run(s))"));
+        assertTrue(report.contains("\n    execute "));
+
+        commandMetrics.reset();
+        assertEquals(CommandMetrics.MESSAGE_NO_COMMANDS, commandMetrics.getReport());
+    }
+
+    @Test
+    public void getAllocationReport_allocatingPhase_countsBytes() {
+        assumeTrue(ThreadAllocationCounter.isSupported(), "allocation counting is not supported");
+        commandMetrics.setUiTimed(true);
+
+        CommandMetrics.Timer timer = commandMetrics.start("mark 1");
+        timer.setCommandWord("mark");
+        timer.next(Phase.EXECUTE);
+        long[][] allocated = new long[64][];
+        for (int i = 0; i < allocated.length; i++) {
+            allocated[i] = new long[1024];
+        }
+        commandMetrics.endLogic(timer);
+        assertTrue(commandMetrics.getLastCommandBreakdown().startsWith("parse "));
+        commandMetrics.recordUi(1_000L, 2048);
+
+        assertTrue(commandMetrics.getMeanAllocatedBytes("mark", Phase.EXECUTE) >= allocated.length * 8 * 1024);
+        assertEquals(2048, commandMetrics.getMeanAllocatedBytes("mark", Phase.UI));
+        assertEquals(-1, commandMetrics.getMeanAllocatedBytes("mark", Phase.COPY));
+        String report = commandMetrics.getAllocationReport();
+        assertTrue(report.startsWith(CommandMetrics.MESSAGE_ALLOCATION_REPORT_HEADER));
+        assertTrue(report.contains("\n    ui       2.0 KB / 2.0 KB"));
+    }
+}
@@ -0,0 +1,144 @@
+package tfifteenfour.clipboard.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tfifteenfour.clipboard.logic.commands.CommandResult;
+import tfifteenfour.clipboard.logic.parser.exceptions.ParseException;
+import tfifteenfour.clipboard.model.Model;
+import tfifteenfour.clipboard.model.ReadOnlyRoster;
+import tfifteenfour.clipboard.model.course.Course;
+import tfifteenfour.clipboard.storage.JsonRosterStorage;
+import tfifteenfour.clipboard.storage.JsonUserPrefsStorage;
+import tfifteenfour.clipboard.storage.StorageManager;
+import tfifteenfour.clipboard.testutil.TypicalModel;
+
+public class CommandQueueTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @TempDir
+    public Path testFolder;
+
+    private LogicManager logic;
+    private ExecutorService publisher;
+    private CommandQueue commandQueue;
+
+    @BeforeEach
+    public void setUp() {
+        Model model = new TypicalModel().getTypicalModel();
+        model.getCurrentSelection().setCurrentPage(PageType.COURSE_PAGE);
+        logic = new LogicManager(model, new StorageManager(new JsonRosterStorage(testFolder.resolve("roster.json")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json"))));
+        publisher = Executors.newSingleThreadExecutor();
+        commandQueue = new CommandQueue(logic, publisher);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        commandQueue.shutdown();
+        publisher.shutdownNow();
+    }
+
+    @Test
+    public void submit_manyCommands_executedAndPublishedInOrder() throws Exception {
+        // holds the publisher until every callback is added, as the JavaFX application thread does
+        CountDownLatch callbacksAdded = new CountDownLatch(1);
+        publisher.execute(() -> {
+            try {
+                callbacksAdded.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        List<String> published = new ArrayList<>();
+        List<CompletableFuture<CommandResult>> outcomes = new ArrayList<>();
+        for (String courseCode : List.of("CS9997", "CS9998", "CS9999")) {
+            outcomes.add(commandQueue.submit("add course " + courseCode).whenComplete((result, error) -> {
+                // each publication sees the model as its own command left it
+                published.add(courseCode + ":" + hasCourse("CS9998") + ":" + hasCourse("CS9999"));
+            }));
+        }
+        callbacksAdded.countDown();
+        outcomes.get(2).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        assertEquals(List.of("CS9997:false:false", "CS9998:true:false", "CS9999:true:true"), published);
+    }
+
+    @Test
+    public void submit_invalidCommand_completedExceptionally() throws Exception {
+        CompletableFuture<CommandResult> outcome = commandQueue.submit("fly away");
+        CompletableFuture<CommandResult> nextOutcome = commandQueue.submit("add course CS9999");
+
+        Throwable error = outcome.handle((result, thrown) -> thrown).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertTrue(error instanceof ParseException);
+        nextOutcome.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertTrue(hasCourse("CS9999"));
+    }
+
+    @Test
+    public void submit_undo_undoesLastQueuedCommand() throws Exception {
+        commandQueue.submit("add course CS9998");
+        commandQueue.submit("add course CS9999");
+        commandQueue.submit("undo").get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        assertTrue(hasCourse("CS9998"));
+        assertFalse(hasCourse("CS9999"));
+    }
+
+    @Test
+    public void shutdown_duringSlowSave_saveAndQueuedCommandsFinish() throws Exception {
+        Path rosterFile = testFolder.resolve("slow.json");
+        CountDownLatch saveStarted = new CountDownLatch(1);
+        JsonRosterStorage slowStorage = new JsonRosterStorage(rosterFile) {
+            @Override
+            public void writeJsonToFile(String json, Path filePath) throws IOException {
+                // truncates the file first, as the real write does, so an interrupted save leaves it empty
+                Files.write(filePath, new byte[0]);
+                saveStarted.countDown();
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    throw new ClosedByInterruptException();
+                }
+                super.writeJsonToFile(json, filePath);
+            }
+        };
+        logic = new LogicManager(logic.getModel(), new StorageManager(slowStorage,
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json"))));
+        commandQueue.shutdown();
+        commandQueue = new CommandQueue(logic, publisher);
+
+        commandQueue.submit("add course CS9998");
+        commandQueue.submit("add course CS9999");
+        assertTrue(saveStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        commandQueue.shutdown();
+
+        ReadOnlyRoster saved = slowStorage.readRoster().get();
+        assertTrue(saved.getUnmodifiableCourseList().contains(new Course("CS9998")));
+        assertTrue(saved.getUnmodifiableCourseList().contains(new Course("CS9999")));
+    }
+
+    private boolean hasCourse(String courseCode) {
+        return logic.getModel().getRoster().hasCourse(new Course(courseCode));
+    }
+}
@@ -0,0 +1,75 @@
+package tfifteenfour.clipboard.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tfifteenfour.clipboard.logic.parser.RosterParser;
+import tfifteenfour.clipboard.testutil.TypicalModel;
+
+public class CommandTextAnonymizerTest {
+
+    private CommandTextAnonymizer anonymizer;
+
+    @BeforeEach
+    public void setUp() {
+        anonymizer = new CommandTextAnonymizer();
+    }
+
+    @Test
+    public void anonymize_addStudent_replacesEveryDetail() throws Exception {
+        String anonymized = anonymizer.anonymize(
+                "add student n/John Doe p/98765432 e/johnd@example.com sid/A0123456X");
+
+        assertEquals("add student n/Name1 Name2 p/90000001 e/student1@example.com sid/A0000001X", anonymized);
+        // still a valid command
+        RosterParser.parseCommand(anonymized, new TypicalModel().getTypicalModel());
+    }
+
+    @Test
+    public void anonymize_sameValueAgain_sameReplacement() {
+        anonymizer.anonymize("add student n/John Doe p/98765432 e/johnd@example.com sid/A0123456X");
+
+        assertEquals("find student Name1", anonymizer.anonymize("find student john"));
+        assertEquals("locate A0000001X Name2", anonymizer.anonymize("locate a0123456x Doe"));
+        assertEquals("mark late 1-3,A0000001X", anonymizer.anonymize("mark late 1-3,A0123456X"));
+        assertEquals("edit student 2 n/Name1 Name3", anonymizer.anonymize("edit student 2 n/John Tan"));
+    }
+
+    @Test
+    public void anonymize_remark_replacesText() {
+        assertEquals("remark 1 Remark 1", anonymizer.anonymize("remark 1 Likes to swim."));
+        assertEquals("remark 2 Remark 1", anonymizer.anonymize("remark 2 likes to swim."));
+    }
+
+    @Test
+    public void anonymize_studentIdSelectors_replaced() {
+        assertEquals("delete student A0000001X,A0000002X,3",
+                anonymizer.anonymize("delete student A0123456X,A0999999Y,3"));
+        assertEquals("goto A0000003X", anonymizer.anonymize("goto A0777777Z"));
+        assertEquals("goto A0000001X", anonymizer.anonymize("goto a0123456x"));
+    }
+
+    @Test
+    public void anonymize_fuzzyFind_flagKept() {
+        assertEquals("find student -f Name1", anonymizer.anonymize("find student -f jonh"));
+        assertEquals("locate -f Name1", anonymizer.anonymize("locate -f jonh"));
+    }
+
+    @Test
+    public void anonymize_knownStudentIdInOtherCommand_replaced() {
+        anonymizer.anonymize("add student n/John Doe p/98765432 e/johnd@example.com sid/A0123456X");
+
+        assertEquals("copy A0000001X", anonymizer.anonymize("copy A0123456X"));
+        assertEquals("add course CS2103", anonymizer.anonymize("add course CS2103"));
+    }
+
+    @Test
+    public void anonymize_noStudentDetails_unchanged() {
+        for (String commandText : new String[] {"select 1", "add course CS2103", "mark all", "assign 80 1-5",
+            "find group T01", "undo", "session 2"}) {
+            assertEquals(commandText, anonymizer.anonymize(commandText));
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package tfifteenfour.clipboard.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class CommandTraceRecorderTest {
+
+    @Test
+    public void record_commands_readBackInOrder() throws Exception {
+        StringWriter writer = new StringWriter();
+        CommandTraceRecorder recorder = new CommandTraceRecorder(writer, null);
+
+        recorder.record("select 1", 1_500_000);
+        recorder.record("mark\nall", 2_000);
+        recorder.close();
+
+        List<String> lines = writer.toString().lines().collect(Collectors.toList());
+        assertEquals(4, lines.size());
+        assertTrue(lines.get(2).endsWith(CommandTraceRecorder.FIELD_SEPARATOR + "1500"
+                + CommandTraceRecorder.FIELD_SEPARATOR + "select 1"));
+        assertEquals(List.of("select 1", "mark all"), lines.stream().map(CommandTraceRecorder::parseCommandText)
+                .flatMap(Optional::stream).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void record_anonymized_writesAnonymizedText() throws Exception {
+        StringWriter writer = new StringWriter();
+        CommandTraceRecorder recorder = new CommandTraceRecorder(writer, new CommandTextAnonymizer());
+
+        recorder.record("find student alex", 1_000);
+
+        assertTrue(writer.toString().contains("anonymized"));
+        assertTrue(writer.toString().endsWith("find student Name1" + System.lineSeparator()));
+    }
+
+    @Test
+    public void parseCommandText_plainCommandsAndComments() {
+        assertEquals(Optional.of("add course CS2103"), CommandTraceRecorder.parseCommandText("  add course CS2103 "));
+        assertEquals(Optional.of("undo"), CommandTraceRecorder.parseCommandText("12\t340\tundo"));
+        assertEquals(Optional.empty(), CommandTraceRecorder.parseCommandText("# millis\tmicros\tcommand"));
+        assertEquals(Optional.empty(), CommandTraceRecorder.parseCommandText("   "));
+    }
+}
@@ -0,0 +1,185 @@
+package tfifteenfour.clipboard.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tfifteenfour.clipboard.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tfifteenfour.clipboard.logic.commands.PerfCommand;
+import tfifteenfour.clipboard.logic.commands.addcommand.AddCourseCommand;
+import tfifteenfour.clipboard.logic.commands.batchcommand.BeginCommand;
+import tfifteenfour.clipboard.logic.commands.batchcommand.RunCommand;
+import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.model.Model;
+import tfifteenfour.clipboard.model.ReadOnlyRoster;
+import tfifteenfour.clipboard.model.Roster;
+import tfifteenfour.clipboard.model.course.Course;
+import tfifteenfour.clipboard.storage.JsonRosterStorage;
+import tfifteenfour.clipboard.storage.JsonUserPrefsStorage;
+import tfifteenfour.clipboard.storage.StorageManager;
+import tfifteenfour.clipboard.testutil.TypicalModel;
+
+public class LogicManagerTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private CountingStorage storage;
+    private LogicManager logic;
+
+    @BeforeEach
+    public void setUp() {
+        storage = new CountingStorage(testFolder);
+        Model model = new TypicalModel().getTypicalModel();
+        model.getCurrentSelection().setCurrentPage(PageType.COURSE_PAGE);
+        logic = new LogicManager(model, storage);
+    }
+
+    @Test
+    public void execute_command_savesOnce() throws Exception {
+        logic.execute("add course CS9999");
+
+        assertEquals(1, storage.saveCount);
+        assertTrue(hasCourse("CS9999"));
+    }
+
+    @Test
+    public void execute_commitTransaction_savesOnceAndUndoesAtOnce() throws Exception {
+        Roster originalRoster = logic.getModel().getRoster().copy();
+
+        logic.execute("begin");
+        logic.execute("add course CS9999");
+        logic.execute("add course CS9998");
+        assertTrue(logic.isInTransaction());
+        assertEquals(0, storage.saveCount);
+
+        logic.execute("commit");
+        assertFalse(logic.isInTransaction());
+        assertEquals(1, storage.saveCount);
+        assertTrue(hasCourse("CS9999"));
+        assertTrue(hasCourse("CS9998"));
+
+        logic.execute("undo");
+        assertEquals(originalRoster, logic.getModel().getRoster());
+    }
+
+    @Test
+    public void execute_commitUnchangedTransaction_nothingToUndoOrSave() throws Exception {
+        logic.execute("begin");
+        logic.execute("commit");
+
+        assertFalse(logic.isInTransaction());
+        assertEquals(0, storage.saveCount);
+        assertEquals(0, logic.getUndoHistorySize());
+    }
+
+    @Test
+    public void execute_rollbackTransaction_restoresModel() throws Exception {
+        Roster originalRoster = logic.getModel().getRoster().copy();
+
+        logic.execute("begin");
+        logic.execute("add course CS9999");
+        logic.execute("rollback");
+
+        assertFalse(logic.isInTransaction());
+        assertEquals(originalRoster, logic.getModel().getRoster());
+        assertEquals(0, storage.saveCount);
+    }
+
+    @Test
+    public void execute_failureInTransaction_rollsBackAndReportsLine() throws Exception {
+        Roster originalRoster = logic.getModel().getRoster().copy();
+
+        logic.execute("begin");
+        logic.execute("add course CS9999");
+        String expectedMessage = String.format(LogicManager.MESSAGE_TRANSACTION_FAILED, 2, "add course CS9999",
+                AddCourseCommand.MESSAGE_DUPLICATE_COURSE);
+
+        assertThrows(CommandException.class, expectedMessage, () -> logic.execute("add course CS9999"));
+        assertFalse(logic.isInTransaction());
+        assertEquals(originalRoster, logic.getModel().getRoster());
+        assertEquals(0, storage.saveCount);
+    }
+
+    @Test
+    public void execute_controlCommandsInTransaction_keepTransactionOpen() throws Exception {
+        logic.execute("begin");
+        logic.execute("add course CS9999");
+
+        assertThrows(CommandException.class, BeginCommand.MESSAGE_ALREADY_IN_TRANSACTION, () ->
+                logic.execute("begin"));
+        assertThrows(CommandException.class, LogicManager.MESSAGE_UNDO_IN_TRANSACTION, () -> logic.execute("undo"));
+        assertTrue(logic.isInTransaction());
+        assertTrue(hasCourse("CS9999"));
+    }
+
+    @Test
+    public void execute_runScript_savesOnceAndUndoesAtOnce() throws Exception {
+        Roster originalRoster = logic.getModel().getRoster().copy();
+        Path script = testFolder.resolve("script.txt");
+        Files.write(script, "add course CS9999\nadd course CS9998\n".getBytes());
+
+        logic.execute(RunCommand.COMMAND_WORD + " " + script);
+        assertEquals(1, storage.saveCount);
+        assertTrue(hasCourse("CS9998"));
+
+        logic.execute("undo");
+        assertEquals(originalRoster, logic.getModel().getRoster());
+    }
+
+    @Test
+    public void execute_failingScript_restoresModel() throws Exception {
+        Roster originalRoster = logic.getModel().getRoster().copy();
+        Path script = testFolder.resolve("script.txt");
+        Files.write(script, "add course CS9999\nadd course CS9999\n".getBytes());
+
+        assertThrows(CommandException.class, () -> logic.execute(RunCommand.COMMAND_WORD + " " + script));
+        assertEquals(originalRoster, logic.getModel().getRoster());
+        assertEquals(0, storage.saveCount);
+    }
+
+    @Test
+    public void execute_perf_reportsPhasesOfEarlierCommands() throws Exception {
+        logic.execute("add course CS9999");
+        String report = logic.execute("perf").getFeedbackToUser();
+
+        assertTrue(report.contains("\nadd (1 run(s))"));
+        assertEquals(1, logic.getCommandMetrics().getHistogram("add", CommandMetrics.Phase.COPY).getCount());
+        assertEquals(1, logic.getCommandMetrics().getHistogram("add", CommandMetrics.Phase.SAVE).getCount());
+    }
+
+    @Test
+    public void execute_perfDumpWithoutRecording_throwsCommandException() {
+        assertThrows(CommandException.class, PerfCommand.MESSAGE_NOT_RECORDING, () -> logic.execute("perf dump"));
+    }
+
+    private boolean hasCourse(String courseCode) {
+        return logic.getModel().getRoster().hasCourse(new Course(courseCode));
+    }
+
+    /**
+     * A {@code StorageManager} that counts how many times the roster is saved.
+     */
+    private static class CountingStorage extends StorageManager {
+        private int saveCount;
+
+        CountingStorage(Path folder) {
+            super(new JsonRosterStorage(folder.resolve("roster.json")),
+                    new JsonUserPrefsStorage(folder.resolve("prefs.json")));
+        }
+
+        @Override
+        public void saveRoster(ReadOnlyRoster roster) throws IOException {
+            saveCount++;
+            super.saveRoster(roster);
+        }
+    }
+}
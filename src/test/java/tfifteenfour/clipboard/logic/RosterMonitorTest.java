@@ -0,0 +1,116 @@
+package tfifteenfour.clipboard.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tfifteenfour.clipboard.model.Model;
+import tfifteenfour.clipboard.model.RosterStatistics;
+import tfifteenfour.clipboard.storage.JsonRosterStorage;
+import tfifteenfour.clipboard.storage.JsonUserPrefsStorage;
+import tfifteenfour.clipboard.storage.StorageManager;
+import tfifteenfour.clipboard.testutil.TypicalModel;
+
+public class RosterMonitorTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private LogicManager logic;
+    private RosterMonitor monitor;
+
+    @BeforeEach
+    public void setUp() {
+        Model model = new TypicalModel().getTypicalModel();
+        model.getCurrentSelection().setCurrentPage(PageType.COURSE_PAGE);
+        logic = new LogicManager(model, new StorageManager(new JsonRosterStorage(testFolder.resolve("roster.json")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json"))));
+        monitor = new RosterMonitor(logic);
+    }
+
+    @Test
+    public void getCounts_matchRoster() throws Exception {
+        RosterStatistics statistics = RosterStatistics.of(logic.getRoster());
+        logic.execute("add course CS9999");
+
+        assertEquals(statistics.getCourseCount() + 1, monitor.getCourseCount());
+        assertEquals(statistics.getStudentCount(), monitor.getStudentCount());
+        assertTrue(monitor.getEstimatedModelBytes() > 0);
+    }
+
+    @Test
+    public void trimUndoHistory_keepsMostRecentStates() throws Exception {
+        logic.execute("add course CS9997");
+        logic.execute("add course CS9998");
+        logic.execute("add course CS9999");
+        assertEquals(3, monitor.getUndoHistorySize());
+        assertTrue(monitor.getUndoHistoryEstimatedBytes() > 0);
+
+        assertEquals(2, monitor.trimUndoHistory(1));
+        assertEquals(1, monitor.getUndoHistorySize());
+
+        logic.execute("undo");
+        assertEquals(0, monitor.getUndoHistorySize());
+        assertTrue(logic.getRoster().getUnmodifiableCourseList().size() > 0);
+    }
+
+    @Test
+    public void forceSave_recordsSave() {
+        assertEquals(RosterMonitor.MESSAGE_SAVED, monitor.forceSave());
+
+        assertEquals(1, monitor.getSaveCount());
+        assertEquals(0, monitor.getSaveFailureCount());
+        assertTrue(monitor.getLastSaveBytes() > 0);
+        assertEquals(monitor.getLastSaveBytes(), monitor.getBytesWritten());
+    }
+
+    @Test
+    public void dropCaches_studentIndexRebuiltOnNextUse() {
+        int enrollments = logic.getModel().getRoster().getStudentIndex().findEnrollments("A6789012F").size();
+        assertTrue(enrollments > 0);
+
+        monitor.dropCaches();
+
+        assertFalse(logic.getModel().getRoster().dropStudentIndex());
+        assertEquals(enrollments, logic.getModel().getRoster().getStudentIndex().findEnrollments("A6789012F").size());
+    }
+
+    @Test
+    public void dropCaches_searchIndexesCountedAndDropped() throws Exception {
+        assertEquals(0, monitor.getStudentSearchIndexCount());
+        assertEquals(0, monitor.getFuzzyIndexCount());
+        logic.execute("select 1");
+        logic.execute("select 1");
+        logic.execute("find student alex");
+        logic.execute("find student -f alx");
+        assertEquals(1, monitor.getStudentSearchIndexCount());
+        assertEquals(1, monitor.getFuzzyIndexCount());
+
+        monitor.dropCaches();
+
+        assertEquals(0, monitor.getStudentSearchIndexCount());
+        assertEquals(0, monitor.getFuzzyIndexCount());
+    }
+
+    @Test
+    public void register_publishesAttributesUntilUnregistered() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(RosterMonitor.OBJECT_NAME);
+        assertTrue(monitor.register());
+        try {
+            assertEquals(monitor.getCourseCount(), server.getAttribute(name, "CourseCount"));
+        } finally {
+            monitor.unregister();
+        }
+        assertFalse(server.isRegistered(name));
+    }
+}
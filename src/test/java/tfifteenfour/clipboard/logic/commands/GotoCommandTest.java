@@ -0,0 +1,72 @@
+package tfifteenfour.clipboard.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static tfifteenfour.clipboard.logic.commands.CommandTestUtil.assertCommandFailure;
+import static tfifteenfour.clipboard.testutil.TypicalIndexes.INDEX_FIRST;
+import static tfifteenfour.clipboard.testutil.TypicalIndexes.INDEX_SECOND;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tfifteenfour.clipboard.commons.core.index.Index;
+import tfifteenfour.clipboard.logic.CurrentSelection;
+import tfifteenfour.clipboard.logic.PageType;
+import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.model.Model;
+import tfifteenfour.clipboard.model.student.StudentId;
+import tfifteenfour.clipboard.testutil.TypicalModel;
+
+class GotoCommandTest {
+    private static final StudentId STUDENT_IN_THREE_GROUPS = new StudentId("A1234567U");
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new TypicalModel().getTypicalModel();
+        model.getCurrentSelection().navigateBackToCoursePage();
+    }
+
+    @Test
+    public void execute_firstEnrollment_navigatesToStudentPage() throws CommandException {
+        new GotoCommand(STUDENT_IN_THREE_GROUPS, INDEX_FIRST).execute(model);
+
+        CurrentSelection currentSelection = model.getCurrentSelection();
+        assertEquals(PageType.STUDENT_PAGE, currentSelection.getCurrentPage());
+        assertEquals("CS2103T", currentSelection.getSelectedCourse().getCourseCode());
+        assertEquals("T17", currentSelection.getSelectedGroup().getGroupName());
+        assertEquals(STUDENT_IN_THREE_GROUPS, currentSelection.getSelectedStudent().getStudentId());
+    }
+
+    @Test
+    public void execute_secondEnrollment_navigatesToSecondGroup() throws CommandException {
+        new GotoCommand(STUDENT_IN_THREE_GROUPS, INDEX_SECOND).execute(model);
+
+        assertEquals("CS2101", model.getCurrentSelection().getSelectedCourse().getCourseCode());
+        assertEquals("S04", model.getCurrentSelection().getSelectedGroup().getGroupName());
+    }
+
+    @Test
+    public void execute_unknownStudent_throwsCommandException() {
+        StudentId unknownId = new StudentId("Z0000000Z");
+        assertCommandFailure(new GotoCommand(unknownId, INDEX_FIRST), model,
+                String.format(GotoCommand.MESSAGE_STUDENT_NOT_FOUND, unknownId));
+    }
+
+    @Test
+    public void execute_enrollmentIndexOutOfRange_throwsCommandException() {
+        assertCommandFailure(new GotoCommand(STUDENT_IN_THREE_GROUPS, Index.fromOneBased(4)), model,
+                String.format(GotoCommand.MESSAGE_INVALID_ENROLLMENT_INDEX, 3));
+    }
+
+    @Test
+    public void equals() {
+        GotoCommand gotoFirst = new GotoCommand(STUDENT_IN_THREE_GROUPS, INDEX_FIRST);
+
+        assertEquals(gotoFirst, gotoFirst);
+        assertEquals(gotoFirst, new GotoCommand(new StudentId("A1234567U"), INDEX_FIRST));
+        assertNotEquals(null, gotoFirst);
+        assertNotEquals(gotoFirst, new GotoCommand(STUDENT_IN_THREE_GROUPS, INDEX_SECOND));
+    }
+}
@@ -0,0 +1,66 @@
+package tfifteenfour.clipboard.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tfifteenfour.clipboard.model.Model;
+import tfifteenfour.clipboard.model.course.Group;
+import tfifteenfour.clipboard.model.student.Student;
+import tfifteenfour.clipboard.model.student.StudentId;
+import tfifteenfour.clipboard.testutil.StudentBuilder;
+import tfifteenfour.clipboard.testutil.TypicalModel;
+
+class LocateCommandTest {
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new TypicalModel().getTypicalModel();
+    }
+
+    @Test
+    public void execute_studentInSeveralGroups_listsEveryEnrollment() {
+        CommandResult result = new LocateCommand(new String[]{"a1234567u"}).execute(model);
+        assertTrue(result.getFeedbackToUser().startsWith(String.format(LocateCommand.MESSAGE_SUCCESS, 3, "")));
+        assertTrue(result.getFeedbackToUser().contains("CS2103T > T17"));
+        assertTrue(result.getFeedbackToUser().contains("CS2101 > S04"));
+        assertTrue(result.getFeedbackToUser().contains("CS2101 > S05"));
+    }
+
+    @Test
+    public void execute_noMatch_reportsNotFound() {
+        CommandResult result = new LocateCommand(new String[]{"Z0000000Z"}).execute(model);
+        assertEquals(String.format(LocateCommand.MESSAGE_NOT_FOUND, "Z0000000Z"), result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_indexFollowsRosterChanges() {
+        Group group = model.getRoster().getUnmodifiableCourseList().get(0).getUnmodifiableGroupList().get(0);
+        model.getRoster().getStudentIndex();
+
+        Student newStudent = new StudentBuilder().withStudentId("B1234567Z").withName("Zed Quinn").build();
+        group.addStudent(newStudent);
+        assertEquals(1, model.getRoster().getStudentIndex().findEnrollments("quinn").size());
+
+        group.deleteStudent(newStudent);
+        assertTrue(model.getRoster().getStudentIndex().getEnrollments(new StudentId("B1234567Z")).isEmpty());
+
+        model.getRoster().getUnmodifiableCourseList().get(1).getModifiableGroupList().clear();
+        assertEquals(1, model.getRoster().getStudentIndex().getEnrollments(new StudentId("A1234567U")).size());
+    }
+
+    @Test
+    public void equals() {
+        LocateCommand locateFirst = new LocateCommand(new String[]{"A1234567U"});
+        LocateCommand locateSecond = new LocateCommand(new String[]{"A7890123G"});
+
+        assertEquals(locateFirst, locateFirst);
+        assertEquals(locateFirst, new LocateCommand(new String[]{"A1234567U"}));
+        assertNotEquals(null, locateFirst);
+        assertNotEquals(locateFirst, locateSecond);
+    }
+}
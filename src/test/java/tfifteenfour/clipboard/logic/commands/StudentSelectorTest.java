@@ -0,0 +1,90 @@
+package tfifteenfour.clipboard.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static tfifteenfour.clipboard.testutil.Assert.assertThrows;
+import static tfifteenfour.clipboard.testutil.TypicalIndexes.INDEX_FIRST;
+import static tfifteenfour.clipboard.testutil.TypicalIndexes.INDEX_SECOND;
+import static tfifteenfour.clipboard.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tfifteenfour.clipboard.commons.core.index.Index;
+import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.model.student.Student;
+import tfifteenfour.clipboard.model.student.StudentId;
+import tfifteenfour.clipboard.testutil.StudentBuilder;
+
+public class StudentSelectorTest {
+    private static final String INVALID_INDEX = "invalid index";
+
+    private final Student alice = new StudentBuilder().withName("Alice").withStudentId("A0000001A").build();
+    private final Student bob = new StudentBuilder().withName("Bob").withStudentId("A0000002B").build();
+    private final Student carl = new StudentBuilder().withName("Carl").withStudentId("A0000003C").build();
+    private final Student dana = new StudentBuilder().withName("Dana").withStudentId("A0000004D").build();
+    private final List<Student> allStudents = List.of(alice, bob, carl, dana);
+    private final List<Student> shownStudents = List.of(bob, carl, dana);
+
+    @Test
+    public void select_range_selectsEveryIndexInRange() throws CommandException {
+        StudentSelector selector = StudentSelector.of(new Index[] {INDEX_FIRST}, new Index[] {INDEX_THIRD_PERSON},
+                List.of());
+        assertEquals(List.of(bob, carl, dana), selector.select(shownStudents, allStudents, INVALID_INDEX));
+    }
+
+    @Test
+    public void select_overlappingRangesAndIds_selectsEachStudentOnce() throws CommandException {
+        List<StudentId> studentIds = List.of(new StudentId("A0000003C"), new StudentId("A0000001A"));
+        StudentSelector selector = StudentSelector.of(new Index[] {INDEX_SECOND, INDEX_FIRST},
+                new Index[] {INDEX_THIRD_PERSON, INDEX_SECOND}, studentIds);
+        assertEquals(List.of(carl, dana, bob, alice), selector.select(shownStudents, allStudents, INVALID_INDEX));
+    }
+
+    @Test
+    public void select_allAndShown_selectWholeLists() throws CommandException {
+        assertEquals(allStudents, StudentSelector.all().select(shownStudents, allStudents, INVALID_INDEX));
+        assertEquals(shownStudents, StudentSelector.shown().select(shownStudents, allStudents, INVALID_INDEX));
+    }
+
+    @Test
+    public void select_rangePastList_throwsCommandException() {
+        StudentSelector selector = StudentSelector.of(new Index[] {INDEX_FIRST}, new Index[] {Index.fromOneBased(4)},
+                List.of());
+        assertThrows(CommandException.class, INVALID_INDEX, () ->
+                selector.select(shownStudents, allStudents, INVALID_INDEX));
+    }
+
+    @Test
+    public void select_unknownStudentId_throwsCommandException() {
+        StudentSelector selector = StudentSelector.of(new Index[0], new Index[0], List.of(new StudentId("A9999999Z")));
+        String expectedMessage = String.format(StudentSelector.MESSAGE_STUDENT_ID_NOT_FOUND, "A9999999Z");
+        assertThrows(CommandException.class, expectedMessage, () -> selector.select(shownStudents, allStudents,
+                INVALID_INDEX));
+    }
+
+    @Test
+    public void select_noStudents_throwsCommandException() {
+        assertThrows(CommandException.class, StudentSelector.MESSAGE_NO_STUDENTS, () ->
+                StudentSelector.all().select(List.of(), List.of(), INVALID_INDEX));
+    }
+
+    @Test
+    public void of_rangeEndingBeforeStart_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                StudentSelector.of(new Index[] {INDEX_SECOND}, new Index[] {INDEX_FIRST}, List.of()));
+    }
+
+    @Test
+    public void equals() {
+        StudentSelector selector = StudentSelector.of(INDEX_FIRST, INDEX_SECOND);
+
+        assertEquals(selector, StudentSelector.of(INDEX_SECOND, INDEX_FIRST));
+        assertEquals(selector.hashCode(), StudentSelector.of(INDEX_SECOND, INDEX_FIRST).hashCode());
+        assertEquals(StudentSelector.all(), StudentSelector.all());
+        assertNotEquals(selector, StudentSelector.of(INDEX_FIRST));
+        assertNotEquals(StudentSelector.all(), StudentSelector.shown());
+        assertNotEquals(selector, null);
+    }
+}
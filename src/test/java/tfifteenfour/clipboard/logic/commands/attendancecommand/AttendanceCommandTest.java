@@ -1,8 +1,11 @@
 package tfifteenfour.clipboard.logic.commands.attendancecommand;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tfifteenfour.clipboard.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static tfifteenfour.clipboard.testutil.Assert.assertThrows;
 
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 
@@ -13,10 +16,12 @@ import tfifteenfour.clipboard.logic.CurrentSelection;
 import tfifteenfour.clipboard.logic.PageType;
 import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
 import tfifteenfour.clipboard.model.Model;
+import tfifteenfour.clipboard.model.course.AttendanceStatus;
 import tfifteenfour.clipboard.model.course.Course;
 import tfifteenfour.clipboard.model.course.Group;
 import tfifteenfour.clipboard.model.course.Session;
 import tfifteenfour.clipboard.model.student.Student;
+import tfifteenfour.clipboard.model.student.StudentWithAttendance;
 import tfifteenfour.clipboard.testutil.TypicalModel;
 
 public class AttendanceCommandTest {
@@ -46,14 +51,32 @@ public class AttendanceCommandTest {
         Map<Student, Integer> attendance = selectedSession.getAttendance();
         int numOfTotalStudents = attendance.keySet().size();
         int numOfPresentStudents = (int) attendance.values().stream().filter(x -> x == 1).count();
+        Map<AttendanceStatus, Integer> counts = new EnumMap<>(AttendanceStatus.class);
+        attendance.values().forEach(code -> counts.merge(AttendanceStatus.fromCode(code), 1, Integer::sum));
 
         String expectedMessage = String.format(AttendanceCommand.MESSAGE_SUCCESS_SESSION,
-                selectedCourse, selectedGroup, selectedSession, numOfPresentStudents, numOfTotalStudents);
+                selectedCourse, selectedGroup, selectedSession, numOfPresentStudents, numOfTotalStudents)
+                + AttendanceCommand.formatBreakdown(counts);
         Model expectedModel = model.copy();
 
         assertCommandSuccess(attendanceCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_lateAndExcusedStudents_countedInSummary() throws CommandException {
+        List<StudentWithAttendance> students = selectedSession.getUnmodifiableStudentList();
+        selectedSession.mark(students.get(0), AttendanceStatus.LATE);
+        selectedSession.mark(students.get(1), AttendanceStatus.EXCUSED);
+
+        String feedback = new AttendanceCommand().execute(model).getFeedbackToUser();
+
+        assertTrue(feedback.contains(String.format(AttendanceCommand.MESSAGE_BREAKDOWN,
+                AttendanceStatus.LATE.getLabel(), 1)));
+        assertTrue(feedback.contains(String.format(AttendanceCommand.MESSAGE_BREAKDOWN,
+                AttendanceStatus.EXCUSED.getLabel(), 1)));
+        assertEquals(selectedSession.countAttended(), selectedSession.count(AttendanceStatus.PRESENT) + 1);
+    }
+
     @Test
     public void execute_studentPage_returnsCommandResult() throws CommandException {
         actualSelection.setCurrentPage(PageType.STUDENT_PAGE);
@@ -62,15 +85,18 @@ public class AttendanceCommandTest {
         List<Session> sessions = selectedGroup.getUnmodifiableSessionList();
         int numOfTotalSession = sessions.size();
         int numOfAttendedSession = 0;
+        Map<AttendanceStatus, Integer> counts = new EnumMap<>(AttendanceStatus.class);
 
         for (Session session : sessions) {
             if (session.getAttendance().get(selectedStudent) == 1) {
                 numOfAttendedSession++;
             }
+            counts.merge(AttendanceStatus.fromCode(session.getAttendance().get(selectedStudent)), 1, Integer::sum);
         }
 
         String expectedMessage = String.format(AttendanceCommand.MESSAGE_SUCCESS_STUDENT,
-                selectedStudent.getName(), selectedCourse, selectedGroup, numOfAttendedSession, numOfTotalSession);
+                selectedStudent.getName(), selectedCourse, selectedGroup, numOfAttendedSession, numOfTotalSession)
+                + AttendanceCommand.formatBreakdown(counts);
         Model expectedModel = model.copy();
 
         assertCommandSuccess(attendanceCommand, model, expectedMessage, expectedModel);
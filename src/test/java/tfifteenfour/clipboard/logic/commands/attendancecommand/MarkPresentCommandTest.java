@@ -16,8 +16,10 @@ import org.junit.jupiter.api.Test;
 import tfifteenfour.clipboard.commons.core.index.Index;
 import tfifteenfour.clipboard.logic.CurrentSelection;
 import tfifteenfour.clipboard.logic.PageType;
+import tfifteenfour.clipboard.logic.commands.StudentSelector;
 import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
 import tfifteenfour.clipboard.model.Model;
+import tfifteenfour.clipboard.model.course.AttendanceStatus;
 import tfifteenfour.clipboard.model.course.Session;
 import tfifteenfour.clipboard.model.student.Student;
 import tfifteenfour.clipboard.model.student.StudentWithAttendance;
@@ -68,6 +70,38 @@ public class MarkPresentCommandTest {
         assertCommandSuccess(markCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_lateStatus_marksLate() throws CommandException {
+        List<StudentWithAttendance> lastShownList = selectedSession.getUnmodifiableStudentList();
+        Student firstStudent = lastShownList.get(INDEX_FIRST.getZeroBased());
+        MarkPresentCommand markCommand = new MarkPresentCommand(AttendanceStatus.LATE, INDEX_FIRST);
+
+        String expectedMessage = String.format(MarkPresentCommand.MESSAGE_SUCCESS_STATUS,
+                "late", selectedSession, firstStudent.getName());
+        assertEquals(expectedMessage, markCommand.execute(model).getFeedbackToUser());
+        assertEquals(AttendanceStatus.LATE, selectedSession.getAttendance(firstStudent));
+    }
+
+    @Test
+    public void execute_allStudents_marksEveryStudent() throws CommandException {
+        MarkPresentCommand markCommand = new MarkPresentCommand(AttendanceStatus.EXCUSED, StudentSelector.all());
+        markCommand.execute(model);
+        for (StudentWithAttendance student : selectedSession.getUnmodifiableStudentList()) {
+            assertEquals(AttendanceStatus.EXCUSED, selectedSession.getAttendance(student));
+        }
+    }
+
+    @Test
+    public void execute_rangePastList_marksNoStudent() {
+        List<StudentWithAttendance> studentsBefore = selectedSession.getUnmodifiableStudentList();
+        MarkPresentCommand markCommand = new MarkPresentCommand(AttendanceStatus.LATE,
+                StudentSelector.of(new Index[] {INDEX_FIRST}, new Index[] {INDEX_OUT_OF_BOUND}, List.of()));
+        assertThrows(CommandException.class, () -> markCommand.execute(model));
+        for (StudentWithAttendance student : studentsBefore) {
+            assertNotEquals(AttendanceStatus.LATE, selectedSession.getAttendance(student));
+        }
+    }
+
     @Test
     public void execute_onSessionPage_throwCommandException() {
         actualSelection.setCurrentPage(PageType.SESSION_PAGE);
@@ -102,6 +136,7 @@ public class MarkPresentCommandTest {
         MarkPresentCommand command4 = new MarkPresentCommand(indexArray4);
 
         MarkAbsentCommand command5 = new MarkAbsentCommand(indexArray1);
+        MarkPresentCommand command6 = new MarkPresentCommand(AttendanceStatus.EXCUSED, indexArray1);
 
         // Test for equality
         assertEquals(command1, command2);
@@ -111,6 +146,8 @@ public class MarkPresentCommandTest {
         assertNotEquals(command1, command4);
         assertNotEquals(command4, command1);
         assertNotEquals(command1, command5);
+        assertNotEquals(command1, command6);
+        assertEquals(command1, new MarkPresentCommand(AttendanceStatus.PRESENT, indexArray2));
 
     }
 
@@ -0,0 +1,106 @@
+package tfifteenfour.clipboard.logic.commands.batchcommand;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static tfifteenfour.clipboard.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tfifteenfour.clipboard.logic.PageType;
+import tfifteenfour.clipboard.logic.commands.CommandResult;
+import tfifteenfour.clipboard.logic.commands.addcommand.AddCourseCommand;
+import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
+import tfifteenfour.clipboard.model.Model;
+import tfifteenfour.clipboard.model.course.Course;
+import tfifteenfour.clipboard.testutil.TypicalModel;
+
+public class RunCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new TypicalModel().getTypicalModel();
+        model.getCurrentSelection().setCurrentPage(PageType.COURSE_PAGE);
+    }
+
+    @Test
+    public void execute_validScript_success() throws Exception {
+        Path script = writeScript("# set up next semester", "", "add course CS9999", "add course CS9998");
+
+        CommandResult result = new RunCommand(script).execute(model);
+
+        assertEquals(String.format(RunCommand.MESSAGE_SUCCESS, 2, script.getFileName()),
+                result.getFeedbackToUser());
+        assertTrue(result.isStateModified());
+        assertTrue(model.getRoster().hasCourse(new Course("CS9999")));
+        assertTrue(model.getRoster().hasCourse(new Course("CS9998")));
+    }
+
+    @Test
+    public void execute_failingLine_reportsLine() throws IOException {
+        Path script = writeScript("add course CS9999", "add course CS9999");
+        String expectedMessage = String.format(RunCommand.MESSAGE_LINE_FAILED, 2, script.getFileName(),
+                "add course CS9999", AddCourseCommand.MESSAGE_DUPLICATE_COURSE);
+
+        assertThrows(CommandException.class, expectedMessage, () -> new RunCommand(script).execute(model));
+    }
+
+    @Test
+    public void execute_unparsableLine_reportsLine() throws IOException {
+        Path script = writeScript("add course CS9999", "", "fly away");
+
+        try {
+            new RunCommand(script).execute(model);
+            fail();
+        } catch (CommandException e) {
+            assertTrue(e.getMessage().startsWith("Line 3 of " + script.getFileName()));
+        }
+    }
+
+    @Test
+    public void execute_disallowedCommand_throwsCommandException() throws IOException {
+        Path script = writeScript("undo");
+        String expectedMessage = String.format(RunCommand.MESSAGE_LINE_FAILED, 1, script.getFileName(), "undo",
+                String.format(RunCommand.MESSAGE_NOT_ALLOWED, "undo"));
+
+        assertThrows(CommandException.class, expectedMessage, () -> new RunCommand(script).execute(model));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path missing = testFolder.resolve("missing.txt");
+
+        assertThrows(CommandException.class, String.format(RunCommand.MESSAGE_CANNOT_READ, missing), () ->
+                new RunCommand(missing).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        Path script = testFolder.resolve("a.txt");
+        RunCommand runCommand = new RunCommand(script);
+
+        assertTrue(runCommand.equals(runCommand));
+        assertTrue(runCommand.equals(new RunCommand(script)));
+        assertFalse(runCommand.equals(new RunCommand(testFolder.resolve("b.txt"))));
+        assertFalse(runCommand.equals(null));
+        assertFalse(runCommand.equals(new BeginCommand()));
+    }
+
+    private Path writeScript(String... lines) throws IOException {
+        Path script = testFolder.resolve("script.txt");
+        Files.write(script, String.join("\n", lines).getBytes());
+        return script;
+    }
+}
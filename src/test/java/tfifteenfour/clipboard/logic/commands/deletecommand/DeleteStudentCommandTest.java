@@ -1,16 +1,20 @@
 package tfifteenfour.clipboard.logic.commands.deletecommand;
 
-
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static tfifteenfour.clipboard.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static tfifteenfour.clipboard.testutil.Assert.assertThrows;
 import static tfifteenfour.clipboard.testutil.TypicalIndexes.INDEX_FIRST;
 import static tfifteenfour.clipboard.testutil.TypicalIndexes.INDEX_OUT_OF_BOUND;
+import static tfifteenfour.clipboard.testutil.TypicalIndexes.INDEX_SECOND;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import tfifteenfour.clipboard.commons.core.index.Index;
 import tfifteenfour.clipboard.logic.CurrentSelection;
 import tfifteenfour.clipboard.logic.PageType;
+import tfifteenfour.clipboard.logic.commands.StudentSelector;
 import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
 import tfifteenfour.clipboard.model.Model;
 import tfifteenfour.clipboard.model.course.Group;
@@ -47,6 +51,43 @@ class DeleteStudentCommandTest {
         assertCommandSuccess(deleteStudentCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_multipleIndexes_deletesAllAtOnce() {
+        Student secondStudent = selectedGroup.getUnmodifiableFilteredStudentList().get(INDEX_SECOND.getZeroBased());
+        DeleteStudentCommand deleteStudentCommand =
+                new DeleteStudentCommand(new Index[] {INDEX_FIRST, INDEX_SECOND, INDEX_FIRST});
+
+        String expectedMessage = String.format(DeleteStudentCommand.MESSAGE_SUCCESS, selectedGroup,
+                selectedStudent.getName() + ", " + secondStudent.getName());
+        Model expectedModel = model.copy();
+        Group expectedSelectedGroup = expectedModel.getCurrentSelection().getSelectedGroup();
+        expectedSelectedGroup.deleteStudent(
+                expectedSelectedGroup.getUnmodifiableStudentList().get(INDEX_SECOND.getZeroBased()));
+        expectedSelectedGroup.deleteStudent(
+                expectedSelectedGroup.getUnmodifiableStudentList().get(INDEX_FIRST.getZeroBased()));
+
+        assertCommandSuccess(deleteStudentCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_oneInvalidIndex_deletesNothing() {
+        int sizeBefore = selectedGroup.getUnmodifiableStudentList().size();
+        DeleteStudentCommand deleteStudentCommand =
+                new DeleteStudentCommand(new Index[] {INDEX_FIRST, INDEX_OUT_OF_BOUND});
+        assertThrows(CommandException.class, () -> deleteStudentCommand.execute(model));
+        assertEquals(sizeBefore, selectedGroup.getUnmodifiableStudentList().size());
+    }
+
+    @Test
+    public void execute_shownStudents_deletesOnlyShown() throws CommandException {
+        int sizeBefore = selectedGroup.getUnmodifiableStudentList().size();
+        selectedGroup.updateFilteredStudents(student -> student.equals(selectedStudent));
+
+        new DeleteStudentCommand(StudentSelector.shown()).execute(model);
+        assertEquals(sizeBefore - 1, selectedGroup.getUnmodifiableStudentList().size());
+        assertFalse(selectedGroup.getUnmodifiableStudentList().contains(selectedStudent));
+    }
+
     @Test
     public void execute_invalidIndex_throwsCommandException() {
         DeleteStudentCommand deleteStudentCommand = new DeleteStudentCommand(INDEX_OUT_OF_BOUND);
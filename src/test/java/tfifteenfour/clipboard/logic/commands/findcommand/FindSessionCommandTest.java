@@ -47,11 +47,11 @@ class FindSessionCommandTest {
         predicate = new SessionNameContainsPredicate(new String[]{"1"});
         FindSessionCommand command = new FindSessionCommand(predicate, actualSelection);
 
-        int expectedSize = expectedModel
+        long expectedSize = expectedModel
                 .getCurrentSelection()
                 .getSelectedGroup()
                 .getModifiableSessionList()
-                .filtered(predicate).size();
+                .stream().filter(predicate).count();
 
         expectedModel.getCurrentSelection().getSelectedGroup().updateFilteredSessions(predicate);
         assertCommandSuccess(command, model,
@@ -62,11 +62,11 @@ class FindSessionCommandTest {
     public void execute_oneResultFound() {
         FindSessionCommand command = new FindSessionCommand(predicate, actualSelection);
 
-        int expectedSize = expectedModel
+        long expectedSize = expectedModel
                 .getCurrentSelection()
                 .getSelectedGroup()
                 .getModifiableSessionList()
-                .filtered(predicate).size();
+                .stream().filter(predicate).count();
 
         expectedModel.getCurrentSelection().getSelectedGroup().updateFilteredSessions(predicate);
         assertCommandSuccess(command, model,
@@ -2,6 +2,7 @@ package tfifteenfour.clipboard.logic.commands.findcommand;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tfifteenfour.clipboard.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static tfifteenfour.clipboard.testutil.TypicalIndexes.INDEX_FIRST;
 import static tfifteenfour.clipboard.testutil.TypicalIndexes.INDEX_SECOND;
@@ -48,11 +49,11 @@ class FindStudentCommandTest {
         FindStudentCommand findStudentCommand = new FindStudentCommand(predicate, actualSelection);
 
         expectedModel.getCurrentSelection().getSelectedGroup().updateFilteredStudents(predicate);
-        int expectedSize = expectedModel
+        long expectedSize = expectedModel
                 .getCurrentSelection()
                 .getSelectedGroup()
                 .getUnmodifiableFilteredStudentList()
-                .filtered(predicate).size();
+                .stream().filter(predicate).count();
 
         assertCommandSuccess(findStudentCommand, model, String.format(FindStudentCommand.MESSAGE_SUCCESS, expectedSize),
                 expectedModel);
@@ -66,11 +67,11 @@ class FindStudentCommandTest {
         FindStudentCommand findStudentCommand = new FindStudentCommand(predicate, actualSelection);
 
         expectedModel.getCurrentSelection().getSelectedGroup().updateFilteredStudents(predicate);
-        int expectedSize = expectedModel
+        long expectedSize = expectedModel
                 .getCurrentSelection()
                 .getSelectedGroup()
                 .getUnmodifiableFilteredStudentList()
-                .filtered(predicate).size();
+                .stream().filter(predicate).count();
 
         assertCommandSuccess(findStudentCommand, model,
                 String.format(FindStudentCommand.MESSAGE_SUCCESS, expectedSize), expectedModel);
@@ -82,11 +83,11 @@ class FindStudentCommandTest {
         StudentParticularsContainsPredicate predicate =
                 new StudentParticularsContainsPredicate(new String[]{searchTerm});
         FindStudentCommand findStudentCommand = new FindStudentCommand(predicate, actualSelection);
-        int expectedSize = expectedModel
+        long expectedSize = expectedModel
                 .getCurrentSelection()
                 .getSelectedGroup()
                 .getUnmodifiableFilteredStudentList()
-                .filtered(predicate).size();
+                .stream().filter(predicate).count();
 
         assertCommandSuccess(findStudentCommand, model,
                 String.format(FindStudentCommand.MESSAGE_SUCCESS, expectedSize), expectedModel);
@@ -98,16 +99,29 @@ class FindStudentCommandTest {
         StudentParticularsContainsPredicate predicate =
                 new StudentParticularsContainsPredicate(new String[]{searchTerm});
         FindStudentCommand findStudentCommand = new FindStudentCommand(predicate, actualSelection);
-        int expectedSize = expectedModel
+        long expectedSize = expectedModel
                 .getCurrentSelection()
                 .getSelectedGroup()
                 .getUnmodifiableFilteredStudentList()
-                .filtered(predicate).size();
+                .stream().filter(predicate).count();
 
         assertCommandSuccess(findStudentCommand, model,
                 String.format(FindStudentCommand.MESSAGE_SUCCESS, expectedSize), expectedModel);
     }
 
+    @Test
+    public void execute_fuzzyNameWithTypo_findsStudent() throws Exception {
+        String firstName = firstStudent.getName().fullName.split("\\s+")[0];
+        String misspeltName = firstName.substring(0, firstName.length() - 1) + "x";
+        StudentParticularsContainsPredicate predicate =
+                new StudentParticularsContainsPredicate(new String[]{misspeltName});
+        FindStudentCommand findStudentCommand = new FindStudentCommand(predicate, actualSelection, true);
+
+        String feedback = findStudentCommand.execute(model).getFeedbackToUser();
+        assertTrue(selectedGroup.getUnmodifiableFilteredStudentList().contains(firstStudent));
+        assertTrue(feedback.contains("1. " + firstStudent.getName()));
+    }
+
     @Test
     public void equals() {
         String searchTerm1 = String.valueOf(firstStudent.getName());
@@ -136,5 +150,8 @@ class FindStudentCommandTest {
 
         // different search term -> returns false
         assertNotEquals(findStudentCommand1, findStudentCommand2);
+
+        // different search mode -> returns false
+        assertNotEquals(findStudentCommand1, new FindStudentCommand(predicate1, actualSelection, true));
     }
 }
@@ -48,11 +48,11 @@ class FindTaskCommandTest {
         predicate = new TaskNameContainsPredicate(new String[]{"1"});
         FindTaskCommand command = new FindTaskCommand(predicate, actualSelection);
 
-        int expectedSize = expectedModel
+        long expectedSize = expectedModel
                 .getCurrentSelection()
                 .getSelectedGroup()
                 .getModifiableTaskList()
-                .filtered(predicate).size();
+                .stream().filter(predicate).count();
 
         expectedModel.getCurrentSelection().getSelectedGroup().updateFilteredTasks(predicate);
         assertCommandSuccess(command, model,
@@ -63,11 +63,11 @@ class FindTaskCommandTest {
     public void execute_oneResultFound() {
         FindTaskCommand command = new FindTaskCommand(predicate, actualSelection);
 
-        int expectedSize = expectedModel
+        long expectedSize = expectedModel
                 .getCurrentSelection()
                 .getSelectedGroup()
                 .getModifiableTaskList()
-                .filtered(predicate).size();
+                .stream().filter(predicate).count();
 
         expectedModel.getCurrentSelection().getSelectedGroup().updateFilteredTasks(predicate);
         assertCommandSuccess(command, model,
@@ -2,6 +2,7 @@ package tfifteenfour.clipboard.logic.commands.sortcommand;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -10,18 +11,24 @@ import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import tfifteenfour.clipboard.commons.core.index.Index;
 import tfifteenfour.clipboard.logic.CurrentSelection;
 import tfifteenfour.clipboard.logic.PageType;
 import tfifteenfour.clipboard.logic.commands.Command;
 import tfifteenfour.clipboard.logic.commands.CommandResult;
+import tfifteenfour.clipboard.logic.commands.StudentSelector;
+import tfifteenfour.clipboard.logic.commands.attendancecommand.MarkPresentCommand;
 import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
 import tfifteenfour.clipboard.logic.commands.sortcommand.studentcomparators.AlphaNumericSidComparator;
 import tfifteenfour.clipboard.logic.commands.sortcommand.studentcomparators.AlphabeticalNameComparator;
 import tfifteenfour.clipboard.model.Model;
+import tfifteenfour.clipboard.model.course.AttendanceStatus;
 import tfifteenfour.clipboard.model.course.Course;
 import tfifteenfour.clipboard.model.course.Group;
+import tfifteenfour.clipboard.model.course.GroupStudentComparator;
 import tfifteenfour.clipboard.model.course.Session;
 import tfifteenfour.clipboard.model.student.Student;
+import tfifteenfour.clipboard.testutil.StudentBuilder;
 import tfifteenfour.clipboard.testutil.TypicalModel;
 
 class SortCommandTest {
@@ -84,6 +91,79 @@ class SortCommandTest {
         assertEquals(selectedSession, actualSelection.getSelectedSession());
     }
 
+    @Test
+    public void execute_sortByMultipleCategories_keepsBackingOrder() throws CommandException {
+        List<Student> insertionOrder = new ArrayList<>(selectedGroup.getUnmodifiableStudentList());
+        Command sortCommand = new SortCommand(List.of(SortCategory.NAME, SortCategory.STUDENT_ID));
+
+        CommandResult commandResult = sortCommand.execute(model);
+
+        assertEquals(String.format(SortCommand.MESSAGE_SUCCESS, "name, id"), commandResult.getFeedbackToUser());
+        List<Student> displayed = selectedGroup.getUnmodifiableFilteredStudentList();
+        for (int i = 1; i < displayed.size(); i++) {
+            int nameOrder = displayed.get(i - 1).getName().fullName
+                    .compareToIgnoreCase(displayed.get(i).getName().fullName);
+            assertTrue(nameOrder <= 0);
+        }
+        assertEquals(insertionOrder, selectedGroup.getUnmodifiableStudentList());
+    }
+
+    @Test
+    public void execute_studentAddedAfterSort_slottedIntoPlace() throws CommandException {
+        new SortCommand(List.of(SortCategory.STUDENT_ID)).execute(model);
+        Student newStudent = new StudentBuilder().withName("Zachary Neo").withStudentId("A0000000A").build();
+        selectedGroup.addStudent(newStudent);
+
+        assertEquals(newStudent, selectedGroup.getUnmodifiableFilteredStudentList().get(0));
+        List<Student> backingList = selectedGroup.getUnmodifiableStudentList();
+        assertEquals(newStudent, backingList.get(backingList.size() - 1));
+    }
+
+    @Test
+    public void execute_markedAfterSortByAttendance_sortedAgain() throws CommandException {
+        for (Session session : selectedGroup.getUnmodifiableSessionList()) {
+            session.markAll(session.getUnmodifiableStudentList(), AttendanceStatus.ABSENT);
+        }
+        new SortCommand(List.of(SortCategory.ATTENDANCE)).execute(model);
+        Student leastAttended = selectedGroup.getUnmodifiableFilteredStudentList().get(0);
+
+        new MarkPresentCommand(AttendanceStatus.PRESENT, StudentSelector.of(new Index[0], new Index[0],
+                List.of(leastAttended.getStudentId()))).execute(model);
+
+        List<Student> displayed = selectedGroup.getUnmodifiableFilteredStudentList();
+        assertEquals(leastAttended, displayed.get(displayed.size() - 1));
+    }
+
+    @Test
+    public void execute_groupCopiedAfterSort_copyKeepsOrder() throws CommandException {
+        new SortCommand(List.of(SortCategory.ATTENDANCE, SortCategory.NAME)).execute(model);
+        Group copy = selectedGroup.copy();
+
+        assertEquals(selectedGroup.getUnmodifiableFilteredStudentList(), copy.getUnmodifiableFilteredStudentList());
+    }
+
+    @Test
+    public void copy_groupStudentComparator_reboundToCopy() {
+        List<Group> boundGroups = new ArrayList<>();
+        selectedGroup.updateSortedStudents(new GroupStudentComparator() {
+            @Override
+            public GroupStudentComparator forGroup(Group group) {
+                boundGroups.add(group);
+                return this;
+            }
+
+            @Override
+            public int compare(Student first, Student second) {
+                return second.getStudentId().value.compareTo(first.getStudentId().value);
+            }
+        });
+        Group copy = selectedGroup.copy();
+
+        assertEquals(List.of(copy), boundGroups);
+        assertTrue(boundGroups.get(0) == copy);
+        assertEquals(selectedGroup.getUnmodifiableFilteredStudentList(), copy.getUnmodifiableFilteredStudentList());
+    }
+
     @Test
     public void equals() {
         Comparator<Student> nameComparator = new AlphabeticalNameComparator();
@@ -16,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import tfifteenfour.clipboard.logic.CurrentSelection;
 import tfifteenfour.clipboard.logic.PageType;
 import tfifteenfour.clipboard.logic.commands.SelectCommand;
+import tfifteenfour.clipboard.logic.commands.StudentSelector;
 import tfifteenfour.clipboard.logic.commands.exceptions.CommandException;
 import tfifteenfour.clipboard.model.Model;
 import tfifteenfour.clipboard.model.student.Student;
@@ -53,6 +54,14 @@ public class AssignCommandTest {
     }
 
 
+    @Test
+    public void execute_allStudents_assignsEveryStudent() throws CommandException {
+        new AssignCommand(StudentSelector.all(), TEST_GRADE).execute(model);
+        for (StudentWithGrades student : selectedTask.getUnmodifiableStudentList()) {
+            assertEquals(TEST_GRADE, selectedTask.getGrade(student));
+        }
+    }
+
     @Test
     public void execute_onTaskPage_throwCommandException() {
         actualSelection.setCurrentPage(PageType.TASK_PAGE);
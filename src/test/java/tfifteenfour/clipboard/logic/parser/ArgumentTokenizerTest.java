@@ -3,6 +3,7 @@ package tfifteenfour.clipboard.logic.parser;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
@@ -136,6 +137,22 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixStartsAnotherPrefix_longestPrefixWins() {
+        Prefix dashTt = new Prefix("-tt");
+        String argsString = "preamble -tt long value -t short value -ttt";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenizePrefixes(argsString, dashT, dashTt);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, dashTt, "long value", "t");
+        assertArgumentPresent(argMultimap, dashT, "short value");
+    }
+
+    @Test
+    public void prefixTrie_samePrefixes_builtOnce() {
+        assertSame(PrefixTrie.of(pSlash, dashT, hatQ), PrefixTrie.of(new Prefix("p/"), dashT, hatQ));
+        assertNotEquals(PrefixTrie.of(pSlash, dashT, hatQ), PrefixTrie.of(dashT, hatQ));
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
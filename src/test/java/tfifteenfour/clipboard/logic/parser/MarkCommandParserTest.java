@@ -0,0 +1,54 @@
+package tfifteenfour.clipboard.logic.parser;
+
+import static tfifteenfour.clipboard.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static tfifteenfour.clipboard.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static tfifteenfour.clipboard.logic.parser.ParserUtil.MESSAGE_INDEX_NOT_PROVIDED;
+import static tfifteenfour.clipboard.logic.parser.ParserUtil.MESSAGE_INVALID_SELECTOR;
+import static tfifteenfour.clipboard.testutil.TypicalIndexes.INDEX_FIRST;
+import static tfifteenfour.clipboard.testutil.TypicalIndexes.INDEX_SECOND;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tfifteenfour.clipboard.commons.core.index.Index;
+import tfifteenfour.clipboard.logic.commands.StudentSelector;
+import tfifteenfour.clipboard.logic.commands.attendancecommand.MarkPresentCommand;
+import tfifteenfour.clipboard.model.course.AttendanceStatus;
+
+public class MarkCommandParserTest {
+    private final MarkCommandParser parser = new MarkCommandParser();
+
+    @Test
+    public void parse_indexesOnly_marksPresent() {
+        assertParseSuccess(parser, " 1,2", new MarkPresentCommand(INDEX_FIRST, INDEX_SECOND));
+    }
+
+    @Test
+    public void parse_statusKeyword_marksWithStatus() {
+        assertParseSuccess(parser, " late 1", new MarkPresentCommand(AttendanceStatus.LATE, INDEX_FIRST));
+        assertParseSuccess(parser, " EXCUSED 1, 2",
+                new MarkPresentCommand(AttendanceStatus.EXCUSED, INDEX_FIRST, INDEX_SECOND));
+        assertParseSuccess(parser, " mc 2", new MarkPresentCommand(AttendanceStatus.MEDICAL_LEAVE, INDEX_SECOND));
+        assertParseSuccess(parser, " present 1", new MarkPresentCommand(INDEX_FIRST));
+    }
+
+    @Test
+    public void parse_rangeAndAll_marksSelectedStudents() {
+        assertParseSuccess(parser, " 1-2", new MarkPresentCommand(AttendanceStatus.PRESENT,
+                StudentSelector.of(new Index[] {INDEX_FIRST}, new Index[] {INDEX_SECOND}, List.of())));
+        assertParseSuccess(parser, " late all", new MarkPresentCommand(AttendanceStatus.LATE, StudentSelector.all()));
+        assertParseSuccess(parser, " shown", new MarkPresentCommand(AttendanceStatus.PRESENT, StudentSelector.shown()));
+    }
+
+    @Test
+    public void parse_statusWithoutIndex_throwsParseException() {
+        assertParseFailure(parser, " late", MESSAGE_INDEX_NOT_PROVIDED + MarkPresentCommand.MESSAGE_USAGE);
+    }
+
+    @Test
+    public void parse_unknownStatus_throwsParseException() {
+        assertParseFailure(parser, " sick 1",
+                String.format(MESSAGE_INVALID_SELECTOR, "sick 1") + MarkPresentCommand.MESSAGE_USAGE);
+    }
+}
@@ -1,12 +1,19 @@
 package tfifteenfour.clipboard.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tfifteenfour.clipboard.logic.parser.ParserUtil.MESSAGE_INDEX_NOT_PROVIDED;
 import static tfifteenfour.clipboard.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
+import static tfifteenfour.clipboard.logic.parser.ParserUtil.MESSAGE_INVALID_RANGE;
+import static tfifteenfour.clipboard.logic.parser.ParserUtil.MESSAGE_INVALID_SELECTOR;
 import static tfifteenfour.clipboard.testutil.Assert.assertThrows;
 import static tfifteenfour.clipboard.testutil.TypicalIndexes.INDEX_FIRST;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import tfifteenfour.clipboard.commons.core.index.Index;
+import tfifteenfour.clipboard.logic.commands.StudentSelector;
 import tfifteenfour.clipboard.logic.parser.exceptions.ParseException;
 import tfifteenfour.clipboard.model.student.Email;
 import tfifteenfour.clipboard.model.student.Phone;
@@ -45,6 +52,25 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseStudentSelector_validInput_success() throws Exception {
+        assertEquals(StudentSelector.all(), ParserUtil.parseStudentSelector(" ALL "));
+        assertEquals(StudentSelector.shown(), ParserUtil.parseStudentSelector("shown"));
+        assertEquals(StudentSelector.of(new Index[] {INDEX_FIRST, Index.fromOneBased(5)},
+                new Index[] {INDEX_FIRST, Index.fromOneBased(9)}, List.of(new StudentId(VALID_STUDENTID))),
+                ParserUtil.parseStudentSelector("1, 5 - 9," + VALID_STUDENTID));
+    }
+
+    @Test
+    public void parseStudentSelector_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INDEX_NOT_PROVIDED, () -> ParserUtil.parseStudentSelector(" "));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_RANGE, "9-5"), ()
+                -> ParserUtil.parseStudentSelector("9-5"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_SELECTOR, "A01_23"), ()
+                -> ParserUtil.parseStudentSelector("1,A01_23"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseStudentSelector("0-3"));
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseName((String) null));
@@ -0,0 +1,104 @@
+package tfifteenfour.clipboard.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ItemListTest {
+    private ItemList<String> list;
+    private List<List<ItemList.Change<String>>> notifications;
+
+    @BeforeEach
+    public void setUp() {
+        list = new ItemList<>();
+        notifications = new ArrayList<>();
+        list.addListener(notifications::add);
+    }
+
+    @Test
+    public void add_item_reportsAddition() {
+        list.add("a");
+        list.add(0, "b");
+
+        assertEquals(List.of("b", "a"), list);
+        assertEquals(2, notifications.size());
+        ItemList.Change<String> change = notifications.get(1).get(0);
+        assertEquals(0, change.getFrom());
+        assertEquals(List.of("b"), change.getAdded());
+        assertTrue(change.getRemoved().isEmpty());
+    }
+
+    @Test
+    public void set_item_reportsReplacement() {
+        list.addAll(List.of("a", "b"));
+        list.set(1, "c");
+
+        ItemList.Change<String> change = notifications.get(1).get(0);
+        assertEquals(1, change.getFrom());
+        assertEquals(List.of("b"), change.getRemoved());
+        assertEquals(List.of("c"), change.getAdded());
+    }
+
+    @Test
+    public void removeIf_scatteredItems_oneNotificationPerRun() {
+        list.addAll(List.of("a", "x", "y", "b", "z"));
+        notifications.clear();
+
+        assertTrue(list.removeIf(Set.of("x", "y", "z")::contains));
+
+        assertEquals(List.of("a", "b"), list);
+        assertEquals(1, notifications.size());
+        List<ItemList.Change<String>> changes = notifications.get(0);
+        assertEquals(2, changes.size());
+        assertEquals(1, changes.get(0).getFrom());
+        assertEquals(List.of("x", "y"), changes.get(0).getRemoved());
+        assertEquals(2, changes.get(1).getFrom());
+        assertEquals(List.of("z"), changes.get(1).getRemoved());
+    }
+
+    @Test
+    public void removeIf_noMatch_noNotification() {
+        list.add("a");
+        notifications.clear();
+        assertFalse(list.removeIf(item -> false));
+        assertTrue(notifications.isEmpty());
+    }
+
+    @Test
+    public void clear_items_singleNotification() {
+        list.addAll(List.of("a", "b", "c"));
+        notifications.clear();
+
+        list.clear();
+        list.clear();
+
+        assertTrue(list.isEmpty());
+        assertEquals(1, notifications.size());
+        assertEquals(List.of("a", "b", "c"), notifications.get(0).get(0).getRemoved());
+    }
+
+    @Test
+    public void getVersion_changesOnEveryModification() {
+        int version = list.getVersion();
+        list.add("a");
+        assertTrue(version != list.getVersion());
+    }
+
+    @Test
+    public void removeListener_noLongerNotified() {
+        list.removeListener(notifications::add);
+        ItemList<String> other = new ItemList<>();
+        ItemList.ChangeListener<String> listener = notifications::add;
+        other.addListener(listener);
+        other.removeListener(listener);
+        other.add("a");
+        assertTrue(notifications.isEmpty());
+    }
+}
@@ -0,0 +1,146 @@
+package tfifteenfour.clipboard.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ItemViewTest {
+    private ItemList<String> source;
+    private ItemView<String> view;
+    private int invalidations;
+
+    @BeforeEach
+    public void setUp() {
+        source = new ItemList<>();
+        source.addAll(List.of("carl", "alice", "benson"));
+        view = new ItemView<>(source);
+        invalidations = 0;
+        view.addListener(() -> invalidations++);
+    }
+
+    @Test
+    public void get_noPredicateOrComparator_matchesSource() {
+        assertEquals(List.of("carl", "alice", "benson"), view);
+    }
+
+    @Test
+    public void setPredicateAndComparator_filtersAndSortsWithoutReorderingSource() {
+        view.setPredicate(name -> !name.startsWith("b"));
+        view.setComparator(Comparator.naturalOrder());
+
+        assertEquals(List.of("alice", "carl"), view);
+        assertEquals(List.of("carl", "alice", "benson"), source);
+        assertEquals(2, invalidations);
+    }
+
+    @Test
+    public void sourceChanges_viewFollows() {
+        view.setComparator(Comparator.naturalOrder());
+        source.add("daniel");
+        source.remove("alice");
+
+        assertEquals(List.of("benson", "carl", "daniel"), view);
+        assertEquals(3, invalidations);
+    }
+
+    @Test
+    public void removeListener_stopsFollowingSource() {
+        Runnable listener = () -> invalidations += 10;
+        view.addListener(listener);
+        view.removeListener(listener);
+        source.add("daniel");
+
+        assertEquals(1, invalidations);
+        assertEquals(4, view.size());
+    }
+
+    @Test
+    public void sourceChanges_filteredView_onlyChangedItemsTested() {
+        List<String> tested = new ArrayList<>();
+        view.setPredicate(name -> tested.add(name) && !name.startsWith("b"));
+        assertEquals(List.of("carl", "alice"), view);
+        tested.clear();
+
+        source.add(1, "bob");
+        source.add("daniel");
+        source.remove("carl");
+
+        assertEquals(List.of("alice", "daniel"), view);
+        assertEquals(List.of("bob", "daniel"), tested);
+    }
+
+    @Test
+    public void removeIf_filteredView_eachRemovedRunDropped() {
+        source.addAll(List.of("david", "bob", "eve"));
+        view.setPredicate(name -> !name.startsWith("b"));
+        assertEquals(List.of("carl", "alice", "david", "eve"), view);
+
+        source.removeIf(name -> name.length() == 5 || name.equals("carl"));
+        source.add(0, "amy");
+
+        assertEquals(List.of("amy", "eve"), view);
+    }
+
+    @Test
+    public void sourceChanges_sortedView_placedByBinarySearchWithoutResorting() {
+        for (int i = 0; i < 100; i++) {
+            source.add(String.format("name%03d", i));
+        }
+        int[] comparisons = new int[1];
+        view.setComparator((first, second) -> {
+            comparisons[0]++;
+            return first.compareTo(second);
+        });
+        assertEquals("alice", view.get(0));
+        comparisons[0] = 0;
+
+        source.add("bob");
+        source.remove("name050");
+
+        assertEquals(List.of("alice", "benson", "bob", "carl", "name000"), view.subList(0, 5));
+        assertEquals("name051", view.get(54));
+        assertEquals(103, view.size());
+        // a search by halves of about a hundred items takes at most 7 comparisons, and a sort at least 100
+        assertTrue(comparisons[0] <= 16);
+    }
+
+    @Test
+    public void sourceChanges_sortedAndFilteredView_onlyChangedItemsTested() {
+        List<String> tested = new ArrayList<>();
+        view.setPredicate(name -> tested.add(name) && !name.startsWith("b"));
+        view.setComparator(Comparator.reverseOrder());
+        assertEquals(List.of("carl", "alice"), view);
+        tested.clear();
+
+        source.addAll(List.of("bob", "dan"));
+        source.set(0, "amy");
+
+        assertEquals(List.of("dan", "amy", "alice"), view);
+        assertEquals(List.of("bob", "dan", "carl", "amy"), tested);
+    }
+
+    @Test
+    public void removeListener_lastListener_stopsApplyingChanges() {
+        Runnable listener = () -> invalidations++;
+        ItemView<String> disposedView = new ItemView<>(source);
+        List<String> tested = new ArrayList<>();
+        disposedView.setPredicate(name -> tested.add(name) && !name.startsWith("b"));
+        disposedView.addListener(listener);
+        assertEquals(List.of("carl", "alice"), disposedView);
+        disposedView.removeListener(listener);
+        tested.clear();
+
+        source.add("bob");
+        source.add("dan");
+
+        assertEquals(List.of(), tested);
+        assertEquals(List.of("carl", "alice", "dan"), disposedView);
+        assertEquals(5, tested.size());
+    }
+}
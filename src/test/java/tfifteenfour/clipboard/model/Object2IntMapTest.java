@@ -0,0 +1,111 @@
+package tfifteenfour.clipboard.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tfifteenfour.clipboard.testutil.Assert.assertThrows;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class Object2IntMapTest {
+
+    @Test
+    public void putInt_getInt_roundTrips() {
+        Object2IntMap<String> map = new Object2IntMap<>();
+        map.putInt("alice", 1);
+        map.putInt("bob", 0);
+        map.putInt("alice", 2);
+
+        assertEquals(2, map.size());
+        assertEquals(2, map.getInt("alice", -1));
+        assertEquals(0, map.getInt("bob", -1));
+        assertEquals(-1, map.getInt("carol", -1));
+        assertNull(map.get("carol"));
+    }
+
+    @Test
+    public void manyEntries_resizeAndRemove_keepsAllOthers() {
+        Object2IntMap<Integer> map = new Object2IntMap<>();
+        Map<Integer, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            // multiples of 64 collide in the low bits, exercising long probe runs
+            map.putInt(i * 64, i);
+            expected.put(i * 64, i);
+        }
+        for (int i = 0; i < 1000; i += 3) {
+            assertEquals(i, map.removeInt(i * 64, -1));
+            expected.remove(i * 64);
+        }
+
+        assertEquals(expected, map);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(expected.getOrDefault(i * 64, -1), map.getInt(i * 64, -1));
+        }
+    }
+
+    @Test
+    public void copy_isIndependent() {
+        Object2IntMap<String> map = new Object2IntMap<>();
+        map.putInt("alice", 1);
+        Object2IntMap<String> copy = map.copy();
+        copy.putInt("alice", 0);
+        copy.putInt("bob", 1);
+
+        assertEquals(1, map.getInt("alice", -1));
+        assertFalse(map.containsKey("bob"));
+        assertEquals(2, copy.size());
+    }
+
+    @Test
+    public void countValue_andForEachInt() {
+        Object2IntMap<String> map = new Object2IntMap<>(Map.of("alice", 1, "bob", 0, "carol", 1));
+        assertEquals(2, map.countValue(1));
+
+        int[] total = new int[1];
+        map.forEachInt((key, value) -> total[0] += value);
+        assertEquals(2, total[0]);
+    }
+
+    @Test
+    public void entrySetValue_writesThrough() {
+        Object2IntMap<String> map = new Object2IntMap<>();
+        map.putInt("alice", 1);
+        map.entrySet().forEach(entry -> entry.setValue(5));
+        assertEquals(5, map.getInt("alice", -1));
+        assertTrue(map.equals(Map.of("alice", 5)));
+    }
+
+    @Test
+    public void packedValues_resizeAndRemove_keepNeighbours() {
+        Object2IntMap<Integer> map = new Object2IntMap<>(0, 3);
+        Map<Integer, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 500; i++) {
+            map.putInt(i * 64, i % 8);
+            expected.put(i * 64, i % 8);
+        }
+        for (int i = 0; i < 500; i += 4) {
+            assertEquals(i % 8, map.removeInt(i * 64, -1));
+            expected.remove(i * 64);
+        }
+        map.putInt(64, 7);
+        expected.put(64, 7);
+
+        assertEquals(expected, map);
+        assertEquals(expected, map.copy());
+        assertEquals(expected, new Object2IntMap<>(map, 32));
+    }
+
+    @Test
+    public void packedValues_tooWide_throwsIllegalArgumentException() {
+        Object2IntMap<String> map = new Object2IntMap<>(0, 2);
+        map.putInt("alice", 3);
+        assertThrows(IllegalArgumentException.class, () -> map.putInt("bob", 4));
+        assertThrows(IllegalArgumentException.class, () -> map.putInt("bob", -1));
+        assertThrows(IllegalArgumentException.class, () -> new Object2IntMap<String>(0, 33));
+        assertFalse(map.containsKey("bob"));
+    }
+}
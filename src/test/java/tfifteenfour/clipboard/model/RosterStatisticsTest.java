@@ -0,0 +1,50 @@
+package tfifteenfour.clipboard.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import tfifteenfour.clipboard.model.course.Course;
+import tfifteenfour.clipboard.model.course.Group;
+import tfifteenfour.clipboard.model.course.Session;
+import tfifteenfour.clipboard.model.task.Task;
+import tfifteenfour.clipboard.testutil.StudentBuilder;
+
+public class RosterStatisticsTest {
+
+    @Test
+    public void of_emptyRoster_countsNothing() {
+        RosterStatistics statistics = RosterStatistics.of(new Roster());
+
+        assertEquals(0, statistics.getCourseCount());
+        assertEquals(0, statistics.getStudentCount());
+        assertEquals(0, statistics.getEstimatedHeapBytes());
+    }
+
+    @Test
+    public void of_roster_countsItemsOfEveryGroup() {
+        Roster roster = new Roster();
+        Course course = new Course("CS2103");
+        roster.addCourse(course);
+        for (String groupName : new String[] {"T01", "T02"}) {
+            Group group = new Group(groupName);
+            course.addGroup(group);
+            group.addStudent(new StudentBuilder().withStudentId("A0000001A").build());
+            group.addStudent(new StudentBuilder().withStudentId("A0000002A").build());
+            group.addSession(new Session("Lab1"));
+            group.addTask(new Task("CA1"));
+        }
+
+        RosterStatistics statistics = RosterStatistics.of(roster);
+
+        assertEquals(1, statistics.getCourseCount());
+        assertEquals(2, statistics.getGroupCount());
+        assertEquals(4, statistics.getStudentCount());
+        assertEquals(2, statistics.getSessionCount());
+        assertEquals(2, statistics.getTaskCount());
+        assertEquals(4, statistics.getAttendanceEntryCount());
+        assertEquals(4, statistics.getGradeEntryCount());
+        assertTrue(statistics.getEstimatedHeapBytes() > 0);
+    }
+}
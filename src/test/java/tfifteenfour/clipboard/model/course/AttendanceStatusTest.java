@@ -0,0 +1,40 @@
+package tfifteenfour.clipboard.model.course;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tfifteenfour.clipboard.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class AttendanceStatusTest {
+
+    @Test
+    public void fromCode_everyStatus_roundTrips() {
+        for (AttendanceStatus status : AttendanceStatus.values()) {
+            assertEquals(status, AttendanceStatus.fromCode(status.getCode()));
+        }
+        assertEquals(AttendanceStatus.ABSENT, AttendanceStatus.fromCode(0));
+        assertEquals(AttendanceStatus.PRESENT, AttendanceStatus.fromCode(1));
+        assertThrows(IllegalArgumentException.class, () -> AttendanceStatus.fromCode(-1));
+        assertThrows(IllegalArgumentException.class, () ->
+                AttendanceStatus.fromCode(AttendanceStatus.values().length));
+    }
+
+    @Test
+    public void fromKeyword_ignoresCase() {
+        assertEquals(AttendanceStatus.MEDICAL_LEAVE, AttendanceStatus.fromKeyword("MC").get());
+        assertEquals(AttendanceStatus.LATE, AttendanceStatus.fromKeyword("late").get());
+        assertFalse(AttendanceStatus.fromKeyword("1").isPresent());
+    }
+
+    @Test
+    public void bits_fitEveryCode() {
+        for (AttendanceStatus status : AttendanceStatus.values()) {
+            assertTrue(status.getCode() >>> AttendanceStatus.BITS == 0);
+        }
+        assertTrue(AttendanceStatus.PRESENT.isAttended());
+        assertTrue(AttendanceStatus.LATE.isAttended());
+        assertFalse(AttendanceStatus.EXCUSED.isAttended());
+    }
+}
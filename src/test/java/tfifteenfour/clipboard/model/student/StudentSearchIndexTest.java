@@ -0,0 +1,76 @@
+package tfifteenfour.clipboard.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tfifteenfour.clipboard.testutil.StudentBuilder;
+
+class StudentSearchIndexTest {
+    private static final Student KELVIN = new StudentBuilder().withName("Kelvin Tan").withStudentId("A1234567X")
+            .withEmail("kelvin@example.com").withPhone("91234567").withRemark("Sits at the back").build();
+    private static final Student BERNICE = new StudentBuilder().withName("Bernice Yu").withStudentId("A7654321B")
+            .withEmail("bernice@u.nus.edu").withPhone("87654321").withRemark("").build();
+
+    private StudentSearchIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new StudentSearchIndex();
+        index.add(KELVIN);
+        index.add(BERNICE);
+    }
+
+    @Test
+    public void search_eachParticular_returnsMatchingStudent() {
+        assertEquals(Set.of(KELVIN), index.search("lvin t"));
+        assertEquals(Set.of(BERNICE), index.search("a7654"));
+        assertEquals(Set.of(BERNICE), index.search("NUS.EDU"));
+        assertEquals(Set.of(KELVIN), index.search("9123"));
+        assertEquals(Set.of(KELVIN), index.search("the back"));
+    }
+
+    @Test
+    public void search_shortKeyword_returnsMatchingStudents() {
+        assertEquals(Set.of(KELVIN, BERNICE), index.search("e"));
+        assertEquals(Set.of(BERNICE), index.search("yu"));
+    }
+
+    @Test
+    public void search_gramsFromDifferentFields_noMatch() {
+        // "tan" and "a12" both exist, but "tana12" spans two fields
+        assertTrue(index.search("tana12").isEmpty());
+    }
+
+    @Test
+    public void search_multipleKeywords_returnsUnion() {
+        assertEquals(Set.of(KELVIN, BERNICE), index.search(List.of("kelvin", "bernice")));
+    }
+
+    @Test
+    public void remove_student_noLongerFound() {
+        index.remove(KELVIN);
+        assertTrue(index.search("kelvin").isEmpty());
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    public void uniqueStudentsList_indexFollowsBackingList() {
+        UniqueStudentsList students = new UniqueStudentsList();
+        students.add(KELVIN);
+        students.add(BERNICE);
+
+        Student editedKelvin = new StudentBuilder(KELVIN).withName("Kevin Tan").build();
+        students.set(KELVIN, editedKelvin);
+        assertEquals(Set.of(editedKelvin), students.search(List.of("kevin")));
+        assertTrue(students.search(List.of("kelvin tan")).isEmpty());
+
+        students.asModifiableList().clear();
+        assertTrue(students.search(List.of("bernice")).isEmpty());
+    }
+}
@@ -0,0 +1,103 @@
+package tfifteenfour.clipboard.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tfifteenfour.clipboard.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tfifteenfour.clipboard.model.student.exceptions.DuplicateStudentException;
+import tfifteenfour.clipboard.testutil.StudentBuilder;
+
+class UniqueStudentsListTest {
+    private static final Student ALICE = new StudentBuilder().withName("Alice Pauline").withStudentId("A0000001A")
+            .build();
+    private static final Student BENSON = new StudentBuilder().withName("Benson Meier").withStudentId("A0000002B")
+            .build();
+    private static final Student CARL = new StudentBuilder().withName("Carl Kurz").withStudentId("A0000003C")
+            .build();
+
+    private UniqueStudentsList students;
+    private int changeCount;
+
+    @BeforeEach
+    public void setUp() {
+        students = new UniqueStudentsList();
+        changeCount = 0;
+        students.asModifiableList().addListener(changes -> changeCount++);
+    }
+
+    @Test
+    public void addAll_uniqueStudents_singleChange() {
+        students.addAll(List.of(ALICE, BENSON, CARL));
+        assertEquals(List.of(ALICE, BENSON, CARL), students.asUnmodifiableList());
+        assertEquals(1, changeCount);
+    }
+
+    @Test
+    public void addAll_duplicateStudent_throwsAndLeavesListUnchanged() {
+        students.add(ALICE);
+        Student aliceCopy = new StudentBuilder(ALICE).withName("Alice Tan").build();
+        assertThrows(DuplicateStudentException.class, () -> students.addAll(List.of(BENSON, aliceCopy)));
+        assertThrows(DuplicateStudentException.class, () -> students.addAll(List.of(BENSON, BENSON)));
+        assertEquals(List.of(ALICE), students.asUnmodifiableList());
+    }
+
+    @Test
+    public void removeIf_scatteredMatches_singleChange() {
+        students.addAll(List.of(ALICE, BENSON, CARL));
+        changeCount = 0;
+        assertTrue(students.removeIf(student -> student != BENSON));
+        assertEquals(List.of(BENSON), students.asUnmodifiableList());
+        assertEquals(1, changeCount);
+
+        assertFalse(students.removeIf(student -> false));
+        assertEquals(1, changeCount);
+    }
+
+    @Test
+    public void clear_populatedList_singleChange() {
+        students.addAll(List.of(ALICE, BENSON, CARL));
+        changeCount = 0;
+        students.clear();
+        assertTrue(students.asUnmodifiableList().isEmpty());
+        assertEquals(1, changeCount);
+    }
+
+    @Test
+    public void replaceAll_duplicateResult_throwsAndLeavesListUnchanged() {
+        students.addAll(List.of(ALICE, BENSON));
+        assertThrows(DuplicateStudentException.class, () -> students.replaceAll(student -> ALICE));
+        assertEquals(List.of(ALICE, BENSON), students.asUnmodifiableList());
+    }
+
+    @Test
+    public void search_builtOnFirstSearch_followsLaterChanges() {
+        students.addAll(List.of(ALICE, BENSON));
+        assertFalse(students.dropSearchIndex());
+
+        assertEquals(Set.of(ALICE), students.search(List.of("pauline")));
+        students.add(CARL);
+        students.remove(ALICE);
+
+        assertEquals(Set.of(CARL), students.search(List.of("kurz", "pauline")));
+        assertTrue(students.dropSearchIndex());
+        assertEquals(Set.of(BENSON), students.search(List.of("a0000002b")));
+    }
+
+    @Test
+    public void copy_searchedList_copyHasNoSearchIndex() {
+        students.addAll(List.of(ALICE, BENSON));
+        students.search(List.of("alice"));
+
+        UniqueStudentsList copy = students.copy();
+
+        assertFalse(copy.dropSearchIndex());
+        assertEquals(Set.of(BENSON), copy.search(List.of("meier")));
+    }
+}
@@ -0,0 +1,106 @@
+package tfifteenfour.clipboard.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static tfifteenfour.clipboard.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tfifteenfour.clipboard.model.ReadOnlyRoster;
+import tfifteenfour.clipboard.model.Roster;
+import tfifteenfour.clipboard.model.RosterStatistics;
+import tfifteenfour.clipboard.model.course.AttendanceStatus;
+import tfifteenfour.clipboard.model.course.Group;
+import tfifteenfour.clipboard.model.course.Session;
+import tfifteenfour.clipboard.storage.JsonRosterStorage;
+
+public class RosterGeneratorTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final RosterGenerator generator = new RosterGenerator().withCourses(2).withGroupsPerCourse(3)
+            .withStudentsPerGroup(4).withSessionsPerGroup(5).withTasksPerGroup(2);
+
+    @Test
+    public void generate_sizes_rosterOfThoseSizes() {
+        RosterStatistics statistics = RosterStatistics.of(generator.generate());
+
+        assertEquals(2, statistics.getCourseCount());
+        assertEquals(6, statistics.getGroupCount());
+        assertEquals(24, statistics.getStudentCount());
+        assertEquals(24, generator.getStudentCount());
+        assertEquals(30, statistics.getSessionCount());
+        assertEquals(12, statistics.getTaskCount());
+        assertEquals(120, statistics.getAttendanceEntryCount());
+        assertEquals(48, statistics.getGradeEntryCount());
+    }
+
+    @Test
+    public void generate_noDensity_nothingMarkedOrGraded() {
+        Group group = firstGroup(generator.generate());
+
+        for (Session session : group.getUnmodifiableSessionList()) {
+            assertEquals(4, session.count(AttendanceStatus.ABSENT));
+        }
+        group.getUnmodifiableTaskList().forEach(task -> task.getGrades().values()
+                .forEach(grade -> assertEquals(0, grade)));
+    }
+
+    @Test
+    public void generate_fullDensity_marksAndGrades() {
+        Group group = firstGroup(generator.withStudentsPerGroup(50).withAttendanceDensity(1).withGradeDensity(1)
+                .generate());
+
+        Session session = group.getUnmodifiableSessionList().get(0);
+        assertFalse(session.count(AttendanceStatus.ABSENT) == 50);
+        assertFalse(group.getUnmodifiableTaskList().get(0).getGrades().values().stream().allMatch(grade -> grade == 0));
+    }
+
+    @Test
+    public void writeTo_sameSeed_sameFile() throws Exception {
+        generator.withAttendanceDensity(0.5).withGradeDensity(0.5);
+        Path first = testFolder.resolve("first.json");
+        Path second = testFolder.resolve("second.json");
+        Path otherSeed = testFolder.resolve("otherSeed.json");
+
+        generator.writeTo(first);
+        generator.writeTo(second);
+        generator.withSeed(RosterGenerator.DEFAULT_SEED + 1).writeTo(otherSeed);
+
+        assertArrayEquals(Files.readAllBytes(first), Files.readAllBytes(second));
+        assertFalse(Arrays.equals(Files.readAllBytes(first), Files.readAllBytes(otherSeed)));
+    }
+
+    @Test
+    public void writeTo_readBack_sameRoster() throws Exception {
+        Path file = testFolder.resolve("roster.json");
+        generator.withAttendanceDensity(0.5).withGradeDensity(0.5).writeTo(file);
+
+        ReadOnlyRoster read = new JsonRosterStorage(file).readRoster().get();
+
+        Group expected = firstGroup(generator.generate());
+        Group actual = read.getUnmodifiableCourseList().get(0).getUnmodifiableGroupList().get(0);
+        assertEquals(expected.getUnmodifiableStudentList(), actual.getUnmodifiableStudentList());
+        assertEquals(expected.getUnmodifiableSessionList().get(0).getAttendance(),
+                actual.getUnmodifiableSessionList().get(0).getAttendance());
+        assertEquals(RosterStatistics.of(generator.generate()).getStudentCount(),
+                RosterStatistics.of(read).getStudentCount());
+    }
+
+    @Test
+    public void withCourses_negative_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> generator.withCourses(-1));
+        assertThrows(IllegalArgumentException.class, () -> generator.withAttendanceDensity(1.5));
+    }
+
+    private static Group firstGroup(Roster roster) {
+        return roster.getUnmodifiableCourseList().get(0).getUnmodifiableGroupList().get(0);
+    }
+}
@@ -0,0 +1,57 @@
+package tfifteenfour.clipboard.storage.serializedclasses;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tfifteenfour.clipboard.commons.util.JsonUtil;
+import tfifteenfour.clipboard.model.course.AttendanceStatus;
+import tfifteenfour.clipboard.model.course.Group;
+import tfifteenfour.clipboard.model.course.Session;
+import tfifteenfour.clipboard.model.student.Student;
+import tfifteenfour.clipboard.testutil.StudentBuilder;
+
+public class SerializedGroupTest {
+
+    private static final Student ALICE = new StudentBuilder().withName("Alice").withStudentId("A0000001A").build();
+    private static final Student BOB = new StudentBuilder().withName("Bob").withStudentId("A0000002B").build();
+
+    @Test
+    public void toModelType_roundTrip_keepsEveryAttendanceStatus() throws Exception {
+        Group group = new Group("T1");
+        group.addStudents(List.of(ALICE, BOB));
+        Session session = new Session("Tutorial1");
+        group.addSession(session);
+        session.mark(ALICE, AttendanceStatus.MEDICAL_LEAVE);
+
+        SerializedGroup serializedGroup = new SerializedGroup(group);
+        // absent students are not written
+        assertFalse(serializedGroup.getSessions().get(0).getAttendance().containsKey("A0000002B"));
+        String json = JsonUtil.toJsonString(serializedGroup);
+
+        Session loaded = JsonUtil.fromJsonString(json, SerializedGroup.class).toModelType()
+                .getUnmodifiableSessionList().get(0);
+        assertEquals(AttendanceStatus.MEDICAL_LEAVE, loaded.getAttendance(ALICE));
+        assertEquals(AttendanceStatus.ABSENT, loaded.getAttendance(BOB));
+        assertEquals(2, loaded.getAttendance().size());
+    }
+
+    @Test
+    public void toModelType_legacyKeysAndValues_readsAttendance() throws Exception {
+        String json = "{\"groupName\": \"T1\", \"students\": [" + studentJson(ALICE) + ", " + studentJson(BOB) + "],"
+                + " \"sessions\": [{\"sessionName\": \"Tutorial1\", \"keys\": [" + studentJson(ALICE) + ", "
+                + studentJson(BOB) + "], \"values\": [0, 1]}], \"tasks\": []}";
+
+        Session loaded = JsonUtil.fromJsonString(json, SerializedGroup.class).toModelType()
+                .getUnmodifiableSessionList().get(0);
+        assertEquals(AttendanceStatus.ABSENT, loaded.getAttendance(ALICE));
+        assertEquals(AttendanceStatus.PRESENT, loaded.getAttendance(BOB));
+    }
+
+    private static String studentJson(Student student) throws Exception {
+        return JsonUtil.toJsonString(new SerializedStudent(student));
+    }
+}
@@ -0,0 +1,33 @@
+package tfifteenfour.clipboard.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.net.URL;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import tfifteenfour.clipboard.MainApp;
+
+public class FxmlPreloaderTest {
+
+    private static final URL VALID_FILE = MainApp.class.getResource("/view/UiPartTest/validFile.fxml");
+    private static final URL INVALID_FILE = MainApp.class.getResource("/view/UiPartTest/invalidFile.fxml");
+
+    @Test
+    public void preload_invalidTemplate_skipped() {
+        assertEquals(1, FxmlPreloader.preload(List.of(INVALID_FILE, VALID_FILE)));
+    }
+
+    @Test
+    public void start_templates_loadedInBackground() throws Exception {
+        assertEquals(2, FxmlPreloader.start(List.of(VALID_FILE, VALID_FILE)).get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void templates_allExist() {
+        FxmlPreloader.TEMPLATES.forEach(template -> assertNotNull(UiPart.getFxmlFileUrl(template)));
+    }
+}